@@ -0,0 +1,98 @@
+package com.devon.techblog.benchmark;
+
+import com.devon.techblog.application.security.config.properties.JwtProperties;
+import com.devon.techblog.application.security.key.HmacJwtKeyStore;
+import com.devon.techblog.application.security.util.JwtTokenProvider;
+import com.devon.techblog.application.security.util.VerifiedToken;
+import com.devon.techblog.application.security.util.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JwtAuthenticationFilter의 요청당 토큰 검증 비용 비교 벤치마크
+ *
+ * - PER_CLAIM: 이전 필터처럼 isAccessToken / isTokenExpired / getUidFromToken / getRoleFromToken을 차례로 호출
+ *   (호출마다 파싱 + HMAC 검증, 요청당 4회)
+ * - SINGLE_PARSE: JwtTokenProvider.verify 한 번 (재사용 파서로 파싱 + HMAC 검증 1회)
+ * - CACHED: VerifiedTokenCache.verify (토큰 다이제스트 계산 + 캐시 조회, 미스일 때만 검증)
+ * - activeTokens 개의 토큰을 무작위로 돌려 쓰며, 모두 캐시 크기 안에 들어가므로 CACHED는 워밍업 이후 적중한다.
+ *
+ * 실행: ./gradlew :app-api:jmh -PjmhIncludes=JwtAuthenticationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@Threads(4)
+public class JwtAuthenticationBenchmark {
+
+    public enum Strategy {
+        PER_CLAIM, SINGLE_PARSE, CACHED
+    }
+
+    @Param({"PER_CLAIM", "SINGLE_PARSE", "CACHED"})
+    private Strategy strategy;
+
+    @Param({"1", "1000"})
+    private int activeTokens;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String[] tokens;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("benchmarkSecretKeyForJwtTokenGenerationAndValidation1234567890");
+        properties.setAccessTokenExpiration(TimeUnit.HOURS.toMillis(1));
+        properties.setRefreshTokenExpiration(TimeUnit.DAYS.toMillis(7));
+
+        jwtTokenProvider = new JwtTokenProvider(properties, new HmacJwtKeyStore(properties));
+        verifiedTokenCache = new VerifiedTokenCache(jwtTokenProvider, properties, new SimpleMeterRegistry());
+
+        tokens = new String[activeTokens];
+        for (int i = 0; i < activeTokens; i++) {
+            tokens[i] = jwtTokenProvider.generateAccessToken((long) i + 1, "USER");
+        }
+    }
+
+    @Benchmark
+    public void authenticate(Blackhole blackhole) {
+        String token = tokens[ThreadLocalRandom.current().nextInt(tokens.length)];
+
+        switch (strategy) {
+            case PER_CLAIM -> {
+                if (jwtTokenProvider.isAccessToken(token) && !jwtTokenProvider.isTokenExpired(token)) {
+                    blackhole.consume(jwtTokenProvider.getUidFromToken(token));
+                    blackhole.consume(jwtTokenProvider.getRoleFromToken(token));
+                }
+            }
+            case SINGLE_PARSE -> consume(jwtTokenProvider.verify(token), blackhole);
+            case CACHED -> consume(verifiedTokenCache.verify(token), blackhole);
+        }
+    }
+
+    private static void consume(VerifiedToken verified, Blackhole blackhole) {
+        if (verified.isAccessToken() && !verified.isExpired()) {
+            blackhole.consume(verified.memberId());
+            blackhole.consume(verified.role());
+        }
+    }
+}
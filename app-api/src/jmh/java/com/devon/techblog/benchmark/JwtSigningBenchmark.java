@@ -0,0 +1,122 @@
+package com.devon.techblog.benchmark;
+
+import com.devon.techblog.application.security.config.properties.JwtProperties;
+import com.devon.techblog.application.security.key.HmacJwtKeyStore;
+import com.devon.techblog.application.security.key.JwtKeyPairAlgorithm;
+import com.devon.techblog.application.security.key.JwtKeyStore;
+import com.devon.techblog.application.security.key.JwtSigningAlgorithm;
+import com.devon.techblog.application.security.util.JwtTokenProvider;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.UnsupportedJwtException;
+import java.security.Key;
+import java.security.KeyPair;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JWT 서명 알고리즘별 발급(sign) / 검증(verify) 처리량 비교 벤치마크
+ *
+ * - HS256: HmacJwtKeyStore (공유 비밀 키, kid 없음)
+ * - ES256 / EdDSA: kid 헤더 + kid -> 공개 키 맵 조회 후 검증 (RotatingJwtKeyStore의 검증 경로와 같고 Redis는 쓰지 않음)
+ * - verify는 미리 발급한 activeTokens 개의 토큰을 무작위로 돌려 쓴다.
+ *
+ * 실행: ./gradlew :app-api:jmh -PjmhIncludes=JwtSigningBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@Threads(4)
+public class JwtSigningBenchmark {
+
+    private static final int ACTIVE_TOKENS = 1000;
+    private static final String KID = "benchmark-key";
+
+    @Param({"HS256", "ES256", "EdDSA"})
+    private JwtSigningAlgorithm algorithm;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String[] tokens;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("benchmarkSecretKeyForJwtTokenGenerationAndValidation1234567890");
+        properties.setAccessTokenExpiration(TimeUnit.HOURS.toMillis(1));
+        properties.setRefreshTokenExpiration(TimeUnit.DAYS.toMillis(7));
+
+        JwtKeyStore keyStore = algorithm.keyPairAlgorithm()
+                .<JwtKeyStore>map(FixedKeyPairStore::new)
+                .orElseGet(() -> new HmacJwtKeyStore(properties));
+        jwtTokenProvider = new JwtTokenProvider(properties, keyStore);
+
+        tokens = new String[ACTIVE_TOKENS];
+        for (int i = 0; i < ACTIVE_TOKENS; i++) {
+            tokens[i] = jwtTokenProvider.generateAccessToken((long) i + 1, "USER");
+        }
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtTokenProvider.generateAccessToken(ThreadLocalRandom.current().nextLong(1, 1_000_000), "USER");
+    }
+
+    @Benchmark
+    public Long verify() {
+        return jwtTokenProvider.verify(tokens[ThreadLocalRandom.current().nextInt(ACTIVE_TOKENS)]).memberId();
+    }
+
+    /**
+     * 키 교체 없이 키 쌍 하나로 서명하는 저장소
+     */
+    private static final class FixedKeyPairStore implements JwtKeyStore {
+
+        private final JwtKeyPairAlgorithm algorithm;
+        private final KeyPair keyPair;
+        private final Map<String, Key> verificationKeys = new ConcurrentHashMap<>();
+
+        private FixedKeyPairStore(JwtKeyPairAlgorithm algorithm) {
+            this.algorithm = algorithm;
+            this.keyPair = algorithm.generateKeyPair();
+            verificationKeys.put(KID, keyPair.getPublic());
+        }
+
+        @Override
+        public JwtBuilder sign(JwtBuilder builder) {
+            return builder.header().keyId(KID).and()
+                    .signWith(keyPair.getPrivate(), algorithm.signatureAlgorithm());
+        }
+
+        @Override
+        public Key verificationKey(String kid) {
+            Key key = kid == null ? null : verificationKeys.get(kid);
+            if (key == null) {
+                throw new UnsupportedJwtException("알 수 없는 서명 키입니다 - kid=" + kid);
+            }
+            return key;
+        }
+
+        @Override
+        public List<Map<String, String>> publicJwks() {
+            return List.of();
+        }
+    }
+}
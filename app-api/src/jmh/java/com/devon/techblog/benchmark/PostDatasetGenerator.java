@@ -0,0 +1,134 @@
+package com.devon.techblog.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.SplittableRandom;
+
+/**
+ * 검색 벤치마크용 게시글 데이터셋 생성기
+ *
+ * 한국어/영어 기술 용어 사전에서 단어를 뽑아 제목(3~6단어)과 본문(60~120단어)을 만든다.
+ * 같은 seed면 항상 같은 데이터가 생성된다.
+ * 대량 적재 중 FULLTEXT 색인 비용을 피하기 위해 인덱스를 지웠다가 적재 후 다시 만든다.
+ *
+ * 단독 실행: java PostDatasetGenerator <jdbcUrl> <user> <password> <posts>
+ *  (jdbcUrl에 rewriteBatchedStatements=true 권장)
+ */
+public class PostDatasetGenerator {
+
+    private static final String[] WORDS = {
+            "스프링", "트랜잭션", "프록시", "영속성", "컨텍스트", "인덱스", "쿼리", "캐시", "레디스", "카프카",
+            "동시성", "락", "데드락", "격리수준", "커넥션", "풀", "스레드", "비동기", "이벤트", "메시지",
+            "배포", "컨테이너", "쿠버네티스", "모니터링", "로그", "메트릭", "성능", "튜닝", "병목", "지연",
+            "처리량", "확장", "샤딩", "복제", "장애", "복구", "테스트", "리팩터링", "도메인", "설계",
+            "spring", "jpa", "hibernate", "querydsl", "mysql", "innodb", "redis", "kafka", "docker", "kubernetes",
+            "java", "jvm", "gc", "heap", "latency", "throughput", "index", "query", "cache", "lock",
+            "transaction", "proxy", "aop", "bean", "thread", "async", "event", "stream", "batch", "cursor"
+    };
+
+    private static final int MEMBER_COUNT = 1_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final long SEED = 42L;
+
+    private static final String INSERT_MEMBER = """
+            INSERT INTO member (email, password, nickname, status, role)
+            VALUES (?, 'benchmark', ?, 'ACTIVE', 'USER')
+            """;
+    private static final String INSERT_POST = """
+            INSERT INTO post (member_id, title, content, views_count, like_count, comment_count,
+                              is_deleted, is_draft, comments_allowed, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, 0, 0, 0, 1, ?, ?)
+            """;
+
+    public static void main(String[] args) throws SQLException {
+        if (args.length < 4) {
+            System.err.println("usage: PostDatasetGenerator <jdbcUrl> <user> <password> <posts>");
+            return;
+        }
+
+        try (Connection connection = DriverManager.getConnection(args[0], args[1], args[2])) {
+            generate(connection, Integer.parseInt(args[3]));
+        }
+    }
+
+    public static void generate(Connection connection, int posts) throws SQLException {
+        long started = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(SEED);
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE post DROP INDEX ft_post_title_content");
+
+            insertMembers(connection);
+            insertPosts(connection, posts, random);
+
+            System.out.printf("[dataset] %,d posts loaded in %ds, building FULLTEXT index...%n",
+                    posts, Duration.ofNanos(System.nanoTime() - started).toSeconds());
+            statement.execute("ALTER TABLE post ADD FULLTEXT KEY ft_post_title_content (title, content) WITH PARSER ngram");
+            statement.execute("ANALYZE TABLE post");
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+
+        System.out.printf("[dataset] done in %ds%n", Duration.ofNanos(System.nanoTime() - started).toSeconds());
+    }
+
+    private static void insertMembers(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_MEMBER)) {
+            for (int i = 1; i <= MEMBER_COUNT; i++) {
+                statement.setString(1, "bench" + i + "@example.com");
+                statement.setString(2, "bench" + i);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private static void insertPosts(Connection connection, int posts, SplittableRandom random) throws SQLException {
+        Instant base = Instant.parse("2024-01-01T00:00:00Z");
+
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_POST)) {
+            for (int i = 1; i <= posts; i++) {
+                Timestamp createdAt = Timestamp.from(base.plusSeconds(i * 30L));
+                statement.setLong(1, random.nextInt(MEMBER_COUNT) + 1L);
+                statement.setString(2, sentence(random, 3 + random.nextInt(4)));
+                statement.setString(3, sentence(random, 60 + random.nextInt(61)));
+                statement.setLong(4, random.nextInt(10_000));
+                statement.setLong(5, random.nextInt(500));
+                statement.setTimestamp(6, createdAt);
+                statement.setTimestamp(7, createdAt);
+                statement.addBatch();
+
+                if (i % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+                if (i % 100_000 == 0) {
+                    System.out.printf("[dataset] %,d / %,d posts%n", i, posts);
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private static String sentence(SplittableRandom random, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+}
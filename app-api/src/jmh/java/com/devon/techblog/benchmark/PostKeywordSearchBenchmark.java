@@ -0,0 +1,135 @@
+package com.devon.techblog.benchmark;
+
+import com.devon.techblog.domain.post.search.FullTextQuery;
+import com.devon.techblog.domain.post.search.PostSearchMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.MountableFile;
+
+/**
+ * 게시글 키워드 검색 방식(LIKE / FULLTEXT) 지연 시간 비교 벤치마크
+ *
+ * - MySQL 8 컨테이너에 infra/db/schema.sql을 적용하고 PostDatasetGenerator로 posts 건을 적재한다.
+ * - PostRepositoryImpl.searchByKeyword가 생성하는 것과 같은 형태의 첫 페이지(20건) 조회를 측정한다.
+ *   LIKE: lower(title/content) LIKE '%kw%' + 최신순, FULLTEXT: MATCH ... AGAINST (BOOLEAN MODE) + 관련도 순
+ *
+ * 실행: ./gradlew :app-api:jmh -PjmhIncludes=PostKeywordSearchBenchmark  (Docker 필요, 100만 건 적재에 수 분 소요)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class PostKeywordSearchBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final String SELECT = """
+            SELECT p.id, p.title, p.created_at, p.views_count, p.like_count, p.comment_count,
+                   m.id, m.nickname, m.profile_image_url, p.summary, p.thumbnail, p.content
+            FROM post p
+            JOIN member m ON m.id = p.member_id
+            """;
+    private static final String LIKE_SQL = SELECT + """
+            WHERE p.is_deleted = 0 AND (lower(p.title) LIKE ? OR lower(p.content) LIKE ?)
+            ORDER BY p.created_at DESC, p.id DESC
+            LIMIT ?
+            """;
+    private static final String FULLTEXT_SQL = SELECT + """
+            WHERE p.is_deleted = 0 AND MATCH(p.title, p.content) AGAINST (? IN BOOLEAN MODE) > 0
+            ORDER BY MATCH(p.title, p.content) AGAINST (? IN BOOLEAN MODE) DESC, p.id DESC
+            LIMIT ?
+            """;
+
+    @Param({"1000000"})
+    private int posts;
+
+    @Param({"LIKE", "FULLTEXT"})
+    private PostSearchMode mode;
+
+    /** 흔한 단어 / 두 단어 AND / 드문 단어 */
+    @Param({"트랜잭션", "스프링 프록시", "querydsl"})
+    private String keyword;
+
+    private GenericContainer<?> mysql;
+    private Connection connection;
+    private PreparedStatement statement;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        mysql = new GenericContainer<>(DockerImageName.parse("mysql:8.0"))
+                .withEnv("MYSQL_ROOT_PASSWORD", "benchmark")
+                .withCopyFileToContainer(MountableFile.forHostPath(schemaPath()), "/docker-entrypoint-initdb.d/schema.sql")
+                .withCommand("--innodb-buffer-pool-size=2G")
+                .withExposedPorts(3306)
+                .waitingFor(Wait.forLogMessage(".*port: 3306 .*", 1).withStartupTimeout(Duration.ofMinutes(3)));
+        mysql.start();
+
+        String url = "jdbc:mysql://%s:%d/mydb?rewriteBatchedStatements=true".formatted(
+                mysql.getHost(), mysql.getMappedPort(3306));
+        connection = DriverManager.getConnection(url, "root", "benchmark");
+        PostDatasetGenerator.generate(connection, posts);
+
+        if (mode == PostSearchMode.FULLTEXT) {
+            String query = FullTextQuery.parse(keyword, 5).toBooleanModeQuery();
+            statement = connection.prepareStatement(FULLTEXT_SQL);
+            statement.setString(1, query);
+            statement.setString(2, query);
+        } else {
+            String pattern = "%" + keyword.toLowerCase(Locale.ROOT) + "%";
+            statement = connection.prepareStatement(LIKE_SQL);
+            statement.setString(1, pattern);
+            statement.setString(2, pattern);
+        }
+        statement.setInt(3, PAGE_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        mysql.stop();
+    }
+
+    @Benchmark
+    public int searchFirstPage() throws SQLException {
+        int rows = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * jmh 포크의 작업 디렉터리(app-api 또는 루트)에 관계없이 스키마 파일을 찾는다.
+     */
+    private static Path schemaPath() {
+        Path fromModule = Path.of("..", "infra", "db", "schema.sql");
+        return Files.exists(fromModule) ? fromModule.toAbsolutePath() : Path.of("infra", "db", "schema.sql").toAbsolutePath();
+    }
+}
@@ -0,0 +1,177 @@
+package com.devon.techblog.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.MountableFile;
+
+/**
+ * 새 태그 생성 방식(행별 INSERT / multi-row upsert) 지연 시간 비교 벤치마크
+ *
+ * - 게시글 하나가 새 태그 newTags 개를 가져온 상황에서 "이름 조회 -> 없는 태그 생성 -> ID 확보" 한 번을 측정한다.
+ * - SAVE_ALL: IDENTITY 키라 JPA saveAll이 보내는 것과 같은 태그당 INSERT + 생성 키 조회
+ * - UPSERT: TagBatchRepository.upsertAll과 같은 INSERT ... ON DUPLICATE KEY 한 번 + IN 조회 한 번
+ * - 매 호출마다 처음 보는 태그 이름을 쓰고, 호출마다 커밋한다.
+ *
+ * 실행: ./gradlew :app-api:jmh -PjmhIncludes=TagUpsertBenchmark  (Docker 필요)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TagUpsertBenchmark {
+
+    private static final String SELECT_SQL = "SELECT id, name FROM tag WHERE name IN (%s)";
+    private static final String INSERT_SQL =
+            "INSERT INTO tag (name, usage_count, created_at, updated_at) VALUES (?, 0, ?, ?)";
+    private static final String UPSERT_SQL = """
+            INSERT INTO tag (name, usage_count, created_at, updated_at) VALUES %s
+            ON DUPLICATE KEY UPDATE id = id
+            """;
+
+    public enum Strategy { SAVE_ALL, UPSERT }
+
+    @Param({"SAVE_ALL", "UPSERT"})
+    private Strategy strategy;
+
+    @Param({"20"})
+    private int newTags;
+
+    private GenericContainer<?> mysql;
+    private Connection connection;
+    private String selectSql;
+    private String upsertSql;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        mysql = new GenericContainer<>(DockerImageName.parse("mysql:8.0"))
+                .withEnv("MYSQL_ROOT_PASSWORD", "benchmark")
+                .withCopyFileToContainer(MountableFile.forHostPath(schemaPath()), "/docker-entrypoint-initdb.d/schema.sql")
+                .withExposedPorts(3306)
+                .waitingFor(Wait.forLogMessage(".*port: 3306 .*", 1).withStartupTimeout(Duration.ofMinutes(3)));
+        mysql.start();
+
+        String url = "jdbc:mysql://%s:%d/mydb".formatted(mysql.getHost(), mysql.getMappedPort(3306));
+        connection = DriverManager.getConnection(url, "root", "benchmark");
+        connection.setAutoCommit(false);
+
+        String placeholders = String.join(", ", Collections.nCopies(newTags, "?"));
+        selectSql = SELECT_SQL.formatted(placeholders);
+        upsertSql = UPSERT_SQL.formatted(String.join(", ", Collections.nCopies(newTags, "(?, 0, ?, ?)")));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        mysql.stop();
+    }
+
+    @Benchmark
+    public int createPostTags() throws SQLException {
+        List<String> names = nextNames();
+        Timestamp now = Timestamp.from(Instant.now());
+
+        int resolved = select(names);
+        if (strategy == Strategy.SAVE_ALL) {
+            resolved += insertEach(names, now);
+        } else {
+            upsert(names, now);
+            resolved = select(names);
+        }
+        connection.commit();
+        return resolved;
+    }
+
+    private List<String> nextNames() {
+        long post = sequence.getAndIncrement();
+        List<String> names = new ArrayList<>(newTags);
+        for (int i = 0; i < newTags; i++) {
+            names.add("tag-%d-%d".formatted(post, i));
+        }
+        return names;
+    }
+
+    private int select(List<String> names) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(selectSql)) {
+            for (int i = 0; i < names.size(); i++) {
+                statement.setString(i + 1, names.get(i));
+            }
+            int rows = 0;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    rows++;
+                }
+            }
+            return rows;
+        }
+    }
+
+    private int insertEach(List<String> names, Timestamp now) throws SQLException {
+        int inserted = 0;
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            for (String name : names) {
+                statement.setString(1, name);
+                statement.setTimestamp(2, now);
+                statement.setTimestamp(3, now);
+                statement.executeUpdate();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    if (keys.next()) {
+                        inserted++;
+                    }
+                }
+            }
+        }
+        return inserted;
+    }
+
+    private void upsert(List<String> names, Timestamp now) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(upsertSql)) {
+            for (int i = 0; i < names.size(); i++) {
+                statement.setString(i * 3 + 1, names.get(i));
+                statement.setTimestamp(i * 3 + 2, now);
+                statement.setTimestamp(i * 3 + 3, now);
+            }
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * jmh 포크의 작업 디렉터리(app-api 또는 루트)에 관계없이 스키마 파일을 찾는다.
+     */
+    private static Path schemaPath() {
+        Path fromModule = Path.of("..", "infra", "db", "schema.sql");
+        return Files.exists(fromModule) ? fromModule.toAbsolutePath() : Path.of("infra", "db", "schema.sql").toAbsolutePath();
+    }
+}
@@ -0,0 +1,141 @@
+package com.devon.techblog.benchmark;
+
+import com.devon.techblog.domain.post.policy.viewer.BloomFilterViewerDedupStrategy;
+import com.devon.techblog.domain.post.policy.viewer.ExactKeyViewerDedupStrategy;
+import com.devon.techblog.domain.post.policy.viewer.ViewerDedupMode;
+import com.devon.techblog.domain.post.policy.viewer.ViewerDedupProperties;
+import com.devon.techblog.domain.post.policy.viewer.ViewerDedupStrategy;
+import com.devon.techblog.infra.redis.adapter.RedisServiceImpl;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 조회자 중복 판단 전략(EXACT / BLOOM) 비교 벤치마크
+ *
+ * - 처리량: 조회 한 건당 markIfFirst 호출 ops/sec (8 스레드)
+ * - 메모리: 게시글 하나에 고유 조회자 viewersPerPost 명을 기록한 뒤의 Redis used_memory 증가량, 키 수
+ *   (Setup 단계에서 측정해 표준 출력으로 남긴다)
+ *
+ * 실행: ./gradlew :app-api:jmh -PjmhIncludes=ViewerDedupBenchmark  (Docker 필요)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(8)
+public class ViewerDedupBenchmark {
+
+    private static final int POST_COUNT = 100;
+
+    @Param({"EXACT", "BLOOM"})
+    private ViewerDedupMode mode;
+
+    @Param({"1000", "100000"})
+    private int viewersPerPost;
+
+    private GenericContainer<?> redis;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> redisTemplate;
+    private ViewerDedupStrategy strategy;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+        redis.start();
+
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        ViewerDedupProperties properties = new ViewerDedupProperties();
+        properties.setMode(mode);
+        properties.getBloom().setExpectedViewers(viewersPerPost);
+        strategy = mode == ViewerDedupMode.BLOOM
+                ? new BloomFilterViewerDedupStrategy(new RedisServiceImpl(redisTemplate), properties)
+                : new ExactKeyViewerDedupStrategy(new RedisServiceImpl(redisTemplate), properties);
+
+        reportMemoryUsage();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionFactory.destroy();
+        redis.stop();
+    }
+
+    @Benchmark
+    public boolean markViewer() {
+        long n = sequence.getAndIncrement();
+        long postId = n % POST_COUNT;
+        return strategy.markIfFirst(postId, "ip:10.0.0.1:ua:" + (n / POST_COUNT) % viewersPerPost);
+    }
+
+    /**
+     * 게시글 하나에 고유 조회자 viewersPerPost 명을 기록했을 때의 메모리 사용량과
+     * 새 조회자를 중복으로 잘못 판단한 비율(과소 집계율)을 출력한다.
+     */
+    private void reportMemoryUsage() {
+        flushAll();
+        long before = usedMemory();
+
+        int missed = 0;
+        for (int i = 0; i < viewersPerPost; i++) {
+            if (!strategy.markIfFirst(-1L, "member:" + i)) {
+                missed++;
+            }
+        }
+
+        long after = usedMemory();
+        Long keys = redisTemplate.execute((RedisCallback<Long>) connection -> connection.serverCommands().dbSize());
+        System.out.printf("%n[memory] mode=%s viewers=%d keys=%d usedMemoryDelta=%,d bytes (%.1f bytes/viewer) undercount=%.4f%%%n",
+                mode, viewersPerPost, keys, after - before, (double) (after - before) / viewersPerPost,
+                100.0 * missed / viewersPerPost);
+
+        flushAll();
+    }
+
+    private long usedMemory() {
+        Properties info = redisTemplate.execute((RedisCallback<Properties>) connection ->
+                connection.serverCommands().info("memory"));
+        return Long.parseLong(info.getProperty("used_memory"));
+    }
+
+    private void flushAll() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+}
@@ -10,11 +10,18 @@ import com.devon.techblog.common.exception.code.MemberErrorCode;
 import com.devon.techblog.common.exception.code.PostErrorCode;
 import com.devon.techblog.domain.comment.dto.CommentQueryDto;
 import com.devon.techblog.domain.comment.entity.Comment;
+import com.devon.techblog.domain.comment.repository.CommentQueryRepository;
 import com.devon.techblog.domain.comment.repository.CommentRepository;
+import com.devon.techblog.domain.common.repository.count.CountCacheProperties;
+import com.devon.techblog.domain.common.repository.count.TotalCountResolver;
 import com.devon.techblog.domain.common.policy.OwnershipPolicy;
 import com.devon.techblog.domain.member.entity.Member;
 import com.devon.techblog.domain.member.repository.MemberRepository;
+import com.devon.techblog.domain.post.counter.PostCounterStore;
 import com.devon.techblog.domain.post.entity.Post;
+import com.devon.techblog.domain.post.entity.PostCounterType;
+import com.devon.techblog.domain.post.index.TrendingPostIndex;
+import com.devon.techblog.domain.post.index.TrendingSignal;
 import com.devon.techblog.domain.post.repository.PostRepository;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -31,6 +38,10 @@ public class CommentService {
     private final MemberRepository memberRepository;
     private final PostRepository postRepository;
     private final OwnershipPolicy ownershipPolicy;
+    private final TotalCountResolver totalCountResolver;
+    private final CountCacheProperties countCacheProperties;
+    private final PostCounterStore postCounterStore;
+    private final TrendingPostIndex trendingPostIndex;
 
     /**
      * 댓글 작성
@@ -44,7 +55,9 @@ public class CommentService {
         Comment comment = Comment.create(member, post, request.content());
         commentRepository.save(comment);
 
-        postRepository.incrementCommentCount(postId);
+        postCounterStore.increment(PostCounterType.COMMENT, postId);
+        trendingPostIndex.record(postId, TrendingSignal.COMMENT);
+        totalCountResolver.applyDelta(CommentQueryRepository.countCacheKey(postId), 1);
 
         return CommentResponse.of(comment, member);
     }
@@ -78,7 +91,9 @@ public class CommentService {
 
         commentRepository.deleteById(comment.getId());
 
-        postRepository.decrementCommentCount(postId);
+        postCounterStore.decrement(PostCounterType.COMMENT, postId);
+        trendingPostIndex.retract(postId, TrendingSignal.COMMENT);
+        totalCountResolver.applyDelta(CommentQueryRepository.countCacheKey(postId), -1);
     }
 
     /**
@@ -98,7 +113,8 @@ public class CommentService {
     public PageResponse<CommentResponse> getCommentPageByPostId(Long postId, Pageable pageable) {
         validatePostExists(postId);
 
-        Page<CommentQueryDto> commentDtoPage = commentRepository.findByPostIdWithMemberAsDto(postId, pageable);
+        Page<CommentQueryDto> commentDtoPage = commentRepository.findByPostIdWithMemberAsDto(
+                postId, pageable, countCacheProperties.getCommentList());
 
         List<CommentResponse> commentResponses = commentDtoPage.getContent().stream()
                 .map(CommentResponse::of)
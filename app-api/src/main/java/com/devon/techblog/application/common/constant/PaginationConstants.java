@@ -6,5 +6,6 @@ public final class PaginationConstants {
 
     public static final int DEFAULT_PAGE = 0;
     public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SCROLL_SIZE = 100;
     public static final String DEFAULT_SORT = "createdAt,desc";
 }
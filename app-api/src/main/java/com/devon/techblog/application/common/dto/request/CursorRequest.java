@@ -0,0 +1,34 @@
+package com.devon.techblog.application.common.dto.request;
+
+import com.devon.techblog.application.common.constant.PaginationConstants;
+
+/**
+ * 커서 기반 페이징을 위한 공통 요청 DTO
+ *
+ * 첫 페이지는 sort로 정렬 기준을 정하고, 이후 페이지는 응답의 nextCursor를 그대로 넘긴다.
+ * 커서가 있으면 커서에 담긴 정렬 기준을 따르므로 sort는 무시된다.
+ * size는 MAX_SCROLL_SIZE를 넘지 않도록 잘라내고, 방향을 생략하면 PageSortRequest와 같이 오름차순이다.
+ *
+ * 조회수·좋아요 수처럼 계속 바뀌는 값으로 정렬하면 페이지를 넘기는 사이 값이 바뀐 게시글이
+ * 커서 앞뒤로 이동해 빠지거나 두 번 나올 수 있다. 빠짐 없는 순회가 필요하면 id나 createdAt으로 정렬한다.
+ */
+public record CursorRequest(
+        String cursor,
+        Integer size,
+        String sort
+) {
+    public CursorRequest {
+        cursor = (cursor != null && !cursor.isBlank()) ? cursor : null;
+        size = (size != null && size > 0) ? Math.min(size, PaginationConstants.MAX_SCROLL_SIZE) : PaginationConstants.DEFAULT_SIZE;
+        sort = (sort != null && !sort.isBlank()) ? sort : PaginationConstants.DEFAULT_SORT;
+    }
+
+    public String sortProperty() {
+        return sort.split(",")[0].trim();
+    }
+
+    public boolean ascending() {
+        String[] parts = sort.split(",");
+        return parts.length < 2 || !parts[1].trim().equalsIgnoreCase("desc");
+    }
+}
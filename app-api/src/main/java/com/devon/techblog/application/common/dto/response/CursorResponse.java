@@ -0,0 +1,23 @@
+package com.devon.techblog.application.common.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "커서 페이징 응답 공통 DTO")
+public record CursorResponse<T>(
+        @Schema(description = "데이터 목록")
+        List<T> items,
+
+        @Schema(description = "페이지 크기", example = "20")
+        int size,
+
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "Y3JlYXRlZEF0fGRlc2N8MTAwfDIwMjUtMDEtMDFUMDA6MDA6MDBa")
+        String nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext
+) {
+    public static <T> CursorResponse<T> of(List<T> items, int size, String nextCursor) {
+        return new CursorResponse<>(items, size, nextCursor, nextCursor != null);
+    }
+}
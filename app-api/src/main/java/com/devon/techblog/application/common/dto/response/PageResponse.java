@@ -1,5 +1,6 @@
 package com.devon.techblog.application.common.dto.response;
 
+import com.devon.techblog.domain.common.repository.count.CountedPage;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
 import org.springframework.data.domain.Page;
@@ -19,7 +20,10 @@ public record PageResponse<T>(
         long totalElements,
 
         @Schema(description = "전체 페이지 수", example = "5")
-        int totalPages
+        int totalPages,
+
+        @Schema(description = "전체 항목 수가 정확한 값인지 여부 (false면 캐시 또는 추정치)", example = "true")
+        boolean totalExact
 ) {
     public static <T> PageResponse<T> of(List<T> items, Page<?> page) {
         return new PageResponse<>(
@@ -27,7 +31,8 @@ public record PageResponse<T>(
                 page.getNumber(),
                 page.getSize(),
                 page.getTotalElements(),
-                page.getTotalPages()
+                page.getTotalPages(),
+                !(page instanceof CountedPage<?> countedPage) || countedPage.isTotalExact()
         );
     }
 }
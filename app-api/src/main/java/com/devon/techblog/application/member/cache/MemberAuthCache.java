@@ -0,0 +1,139 @@
+package com.devon.techblog.application.member.cache;
+
+import com.devon.techblog.common.utils.TransactionCallbacks;
+import com.devon.techblog.domain.member.dto.MemberAuthSnapshot;
+import com.devon.techblog.infra.redis.adapter.RedisMessageHandler;
+import com.devon.techblog.infra.redis.adapter.RedisService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 인증 정보 2단 캐시 (L1: 노드 로컬 Caffeine, L2: Redis)
+ *
+ * 토큰 재발급마다 회원 행 전체를 읽지 않도록 ID·권한·상태만 캐시한다.
+ * 비밀번호 해시는 캐시에 넣지 않으며, 로그인은 항상 DB에서 최신 해시를 읽는다.
+ *
+ * 조회 순서와 무효화 방식은 PostDetailCache와 같다. 탈퇴·비활성화처럼 상태가 바뀌면
+ * L1·L2 삭제 후 pub/sub으로 다른 노드의 L1 삭제를 요청하고, 트랜잭션 안이면 커밋 직후 한 번 더 무효화한다.
+ * Redis 장애 시에는 L2를 건너뛰고 DB에서 읽는다.
+ */
+@Slf4j
+@Component
+public class MemberAuthCache implements RedisMessageHandler {
+
+    static final String KEY_PREFIX = "member:auth:";
+    static final String EVICTION_CHANNEL = "member:auth:evict";
+    private static final String MESSAGE_DELIMITER = "|";
+
+    /**
+     * 자신이 발행한 무효화 메시지를 구분하기 위한 노드 식별자
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Cache<Long, MemberAuthSnapshot> localCache;
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+    private final MemberAuthCacheProperties properties;
+
+    public MemberAuthCache(
+            RedisService redisService,
+            ObjectMapper objectMapper,
+            MemberAuthCacheProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisService = redisService;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaximumSize())
+                .expireAfterWrite(properties.getLocalTtl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "member.auth");
+    }
+
+    /**
+     * 캐시에서 회원 인증 정보를 조회하고, 없으면 loader로 읽어 L2·L1에 채운다 (비밀번호 해시는 제외).
+     * loader가 예외를 던지면(회원 없음 등) 아무것도 캐시하지 않고 그대로 전파한다.
+     */
+    public MemberAuthSnapshot get(Long memberId, Supplier<MemberAuthSnapshot> loader) {
+        return localCache.get(memberId, id -> findRemote(id).orElseGet(() -> {
+            MemberAuthSnapshot snapshot = loader.get().withoutPassword();
+            saveRemote(snapshot);
+            return snapshot;
+        }));
+    }
+
+    /**
+     * 회원 인증 정보 캐시 무효화 (모든 노드)
+     */
+    public void evict(Long memberId) {
+        TransactionCallbacks.nowAndAfterCommit(() -> evictEverywhere(memberId));
+    }
+
+    @Override
+    public String channel() {
+        return EVICTION_CHANNEL;
+    }
+
+    /**
+     * 다른 노드가 발행한 무효화 메시지 처리
+     */
+    @Override
+    public void onMessage(String message) {
+        int delimiter = message.indexOf(MESSAGE_DELIMITER);
+        if (delimiter < 0 || message.substring(0, delimiter).equals(nodeId)) {
+            return;
+        }
+
+        try {
+            localCache.invalidate(Long.valueOf(message.substring(delimiter + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 회원 인증 캐시 무효화 메시지 - message={}", message);
+        }
+    }
+
+    private void evictEverywhere(Long memberId) {
+        localCache.invalidate(memberId);
+        try {
+            redisService.delete(KEY_PREFIX + memberId);
+            redisService.publish(EVICTION_CHANNEL, nodeId + MESSAGE_DELIMITER + memberId);
+        } catch (Exception e) {
+            log.error("회원 인증 캐시 무효화 실패 - memberId={}", memberId, e);
+        }
+    }
+
+    private Optional<MemberAuthSnapshot> findRemote(Long memberId) {
+        try {
+            Optional<String> cached = redisService.find(KEY_PREFIX + memberId);
+            if (cached.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(cached.get(), MemberAuthSnapshot.class));
+        } catch (Exception e) {
+            log.warn("회원 인증 캐시(Redis) 조회 실패 - memberId={}", memberId, e);
+            return Optional.empty();
+        }
+    }
+
+    private void saveRemote(MemberAuthSnapshot snapshot) {
+        try {
+            redisService.save(KEY_PREFIX + snapshot.memberId(),
+                    objectMapper.writeValueAsString(snapshot), properties.getRemoteTtl());
+        } catch (JsonProcessingException e) {
+            log.error("회원 인증 캐시 직렬화 실패 - memberId={}", snapshot.memberId(), e);
+        } catch (Exception e) {
+            log.warn("회원 인증 캐시(Redis) 저장 실패 - memberId={}", snapshot.memberId(), e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.devon.techblog.application.member.cache;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 회원 인증 정보 2단 캐시 설정
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "member.auth-cache")
+public class MemberAuthCacheProperties {
+
+    /**
+     * 노드 로컬(Caffeine) 캐시 최대 항목 수 (기본값 10,000)
+     */
+    @NotNull
+    @Positive
+    private Long localMaximumSize = 10_000L;
+
+    /**
+     * 노드 로컬 캐시 TTL (기본값 1분)
+     * pub/sub 무효화 메시지를 놓친 노드가 이전 상태를 들고 있을 수 있는 최대 시간이다.
+     */
+    @NotNull
+    private Duration localTtl = Duration.ofMinutes(1);
+
+    /**
+     * Redis 공유 캐시 TTL (기본값 30분)
+     * 애플리케이션을 거치지 않은 상태·권한 변경(DB 직접 수정 등)은 이 시간 안에 반영된다.
+     */
+    @NotNull
+    private Duration remoteTtl = Duration.ofMinutes(30);
+}
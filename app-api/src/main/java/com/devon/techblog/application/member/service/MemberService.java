@@ -1,10 +1,12 @@
 package com.devon.techblog.application.member.service;
 
+import com.devon.techblog.application.member.cache.MemberAuthCache;
 import com.devon.techblog.application.member.dto.request.MemberUpdateRequest;
 import com.devon.techblog.application.member.dto.request.PasswordUpdateRequest;
 import com.devon.techblog.application.member.dto.response.MemberDetailsResponse;
 import com.devon.techblog.application.member.dto.response.MemberUpdateResponse;
 import com.devon.techblog.application.member.validator.MemberValidator;
+import com.devon.techblog.application.security.service.TokenEpochService;
 import com.devon.techblog.common.exception.BusinessException;
 import com.devon.techblog.common.exception.code.MemberErrorCode;
 import com.devon.techblog.domain.member.entity.Member;
@@ -20,6 +22,8 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final MemberValidator memberValidator;
+    private final TokenEpochService tokenEpochService;
+    private final MemberAuthCache memberAuthCache;
 
     /**
      * 회원 프로필 조회
@@ -63,6 +67,7 @@ public class MemberService {
 
     /**
      * 회원 비밀 번호 검증 및 변경
+     * 변경 전에 발급된 토큰은 모두 폐기한다.
      */
     @Transactional
     public void updatePassword(Long id, PasswordUpdateRequest request) {
@@ -73,16 +78,19 @@ public class MemberService {
         member.changePassword(request.newPassword());
 
         memberRepository.save(member);
+        tokenEpochService.revokeAll(id);
     }
 
     /**
-     * 회원 탈퇴
+     * 회원 탈퇴 (발급된 토큰 모두 폐기)
      */
     @Transactional
     public void deleteMember(Long id) {
         Member member = findMemberById(id);
         member.withdraw();
         memberRepository.save(member);
+        memberAuthCache.evict(id);
+        tokenEpochService.revokeAll(id);
     }
 
 
@@ -0,0 +1,139 @@
+package com.devon.techblog.application.post.cache;
+
+import com.devon.techblog.common.utils.TransactionCallbacks;
+import com.devon.techblog.infra.redis.adapter.RedisMessageHandler;
+import com.devon.techblog.infra.redis.adapter.RedisService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 상세 2단 캐시 (L1: 노드 로컬 Caffeine, L2: Redis)
+ *
+ * 조회 순서는 L1 → L2 → DB이며, 하위 계층에서 읽은 값은 상위 계층에 채운다.
+ * 같은 게시글에 대한 동시 미스는 Caffeine이 한 번의 로드로 합친다.
+ *
+ * 무효화는 L1·L2 삭제 후 pub/sub으로 다른 노드의 L1 삭제를 요청한다.
+ * 트랜잭션 안에서 호출되면 커밋 직후 한 번 더 무효화해, 커밋 전에 다른 요청이
+ * 이전 값을 다시 채워 넣는 경우를 막는다.
+ * Redis 장애 시에는 L2를 건너뛰고 DB에서 읽는다.
+ */
+@Slf4j
+@Component
+public class PostDetailCache implements RedisMessageHandler {
+
+    static final String KEY_PREFIX = "post:detail:";
+    static final String EVICTION_CHANNEL = "post:detail:evict";
+    private static final String MESSAGE_DELIMITER = "|";
+
+    /**
+     * 자신이 발행한 무효화 메시지를 구분하기 위한 노드 식별자
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Cache<Long, PostDetailSnapshot> localCache;
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+    private final PostDetailCacheProperties properties;
+
+    public PostDetailCache(
+            RedisService redisService,
+            ObjectMapper objectMapper,
+            PostDetailCacheProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisService = redisService;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaximumSize())
+                .expireAfterWrite(properties.getLocalTtl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "post.detail");
+    }
+
+    /**
+     * 캐시에서 게시글 상세를 조회하고, 없으면 loader로 읽어 L2·L1에 채운다.
+     * loader가 예외를 던지면(게시글 없음 등) 아무것도 캐시하지 않고 그대로 전파한다.
+     */
+    public PostDetailSnapshot get(Long postId, Supplier<PostDetailSnapshot> loader) {
+        return localCache.get(postId, id -> findRemote(id).orElseGet(() -> {
+            PostDetailSnapshot snapshot = loader.get();
+            saveRemote(snapshot);
+            return snapshot;
+        }));
+    }
+
+    /**
+     * 게시글 상세 캐시 무효화 (모든 노드)
+     */
+    public void evict(Long postId) {
+        TransactionCallbacks.nowAndAfterCommit(() -> evictEverywhere(postId));
+    }
+
+    @Override
+    public String channel() {
+        return EVICTION_CHANNEL;
+    }
+
+    /**
+     * 다른 노드가 발행한 무효화 메시지 처리
+     */
+    @Override
+    public void onMessage(String message) {
+        int delimiter = message.indexOf(MESSAGE_DELIMITER);
+        if (delimiter < 0 || message.substring(0, delimiter).equals(nodeId)) {
+            return;
+        }
+
+        try {
+            localCache.invalidate(Long.valueOf(message.substring(delimiter + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 게시글 캐시 무효화 메시지 - message={}", message);
+        }
+    }
+
+    private void evictEverywhere(Long postId) {
+        localCache.invalidate(postId);
+        try {
+            redisService.delete(KEY_PREFIX + postId);
+            redisService.publish(EVICTION_CHANNEL, nodeId + MESSAGE_DELIMITER + postId);
+        } catch (Exception e) {
+            log.error("게시글 상세 캐시 무효화 실패 - postId={}", postId, e);
+        }
+    }
+
+    private Optional<PostDetailSnapshot> findRemote(Long postId) {
+        try {
+            Optional<String> cached = redisService.find(KEY_PREFIX + postId);
+            if (cached.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(cached.get(), PostDetailSnapshot.class));
+        } catch (Exception e) {
+            log.warn("게시글 상세 캐시(Redis) 조회 실패 - postId={}", postId, e);
+            return Optional.empty();
+        }
+    }
+
+    private void saveRemote(PostDetailSnapshot snapshot) {
+        try {
+            redisService.save(KEY_PREFIX + snapshot.postId(),
+                    objectMapper.writeValueAsString(snapshot), properties.getRemoteTtl());
+        } catch (JsonProcessingException e) {
+            log.error("게시글 상세 캐시 직렬화 실패 - postId={}", snapshot.postId(), e);
+        } catch (Exception e) {
+            log.warn("게시글 상세 캐시(Redis) 저장 실패 - postId={}", snapshot.postId(), e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.devon.techblog.application.post.cache;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 게시글 상세 2단 캐시 설정
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "post.detail-cache")
+public class PostDetailCacheProperties {
+
+    /**
+     * 노드 로컬(Caffeine) 캐시 최대 항목 수 (기본값 10,000)
+     */
+    @NotNull
+    @Positive
+    private Long localMaximumSize = 10_000L;
+
+    /**
+     * 노드 로컬 캐시 TTL (기본값 1분)
+     * pub/sub 무효화 메시지를 놓친 노드가 오래된 값을 들고 있을 수 있는 최대 시간이다.
+     */
+    @NotNull
+    private Duration localTtl = Duration.ofMinutes(1);
+
+    /**
+     * Redis 공유 캐시 TTL (기본값 30분)
+     * 작성자 닉네임·시리즈 이름처럼 게시글 수정 없이 바뀌는 값은 이 시간 안에 반영된다.
+     */
+    @NotNull
+    private Duration remoteTtl = Duration.ofMinutes(30);
+}
@@ -0,0 +1,44 @@
+package com.devon.techblog.application.post.cache;
+
+import com.devon.techblog.application.member.dto.response.MemberResponse;
+import com.devon.techblog.domain.post.entity.Post;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 게시글 상세 캐시 값
+ *
+ * PostResponse 중 게시글 수정/삭제 시에만 바뀌는 부분만 담는다.
+ * 조회수·좋아요 수·댓글 수와 회원별 좋아요 여부는 요청마다 따로 조회해 합친다.
+ */
+public record PostDetailSnapshot(
+        Long postId,
+        MemberResponse member,
+        String title,
+        String content,
+        String imageUrl,
+        Instant createdAt,
+        Instant updatedAt,
+        String summary,
+        List<String> tags,
+        Long seriesId,
+        String seriesName,
+        String visibility
+) {
+    public static PostDetailSnapshot from(Post post) {
+        return new PostDetailSnapshot(
+                post.getId(),
+                MemberResponse.of(post.getMember()),
+                post.getTitle(),
+                post.getContent(),
+                post.getImageUrl(),
+                post.getCreatedAt(),
+                post.getUpdatedAt(),
+                post.getSummary(),
+                post.getTagNames(),
+                post.getSeries() != null ? post.getSeries().getId() : null,
+                post.getSeries() != null ? post.getSeries().getName() : null,
+                post.getVisibility() != null ? post.getVisibility() : "public"
+        );
+    }
+}
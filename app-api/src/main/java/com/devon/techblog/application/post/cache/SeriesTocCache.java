@@ -0,0 +1,93 @@
+package com.devon.techblog.application.post.cache;
+
+import com.devon.techblog.common.utils.TransactionCallbacks;
+import com.devon.techblog.domain.post.dto.SeriesPostEntry;
+import com.devon.techblog.infra.redis.adapter.RedisService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시리즈 목차 캐시 (Redis)
+ *
+ * 시리즈별로 삭제되지 않은 게시글의 (ID, 제목)을 시리즈 내 순서대로 담아 두고,
+ * 목차 조회와 게시글 상세의 이전/다음 글 계산에 함께 쓴다.
+ * 게시글의 시리즈 편입·이동, 제목 변경, 삭제 시 해당 시리즈 목차를 비우며,
+ * 트랜잭션 안에서 호출되면 커밋 직후 한 번 더 비워 커밋 전 값이 다시 채워지는 경우를 막는다.
+ * Redis 장애 시에는 DB에서 읽는다.
+ */
+@Slf4j
+@Component
+public class SeriesTocCache {
+
+    static final String KEY_PREFIX = "series:toc:";
+    private static final TypeReference<List<SeriesPostEntry>> ENTRIES_TYPE = new TypeReference<>() {};
+
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+    private final SeriesTocCacheProperties properties;
+
+    public SeriesTocCache(
+            RedisService redisService,
+            ObjectMapper objectMapper,
+            SeriesTocCacheProperties properties
+    ) {
+        this.redisService = redisService;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    /**
+     * 캐시에서 시리즈 목차를 조회하고, 없으면 loader로 읽어 채운다.
+     */
+    public List<SeriesPostEntry> get(Long seriesId, Supplier<List<SeriesPostEntry>> loader) {
+        return find(seriesId).orElseGet(() -> {
+            List<SeriesPostEntry> entries = loader.get();
+            save(seriesId, entries);
+            return entries;
+        });
+    }
+
+    /**
+     * 시리즈 목차 캐시 무효화
+     */
+    public void evict(Long seriesId) {
+        TransactionCallbacks.nowAndAfterCommit(() -> delete(seriesId));
+    }
+
+    private Optional<List<SeriesPostEntry>> find(Long seriesId) {
+        try {
+            Optional<String> cached = redisService.find(KEY_PREFIX + seriesId);
+            if (cached.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(cached.get(), ENTRIES_TYPE));
+        } catch (Exception e) {
+            log.warn("시리즈 목차 캐시 조회 실패 - seriesId={}", seriesId, e);
+            return Optional.empty();
+        }
+    }
+
+    private void save(Long seriesId, List<SeriesPostEntry> entries) {
+        try {
+            redisService.save(KEY_PREFIX + seriesId, objectMapper.writeValueAsString(entries), properties.getTtl());
+        } catch (JsonProcessingException e) {
+            log.error("시리즈 목차 캐시 직렬화 실패 - seriesId={}", seriesId, e);
+        } catch (Exception e) {
+            log.warn("시리즈 목차 캐시 저장 실패 - seriesId={}", seriesId, e);
+        }
+    }
+
+    private void delete(Long seriesId) {
+        try {
+            redisService.delete(KEY_PREFIX + seriesId);
+        } catch (Exception e) {
+            log.error("시리즈 목차 캐시 무효화 실패 - seriesId={}", seriesId, e);
+        }
+    }
+}
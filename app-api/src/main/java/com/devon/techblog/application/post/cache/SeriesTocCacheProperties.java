@@ -0,0 +1,27 @@
+package com.devon.techblog.application.post.cache;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 시리즈 목차 캐시 설정
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "post.series-toc")
+public class SeriesTocCacheProperties {
+
+    /**
+     * Redis 목차 캐시 TTL (기본값 1시간)
+     * 무효화가 실패한 경우 목차가 늦게 반영될 수 있는 최대 시간이다.
+     */
+    @NotNull
+    private Duration ttl = Duration.ofHours(1);
+}
@@ -1,18 +1,22 @@
 package com.devon.techblog.application.post.controller;
 
+import com.devon.techblog.application.common.dto.request.CursorRequest;
 import com.devon.techblog.application.common.dto.request.PageSortRequest;
+import com.devon.techblog.application.common.dto.response.CursorResponse;
 import com.devon.techblog.application.common.dto.response.PageResponse;
 import com.devon.techblog.application.post.controller.docs.PostApiDocs;
 import com.devon.techblog.application.post.dto.ViewContext;
 import com.devon.techblog.application.post.dto.request.PostCreateRequest;
 import com.devon.techblog.application.post.dto.request.PostUpdateRequest;
 import com.devon.techblog.application.post.dto.response.PostResponse;
+import com.devon.techblog.application.post.dto.response.PostSearchResponse;
 import com.devon.techblog.application.post.dto.response.PostSummaryResponse;
 import com.devon.techblog.application.post.service.PostLikeService;
 import com.devon.techblog.application.post.service.PostService;
 import com.devon.techblog.application.post.service.PostViewService;
 import com.devon.techblog.application.security.annotation.CurrentUser;
 import com.devon.techblog.common.dto.api.ApiResponse;
+import com.devon.techblog.domain.post.dto.TagMatch;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -86,20 +90,52 @@ public class PostController implements PostApiDocs {
             @RequestParam(required = false) Integer page,
             @RequestParam(required = false) Integer size,
             @RequestParam(required = false) List<String> sort,
-            @RequestParam(required = false) List<String> tags
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(required = false) String tagMatch,
+            @CurrentUser Long memberId
     ) {
         PageSortRequest pageSortRequest = new PageSortRequest(page, size, sort);
         PageResponse<PostSummaryResponse> response;
 
         if (tags != null && !tags.isEmpty()) {
-            response = postService.getPostPageByTags(tags, pageSortRequest.toPageable());
+            response = postService.getPostPageByTags(
+                    tags, TagMatch.from(tagMatch), pageSortRequest.toPageable(), memberId);
         } else {
-            response = postService.getPostPage(pageSortRequest.toPageable());
+            response = postService.getPostPage(pageSortRequest.toPageable(), memberId);
         }
 
         return ApiResponse.success(response);
     }
 
+    @GetMapping("/scroll")
+    public ApiResponse<CursorResponse<PostSummaryResponse>> scrollPosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(required = false) String tagMatch,
+            @CurrentUser Long memberId
+    ) {
+        CursorRequest cursorRequest = new CursorRequest(cursor, size, sort);
+        CursorResponse<PostSummaryResponse> response = postService.scrollPosts(
+                tags, TagMatch.from(tagMatch), cursorRequest, memberId);
+
+        return ApiResponse.success(response);
+    }
+
+    @GetMapping("/search")
+    public ApiResponse<PageResponse<PostSearchResponse>> searchPosts(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @CurrentUser Long memberId
+    ) {
+        PageSortRequest pageSortRequest = new PageSortRequest(page, size, null);
+        PageResponse<PostSearchResponse> response = postService.searchPosts(q, pageSortRequest.toPageable(), memberId);
+
+        return ApiResponse.success(response);
+    }
+
     @PostMapping("/{postId}/like")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void likePost(
@@ -0,0 +1,31 @@
+package com.devon.techblog.application.post.controller;
+
+import com.devon.techblog.application.post.controller.docs.PostCounterAdminApiDocs;
+import com.devon.techblog.application.post.dto.response.PostCounterFoldResponse;
+import com.devon.techblog.common.dto.api.ApiResponse;
+import com.devon.techblog.domain.post.counter.PostCounterStore;
+import com.devon.techblog.domain.post.entity.PostCounterType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/post-counters")
+@RequiredArgsConstructor
+public class PostCounterAdminController implements PostCounterAdminApiDocs {
+
+    private final PostCounterStore postCounterStore;
+
+    @PostMapping("/{type}/fold")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<PostCounterFoldResponse> foldCounterShards(@PathVariable PostCounterType type) {
+        long started = System.currentTimeMillis();
+        long foldedPosts = postCounterStore.fold(type);
+
+        PostCounterFoldResponse response = new PostCounterFoldResponse(foldedPosts, System.currentTimeMillis() - started);
+        return ApiResponse.success(response, "post_counter_folded");
+    }
+}
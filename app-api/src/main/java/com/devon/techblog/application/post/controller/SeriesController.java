@@ -0,0 +1,26 @@
+package com.devon.techblog.application.post.controller;
+
+import com.devon.techblog.application.post.controller.docs.SeriesApiDocs;
+import com.devon.techblog.application.post.dto.response.SeriesPostResponse;
+import com.devon.techblog.application.post.service.SeriesService;
+import com.devon.techblog.common.dto.api.ApiResponse;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/series")
+@RequiredArgsConstructor
+public class SeriesController implements SeriesApiDocs {
+
+    private final SeriesService seriesService;
+
+    @GetMapping("/{seriesId}/posts")
+    public ApiResponse<List<SeriesPostResponse>> getSeriesPosts(@PathVariable Long seriesId) {
+        List<SeriesPostResponse> posts = seriesService.getSeriesPosts(seriesId);
+        return ApiResponse.success(posts, "series_posts_retrieved");
+    }
+}
@@ -3,7 +3,7 @@ package com.devon.techblog.application.post.controller;
 import com.devon.techblog.application.post.controller.docs.TagApiDocs;
 import com.devon.techblog.application.post.service.PostTagService;
 import com.devon.techblog.common.dto.api.ApiResponse;
-import com.devon.techblog.domain.post.entity.Tag;
+import com.devon.techblog.domain.post.dto.TagUsage;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,10 +19,10 @@ public class TagController implements TagApiDocs {
     private final PostTagService postTagService;
 
     @GetMapping("/popular")
-    public ApiResponse<List<Tag>> getPopularTags(
+    public ApiResponse<List<TagUsage>> getPopularTags(
             @RequestParam(defaultValue = "10") int limit
     ) {
-        List<Tag> tags = postTagService.getTopTags(limit);
+        List<TagUsage> tags = postTagService.getTopTags(limit);
         return ApiResponse.success(tags, "popular_tags_retrieved");
     }
 }
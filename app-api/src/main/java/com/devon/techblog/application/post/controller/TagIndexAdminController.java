@@ -0,0 +1,29 @@
+package com.devon.techblog.application.post.controller;
+
+import com.devon.techblog.application.post.controller.docs.TagIndexAdminApiDocs;
+import com.devon.techblog.application.post.dto.response.TagIndexRebuildResponse;
+import com.devon.techblog.application.post.service.PostTagService;
+import com.devon.techblog.common.dto.api.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/tag-index")
+@RequiredArgsConstructor
+public class TagIndexAdminController implements TagIndexAdminApiDocs {
+
+    private final PostTagService postTagService;
+
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<TagIndexRebuildResponse> rebuildTagIndex() {
+        long started = System.currentTimeMillis();
+        long indexed = postTagService.rebuildTagIndex();
+
+        TagIndexRebuildResponse response = new TagIndexRebuildResponse(indexed, System.currentTimeMillis() - started);
+        return ApiResponse.success(response, "tag_index_rebuilt");
+    }
+}
@@ -1,9 +1,11 @@
 package com.devon.techblog.application.post.controller.docs;
 
+import com.devon.techblog.application.common.dto.response.CursorResponse;
 import com.devon.techblog.application.common.dto.response.PageResponse;
 import com.devon.techblog.application.post.dto.request.PostCreateRequest;
 import com.devon.techblog.application.post.dto.request.PostUpdateRequest;
 import com.devon.techblog.application.post.dto.response.PostResponse;
+import com.devon.techblog.application.post.dto.response.PostSearchResponse;
 import com.devon.techblog.application.post.dto.response.PostSummaryResponse;
 import com.devon.techblog.common.dto.api.ApiResponse;
 import com.devon.techblog.common.swagger.CustomErrorResponseDescription;
@@ -70,8 +72,39 @@ public interface PostApiDocs {
     ApiResponse<PageResponse<PostSummaryResponse>> getPostPage(
             @Parameter(description = "페이지 번호", example = "0") Integer page,
             @Parameter(description = "페이지 크기", example = "20") Integer size,
-            @Parameter(description = "정렬 기준 (필드명,방향). 다중 정렬 가능", example = "createdAt,desc") List<String> sort,
-            @Parameter(description = "태그 목록 (OR 조건 - 하나라도 포함하면 조회)", example = "Java,Spring") List<String> tags
+            @Parameter(description = "정렬 기준 (필드명,방향). 다중 정렬 가능, trending이면 시간 감쇠 인기순", example = "createdAt,desc") List<String> sort,
+            @Parameter(description = "태그 목록", example = "Java,Spring") List<String> tags,
+            @Parameter(description = "태그 결합 방식 (any: 하나라도 포함, all: 모두 포함)", example = "any") String tagMatch,
+            Long memberId
+    );
+
+    @Operation(
+            summary = "게시글 목록 커서 조회",
+            description = "게시글 목록을 커서 기반으로 조회합니다. 전체 건수 없이 다음 페이지 커서(nextCursor)를 반환하며, "
+                    + "깊은 페이지도 첫 페이지와 같은 비용으로 조회됩니다. "
+                    + "viewsCount·likeCount처럼 바뀌는 값으로 정렬하면 조회 도중 값이 바뀐 게시글이 누락되거나 중복될 수 있습니다."
+    )
+    @CustomErrorResponseDescription(SwaggerErrorResponseDescription.POST_SCROLL)
+    ApiResponse<CursorResponse<PostSummaryResponse>> scrollPosts(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20") Integer size,
+            @Parameter(description = "정렬 기준 (필드명,방향). id, title, viewsCount, likeCount, createdAt 중 하나, 방향 생략 시 asc", example = "createdAt,desc") String sort,
+            @Parameter(description = "태그 목록", example = "Java,Spring") List<String> tags,
+            @Parameter(description = "태그 결합 방식 (any: 하나라도 포함, all: 모두 포함)", example = "any") String tagMatch,
+            Long memberId
+    );
+
+    @Operation(
+            summary = "게시글 검색",
+            description = "제목·본문에 검색어의 모든 단어가 포함된 게시글을 관련도 순으로 조회합니다. "
+                    + "일치한 부분은 <mark> 태그로 강조된 제목과 본문 스니펫으로 함께 반환됩니다."
+    )
+    @CustomErrorResponseDescription(SwaggerErrorResponseDescription.POST_SEARCH)
+    ApiResponse<PageResponse<PostSearchResponse>> searchPosts(
+            @Parameter(description = "검색어 (공백으로 구분한 단어를 모두 포함)", example = "스프링 트랜잭션") String q,
+            @Parameter(description = "페이지 번호", example = "0") Integer page,
+            @Parameter(description = "페이지 크기", example = "20") Integer size,
+            Long memberId
     );
 
     @Operation(
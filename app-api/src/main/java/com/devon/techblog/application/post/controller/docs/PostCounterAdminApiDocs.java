@@ -0,0 +1,23 @@
+package com.devon.techblog.application.post.controller.docs;
+
+import com.devon.techblog.application.post.dto.response.PostCounterFoldResponse;
+import com.devon.techblog.common.dto.api.ApiResponse;
+import com.devon.techblog.domain.post.entity.PostCounterType;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+
+@io.swagger.v3.oas.annotations.tags.Tag(
+        name = "Post Counter Admin",
+        description = "게시글 카운터 관리 API (관리자 전용)"
+)
+public interface PostCounterAdminApiDocs {
+
+    @Operation(
+            summary = "샤딩 카운터 접기",
+            description = "post_counter_shard에 쌓인 슬롯 합계를 post 컬럼에 더하고 슬롯을 지웁니다. "
+                    + "저장 방식을 SHARDED에서 COLUMN으로 되돌리기 전에 실행합니다."
+    )
+    ApiResponse<PostCounterFoldResponse> foldCounterShards(
+            @Parameter(description = "카운터 종류", example = "COMMENT") PostCounterType type
+    );
+}
@@ -0,0 +1,21 @@
+package com.devon.techblog.application.post.controller.docs;
+
+import com.devon.techblog.application.post.dto.response.SeriesPostResponse;
+import com.devon.techblog.common.dto.api.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+
+@Tag(name = "Series", description = "시리즈 관련 API")
+public interface SeriesApiDocs {
+
+    @Operation(
+            summary = "시리즈 목차 조회",
+            description = "시리즈에 속한 게시글을 시리즈 내 순서대로 조회합니다."
+    )
+    ApiResponse<List<SeriesPostResponse>> getSeriesPosts(
+            @Parameter(description = "시리즈 ID", example = "1")
+            Long seriesId
+    );
+}
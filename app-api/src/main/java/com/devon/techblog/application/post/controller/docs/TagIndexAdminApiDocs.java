@@ -0,0 +1,18 @@
+package com.devon.techblog.application.post.controller.docs;
+
+import com.devon.techblog.application.post.dto.response.TagIndexRebuildResponse;
+import com.devon.techblog.common.dto.api.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+
+@io.swagger.v3.oas.annotations.tags.Tag(
+        name = "Tag Index Admin",
+        description = "태그 역색인 관리 API (관리자 전용)"
+)
+public interface TagIndexAdminApiDocs {
+
+    @Operation(
+            summary = "태그 역색인 재구성",
+            description = "post_tag 테이블에서 태그별 게시글 역색인(Redis)을 다시 적재합니다. 재구성 중 태그 필터 조회는 DB를 사용합니다."
+    )
+    ApiResponse<TagIndexRebuildResponse> rebuildTagIndex();
+}
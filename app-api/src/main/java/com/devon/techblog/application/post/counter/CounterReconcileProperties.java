@@ -0,0 +1,83 @@
+package com.devon.techblog.application.post.counter;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 비정규화 카운터 보정 작업 설정
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "post.counter-reconcile")
+public class CounterReconcileProperties {
+
+    /**
+     * 예약 실행 여부 (기본값 true)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 예약 실행 시각 (기본값 매일 04:30)
+     */
+    @NotBlank
+    private String cron = "0 30 4 * * *";
+
+    /**
+     * 한 번에 읽는 행 수 (기본값 1000)
+     */
+    @NotNull
+    @Positive
+    private Integer chunkSize = 1000;
+
+    /**
+     * 한 번의 JDBC 배치로 전송할 UPDATE 문 개수 (기본값 500)
+     */
+    @NotNull
+    @Positive
+    private Integer batchSize = 500;
+
+    /**
+     * 청크 사이 최소 대기 시간 (기본값 50ms)
+     */
+    @NotNull
+    private Duration chunkPause = Duration.ofMillis(50);
+
+    /**
+     * 전체 시간 중 DB 작업에 쓰는 최대 비율 (기본값 0.5)
+     * 청크 처리가 느려질수록(DB 부하가 클수록) 그에 비례해 오래 쉰다. 0.5면 처리한 시간만큼 쉰다.
+     */
+    @NotNull
+    @DecimalMin(value = "0.0", inclusive = false)
+    @DecimalMax("1.0")
+    private Double maxDutyCycle = 0.5;
+
+    /**
+     * 한 번 실행의 최대 시간 (기본값 30분)
+     * 넘으면 진행 위치를 남기고 멈추며, 다음 실행이 그 위치부터 이어서 처리한다.
+     */
+    @NotNull
+    private Duration maxRunDuration = Duration.ofMinutes(30);
+
+    /**
+     * 중복 실행 방지 락 TTL (기본값 5분) - 청크마다 연장한다.
+     */
+    @NotNull
+    private Duration lockTtl = Duration.ofMinutes(5);
+
+    /**
+     * 진행 위치 보관 기간 (기본값 7일)
+     */
+    @NotNull
+    private Duration cursorTtl = Duration.ofDays(7);
+}
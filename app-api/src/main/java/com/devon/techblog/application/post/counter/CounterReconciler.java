@@ -0,0 +1,201 @@
+package com.devon.techblog.application.post.counter;
+
+import com.devon.techblog.domain.post.dto.CounterDrift;
+import com.devon.techblog.domain.post.repository.CounterReconciliationRepository;
+import com.devon.techblog.domain.post.repository.DenormalizedCounter;
+import com.devon.techblog.infra.redis.adapter.RedisService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비정규화 카운터 보정 작업 (post.like_count / post.comment_count / tag.usage_count)
+ *
+ * 카운터는 요청마다 증감 UPDATE로 유지되므로 일부만 반영된 트랜잭션이나 누락된 경로가 있으면 원본과 어긋난다.
+ * 이 작업은 대상 테이블을 PK 순서로 청크 단위로 읽어 원본(post_like, comment, post_tag)과 대조하고 어긋난 행만 고친다.
+ *
+ * - 재개: 청크마다 마지막 ID를 Redis에 남기고, 시간 제한·실패·재시작으로 멈추면 다음 실행이 그 위치부터 이어간다.
+ * - 락: 노드마다 UUID 값으로 락을 잡고 청크마다 자기 값일 때만 TTL을 연장한다. 처리가 락 TTL보다 오래 걸려
+ *   다른 노드가 락을 가져가면 연장에 실패한 노드가 멈추고, 해제도 자기 값일 때만 한다.
+ * - 부하 조절: 청크 처리 시간에 비례해 쉬어 DB 작업 비율을 maxDutyCycle 이하로 유지한다.
+ * - 메트릭: counter.reconcile.progress(진행률), counter.reconcile.drift.rows / drift.magnitude(발견한 어긋남),
+ *   counter.reconcile.fixed(보정한 행), counter.reconcile.chunk(청크 처리 시간) - 모두 counter 태그로 구분한다.
+ */
+@Slf4j
+@Component
+public class CounterReconciler {
+
+    private static final String LOCK_KEY = "counter-reconcile:lock";
+    private static final String CURSOR_KEY_PREFIX = "counter-reconcile:cursor:";
+
+    private final CounterReconciliationRepository repository;
+    private final RedisService redisService;
+    private final CounterReconcileProperties properties;
+    private final Map<DenormalizedCounter, Meters> meters = new EnumMap<>(DenormalizedCounter.class);
+
+    public CounterReconciler(
+            CounterReconciliationRepository repository,
+            RedisService redisService,
+            CounterReconcileProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.repository = repository;
+        this.redisService = redisService;
+        this.properties = properties;
+        for (DenormalizedCounter counter : DenormalizedCounter.values()) {
+            meters.put(counter, new Meters(counter, meterRegistry));
+        }
+    }
+
+    @Scheduled(cron = "${post.counter-reconcile.cron:0 30 4 * * *}")
+    public void reconcileOnSchedule() {
+        if (properties.isEnabled()) {
+            reconcile();
+        }
+    }
+
+    /**
+     * 모든 카운터를 차례로 보정
+     *
+     * @return 이번 실행에서 모든 카운터를 끝까지 확인했으면 true, 다른 노드가 실행 중이거나 시간 제한·락 상실로 멈췄으면 false
+     */
+    public boolean reconcile() {
+        String lockValue = UUID.randomUUID().toString();
+        if (!redisService.setIfAbsent(LOCK_KEY, lockValue, properties.getLockTtl())) {
+            log.info("카운터 보정이 이미 실행 중입니다");
+            return false;
+        }
+
+        Instant deadline = Instant.now().plus(properties.getMaxRunDuration());
+        try {
+            for (DenormalizedCounter counter : DenormalizedCounter.values()) {
+                if (!reconcile(counter, deadline, lockValue)) {
+                    log.info("카운터 보정 중단, 다음 실행에서 이어서 처리 - counter={}", counter.metricName());
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            redisService.deleteIfEquals(LOCK_KEY, lockValue);
+        }
+    }
+
+    /**
+     * @return 끝까지 확인했으면 true, 시간 제한이나 락 상실로 멈췄으면 false
+     */
+    private boolean reconcile(DenormalizedCounter counter, Instant deadline, String lockValue)
+            throws InterruptedException {
+        Meters counterMeters = meters.get(counter);
+        String cursorKey = CURSOR_KEY_PREFIX + counter.metricName();
+        long cursor = redisService.find(cursorKey).map(Long::parseLong).orElse(0L);
+        counterMeters.maxId.set(repository.findMaxId(counter));
+        counterMeters.cursor.set(cursor);
+
+        int chunkSize = properties.getChunkSize();
+        while (true) {
+            long started = System.nanoTime();
+            List<CounterDrift> rows = repository.findCounters(counter, cursor, chunkSize);
+            List<CounterDrift> drifts = rows.stream().filter(CounterDrift::drifted).toList();
+            int fixed = repository.fix(counter, drifts, properties.getBatchSize());
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+            record(counterMeters, drifts, fixed, elapsed);
+            if (rows.size() < chunkSize) {
+                redisService.delete(cursorKey);
+                counterMeters.cursor.set(counterMeters.maxId.get());
+                log.info("카운터 보정 완료 - counter={}", counter.metricName());
+                return true;
+            }
+
+            cursor = rows.getLast().id();
+            redisService.save(cursorKey, String.valueOf(cursor), properties.getCursorTtl());
+            counterMeters.cursor.set(cursor);
+            if (!redisService.expireIfEquals(LOCK_KEY, lockValue, properties.getLockTtl())) {
+                log.warn("카운터 보정 락을 잃음 (다른 노드가 획득) - counter={}", counter.metricName());
+                return false;
+            }
+
+            if (!Instant.now().isBefore(deadline)) {
+                return false;
+            }
+            throttle(elapsed);
+        }
+    }
+
+    private void record(Meters counterMeters, List<CounterDrift> drifts, int fixed, Duration elapsed) {
+        counterMeters.chunk.record(elapsed);
+        counterMeters.driftRows.increment(drifts.size());
+        counterMeters.driftMagnitude.increment(drifts.stream().mapToLong(CounterDrift::magnitude).sum());
+        counterMeters.fixed.increment(fixed);
+        if (!drifts.isEmpty()) {
+            log.warn("카운터 어긋남 보정 - counter={}, drifted={}, fixed={}, ids={}",
+                    counterMeters.name, drifts.size(), fixed, drifts.stream().map(CounterDrift::id).limit(20).toList());
+        }
+    }
+
+    /**
+     * 처리 시간 x (1 - d) / d 만큼 쉬어 DB 작업 비율을 d 이하로 유지한다 (최소 chunkPause).
+     */
+    private void throttle(Duration elapsed) throws InterruptedException {
+        double dutyCycle = properties.getMaxDutyCycle();
+        long pauseNanos = (long) (elapsed.toNanos() * (1 - dutyCycle) / dutyCycle);
+        Duration pause = Duration.ofNanos(Math.max(pauseNanos, properties.getChunkPause().toNanos()));
+        if (!pause.isZero()) {
+            Thread.sleep(pause);
+        }
+    }
+
+    private static final class Meters {
+
+        private final String name;
+        private final AtomicLong cursor = new AtomicLong();
+        private final AtomicLong maxId = new AtomicLong();
+        private final Timer chunk;
+        private final Counter driftRows;
+        private final Counter driftMagnitude;
+        private final Counter fixed;
+
+        private Meters(DenormalizedCounter counter, MeterRegistry meterRegistry) {
+            this.name = counter.metricName();
+            Gauge.builder("counter.reconcile.progress", this, Meters::progress)
+                    .description("보정 작업 진행률 (0~1)")
+                    .tag("counter", name)
+                    .register(meterRegistry);
+            this.chunk = Timer.builder("counter.reconcile.chunk")
+                    .description("청크 하나의 대조·보정 소요 시간")
+                    .tag("counter", name)
+                    .register(meterRegistry);
+            this.driftRows = Counter.builder("counter.reconcile.drift.rows")
+                    .description("원본과 어긋난 행 수 누적")
+                    .tag("counter", name)
+                    .register(meterRegistry);
+            this.driftMagnitude = Counter.builder("counter.reconcile.drift.magnitude")
+                    .description("원본과의 차이 절댓값 합계 누적")
+                    .tag("counter", name)
+                    .register(meterRegistry);
+            this.fixed = Counter.builder("counter.reconcile.fixed")
+                    .description("보정한 행 수 누적")
+                    .tag("counter", name)
+                    .register(meterRegistry);
+        }
+
+        private double progress() {
+            long max = maxId.get();
+            return max == 0 ? 1.0 : Math.min(1.0, (double) cursor.get() / max);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.devon.techblog.application.post.counter;
+
+import com.devon.techblog.domain.post.index.TrendingPostIndex;
+import com.devon.techblog.domain.post.index.TrendingSignal;
+import com.devon.techblog.domain.post.repository.PostViewCountBatchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회수 write-behind 버퍼
+ *
+ * 조회 요청마다 UPDATE를 실행하는 대신 게시글별 LongAdder에 증가분을 모아두고,
+ * 주기적으로 한 번의 배치 UPDATE로 DB에 반영한다.
+ * 인기 게시글의 row lock 경합과 요청당 DB 왕복을 제거하는 것이 목적이다.
+ *
+ * 맵은 교체하지 않고, flush가 게시글마다 LongAdder.sumThenReset으로 증가분을 꺼낸다.
+ * sumThenReset은 셀 단위로 값을 원자적으로 가져오고 0으로 만들므로, flush와 동시에 들어온 증가분은
+ * 이번 또는 다음 flush 중 한 번만 집계된다. 증가 기록 경로에는 공유 락이 없다.
+ *
+ * 한 주기 동안 증가가 없던 게시글은 맵에서 뺀다. 빠진 LongAdder에 늦게 더해진 증가분은
+ * 맵에서 뺀 쪽(flush)과 더한 쪽(증가 기록) 중 먼저 꺼낸 쪽이 맵에 다시 넣는다.
+ */
+@Slf4j
+@Component
+public class ViewCountBuffer {
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final PostViewCountBatchRepository batchRepository;
+    private final ViewCountBufferProperties properties;
+    private final TrendingPostIndex trendingPostIndex;
+    private final Timer flushTimer;
+    private final Counter flushedViews;
+    private final Counter flushFailures;
+
+    public ViewCountBuffer(
+            PostViewCountBatchRepository batchRepository,
+            ViewCountBufferProperties properties,
+            TrendingPostIndex trendingPostIndex,
+            MeterRegistry meterRegistry
+    ) {
+        this.batchRepository = batchRepository;
+        this.properties = properties;
+        this.trendingPostIndex = trendingPostIndex;
+
+        Gauge.builder("post.view.buffer.pending", this, ViewCountBuffer::pendingViews)
+                .description("DB에 아직 반영되지 않은 조회수 증가분 합계")
+                .register(meterRegistry);
+        Gauge.builder("post.view.buffer.posts", this, ViewCountBuffer::pendingPosts)
+                .description("버퍼에 증가분이 남아있는 게시글 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("post.view.buffer.flush")
+                .description("버퍼 flush(배치 UPDATE) 소요 시간")
+                .register(meterRegistry);
+        this.flushedViews = Counter.builder("post.view.buffer.flushed")
+                .description("DB에 반영된 조회수 증가분 누적")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("post.view.buffer.flush.failures")
+                .description("flush 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회수 1 증가를 버퍼에 기록
+     */
+    public void increment(Long postId) {
+        add(postId, 1L);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 증가분 합계
+     */
+    public long pendingViews() {
+        return pending.values().stream()
+                .mapToLong(LongAdder::sum)
+                .sum();
+    }
+
+    private long pendingPosts() {
+        return pending.values().stream()
+                .filter(adder -> adder.sum() > 0)
+                .count();
+    }
+
+    /**
+     * 버퍼에 쌓인 증가분을 DB에 반영
+     * 실패한 증가분은 다시 버퍼로 되돌려 다음 주기에 재시도한다.
+     * 반영된 증가분은 인기 게시글 점수에도 한 번에 더한다.
+     */
+    @Scheduled(fixedDelayString = "#{@viewCountBufferProperties.flushInterval.toMillis()}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Long, Long> deltas = drain();
+            if (deltas.isEmpty()) {
+                return;
+            }
+
+            long total = deltas.values().stream().mapToLong(Long::longValue).sum();
+            try {
+                flushTimer.record(() -> batchRepository.addViewCounts(deltas, properties.getBatchSize()));
+                flushedViews.increment(total);
+                trendingPostIndex.recordAll(TrendingSignal.VIEW, deltas);
+            } catch (Exception e) {
+                flushFailures.increment();
+                deltas.forEach(this::add);
+                log.error("조회수 버퍼 flush 실패 - posts={}, views={}", deltas.size(), total, e);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 증가분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        long remaining = pendingViews();
+        if (remaining > 0) {
+            log.warn("종료 시점에 반영하지 못한 조회수 증가분이 있습니다 - views={}", remaining);
+        }
+    }
+
+    private void add(Long postId, long delta) {
+        LongAdder adder = pending.get(postId);
+        if (adder == null) {
+            adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+        }
+        adder.add(delta);
+
+        if (pending.get(postId) != adder) {
+            requeue(postId, adder);
+        }
+    }
+
+    /**
+     * 맵에서 빠진 LongAdder에 남은 증가분을 맵으로 옮긴다
+     */
+    private void requeue(Long postId, LongAdder removed) {
+        long late = removed.sumThenReset();
+        if (late > 0) {
+            add(postId, late);
+        }
+    }
+
+    /**
+     * 게시글별 증가분을 꺼내고 0으로 되돌린다
+     * post id 순으로 정렬해 노드 간 UPDATE 락 획득 순서를 고정한다(데드락 방지).
+     * 지난 flush 이후 증가가 없는 게시글은 맵에서 빼 버퍼에 계속 남지 않게 한다.
+     */
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new TreeMap<>();
+        pending.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(postId, delta);
+            } else if (pending.remove(postId, adder)) {
+                requeue(postId, adder);
+            }
+        });
+        return deltas;
+    }
+}
@@ -0,0 +1,34 @@
+package com.devon.techblog.application.post.counter;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 조회수 write-behind 버퍼 설정
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "post.view-count.buffer")
+public class ViewCountBufferProperties {
+
+    /**
+     * 버퍼에 쌓인 조회수를 DB로 반영하는 주기 (기본값 3초)
+     */
+    @NotNull
+    private Duration flushInterval = Duration.ofSeconds(3);
+
+    /**
+     * 한 번의 JDBC 배치로 전송할 UPDATE 문 개수 (기본값 500)
+     */
+    @NotNull
+    @Positive
+    private Integer batchSize = 500;
+}
@@ -29,9 +29,12 @@ public record PostUpdateRequest(
         @Schema(description = "태그 목록", example = "[\"Java\", \"Spring\"]")
         List<String> tags,
 
-        @Schema(description = "시리즈 ID", example = "1")
+        @Schema(description = "시리즈 ID (지정한 시리즈의 마지막 순서로 옮긴다)", example = "1")
         Long seriesId,
 
+        @Schema(description = "시리즈에서 제외 여부 (true면 seriesId보다 우선한다)", example = "false")
+        Boolean removeFromSeries,
+
         @Schema(description = "공개 범위", example = "public")
         String visibility,
 
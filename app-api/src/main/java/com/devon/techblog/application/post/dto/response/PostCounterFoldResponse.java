@@ -0,0 +1,13 @@
+package com.devon.techblog.application.post.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "샤딩 카운터 접기 결과 DTO")
+public record PostCounterFoldResponse(
+        @Schema(description = "슬롯을 접은 게시글 수", example = "320")
+        long foldedPosts,
+
+        @Schema(description = "소요 시간 (밀리초)", example = "120")
+        long elapsedMillis
+) {
+}
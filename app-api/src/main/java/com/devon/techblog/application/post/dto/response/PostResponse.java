@@ -1,8 +1,11 @@
 package com.devon.techblog.application.post.dto.response;
 
 import com.devon.techblog.application.member.dto.response.MemberResponse;
+import com.devon.techblog.application.post.cache.PostDetailSnapshot;
 import com.devon.techblog.domain.file.entity.File;
 import com.devon.techblog.domain.member.entity.Member;
+import com.devon.techblog.domain.post.dto.PostCounterQueryDto;
+import com.devon.techblog.domain.post.dto.SeriesPostEntry;
 import com.devon.techblog.domain.post.entity.Post;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.Instant;
@@ -56,13 +59,26 @@ public record PostResponse(
         String seriesName,
 
         @Schema(description = "공개 범위", example = "public")
-        String visibility
+        String visibility,
+
+        @Schema(description = "시리즈 이전 글 (시리즈의 첫 글이거나 시리즈가 없으면 null)")
+        SeriesPostResponse prevPost,
+
+        @Schema(description = "시리즈 다음 글 (시리즈의 마지막 글이거나 시리즈가 없으면 null)")
+        SeriesPostResponse nextPost
 ) {
     public static PostResponse of(Post post, Member member, File file) {
         return of(post, member, file, false);
     }
 
     public static PostResponse of(Post post, Member member, File file, boolean isLiked) {
+        return of(post, post.getTagNames(), member, file, isLiked);
+    }
+
+    /**
+     * 태그를 post_tag에 직접 기록한 직후처럼 게시글의 태그 컬렉션이 최신이 아닐 때 태그 이름을 따로 넘긴다.
+     */
+    public static PostResponse of(Post post, List<String> tags, Member member, File file, boolean isLiked) {
         return new PostResponse(
                 post.getId(),
                 MemberResponse.of(member),
@@ -76,10 +92,59 @@ public record PostResponse(
                 post.getCommentCount(),
                 isLiked,
                 post.getSummary(),
-                post.getTagNames(),
+                tags,
                 post.getSeries() != null ? post.getSeries().getId() : null,
                 post.getSeries() != null ? post.getSeries().getName() : null,
-                post.getVisibility() != null ? post.getVisibility() : "public"
+                post.getVisibility() != null ? post.getVisibility() : "public",
+                null,
+                null
+        );
+    }
+
+    public static PostResponse of(PostDetailSnapshot snapshot, PostCounterQueryDto counters, boolean isLiked) {
+        return of(snapshot, counters, isLiked, List.of());
+    }
+
+    /**
+     * 시리즈 목차(seriesPosts)에서 이 게시글의 앞뒤 글을 찾아 이전/다음 글로 채운다.
+     */
+    public static PostResponse of(
+            PostDetailSnapshot snapshot,
+            PostCounterQueryDto counters,
+            boolean isLiked,
+            List<SeriesPostEntry> seriesPosts
+    ) {
+        int index = -1;
+        for (int i = 0; i < seriesPosts.size(); i++) {
+            if (seriesPosts.get(i).postId().equals(snapshot.postId())) {
+                index = i;
+                break;
+            }
+        }
+        SeriesPostResponse prevPost = index > 0 ? SeriesPostResponse.from(seriesPosts.get(index - 1)) : null;
+        SeriesPostResponse nextPost = index >= 0 && index < seriesPosts.size() - 1
+                ? SeriesPostResponse.from(seriesPosts.get(index + 1))
+                : null;
+
+        return new PostResponse(
+                snapshot.postId(),
+                snapshot.member(),
+                snapshot.title(),
+                snapshot.content(),
+                snapshot.imageUrl(),
+                snapshot.createdAt(),
+                snapshot.updatedAt(),
+                counters.viewsCount(),
+                counters.likeCount(),
+                counters.commentCount(),
+                isLiked,
+                snapshot.summary(),
+                snapshot.tags(),
+                snapshot.seriesId(),
+                snapshot.seriesName(),
+                snapshot.visibility(),
+                prevPost,
+                nextPost
         );
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,16 @@
+package com.devon.techblog.application.post.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "게시글 검색 결과 DTO")
+public record PostSearchResponse(
+        @Schema(description = "게시글 요약 정보")
+        PostSummaryResponse post,
+
+        @Schema(description = "검색어를 <mark> 태그로 강조한 제목 (HTML 이스케이프됨)", example = "<mark>Spring</mark> 트랜잭션 정리")
+        String highlightedTitle,
+
+        @Schema(description = "검색어 주변 본문 스니펫 (HTML 이스케이프됨)", example = "...@Transactional은 <mark>Spring</mark> AOP 프록시로...")
+        String snippet
+) {
+}
@@ -28,13 +28,16 @@ public record PostSummaryResponse(
         @Schema(description = "댓글 수", example = "5")
         Long commentCount,
 
+        @Schema(description = "회원의 좋아요 여부", example = "false")
+        boolean isLiked,
+
         @Schema(description = "요약", example = "게시글 요약입니다")
         String summary,
 
         @Schema(description = "썸네일 URL", example = "https://picsum.photos/200/150")
         String thumbnail
 ) {
-    public static PostSummaryResponse fromDto(PostSummaryQueryDto dto) {
+    public static PostSummaryResponse fromDto(PostSummaryQueryDto dto, boolean isLiked) {
         return new PostSummaryResponse(
                 dto.postId(),
                 dto.title(),
@@ -47,6 +50,7 @@ public record PostSummaryResponse(
                 dto.viewsCount(),
                 dto.likeCount(),
                 dto.commentCount(),
+                isLiked,
                 dto.summary(),
                 dto.thumbnail()
         );
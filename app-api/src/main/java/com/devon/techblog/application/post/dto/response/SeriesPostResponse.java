@@ -0,0 +1,17 @@
+package com.devon.techblog.application.post.dto.response;
+
+import com.devon.techblog.domain.post.dto.SeriesPostEntry;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "시리즈 게시글 응답 DTO")
+public record SeriesPostResponse(
+        @Schema(description = "게시글 ID", example = "1")
+        Long postId,
+
+        @Schema(description = "게시글 제목", example = "This is a title.")
+        String title
+) {
+    public static SeriesPostResponse from(SeriesPostEntry entry) {
+        return new SeriesPostResponse(entry.postId(), entry.title());
+    }
+}
@@ -0,0 +1,13 @@
+package com.devon.techblog.application.post.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "태그 역색인 재구성 결과 DTO")
+public record TagIndexRebuildResponse(
+        @Schema(description = "적재한 (게시글, 태그) 항목 수", example = "12500")
+        long indexedEntries,
+
+        @Schema(description = "소요 시간 (밀리초)", example = "840")
+        long elapsedMillis
+) {
+}
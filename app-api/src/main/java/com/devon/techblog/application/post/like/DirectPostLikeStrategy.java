@@ -0,0 +1,59 @@
+package com.devon.techblog.application.post.like;
+
+import com.devon.techblog.common.exception.BusinessException;
+import com.devon.techblog.common.exception.code.MemberErrorCode;
+import com.devon.techblog.common.exception.code.PostErrorCode;
+import com.devon.techblog.domain.member.repository.MemberRepository;
+import com.devon.techblog.domain.post.repository.PostLikeRepository;
+import com.devon.techblog.domain.post.repository.PostRepository;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 요청마다 post_like와 like_count를 한 트랜잭션으로 바로 반영
+ *
+ * 좋아요 여부를 먼저 조회하지 않고 INSERT IGNORE / DELETE의 영향 행 수로 판단해,
+ * 실제로 행이 바뀐 경우에만 like_count를 조정한다. 동시에 같은 요청이 들어와도 한 번만 집계된다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "post.like", name = "mode", havingValue = "direct", matchIfMissing = true)
+public class DirectPostLikeStrategy implements PostLikeStrategy {
+
+    private final PostRepository postRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final MemberRepository memberRepository;
+
+    @Override
+    @Transactional
+    public void like(Long postId, Long memberId) {
+        if (!memberRepository.existsById(memberId)) {
+            throw new BusinessException(MemberErrorCode.USER_NOT_FOUND);
+        }
+        lockPost(postId);
+
+        if (postLikeRepository.insertIfAbsent(postId, memberId, Instant.now()) == 0) {
+            throw new BusinessException(PostErrorCode.ALREADY_LIKED);
+        }
+        postRepository.incrementLikeCount(postId);
+    }
+
+    @Override
+    @Transactional
+    public void unlike(Long postId, Long memberId) {
+        lockPost(postId);
+
+        if (postLikeRepository.deleteByPostIdAndMemberId(postId, memberId) == 0) {
+            throw new BusinessException(PostErrorCode.LIKE_NOT_FOUND);
+        }
+        postRepository.decrementLikeCount(postId);
+    }
+
+    private void lockPost(Long postId) {
+        postRepository.lockActiveById(postId)
+                .orElseThrow(() -> new BusinessException(PostErrorCode.POST_NOT_FOUND));
+    }
+}
@@ -0,0 +1,40 @@
+package com.devon.techblog.application.post.like;
+
+import com.devon.techblog.common.exception.BusinessException;
+import com.devon.techblog.common.exception.code.MemberErrorCode;
+import com.devon.techblog.common.exception.code.PostErrorCode;
+import com.devon.techblog.domain.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 좋아요 원장에만 반영하고 DB 반영은 PostLikeReconciler에 맡긴다.
+ * 좋아요 한 번이 회원 확인 조회와 Redis 왕복 한 번(게시글 SET을 처음 적재할 때만 DB 조회 추가)으로 끝난다.
+ * 없는 회원의 좋아요가 원장에 들어가면 DB 반영 때 제약 위반으로 실패하므로 기록 전에 확인한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "post.like", name = "mode", havingValue = "ledger")
+public class LedgerPostLikeStrategy implements PostLikeStrategy {
+
+    private final PostLikeLedger postLikeLedger;
+    private final MemberRepository memberRepository;
+
+    @Override
+    public void like(Long postId, Long memberId) {
+        if (!memberRepository.existsById(memberId)) {
+            throw new BusinessException(MemberErrorCode.USER_NOT_FOUND);
+        }
+        if (!postLikeLedger.like(postId, memberId)) {
+            throw new BusinessException(PostErrorCode.ALREADY_LIKED);
+        }
+    }
+
+    @Override
+    public void unlike(Long postId, Long memberId) {
+        if (!postLikeLedger.unlike(postId, memberId)) {
+            throw new BusinessException(PostErrorCode.LIKE_NOT_FOUND);
+        }
+    }
+}
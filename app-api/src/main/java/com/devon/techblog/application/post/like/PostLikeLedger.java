@@ -0,0 +1,196 @@
+package com.devon.techblog.application.post.like;
+
+import com.devon.techblog.common.exception.BusinessException;
+import com.devon.techblog.common.exception.code.PostErrorCode;
+import com.devon.techblog.domain.post.dto.PostLikeChange;
+import com.devon.techblog.domain.post.repository.PostLikeRepository;
+import com.devon.techblog.domain.post.repository.PostRepository;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 좋아요 원장
+ *
+ * - "like-ledger:post:{postId}" SET : 게시글을 좋아요한 회원 ID (+ 적재 표시 센티넬)
+ *   SCARD - 1이 현재 좋아요 수이며, 좋아요/취소 여부 판단의 기준이 된다.
+ * - "like-ledger:pending" HASH : DB에 아직 반영되지 않은 "{postId}:{memberId}" -> 최종 상태(1 좋아요 / 0 취소)
+ *
+ * 좋아요/취소는 Lua 스크립트 하나로 SET 변경과 변경분 기록을 원자적으로 처리한다.
+ * 같은 (게시글, 회원)을 여러 번 바꾸면 마지막 상태만 남으므로, DB에는 최종 상태만 반영된다.
+ *
+ * 반영 작업은 pending을 "like-ledger:processing"으로 RENAME 해 가져가고, DB 반영이 끝난 뒤에 지운다.
+ * 도중에 노드가 죽으면 processing이 남아 있다가 다음 반영 때 그대로 다시 처리된다.
+ * DB에 반영할 수 없는 변경분(탈퇴 회원 등 제약 위반)은 "like-ledger:dead-letter" HASH로 옮겨 반영을 막지 않게 한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "post.like", name = "mode", havingValue = "ledger")
+public class PostLikeLedger {
+
+    private static final String POST_KEY_PREFIX = "like-ledger:post:";
+    private static final String PENDING_KEY = "like-ledger:pending";
+    private static final String PROCESSING_KEY = "like-ledger:processing";
+    private static final String DEAD_LETTER_KEY = "like-ledger:dead-letter";
+    private static final String LOADED_SENTINEL = "loaded";
+    private static final long NOT_LOADED = -1L;
+    private static final int LOAD_CHUNK = 1_000;
+
+    /**
+     * 좋아요(ARGV[3] = 1) / 취소(0) 반영
+     * KEYS[1] = 게시글 SET, KEYS[2] = pending, ARGV[1] = memberId, ARGV[2] = "{postId}:{memberId}", ARGV[4] = TTL(초)
+     * @return 1 변경됨, 0 이미 같은 상태, -1 SET이 적재되지 않음
+     */
+    private static final RedisScript<Long> TOGGLE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return -1
+            end
+            local changed
+            if ARGV[3] == '1' then
+              changed = redis.call('SADD', KEYS[1], ARGV[1])
+            else
+              changed = redis.call('SREM', KEYS[1], ARGV[1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            if changed == 1 then
+              redis.call('HSET', KEYS[2], ARGV[2], ARGV[3])
+            end
+            return changed
+            """, Long.class);
+
+    /**
+     * DB에서 읽은 좋아요 회원으로 게시글 SET 적재 - 다른 노드가 먼저 적재했으면 아무것도 하지 않는다.
+     * 이미 적재된 SET을 DB 스냅샷으로 덮으면 반영 전 변경이 사라지기 때문이다.
+     * KEYS[1] = 게시글 SET, ARGV[1] = TTL(초), ARGV[2..] = 센티넬 + 회원 ID
+     */
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              return 0
+            end
+            for i = 2, #ARGV, %d do
+              redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + %d, #ARGV)))
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """.formatted(LOAD_CHUNK, LOAD_CHUNK - 1), Long.class);
+
+    /**
+     * 반영할 변경분 가져오기 - 이전에 끝나지 않은 processing이 있으면 그것부터 다시 처리한다.
+     * KEYS[1] = pending, KEYS[2] = processing
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+              if redis.call('EXISTS', KEYS[1]) == 0 then
+                return {}
+              end
+              redis.call('RENAME', KEYS[1], KEYS[2])
+            end
+            return redis.call('HGETALL', KEYS[2])
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PostRepository postRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final PostLikeProperties properties;
+
+    public PostLikeLedger(
+            RedisTemplate<String, String> redisTemplate,
+            PostRepository postRepository,
+            PostLikeRepository postLikeRepository,
+            PostLikeProperties properties
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.postRepository = postRepository;
+        this.postLikeRepository = postLikeRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * @return 새로 좋아요했으면 true, 이미 좋아요한 상태면 false
+     */
+    public boolean like(Long postId, Long memberId) {
+        return toggle(postId, memberId, true);
+    }
+
+    /**
+     * @return 좋아요를 취소했으면 true, 좋아요하지 않은 상태면 false
+     */
+    public boolean unlike(Long postId, Long memberId) {
+        return toggle(postId, memberId, false);
+    }
+
+    /**
+     * DB에 반영할 변경분
+     * completeProcessing()을 호출하기 전까지는 몇 번을 호출해도 같은 변경분을 반환한다.
+     */
+    public List<PostLikeChange> claimPending() {
+        List<?> fieldsAndValues = redisTemplate.execute(CLAIM_SCRIPT, List.of(PENDING_KEY, PROCESSING_KEY));
+        if (fieldsAndValues == null || fieldsAndValues.isEmpty()) {
+            return List.of();
+        }
+
+        List<PostLikeChange> changes = new ArrayList<>(fieldsAndValues.size() / 2);
+        for (int i = 0; i < fieldsAndValues.size(); i += 2) {
+            String[] ids = fieldsAndValues.get(i).toString().split(":");
+            boolean liked = "1".equals(fieldsAndValues.get(i + 1).toString());
+            changes.add(new PostLikeChange(Long.valueOf(ids[0]), Long.valueOf(ids[1]), liked));
+        }
+        return changes;
+    }
+
+    /**
+     * claimPending()으로 가져간 변경분의 DB 반영 완료
+     */
+    public void completeProcessing() {
+        redisTemplate.delete(PROCESSING_KEY);
+    }
+
+    /**
+     * DB에 반영할 수 없는 변경분을 dead-letter HASH에 기록 (수동 확인용)
+     */
+    public void deadLetter(PostLikeChange change) {
+        redisTemplate.opsForHash().put(DEAD_LETTER_KEY, change.postId() + ":" + change.memberId(),
+                change.liked() ? "1" : "0");
+    }
+
+    private boolean toggle(Long postId, Long memberId, boolean liked) {
+        Long result = executeToggle(postId, memberId, liked);
+        if (result != null && result == NOT_LOADED) {
+            load(postId);
+            result = executeToggle(postId, memberId, liked);
+        }
+        return result != null && result == 1L;
+    }
+
+    private Long executeToggle(Long postId, Long memberId, boolean liked) {
+        return redisTemplate.execute(TOGGLE_SCRIPT, List.of(postKey(postId), PENDING_KEY),
+                memberId.toString(), postId + ":" + memberId, liked ? "1" : "0", ttlSeconds());
+    }
+
+    private void load(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new BusinessException(PostErrorCode.POST_NOT_FOUND);
+        }
+
+        List<Long> memberIds = postLikeRepository.findMemberIdsByPostId(postId);
+        Object[] args = new Object[memberIds.size() + 2];
+        args[0] = ttlSeconds();
+        args[1] = LOADED_SENTINEL;
+        for (int i = 0; i < memberIds.size(); i++) {
+            args[i + 2] = memberIds.get(i).toString();
+        }
+        redisTemplate.execute(LOAD_SCRIPT, List.of(postKey(postId)), args);
+    }
+
+    private String ttlSeconds() {
+        return String.valueOf(properties.getLedger().getTtl().toSeconds());
+    }
+
+    private static String postKey(Long postId) {
+        return POST_KEY_PREFIX + postId;
+    }
+}
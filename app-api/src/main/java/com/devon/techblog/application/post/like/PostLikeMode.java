@@ -0,0 +1,8 @@
+package com.devon.techblog.application.post.like;
+
+public enum PostLikeMode {
+    /** 요청마다 post_like INSERT/DELETE와 like_count UPDATE를 한 트랜잭션으로 실행 */
+    DIRECT,
+    /** Redis 원장(Lua)에 먼저 반영하고, 주기적으로 DB에 일괄 반영 - 인기 게시글의 row lock 경합 제거 */
+    LEDGER
+}
@@ -0,0 +1,64 @@
+package com.devon.techblog.application.post.like;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 좋아요 반영 설정
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "post.like")
+public class PostLikeProperties {
+
+    /**
+     * 좋아요 반영 방식 (기본값 DIRECT)
+     */
+    @NotNull
+    private PostLikeMode mode = PostLikeMode.DIRECT;
+
+    @Valid
+    @NotNull
+    private Ledger ledger = new Ledger();
+
+    @Getter
+    @Setter
+    public static class Ledger {
+
+        /**
+         * 게시글별 좋아요 회원 SET의 TTL (기본값 1일)
+         * 마지막 좋아요/취소 이후 이 시간 동안 변경이 없던 게시글은 만료되고, 다음 변경 때 DB에서 다시 적재한다.
+         * DB 반영 주기보다 충분히 길어야 반영되지 않은 변경이 적재로 덮이지 않는다.
+         */
+        @NotNull
+        private Duration ttl = Duration.ofDays(1);
+
+        /**
+         * 원장 변경분을 DB에 반영하는 주기 (기본값 2초)
+         */
+        @NotNull
+        private Duration reconcileInterval = Duration.ofSeconds(2);
+
+        /**
+         * 한 번의 JDBC 배치로 전송할 문 개수 (기본값 500)
+         */
+        @NotNull
+        @Positive
+        private Integer batchSize = 500;
+
+        /**
+         * 반영 작업 중복 실행 방지 락 TTL (기본값 1분)
+         */
+        @NotNull
+        private Duration lockTtl = Duration.ofMinutes(1);
+    }
+}
@@ -0,0 +1,138 @@
+package com.devon.techblog.application.post.like;
+
+import com.devon.techblog.domain.post.cache.LikedPostCache;
+import com.devon.techblog.domain.post.dto.PostLikeChange;
+import com.devon.techblog.domain.post.repository.PostLikeBatchRepository;
+import com.devon.techblog.infra.redis.adapter.RedisService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좋아요 원장 변경분을 주기적으로 DB에 반영
+ *
+ * 여러 노드 중 Redis 락을 잡은 한 노드만 실행하고, 락은 획득할 때 넣은 값이 그대로일 때만 해제한다.
+ * 반영이 실패하면 processing이 Redis에 그대로 남아 다음 주기에 같은 변경분을 다시 반영하며,
+ * PostLikeBatchRepository가 멱등하게 반영하므로 재시도해도 like_count가 중복 집계되지 않는다.
+ *
+ * 일괄 반영이 제약 위반으로 실패하면 한 건씩 다시 반영해, 반영할 수 없는 변경분만 dead-letter로 옮기고 나머지는 완료한다.
+ * 그렇지 않으면 잘못된 한 건 때문에 processing이 영원히 남아 이후 변경분까지 반영되지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "post.like", name = "mode", havingValue = "ledger")
+public class PostLikeReconciler {
+
+    private static final String LOCK_KEY = "like-ledger:reconcile-lock";
+
+    private final PostLikeLedger postLikeLedger;
+    private final PostLikeBatchRepository batchRepository;
+    private final LikedPostCache likedPostCache;
+    private final RedisService redisService;
+    private final PostLikeProperties properties;
+    private final Timer reconcileTimer;
+    private final Counter reconciledChanges;
+    private final Counter reconcileFailures;
+    private final Counter deadLetters;
+
+    public PostLikeReconciler(
+            PostLikeLedger postLikeLedger,
+            PostLikeBatchRepository batchRepository,
+            LikedPostCache likedPostCache,
+            RedisService redisService,
+            PostLikeProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.postLikeLedger = postLikeLedger;
+        this.batchRepository = batchRepository;
+        this.likedPostCache = likedPostCache;
+        this.redisService = redisService;
+        this.properties = properties;
+
+        this.reconcileTimer = Timer.builder("post.like.ledger.reconcile")
+                .description("좋아요 원장 DB 반영 소요 시간")
+                .register(meterRegistry);
+        this.reconciledChanges = Counter.builder("post.like.ledger.reconciled")
+                .description("DB에 반영된 좋아요/취소 변경분 누적")
+                .register(meterRegistry);
+        this.reconcileFailures = Counter.builder("post.like.ledger.reconcile.failures")
+                .description("좋아요 원장 DB 반영 실패 횟수")
+                .register(meterRegistry);
+        this.deadLetters = Counter.builder("post.like.ledger.dead-letters")
+                .description("DB에 반영할 수 없어 dead-letter로 옮긴 변경분 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "#{@postLikeProperties.ledger.reconcileInterval.toMillis()}")
+    public void reconcile() {
+        PostLikeProperties.Ledger ledger = properties.getLedger();
+        String lockValue = UUID.randomUUID().toString();
+        try {
+            if (!redisService.setIfAbsent(LOCK_KEY, lockValue, ledger.getLockTtl())) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("좋아요 원장 반영 락 획득 실패", e);
+            return;
+        }
+
+        try {
+            List<PostLikeChange> changes = postLikeLedger.claimPending();
+            if (changes.isEmpty()) {
+                return;
+            }
+
+            Map<Long, Long> deltas = reconcileTimer.record(
+                    () -> apply(changes, ledger.getBatchSize()));
+            postLikeLedger.completeProcessing();
+            reconciledChanges.increment(changes.size());
+
+            // 반영 전에 DB에서 적재된 회원 캐시는 반영 전 상태이므로 지워 다시 적재되게 한다
+            changes.stream()
+                    .map(PostLikeChange::memberId)
+                    .distinct()
+                    .forEach(likedPostCache::evict);
+
+            log.debug("좋아요 원장 반영 - changes={}, posts={}", changes.size(), deltas.size());
+        } catch (Exception e) {
+            reconcileFailures.increment();
+            log.error("좋아요 원장 반영 실패, 다음 주기에 재시도", e);
+        } finally {
+            redisService.deleteIfEquals(LOCK_KEY, lockValue);
+        }
+    }
+
+    /**
+     * 변경분을 한 트랜잭션으로 반영하고, 제약 위반으로 실패하면 한 건씩 다시 반영한다.
+     * 한 건씩 반영할 때도 제약 위반이 아닌 오류(DB 장애 등)는 그대로 던져 processing을 남긴다.
+     */
+    private Map<Long, Long> apply(List<PostLikeChange> changes, int batchSize) {
+        try {
+            return batchRepository.applyChanges(changes, batchSize);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("좋아요 원장 일괄 반영 실패, 한 건씩 다시 반영 - changes={}", changes.size(), e);
+        }
+
+        Map<Long, Long> deltas = new HashMap<>();
+        for (PostLikeChange change : changes) {
+            try {
+                batchRepository.applyChanges(List.of(change), 1)
+                        .forEach((postId, delta) -> deltas.merge(postId, delta, Long::sum));
+            } catch (DataIntegrityViolationException e) {
+                postLikeLedger.deadLetter(change);
+                deadLetters.increment();
+                log.error("반영할 수 없는 좋아요 변경분을 dead-letter로 옮긴다 - change={}", change, e);
+            }
+        }
+        return deltas;
+    }
+}
@@ -0,0 +1,19 @@
+package com.devon.techblog.application.post.like;
+
+/**
+ * 좋아요 / 좋아요 취소 반영 전략
+ */
+public interface PostLikeStrategy {
+
+    /**
+     * 좋아요 반영
+     * 이미 좋아요한 게시글이면 ALREADY_LIKED 예외가 발생한다.
+     */
+    void like(Long postId, Long memberId);
+
+    /**
+     * 좋아요 취소 반영
+     * 좋아요하지 않은 게시글이면 LIKE_NOT_FOUND 예외가 발생한다.
+     */
+    void unlike(Long postId, Long memberId);
+}
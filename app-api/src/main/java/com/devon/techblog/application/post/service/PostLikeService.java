@@ -1,59 +1,39 @@
 package com.devon.techblog.application.post.service;
 
-import com.devon.techblog.common.exception.BusinessException;
-import com.devon.techblog.common.exception.code.MemberErrorCode;
-import com.devon.techblog.common.exception.code.PostErrorCode;
-import com.devon.techblog.domain.member.entity.Member;
-import com.devon.techblog.domain.member.repository.MemberRepository;
-import com.devon.techblog.domain.post.entity.Post;
-import com.devon.techblog.domain.post.entity.PostLike;
-import com.devon.techblog.domain.post.policy.PostLikePolicy;
-import com.devon.techblog.domain.post.repository.PostLikeRepository;
-import com.devon.techblog.domain.post.repository.PostRepository;
+import com.devon.techblog.application.post.like.PostLikeStrategy;
+import com.devon.techblog.domain.post.cache.LikedPostCache;
+import com.devon.techblog.domain.post.index.TrendingPostIndex;
+import com.devon.techblog.domain.post.index.TrendingSignal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 게시글 좋아요 / 좋아요 취소
+ * 반영 방식은 post.like.mode에 따라 PostLikeStrategy 구현이 결정한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class PostLikeService {
 
-    private final PostRepository postRepository;
-    private final PostLikeRepository postLikeRepository;
-    private final MemberRepository memberRepository;
-    private final PostLikePolicy postLikePolicy;
+    private final PostLikeStrategy postLikeStrategy;
+    private final LikedPostCache likedPostCache;
+    private final TrendingPostIndex trendingPostIndex;
 
     /**
      * 게시글 좋아요
      */
-    @Transactional
     public void likePost(Long postId, Long memberId) {
-        Post post = postRepository.findByIdWithMember(postId)
-                .orElseThrow(() -> new BusinessException(PostErrorCode.POST_NOT_FOUND));
-
-        if (!memberRepository.existsById(memberId)) {
-            throw new BusinessException(MemberErrorCode.USER_NOT_FOUND);
-        }
-
-        postLikePolicy.validateCanLike(postId, memberId);
-
-        Member member = memberRepository.getReferenceById(memberId);
-        postLikeRepository.save(PostLike.create(post, member));
-        postRepository.incrementLikeCount(postId);
+        postLikeStrategy.like(postId, memberId);
+        likedPostCache.onLiked(memberId, postId);
+        trendingPostIndex.record(postId, TrendingSignal.LIKE);
     }
 
     /**
      * 게시글 좋아요 취소
      */
-    @Transactional
     public void unlikePost(Long postId, Long memberId) {
-        if(!postRepository.existsById(postId)){
-            throw new BusinessException(PostErrorCode.POST_NOT_FOUND);
-        }
-        postLikePolicy.validateCanUnlike(postId, memberId);
-
-        postLikeRepository.deleteByPostIdAndMemberId(postId, memberId);
-        postRepository.decrementLikeCount(postId);
+        postLikeStrategy.unlike(postId, memberId);
+        likedPostCache.onUnliked(memberId, postId);
+        trendingPostIndex.retract(postId, TrendingSignal.LIKE);
     }
-
 }
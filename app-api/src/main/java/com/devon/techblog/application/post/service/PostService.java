@@ -1,39 +1,78 @@
 package com.devon.techblog.application.post.service;
 
+import com.devon.techblog.application.common.dto.request.CursorRequest;
+import com.devon.techblog.application.common.dto.response.CursorResponse;
 import com.devon.techblog.application.common.dto.response.PageResponse;
 import com.devon.techblog.application.file.service.FileService;
+import com.devon.techblog.application.post.cache.PostDetailCache;
+import com.devon.techblog.application.post.cache.PostDetailSnapshot;
 import com.devon.techblog.application.post.dto.request.PostCreateRequest;
 import com.devon.techblog.application.post.dto.request.PostUpdateRequest;
 import com.devon.techblog.application.post.dto.response.PostResponse;
+import com.devon.techblog.application.post.dto.response.PostSearchResponse;
 import com.devon.techblog.application.post.dto.response.PostSummaryResponse;
 import com.devon.techblog.common.exception.BusinessException;
 import com.devon.techblog.common.exception.code.MemberErrorCode;
 import com.devon.techblog.common.exception.code.PostErrorCode;
 import com.devon.techblog.common.utils.MarkdownImageExtractor;
+import com.devon.techblog.common.utils.SearchHighlighter;
 import com.devon.techblog.domain.common.policy.OwnershipPolicy;
+import com.devon.techblog.domain.common.repository.count.CountCacheProperties;
+import com.devon.techblog.domain.common.repository.count.TotalCountResolver;
 import com.devon.techblog.domain.member.entity.Member;
 import com.devon.techblog.domain.member.repository.MemberRepository;
+import com.devon.techblog.domain.post.cache.LikedPostCache;
+import com.devon.techblog.domain.post.counter.PostCounterStore;
+import com.devon.techblog.domain.post.dto.PostCounterQueryDto;
+import com.devon.techblog.domain.post.dto.PostCursor;
 import com.devon.techblog.domain.post.dto.PostSearchCondition;
+import com.devon.techblog.domain.post.dto.PostSearchHit;
 import com.devon.techblog.domain.post.dto.PostSummaryQueryDto;
+import com.devon.techblog.domain.post.dto.SeriesPostEntry;
+import com.devon.techblog.domain.post.dto.TagMatch;
 import com.devon.techblog.domain.post.entity.Post;
-import com.devon.techblog.domain.post.repository.PostLikeRepository;
+import com.devon.techblog.domain.post.entity.PostCounterType;
+import com.devon.techblog.domain.post.index.TagPostIndex;
+import com.devon.techblog.domain.post.index.TrendingPostIndex;
 import com.devon.techblog.domain.post.repository.PostRepository;
+import com.devon.techblog.domain.post.search.FullTextQuery;
+import com.devon.techblog.domain.post.search.PostSearchProperties;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class PostService {
+    private static final Sort TRENDING_FALLBACK_ORDER = Sort.by(Sort.Direction.DESC, "likeCount");
+
     private final PostRepository postRepository;
     private final MemberRepository memberRepository;
     private final FileService fileService;
     private final OwnershipPolicy ownershipPolicy;
-    private final PostLikeRepository postLikeRepository;
+    private final LikedPostCache likedPostCache;
     private final PostTagService postTagService;
+    private final PostDetailCache postDetailCache;
+    private final TotalCountResolver totalCountResolver;
+    private final CountCacheProperties countCacheProperties;
+    private final PostSearchProperties postSearchProperties;
+    private final TagPostIndex tagPostIndex;
+    private final PostCounterStore postCounterStore;
+    private final TrendingPostIndex trendingPostIndex;
+    private final SeriesService seriesService;
 
     /**
      * 게시글 생성
@@ -66,11 +105,15 @@ public class PostService {
         if (request.image() != null) {
             post.updateImageUrl(request.image());
         }
+        if (request.seriesId() != null) {
+            seriesService.moveToSeries(post, request.seriesId(), memberId);
+        }
 
         Post savedPost = postRepository.save(post);
-        postTagService.createPostTags(savedPost, request.tags());
+        List<String> tags = postTagService.createPostTags(savedPost, request.tags());
+        applyPostCountDelta(1);
 
-        return PostResponse.of(savedPost, member, null);
+        return PostResponse.of(savedPost, tags, member, null, false);
     }
 
     /**
@@ -83,6 +126,7 @@ public class PostService {
 
         ownershipPolicy.validateOwnership(post.getMember().getId(), memberId);
 
+        boolean titleChanged = request.title() != null && !request.title().equals(post.getTitle());
         if (request.title() != null || request.content() != null) {
             post.updatePost(
                     request.title() != null ? request.title() : post.getTitle(),
@@ -105,12 +149,21 @@ public class PostService {
         if (request.image() != null) {
             post.updateImageUrl(request.image());
         }
+        if (Boolean.TRUE.equals(request.removeFromSeries())) {
+            seriesService.removeFromSeries(post);
+        } else if (request.seriesId() != null) {
+            seriesService.moveToSeries(post, request.seriesId(), memberId);
+        }
+        if (titleChanged) {
+            seriesService.evictSeriesPosts(post);
+        }
 
         Post savedPost = postRepository.save(post);
 
-        postTagService.updatePostTags(savedPost, request.tags());
+        List<String> tags = postTagService.updatePostTags(savedPost, request.tags());
+        postDetailCache.evict(postId);
 
-        return PostResponse.of(savedPost, member, null);
+        return PostResponse.of(savedPost, tags, member, null, false);
     }
 
     /**
@@ -126,51 +179,171 @@ public class PostService {
 
         post.delete();
         postRepository.save(post);
+        postTagService.removeFromTagIndex(post);
+        trendingPostIndex.remove(postId);
+        seriesService.evictSeriesPosts(post);
+        postDetailCache.evict(postId);
+        applyPostCountDelta(-1);
     }
 
     /**
      * 게시글 조회
+     * 본문·작성자·태그·시리즈는 상세 캐시에서, 카운터와 좋아요 여부는 매 요청마다 조회한다.
+     * 시리즈의 이전/다음 글은 시리즈 목차 캐시에서 찾는다.
      */
     @Transactional(readOnly = true)
     public PostResponse getPostDetails(Long postId, Long memberId) {
-        Post post = findByIdWithMember(postId);
+        PostCounterQueryDto counters = postRepository.findCountersById(postId)
+                .map(found -> found.withCommentCount(
+                        postCounterStore.resolve(PostCounterType.COMMENT, postId, found.commentCount())))
+                .orElseThrow(() -> new BusinessException(PostErrorCode.POST_NOT_FOUND));
 
-        Member member = post.getMember();
+        PostDetailSnapshot snapshot = postDetailCache.get(postId,
+                () -> PostDetailSnapshot.from(findByIdWithMember(postId)));
 
-        boolean isLiked = false;
-        if(memberId != null && postLikeRepository.existsByPostIdAndMemberId(postId, memberId)){
-            isLiked = true;
-        }
+        boolean isLiked = memberId != null && likedPostCache.isLiked(memberId, postId);
+        List<SeriesPostEntry> seriesPosts = snapshot.seriesId() != null
+                ? seriesService.findSeriesPosts(snapshot.seriesId())
+                : List.of();
 
-        return PostResponse.of(post, member, null, isLiked);
+        return PostResponse.of(snapshot, counters, isLiked, seriesPosts);
     }
 
     /**
      * 게시글 페이지 조회 (+페이징 및 정렬)
+     * 인기순(sort=trending)은 인기 게시글 순위에서 ID를 찾아 한 번에 채우고, 순위를 쓸 수 없으면 좋아요순으로 DB에서 조회한다.
      */
     @Transactional(readOnly = true)
-    public PageResponse<PostSummaryResponse> getPostPage(Pageable pageable) {
-        Page<PostSummaryQueryDto> postDtoPage = postRepository.searchPosts(PostSearchCondition.empty(), pageable);
-
-        List<PostSummaryResponse> postSummaries = postDtoPage.getContent().stream()
-                .map(PostSummaryResponse::fromDto)
-                .toList();
+    public PageResponse<PostSummaryResponse> getPostPage(Pageable pageable, Long memberId) {
+        if (TrendingPostIndex.isTrendingOrder(pageable)) {
+            Page<PostSummaryQueryDto> postDtoPage = trendingPostIndex.findPostIds(pageable)
+                    .map(this::hydrate)
+                    .orElseGet(() -> postRepository.searchPosts(PostSearchCondition.empty(),
+                            PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), TRENDING_FALLBACK_ORDER),
+                            countCacheProperties.getPostList()));
+            return toSummaryPage(postDtoPage, memberId);
+        }
 
-        return PageResponse.of(postSummaries, postDtoPage);
+        Page<PostSummaryQueryDto> postDtoPage = postRepository.searchPosts(
+                PostSearchCondition.empty(), pageable, countCacheProperties.getPostList());
+        return toSummaryPage(postDtoPage, memberId);
     }
 
     /**
      * 태그로 게시글 필터링 조회 (+페이징 및 정렬)
+     * tagMatch가 ANY면 태그 중 하나라도, ALL이면 모든 태그가 달린 게시글을 조회한다.
+     * 최신순은 태그 역색인에서 ID를 찾아 한 번에 채우고, 다른 정렬이거나 색인을 쓸 수 없으면 DB로 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<PostSummaryResponse> getPostPageByTags(
+            List<String> tags,
+            TagMatch tagMatch,
+            Pageable pageable,
+            Long memberId
+    ) {
+        PostSearchCondition condition = PostSearchCondition.forTags(tags, tagMatch);
+        Page<PostSummaryQueryDto> postDtoPage = tagPostIndex.findPostIds(condition.tags(), condition.tagMatch(), pageable)
+                .map(this::hydrate)
+                .orElseGet(() -> postRepository.searchPosts(condition, pageable, countCacheProperties.getPostList()));
+        return toSummaryPage(postDtoPage, memberId);
+    }
+
+    /**
+     * 게시글 목록 커서 조회 (+태그 필터)
+     * 전체 건수 없이 다음 페이지 커서만 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<PostSummaryResponse> scrollPosts(
+            List<String> tags,
+            TagMatch tagMatch,
+            CursorRequest request,
+            Long memberId
+    ) {
+        PostCursor cursor = request.cursor() != null
+                ? PostCursor.decode(request.cursor())
+                : PostCursor.first(request.sortProperty(), request.ascending());
+
+        Slice<PostSummaryQueryDto> slice = postRepository.scrollPosts(
+                PostSearchCondition.forTags(tags, tagMatch), cursor, request.size());
+
+        String nextCursor = slice.hasNext()
+                ? cursor.next(slice.getContent().getLast()).encode()
+                : null;
+
+        return CursorResponse.of(toSummaries(slice.getContent(), memberId), request.size(), nextCursor);
+    }
+
+    /**
+     * 게시글 키워드 검색 (+페이징)
+     * 제목·본문에 검색어의 모든 단어가 포함된 게시글을 관련도 순으로 조회하고 일치한 부분을 하이라이트한다.
      */
     @Transactional(readOnly = true)
-    public PageResponse<PostSummaryResponse> getPostPageByTags(List<String> tags, Pageable pageable) {
-        Page<PostSummaryQueryDto> postDtoPage = postRepository.searchPosts(PostSearchCondition.forTags(tags), pageable);
+    public PageResponse<PostSearchResponse> searchPosts(String keyword, Pageable pageable, Long memberId) {
+        FullTextQuery query = FullTextQuery.parse(keyword, postSearchProperties.getMaxTerms());
+        if (query.isEmpty()) {
+            throw new BusinessException(PostErrorCode.INVALID_SEARCH_KEYWORD);
+        }
+
+        Page<PostSearchHit> hitPage = postRepository.searchByKeyword(
+                PostSearchCondition.forKeyword(keyword), pageable, countCacheProperties.getPostList());
+        List<PostSearchHit> hits = hitPage.getContent();
+        List<PostSummaryResponse> summaries = toSummaries(hits.stream().map(PostSearchHit::summary).toList(), memberId);
+
+        List<PostSearchResponse> items = new ArrayList<>(hits.size());
+        for (int i = 0; i < hits.size(); i++) {
+            PostSearchHit hit = hits.get(i);
+            items.add(new PostSearchResponse(
+                    summaries.get(i),
+                    SearchHighlighter.highlight(hit.summary().title(), query.terms()),
+                    SearchHighlighter.snippet(hit.content(), query.terms(), postSearchProperties.getSnippetLength())
+            ));
+        }
+
+        return PageResponse.of(items, hitPage);
+    }
+
+    /**
+     * 역색인에서 찾은 ID 순서대로 게시글 요약을 IN 조회 한 번으로 채운다.
+     * 색인에 남아 있지만 이미 삭제된 게시글은 결과에서 빠진다.
+     */
+    private Page<PostSummaryQueryDto> hydrate(Page<Long> postIdPage) {
+        Map<Long, PostSummaryQueryDto> summaries = postRepository.findSummariesByIds(postIdPage.getContent()).stream()
+                .collect(Collectors.toMap(PostSummaryQueryDto::postId, Function.identity()));
+
+        List<PostSummaryQueryDto> content = postIdPage.getContent().stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, postIdPage.getPageable(), postIdPage.getTotalElements());
+    }
+
+    private PageResponse<PostSummaryResponse> toSummaryPage(Page<PostSummaryQueryDto> postDtoPage, Long memberId) {
+        return PageResponse.of(toSummaries(postDtoPage.getContent(), memberId), postDtoPage);
+    }
 
-        List<PostSummaryResponse> postSummaries = postDtoPage.getContent().stream()
-                .map(PostSummaryResponse::fromDto)
+    /**
+     * 목록 내 게시글의 좋아요 여부와 댓글 수는 한 번에 조회한다.
+     */
+    private List<PostSummaryResponse> toSummaries(List<PostSummaryQueryDto> dtos, Long memberId) {
+        List<Long> postIds = dtos.stream()
+                .map(PostSummaryQueryDto::postId)
                 .toList();
+        Set<Long> likedPostIds = likedPostCache.likedAmong(memberId, postIds);
+        Map<Long, Long> commentCounts = postCounterStore.resolveAll(PostCounterType.COMMENT, dtos.stream()
+                .collect(Collectors.toMap(PostSummaryQueryDto::postId, PostSummaryQueryDto::commentCount, (a, b) -> a)));
 
-        return PageResponse.of(postSummaries, postDtoPage);
+        return dtos.stream()
+                .map(dto -> PostSummaryResponse.fromDto(
+                        dto.withCommentCount(commentCounts.get(dto.postId())), likedPostIds.contains(dto.postId())))
+                .toList();
+    }
+
+    /**
+     * 게시글 생성/삭제 시 전체 목록의 건수 캐시에 증감분 반영
+     * 태그 등 다른 조건의 건수 캐시는 TTL 만료 후 다시 계산된다.
+     */
+    private void applyPostCountDelta(long delta) {
+        totalCountResolver.applyDelta(PostSearchCondition.empty().countCacheKey(), delta);
     }
 
     private Post findByIdWithMember(Long postId) {
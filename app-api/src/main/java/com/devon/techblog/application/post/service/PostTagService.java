@@ -1,10 +1,15 @@
 package com.devon.techblog.application.post.service;
 
+import com.devon.techblog.domain.post.cache.TagCloudCache;
+import com.devon.techblog.domain.post.cache.TagDictionary;
+import com.devon.techblog.domain.post.dto.TagUsage;
 import com.devon.techblog.domain.post.entity.Post;
-import com.devon.techblog.domain.post.entity.PostTag;
 import com.devon.techblog.domain.post.entity.Tag;
+import com.devon.techblog.domain.post.index.TagPostIndex;
+import com.devon.techblog.domain.post.repository.PostTagBatchRepository;
+import com.devon.techblog.domain.post.repository.TagBatchRepository;
 import com.devon.techblog.domain.post.repository.TagRepository;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -19,119 +24,145 @@ import org.springframework.transaction.annotation.Transactional;
 public class PostTagService {
 
     private final TagRepository tagRepository;
+    private final TagBatchRepository tagBatchRepository;
+    private final TagDictionary tagDictionary;
+    private final PostTagBatchRepository postTagBatchRepository;
+    private final TagPostIndex tagPostIndex;
+    private final TagCloudCache tagCloudCache;
 
     /**
      * 게시글의 Tag들을 저장합니다 (Bulk Update)
+     * post_tag는 INSERT 한 번, 사용 횟수는 UPDATE 한 번으로 처리한다.
+     * 쓰기 후 post.postTags를 다시 적재해, 같은 트랜잭션에서 게시글의 태그를 읽어도 새 상태가 보인다.
+     *
+     * @return 정규화된 태그 이름 (요청 순서)
      */
     @Transactional
-    public List<PostTag> createPostTags(Post post, List<String> tagNames) {
+    public List<String> createPostTags(Post post, List<String> tagNames) {
         if (tagNames == null || tagNames.isEmpty()) {
-            return new ArrayList<>();
+            return List.of();
         }
 
         List<String> normalizedNames = normalizeTagNames(tagNames);
         if (normalizedNames.isEmpty()) {
-            return new ArrayList<>();
+            return List.of();
         }
 
-        Map<String, Tag> tags = getOrCreateTags(normalizedNames);
-
+        Map<String, Long> tagIdsByName = getOrCreateTagIds(normalizedNames);
         List<Long> tagIds = normalizedNames.stream()
-                .map(tags::get)
-                .map(Tag::getId)
+                .map(tagIdsByName::get)
                 .toList();
 
-        if (!tagIds.isEmpty()) {
-            tagRepository.bulkIncrementUsageCount(tagIds);
-        }
+        postTagBatchRepository.insertAll(post.getId(), tagIds);
+        tagRepository.bulkIncrementUsageCount(tagIds);
+        tagCloudCache.applyDelta(tagIds, 1);
+        tagPostIndex.index(post.getId(), post.getCreatedAt(), tagIds);
+        postTagBatchRepository.reload(post);
 
-        return normalizedNames.stream()
-                .map(tags::get)
-                .map(tag -> PostTag.create(post, tag))
-                .collect(Collectors.toList());
+        return normalizedNames;
     }
 
     /**
      * 게시글의 Tag들을 저장합니다 (Bulk Update)
+     * 기존 태그 ID와 비교해 빠진 태그는 DELETE 한 번, 추가된 태그는 INSERT 한 번으로 처리한다.
+     *
+     * @return 정규화된 태그 이름 (요청 순서)
      */
     @Transactional
-    public void updatePostTags(Post post, List<String> newTagNames) {
-        Set<String> oldTagNames = post.getPostTags().stream()
-                .map(postTag -> postTag.getTag().getName())
+    public List<String> updatePostTags(Post post, List<String> newTagNames) {
+        Set<Long> oldTagIds = post.getPostTags().stream()
+                .map(postTag -> postTag.getId().getTagId())
                 .collect(Collectors.toSet());
 
         List<String> normalizedNewNames = normalizeTagNames(newTagNames != null ? newTagNames : List.of());
-        Set<String> newTagNameSet = new HashSet<>(normalizedNewNames);
-
-        Set<String> tagsToRemove = new HashSet<>(oldTagNames);
-        tagsToRemove.removeAll(newTagNameSet);
+        Map<String, Long> tagIdsByName = normalizedNewNames.isEmpty() ? Map.of() : getOrCreateTagIds(normalizedNewNames);
+        Set<Long> newTagIds = new HashSet<>(tagIdsByName.values());
 
-        Set<String> tagsToAdd = new HashSet<>(newTagNameSet);
-        tagsToAdd.removeAll(oldTagNames);
-
-        if (!tagsToRemove.isEmpty()) {
-            List<Long> tagIdsToDecrement = post.getPostTags().stream()
-                    .filter(postTag -> tagsToRemove.contains(postTag.getTag().getName()))
-                    .map(postTag -> postTag.getTag().getId())
-                    .toList();
+        List<Long> tagIdsToRemove = oldTagIds.stream()
+                .filter(tagId -> !newTagIds.contains(tagId))
+                .sorted()
+                .toList();
+        List<Long> tagIdsToAdd = normalizedNewNames.stream()
+                .map(tagIdsByName::get)
+                .filter(tagId -> !oldTagIds.contains(tagId))
+                .toList();
 
-            if (!tagIdsToDecrement.isEmpty()) {
-                tagRepository.bulkDecrementUsageCount(tagIdsToDecrement);
-            }
+        if (!tagIdsToRemove.isEmpty()) {
+            postTagBatchRepository.deleteAll(post.getId(), tagIdsToRemove);
+            tagRepository.bulkDecrementUsageCount(tagIdsToRemove);
+            tagCloudCache.applyDelta(tagIdsToRemove, -1);
+            tagPostIndex.unindex(post.getId(), tagIdsToRemove);
+        }
 
-            post.getPostTags().removeIf(postTag -> tagsToRemove.contains(postTag.getTag().getName()));
+        if (!tagIdsToAdd.isEmpty()) {
+            postTagBatchRepository.insertAll(post.getId(), tagIdsToAdd);
+            tagRepository.bulkIncrementUsageCount(tagIdsToAdd);
+            tagCloudCache.applyDelta(tagIdsToAdd, 1);
+            tagPostIndex.index(post.getId(), post.getCreatedAt(), tagIdsToAdd);
         }
 
-        if (!tagsToAdd.isEmpty()) {
-            List<String> addNames = new ArrayList<>(tagsToAdd);
-            Map<String, Tag> tags = getOrCreateTags(addNames);
+        if (!tagIdsToRemove.isEmpty() || !tagIdsToAdd.isEmpty()) {
+            postTagBatchRepository.reload(post);
+        }
 
-            List<Long> tagIdsToIncrement = addNames.stream()
-                    .map(tags::get)
-                    .map(Tag::getId)
-                    .toList();
+        return normalizedNewNames;
+    }
 
-            if (!tagIdsToIncrement.isEmpty()) {
-                tagRepository.bulkIncrementUsageCount(tagIdsToIncrement);
-            }
+    /**
+     * 삭제된 게시글을 태그 역색인에서 제거
+     * 게시글은 소프트 삭제되므로 post_tag 행과 태그 사용 횟수는 그대로 둔다.
+     */
+    @Transactional
+    public void removeFromTagIndex(Post post) {
+        List<Long> tagIds = post.getPostTags().stream()
+                .map(postTag -> postTag.getId().getTagId())
+                .toList();
+        tagPostIndex.unindex(post.getId(), tagIds);
+    }
 
-            addNames.forEach(name -> {
-                Tag tag = tags.get(name);
-                post.addPostTag(PostTag.create(post, tag));
-            });
-        }
+    /**
+     * 태그 역색인을 DB에서 다시 적재합니다 (복구용)
+     *
+     * @return 적재한 (게시글, 태그) 항목 수
+     */
+    public long rebuildTagIndex() {
+        return tagPostIndex.rebuild();
     }
 
     /**
      * 가장 많이 조회된 Top 태그
+     * 상위 태그 스냅샷(TagCloudCache)에서 반환하며, 캐시 크기보다 많이 요청하면 DB에서 조회한다.
      */
     @Transactional(readOnly = true)
-    public List<Tag> getTopTags(int limit) {
-        return tagRepository.findTopByUsageCount(limit);
+    public List<TagUsage> getTopTags(int limit) {
+        return tagCloudCache.top(limit);
     }
 
     private List<String> normalizeTagNames(List<String> tagNames) {
         return tagNames.stream()
-                .map(name -> name.trim().toLowerCase())
+                .map(Tag::normalizeName)
                 .filter(name -> !name.isEmpty())
                 .distinct()
                 .toList();
     }
 
-    private Map<String, Tag> getOrCreateTags(List<String> normalizedNames) {
-        Map<String, Tag> existingTags = tagRepository.findByNameIn(normalizedNames).stream()
-                .collect(Collectors.toMap(Tag::getName, tag -> tag));
+    /**
+     * 이름별 태그 ID (없으면 생성)
+     * 기존 태그는 태그 사전에서 DB 조회 없이 찾고, 새 태그만 upsert 후 사전에 등록한다.
+     */
+    private Map<String, Long> getOrCreateTagIds(List<String> normalizedNames) {
+        Map<String, Long> tagIds = new HashMap<>(tagDictionary.resolve(normalizedNames));
 
-        List<Tag> newTags = normalizedNames.stream()
-                .filter(name -> !existingTags.containsKey(name))
-                .map(Tag::create)
+        List<String> newNames = normalizedNames.stream()
+                .filter(name -> !tagIds.containsKey(name))
                 .toList();
 
-        if (!newTags.isEmpty()) {
-            List<Tag> savedNewTags = tagRepository.saveAll(newTags);
-            savedNewTags.forEach(tag -> existingTags.put(tag.getName(), tag));
+        if (!newNames.isEmpty()) {
+            List<Tag> created = tagBatchRepository.upsertAll(newNames);
+            tagDictionary.register(created);
+            created.forEach(tag -> tagIds.put(tag.getName(), tag.getId()));
         }
 
-        return existingTags;
+        return tagIds;
     }
 }
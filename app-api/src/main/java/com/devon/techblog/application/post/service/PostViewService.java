@@ -1,28 +1,27 @@
 package com.devon.techblog.application.post.service;
 
+import com.devon.techblog.application.post.counter.ViewCountBuffer;
 import com.devon.techblog.application.post.dto.ViewContext;
 import com.devon.techblog.domain.post.policy.ViewCountPolicy;
-import com.devon.techblog.domain.post.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 
 @Service
 @RequiredArgsConstructor
 public class PostViewService {
 
-    private final PostRepository postRepository;
+    private final ViewCountBuffer viewCountBuffer;
     private final ViewCountPolicy viewCountPolicy;
 
     /**
      * 조회수 증가
+     * DB에 바로 반영하지 않고 버퍼에 기록한 뒤 주기적으로 일괄 반영한다.
      */
-    @Transactional
     public void incrementViewCount(Long postId, ViewContext context) {
         if (!viewCountPolicy.shouldCount(postId, context)) {
             return;
         }
-        postRepository.incrementViewCount(postId);
+        viewCountBuffer.increment(postId);
     }
 }
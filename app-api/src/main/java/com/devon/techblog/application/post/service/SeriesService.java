@@ -0,0 +1,95 @@
+package com.devon.techblog.application.post.service;
+
+import com.devon.techblog.application.post.cache.SeriesTocCache;
+import com.devon.techblog.application.post.dto.response.SeriesPostResponse;
+import com.devon.techblog.common.exception.BusinessException;
+import com.devon.techblog.common.exception.code.PostErrorCode;
+import com.devon.techblog.domain.common.policy.OwnershipPolicy;
+import com.devon.techblog.domain.post.dto.SeriesPostEntry;
+import com.devon.techblog.domain.post.entity.Post;
+import com.devon.techblog.domain.post.entity.Series;
+import com.devon.techblog.domain.post.repository.PostRepository;
+import com.devon.techblog.domain.post.repository.SeriesRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class SeriesService {
+
+    private final SeriesRepository seriesRepository;
+    private final PostRepository postRepository;
+    private final OwnershipPolicy ownershipPolicy;
+    private final SeriesTocCache seriesTocCache;
+
+    /**
+     * 시리즈 목차 조회
+     * 목차가 비어 있을 때만 시리즈 존재 여부를 확인한다.
+     */
+    @Transactional(readOnly = true)
+    public List<SeriesPostResponse> getSeriesPosts(Long seriesId) {
+        List<SeriesPostEntry> entries = findSeriesPosts(seriesId);
+        if (entries.isEmpty() && seriesRepository.findByIdAndNotDeleted(seriesId).isEmpty()) {
+            throw new BusinessException(PostErrorCode.SERIES_NOT_FOUND);
+        }
+        return entries.stream()
+                .map(SeriesPostResponse::from)
+                .toList();
+    }
+
+    /**
+     * 시리즈 목차 (캐시, 시리즈 내 순서대로)
+     */
+    public List<SeriesPostEntry> findSeriesPosts(Long seriesId) {
+        return seriesTocCache.get(seriesId, () -> postRepository.findSeriesPosts(seriesId));
+    }
+
+    /**
+     * 게시글을 시리즈의 마지막 순서로 편입
+     * 이미 같은 시리즈에 있으면 순서를 유지한다. 다른 시리즈에서 옮겨 오면 두 시리즈의 목차를 모두 비운다.
+     */
+    public void moveToSeries(Post post, Long seriesId, Long memberId) {
+        Series current = post.getSeries();
+        if (current != null && current.getId().equals(seriesId)) {
+            return;
+        }
+
+        Series series = seriesRepository.findByIdAndNotDeleted(seriesId)
+                .orElseThrow(() -> new BusinessException(PostErrorCode.SERIES_NOT_FOUND));
+        ownershipPolicy.validateOwnership(series.getMember().getId(), memberId);
+
+        seriesRepository.lockActiveById(seriesId)
+                .orElseThrow(() -> new BusinessException(PostErrorCode.SERIES_NOT_FOUND));
+        post.moveToSeries(series, postRepository.findMaxSeriesOrder(seriesId) + 1);
+
+        if (current != null) {
+            seriesTocCache.evict(current.getId());
+        }
+        seriesTocCache.evict(seriesId);
+    }
+
+    /**
+     * 게시글을 시리즈에서 제외
+     * 남은 게시글의 순서는 그대로 두며, 빈 번호는 목차 정렬에 영향이 없다.
+     */
+    public void removeFromSeries(Post post) {
+        Series current = post.getSeries();
+        if (current == null) {
+            return;
+        }
+
+        post.removeSeries();
+        seriesTocCache.evict(current.getId());
+    }
+
+    /**
+     * 게시글 제목 변경·삭제 시 게시글이 속한 시리즈의 목차 무효화
+     */
+    public void evictSeriesPosts(Post post) {
+        if (post.getSeries() != null) {
+            seriesTocCache.evict(post.getSeries().getId());
+        }
+    }
+}
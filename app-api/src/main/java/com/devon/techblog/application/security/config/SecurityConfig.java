@@ -17,6 +17,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -28,6 +29,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 
 @Configuration
 @EnableWebSecurity
+@EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
@@ -70,6 +72,8 @@ public class SecurityConfig {
 
                 /// [Request 권한 설정]
                 .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(SecurityConstants.ACTUATOR_PUBLIC_URLS).permitAll()
+                        .requestMatchers(SecurityConstants.ACTUATOR_URLS).hasRole("ADMIN")
                         .requestMatchers(SecurityConstants.PUBLIC_URLS).permitAll()
                         .requestMatchers(SecurityConstants.SECURE_URLS).hasRole("USER")
                         .requestMatchers(SecurityConstants.ADMIN_URLS).hasRole("ADMIN")
@@ -26,4 +26,11 @@ public class JwtProperties {
     @NotNull
     @Positive
     private Long refreshTokenExpiration;
+
+    /**
+     * 검증된 토큰 클레임 캐시 최대 항목 수 (기본값 10,000)
+     */
+    @NotNull
+    @Positive
+    private Long verifiedCacheMaximumSize = 10_000L;
 }
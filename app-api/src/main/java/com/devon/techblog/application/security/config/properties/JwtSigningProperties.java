@@ -0,0 +1,56 @@
+package com.devon.techblog.application.security.config.properties;
+
+import com.devon.techblog.application.security.key.JwtSigningAlgorithm;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * JWT 서명 키 설정
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "spring.security.jwt.signing")
+public class JwtSigningProperties {
+
+    /**
+     * 서명 알고리즘 (기본값 HS256)
+     * HS256은 spring.security.jwt.secret 하나로 서명·검증하고,
+     * ES256 / EdDSA는 Redis에 보관한 키 쌍을 주기적으로 교체하며 공개 키를 JWKS로 내보낸다.
+     */
+    @NotNull
+    private JwtSigningAlgorithm algorithm = JwtSigningAlgorithm.HS256;
+
+    /**
+     * 서명 키 교체 주기 (기본값 7일, ES256 / EdDSA)
+     * 교체 후에도 이전 키는 그 키로 서명한 토큰이 모두 만료될 때까지 검증에 쓴다.
+     */
+    @NotNull
+    private Duration rotationInterval = Duration.ofDays(7);
+
+    /**
+     * 교체 시점 확인 주기 (기본값 1분, ES256 / EdDSA)
+     * 교체 메시지를 놓친 노드가 이전 키로 계속 서명할 수 있는 최대 시간이기도 하다.
+     */
+    @NotNull
+    private Duration rotationCheckInterval = Duration.ofMinutes(1);
+
+    /**
+     * kid 헤더가 없는 HS256 토큰 검증 허용 여부 (기본값 true, ES256 / EdDSA)
+     * HS256에서 전환하는 동안 기존 토큰으로 로그아웃되지 않도록 두고, 리프레시 토큰 유효 기간이 지나면 끈다.
+     */
+    @NotNull
+    private Boolean legacyHmacVerification = true;
+
+    /**
+     * 서명 개인 키를 Redis에 암호화해 저장할 때 쓰는 KEK (Base64로 인코딩한 16/24/32바이트 AES 키, ES256 / EdDSA 필수)
+     * 바꾸면 보관 중인 개인 키를 복호화할 수 없어 즉시 새 키로 교체한다. 이전 키의 공개 키 검증은 그대로 유지된다.
+     */
+    private String keyEncryptionKey;
+}
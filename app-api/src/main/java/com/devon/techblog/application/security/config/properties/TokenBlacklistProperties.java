@@ -0,0 +1,60 @@
+package com.devon.techblog.application.security.config.properties;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 리프레시 토큰 블랙리스트 설정
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "spring.security.blacklist")
+public class TokenBlacklistProperties {
+
+    /**
+     * 노드 로컬 Bloom filter 예상 항목 수 (기본값 100,000)
+     * 리프레시 토큰 유효 기간 동안 블랙리스트에 오를 토큰 수에 맞춘다.
+     */
+    @NotNull
+    @Positive
+    private Long expectedInsertions = 100_000L;
+
+    /**
+     * Bloom filter 목표 오탐률 (기본값 0.1%)
+     * 오탐이면 Redis를 한 번 더 조회할 뿐 결과는 틀리지 않는다.
+     */
+    @NotNull
+    @DecimalMin(value = "0.0", inclusive = false)
+    @DecimalMax(value = "1.0", inclusive = false)
+    private Double falsePositiveRate = 0.001;
+
+    /**
+     * Bloom filter 재구성 주기 (기본값 5분)
+     * 만료된 항목을 비우고, pub/sub 메시지를 놓친 노드가 다른 노드의 등록을 따라잡는 최대 시간이다.
+     */
+    @NotNull
+    private Duration rebuildInterval = Duration.ofMinutes(5);
+
+    /**
+     * Redis 기록에 실패한 등록을 재시도하는 주기 (기본값 5초)
+     */
+    @NotNull
+    private Duration retryInterval = Duration.ofSeconds(5);
+
+    /**
+     * 재시도 대기열 최대 크기 (기본값 10,000)
+     */
+    @NotNull
+    @Positive
+    private Integer retryQueueCapacity = 10_000;
+}
@@ -0,0 +1,43 @@
+package com.devon.techblog.application.security.config.properties;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 회원별 토큰 epoch(일괄 폐기 기준 시각) 설정
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "spring.security.token-epoch")
+public class TokenEpochProperties {
+
+    /**
+     * 노드 로컬(Caffeine) epoch 캐시 최대 항목 수 (기본값 100,000)
+     */
+    @NotNull
+    @Positive
+    private Long localMaximumSize = 100_000L;
+
+    /**
+     * 노드 로컬 epoch를 Redis에서 다시 읽는 주기 (기본값 30초)
+     * pub/sub 메시지를 놓친 노드가 폐기된 토큰을 계속 통과시킬 수 있는 최대 시간이다.
+     * 다시 읽다 실패하면 마지막으로 읽은 값을 계속 쓴다.
+     */
+    @NotNull
+    private Duration localTtl = Duration.ofSeconds(30);
+
+    /**
+     * 한 번도 epoch를 읽지 못한 회원인데 Redis 조회에 실패했을 때 토큰을 폐기된 것으로 볼지 여부 (기본값 true)
+     * true면 Redis 장애 동안 새로 들어온 회원은 인증되지 않고, false면 그동안 폐기된 토큰이 통과할 수 있다.
+     */
+    @NotNull
+    private Boolean failClosed = true;
+}
@@ -1,5 +1,7 @@
 package com.devon.techblog.application.security.constants;
 
+import java.time.Duration;
+
 public class SecurityConstants {
 
     public static final String LOGIN_URL = "/auth/login";
@@ -7,12 +9,29 @@ public class SecurityConstants {
     public static final String SIGNUP_URL = "/auth/signup";
     public static final String REFRESH_TOKEN_URL = "/auth/refresh";
     public static final String OAUTH_URL = "/oauth2/**";
+    public static final String JWKS_URL = "/.well-known/jwks.json";
+
+    /**
+     * JWKS 응답 캐시 시간 - 다음 서명 키는 적어도 이만큼 먼저 JWKS에 공개한다.
+     */
+    public static final Duration JWKS_MAX_AGE = Duration.ofMinutes(5);
 
     public static final String[] PUBLIC_URLS = {
             "/", "/**",
             LOGIN_URL, LOGOUT_URL, SIGNUP_URL, REFRESH_TOKEN_URL,
-            OAUTH_URL, "/api/*",
-            "/v3/api-docs/**", "/swagger-ui/**", "/swagger-resources/**", "/actuator/**"
+            OAUTH_URL, JWKS_URL, "/api/*",
+            "/v3/api-docs/**", "/swagger-ui/**", "/swagger-resources/**"
+    };
+
+    /**
+     * PUBLIC_URLS("/**")보다 먼저 평가한다. health만 공개하고 나머지 actuator는 관리자 전용.
+     */
+    public static final String[] ACTUATOR_PUBLIC_URLS = {
+            "/actuator/health", "/actuator/health/**"
+    };
+
+    public static final String[] ACTUATOR_URLS = {
+            "/actuator/**"
     };
 
     public static final String[] SECURE_URLS = {
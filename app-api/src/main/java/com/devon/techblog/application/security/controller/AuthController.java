@@ -1,6 +1,7 @@
 package com.devon.techblog.application.security.controller;
 
 import com.devon.techblog.application.member.dto.request.SignupRequest;
+import com.devon.techblog.application.security.annotation.CurrentUser;
 import com.devon.techblog.application.security.controller.docs.AuthApiDocs;
 import com.devon.techblog.application.security.dto.request.LoginRequest;
 import com.devon.techblog.application.security.dto.response.CheckAvailabilityResponse;
@@ -8,6 +9,7 @@ import com.devon.techblog.application.security.dto.response.LoginResponse;
 import com.devon.techblog.application.security.dto.response.RefreshTokenResponse;
 import com.devon.techblog.application.security.service.SignupService;
 import com.devon.techblog.application.security.service.TokenBlacklistService;
+import com.devon.techblog.application.security.service.TokenEpochService;
 import com.devon.techblog.application.security.service.TokenRefreshService;
 import com.devon.techblog.application.security.util.CookieProvider;
 import com.devon.techblog.common.dto.api.ApiResponse;
@@ -39,6 +41,7 @@ public class AuthController implements AuthApiDocs {
 
     private final TokenRefreshService tokenRefreshService;
     private final TokenBlacklistService blacklistService;
+    private final TokenEpochService tokenEpochService;
     private final CookieProvider cookieProvider;
     private final MemberRepository memberRepository;
     private final SignupService signupService;
@@ -88,6 +91,18 @@ public class AuthController implements AuthApiDocs {
         throw new UnsupportedOperationException("This endpoint is handled by Spring Security filter");
     }
 
+    @PostMapping("/logout-all")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<Void>> logoutAll(
+            @CurrentUser Long memberId,
+            HttpServletResponse response
+    ) {
+        tokenEpochService.revokeAll(memberId);
+        cookieProvider.deleteRefreshTokenCookie(response);
+
+        return ResponseEntity.ok(ApiResponse.success(null, "모든 기기에서 로그아웃되었습니다"));
+    }
+
     @GetMapping("/check-email")
     public ResponseEntity<ApiResponse<CheckAvailabilityResponse>> checkEmail(
             @RequestParam String email
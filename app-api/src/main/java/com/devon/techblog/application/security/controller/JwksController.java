@@ -0,0 +1,31 @@
+package com.devon.techblog.application.security.controller;
+
+import com.devon.techblog.application.security.constants.SecurityConstants;
+import com.devon.techblog.application.security.controller.docs.JwksApiDocs;
+import com.devon.techblog.application.security.key.JwtKeyStore;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * JWT 검증 키 공개 (JWK Set, RFC 7517)
+ * 다른 서비스가 비밀 키를 공유하지 않고 kid로 공개 키를 찾아 토큰을 검증할 수 있게 한다.
+ * 응답은 표준 JWK Set 형식이라 ApiResponse로 감싸지 않는다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController implements JwksApiDocs {
+
+    private final JwtKeyStore jwtKeyStore;
+
+    @GetMapping(SecurityConstants.JWKS_URL)
+    public ResponseEntity<Map<String, List<Map<String, String>>>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(SecurityConstants.JWKS_MAX_AGE).cachePublic())
+                .body(Map.of("keys", jwtKeyStore.publicJwks()));
+    }
+}
@@ -67,6 +67,16 @@ public interface AuthApiDocs {
             HttpServletResponse response
     );
 
+    @Operation(
+            summary = "모든 기기에서 로그아웃",
+            description = "지금까지 발급된 회원의 액세스 토큰과 리프레시 토큰을 모두 무효화하고 "
+                    + "리프레시 토큰 쿠키를 삭제합니다."
+    )
+    ResponseEntity<ApiResponse<Void>> logoutAll(
+            Long memberId,
+            HttpServletResponse response
+    );
+
     @Operation(
             summary = "이메일 중복 확인",
             description = "이메일 사용 가능 여부를 확인합니다."
@@ -0,0 +1,21 @@
+package com.devon.techblog.application.security.controller.docs;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.ResponseEntity;
+
+@Tag(
+        name = "Auth",
+        description = "인증 관련 API"
+)
+public interface JwksApiDocs {
+
+    @Operation(
+            summary = "JWT 검증 키 목록 (JWKS)",
+            description = "토큰 검증에 쓰는 공개 키를 JWK Set 형식으로 반환합니다. "
+                    + "HS256으로 서명하는 동안에는 빈 목록을 반환합니다."
+    )
+    ResponseEntity<Map<String, List<Map<String, String>>>> jwks();
+}
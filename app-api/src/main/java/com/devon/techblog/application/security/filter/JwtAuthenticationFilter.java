@@ -2,7 +2,9 @@ package com.devon.techblog.application.security.filter;
 
 import com.devon.techblog.application.security.dto.user.CustomUserDetails;
 import com.devon.techblog.application.security.service.LoginService;
-import com.devon.techblog.application.security.util.JwtTokenProvider;
+import com.devon.techblog.application.security.service.TokenEpochService;
+import com.devon.techblog.application.security.util.VerifiedToken;
+import com.devon.techblog.application.security.util.VerifiedTokenCache;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -24,8 +26,9 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final LoginService loginService;
+    private final TokenEpochService tokenEpochService;
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
@@ -36,11 +39,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = extractJwtFromRequest(request);
 
-            if (jwt != null && jwtTokenProvider.isAccessToken(jwt) && !jwtTokenProvider.isTokenExpired(jwt)) {
-                Long uid = jwtTokenProvider.getUidFromToken(jwt);
-                String role = jwtTokenProvider.getRoleFromToken(jwt);
+            VerifiedToken token = jwt != null ? verifiedTokenCache.verify(jwt) : null;
 
-                UserDetails userDetails = new CustomUserDetails(uid, null , role);
+            if (token != null && token.isAccessToken() && !token.isExpired()
+                    && !tokenEpochService.isRevoked(token)) {
+                UserDetails userDetails = new CustomUserDetails(token.memberId(), null, token.role());
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
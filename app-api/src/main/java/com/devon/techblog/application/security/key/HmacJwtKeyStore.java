@@ -0,0 +1,43 @@
+package com.devon.techblog.application.security.key;
+
+import com.devon.techblog.application.security.config.properties.JwtProperties;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.List;
+import java.util.Map;
+import javax.crypto.SecretKey;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * spring.security.jwt.secret 하나로 서명·검증한다 (HS256).
+ * 비밀 키라 JWKS로 공개하지 않으며, kid 헤더도 쓰지 않는다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "spring.security.jwt.signing", name = "algorithm", havingValue = "HS256", matchIfMissing = true)
+public class HmacJwtKeyStore implements JwtKeyStore {
+
+    private final SecretKey secretKey;
+
+    public HmacJwtKeyStore(JwtProperties properties) {
+        this.secretKey = Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public JwtBuilder sign(JwtBuilder builder) {
+        return builder.signWith(secretKey, Jwts.SIG.HS256);
+    }
+
+    @Override
+    public Key verificationKey(String kid) {
+        return secretKey;
+    }
+
+    @Override
+    public List<Map<String, String>> publicJwks() {
+        return List.of();
+    }
+}
@@ -0,0 +1,79 @@
+package com.devon.techblog.application.security.key;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Redis에 보관하는 서명 개인 키 암호화 (AES-GCM)
+ *
+ * KEK(spring.security.jwt.signing.key-encryption-key)는 설정에만 두고 Redis에는 암호문만 저장한다.
+ * kid를 AAD로 묶어, 암호문을 다른 kid 값으로 옮겨 붙이면 복호화에 실패한다.
+ * 결과는 "IV(12바이트) + 암호문 + 태그"를 Base64로 인코딩한 문자열이다.
+ */
+final class JwtKeyCipher {
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH_BITS = 128;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final SecretKey keyEncryptionKey;
+
+    JwtKeyCipher(String base64KeyEncryptionKey) {
+        if (base64KeyEncryptionKey == null || base64KeyEncryptionKey.isBlank()) {
+            throw new IllegalStateException(
+                    "ES256 / EdDSA 서명에는 spring.security.jwt.signing.key-encryption-key 설정이 필요합니다");
+        }
+
+        byte[] key;
+        try {
+            key = Base64.getDecoder().decode(base64KeyEncryptionKey.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("key-encryption-key는 Base64로 인코딩한 AES 키여야 합니다", e);
+        }
+        if (key.length != 16 && key.length != 24 && key.length != 32) {
+            throw new IllegalStateException("key-encryption-key는 16, 24, 32바이트 AES 키여야 합니다 - length=" + key.length);
+        }
+        this.keyEncryptionKey = new SecretKeySpec(key, "AES");
+    }
+
+    String encrypt(String kid, byte[] plaintext) {
+        byte[] iv = new byte[IV_LENGTH];
+        RANDOM.nextBytes(iv);
+        try {
+            byte[] ciphertext = cipher(Cipher.ENCRYPT_MODE, kid, iv).doFinal(plaintext);
+            return Base64.getEncoder().encodeToString(
+                    ByteBuffer.allocate(IV_LENGTH + ciphertext.length).put(iv).put(ciphertext).array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("서명 키 암호화 실패 - kid=" + kid, e);
+        }
+    }
+
+    byte[] decrypt(String kid, String encrypted) {
+        byte[] data = Base64.getDecoder().decode(encrypted);
+        if (data.length <= IV_LENGTH) {
+            throw new IllegalStateException("잘못된 서명 키 암호문 - kid=" + kid);
+        }
+        try {
+            return cipher(Cipher.DECRYPT_MODE, kid, Arrays.copyOf(data, IV_LENGTH))
+                    .doFinal(data, IV_LENGTH, data.length - IV_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("서명 키 복호화 실패 (KEK가 바뀌었거나 값이 손상됨) - kid=" + kid, e);
+        }
+    }
+
+    private Cipher cipher(int mode, String kid, byte[] iv) throws GeneralSecurityException {
+        Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+        cipher.init(mode, keyEncryptionKey, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+        cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+        return cipher;
+    }
+}
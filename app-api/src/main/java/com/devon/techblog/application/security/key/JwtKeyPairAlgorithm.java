@@ -0,0 +1,108 @@
+package com.devon.techblog.application.security.key;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 비대칭 JWT 서명 알고리즘 (키 쌍 생성, 복원, JWK 변환)
+ */
+public enum JwtKeyPairAlgorithm {
+
+    /**
+     * ECDSA P-256 + SHA-256
+     */
+    ES256,
+
+    /**
+     * Ed25519
+     */
+    EdDSA;
+
+    private static final int P256_COORDINATE_LENGTH = 32;
+    private static final int ED25519_KEY_LENGTH = 32;
+
+    /**
+     * 새 서명 키 쌍 생성
+     */
+    public KeyPair generateKeyPair() {
+        try {
+            return switch (this) {
+                case ES256 -> {
+                    KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+                    generator.initialize(new ECGenParameterSpec("secp256r1"));
+                    yield generator.generateKeyPair();
+                }
+                case EdDSA -> KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+            };
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(name() + " 키 쌍 생성 실패", e);
+        }
+    }
+
+    /**
+     * 인코딩된 키를 되살릴 때 쓰는 KeyFactory 알고리즘 이름
+     */
+    String keyFactoryAlgorithm() {
+        return switch (this) {
+            case ES256 -> "EC";
+            case EdDSA -> "Ed25519";
+        };
+    }
+
+    public SignatureAlgorithm signatureAlgorithm() {
+        return switch (this) {
+            case ES256 -> Jwts.SIG.ES256;
+            case EdDSA -> Jwts.SIG.EdDSA;
+        };
+    }
+
+    /**
+     * 공개 키를 JWK(RFC 7517, 7518, 8037)로 변환
+     */
+    Map<String, String> toJwk(String kid, PublicKey publicKey) {
+        Map<String, String> jwk = new LinkedHashMap<>();
+        switch (this) {
+            case ES256 -> {
+                ECPublicKey ecKey = (ECPublicKey) publicKey;
+                jwk.put("kty", "EC");
+                jwk.put("crv", "P-256");
+                jwk.put("x", base64Url(unsigned(ecKey.getW().getAffineX(), P256_COORDINATE_LENGTH)));
+                jwk.put("y", base64Url(unsigned(ecKey.getW().getAffineY(), P256_COORDINATE_LENGTH)));
+            }
+            case EdDSA -> {
+                // X.509 SubjectPublicKeyInfo의 마지막 32바이트가 Ed25519 공개 키 원문이다.
+                byte[] encoded = publicKey.getEncoded();
+                jwk.put("kty", "OKP");
+                jwk.put("crv", "Ed25519");
+                jwk.put("x", base64Url(Arrays.copyOfRange(encoded, encoded.length - ED25519_KEY_LENGTH, encoded.length)));
+            }
+        }
+        jwk.put("use", "sig");
+        jwk.put("alg", name());
+        jwk.put("kid", kid);
+        return jwk;
+    }
+
+    private static byte[] unsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[length];
+        int copy = Math.min(bytes.length, length);
+        System.arraycopy(bytes, bytes.length - copy, fixed, length - copy, copy);
+        return fixed;
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
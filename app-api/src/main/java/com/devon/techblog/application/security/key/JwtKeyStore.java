@@ -0,0 +1,28 @@
+package com.devon.techblog.application.security.key;
+
+import io.jsonwebtoken.JwtBuilder;
+import java.security.Key;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT 서명·검증 키 저장소
+ */
+public interface JwtKeyStore {
+
+    /**
+     * 현재 서명 키로 서명하도록 builder를 설정한다 (키가 여러 개면 kid 헤더 포함).
+     */
+    JwtBuilder sign(JwtBuilder builder);
+
+    /**
+     * kid에 해당하는 검증 키 (kid 헤더가 없으면 null)
+     * 알 수 없는 kid면 JwtException을 던진다.
+     */
+    Key verificationKey(String kid);
+
+    /**
+     * JWKS로 공개할 검증 키 목록 (JWK 형식)
+     */
+    List<Map<String, String>> publicJwks();
+}
@@ -0,0 +1,38 @@
+package com.devon.techblog.application.security.key;
+
+import java.util.Optional;
+
+/**
+ * JWT 서명 알고리즘 (spring.security.jwt.signing.algorithm)
+ * 키 쌍을 쓰는 알고리즘은 JwtKeyPairAlgorithm에 대응한다.
+ */
+public enum JwtSigningAlgorithm {
+
+    /**
+     * HMAC-SHA256 (공유 비밀 키)
+     */
+    HS256(null),
+
+    /**
+     * ECDSA P-256 + SHA-256
+     */
+    ES256(JwtKeyPairAlgorithm.ES256),
+
+    /**
+     * Ed25519
+     */
+    EdDSA(JwtKeyPairAlgorithm.EdDSA);
+
+    private final JwtKeyPairAlgorithm keyPairAlgorithm;
+
+    JwtSigningAlgorithm(JwtKeyPairAlgorithm keyPairAlgorithm) {
+        this.keyPairAlgorithm = keyPairAlgorithm;
+    }
+
+    /**
+     * 키 쌍 알고리즘 (HS256이면 비어 있음)
+     */
+    public Optional<JwtKeyPairAlgorithm> keyPairAlgorithm() {
+        return Optional.ofNullable(keyPairAlgorithm);
+    }
+}
@@ -0,0 +1,396 @@
+package com.devon.techblog.application.security.key;
+
+import com.devon.techblog.application.security.config.properties.JwtProperties;
+import com.devon.techblog.application.security.config.properties.JwtSigningProperties;
+import com.devon.techblog.application.security.constants.SecurityConstants;
+import com.devon.techblog.infra.redis.adapter.RedisMessageHandler;
+import com.devon.techblog.infra.redis.adapter.RedisService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import javax.crypto.SecretKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 교체되는 비대칭 서명 키 저장소 (ES256 / EdDSA)
+ *
+ * 키 쌍은 Redis에 kid별로 보관해 모든 노드가 같은 키로 서명·검증한다. 개인 키는 설정의 KEK로 암호화해 저장한다(JwtKeyCipher).
+ * 서명은 현재 키 하나로 하고 kid 헤더를 붙이며, 검증은 kid로 찾은 공개 키로 한다.
+ * 검증 키는 노드 로컬 맵(Caffeine)에 두고 처음 보는 kid일 때만 Redis에서 읽는다. Redis에도 없는 kid는 잠시 기억해 같은 kid로 Redis를 반복 조회하지 않는다.
+ *
+ * 교체 예정 시각보다 (확인 주기 + JWKS 캐시 시간) 먼저 다음 키를 만들어 JWKS에만 공개해 두고,
+ * 교체 시각이 되면 한 노드가 락을 잡고 그 키를 현재 키로 올린 뒤 pub/sub으로 알린다.
+ * JWKS를 캐시하는 외부 검증자도 새 kid로 서명한 토큰을 받기 전에 공개 키를 갖게 된다.
+ * 메시지를 놓친 노드도 다음 확인 주기에 현재 키를 다시 읽는다.
+ * 키는 교체 주기 2배 + 리프레시 토큰 유효 기간 동안 보관해, 그 키로 서명한 토큰이 모두 만료될 때까지 검증할 수 있다.
+ * kid 헤더가 없는 토큰은 전환 기간 동안 기존 HS256 비밀 키로 검증한다 (legacyHmacVerification).
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("!'${spring.security.jwt.signing.algorithm:HS256}'.equalsIgnoreCase('HS256')")
+public class RotatingJwtKeyStore implements JwtKeyStore, RedisMessageHandler {
+
+    static final String KEY_PREFIX = "jwt:key:";
+    static final String INDEX_KEY = "jwt:key:index";
+    static final String CURRENT_KEY = "jwt:key:current";
+    static final String NEXT_KEY = "jwt:key:next";
+    static final String ROTATED_CHANNEL = "jwt:key:rotated";
+    static final String ROTATION_LOCK_KEY = "jwt:key:rotation-lock";
+    private static final Duration ROTATION_LOCK_TTL = Duration.ofMinutes(1);
+    private static final long VERIFICATION_KEY_CACHE_SIZE = 64L;
+    private static final long UNKNOWN_KID_CACHE_SIZE = 10_000L;
+    private static final Duration UNKNOWN_KID_TTL = Duration.ofSeconds(30);
+
+    private final RedisService redisService;
+    private final JwtSigningProperties properties;
+    private final JwtKeyPairAlgorithm algorithm;
+    private final JwtKeyCipher cipher;
+    private final Duration keyTtl;
+    private final SecretKey legacyHmacKey;
+
+    /**
+     * kid -> 검증 키
+     */
+    private final Cache<String, PublicKey> verificationKeys;
+
+    /**
+     * Redis에 없던 kid (Caffeine은 null 값을 캐시하지 않아 따로 둔다)
+     */
+    private final Cache<String, Boolean> unknownKids;
+
+    private volatile SigningKey current;
+
+    public RotatingJwtKeyStore(
+            RedisService redisService,
+            JwtProperties jwtProperties,
+            JwtSigningProperties properties
+    ) {
+        this.redisService = redisService;
+        this.properties = properties;
+        this.algorithm = properties.getAlgorithm().keyPairAlgorithm()
+                .orElseThrow(() -> new IllegalStateException(properties.getAlgorithm() + "은 키 쌍으로 서명하지 않습니다"));
+        this.cipher = new JwtKeyCipher(properties.getKeyEncryptionKey());
+        this.keyTtl = properties.getRotationInterval().multipliedBy(2)
+                .plusMillis(jwtProperties.getRefreshTokenExpiration());
+        this.legacyHmacKey = properties.getLegacyHmacVerification()
+                ? Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8))
+                : null;
+        this.verificationKeys = Caffeine.newBuilder()
+                .maximumSize(VERIFICATION_KEY_CACHE_SIZE)
+                .build();
+        this.unknownKids = Caffeine.newBuilder()
+                .maximumSize(UNKNOWN_KID_CACHE_SIZE)
+                .expireAfterWrite(UNKNOWN_KID_TTL)
+                .build();
+    }
+
+    @Override
+    public JwtBuilder sign(JwtBuilder builder) {
+        SigningKey key = currentKey();
+        return builder.header().keyId(key.kid()).and()
+                .signWith(key.privateKey(), key.algorithm().signatureAlgorithm());
+    }
+
+    @Override
+    public Key verificationKey(String kid) {
+        if (kid == null) {
+            if (legacyHmacKey == null) {
+                throw new UnsupportedJwtException("kid 헤더가 없는 토큰은 검증하지 않습니다");
+            }
+            return legacyHmacKey;
+        }
+
+        if (unknownKids.getIfPresent(kid) != null) {
+            throw new UnsupportedJwtException("알 수 없는 서명 키입니다 - kid=" + kid);
+        }
+        PublicKey key = verificationKeys.get(kid, id -> findKey(id).map(StoredKey::publicKey).orElse(null));
+        if (key == null) {
+            unknownKids.put(kid, Boolean.TRUE);
+            throw new UnsupportedJwtException("알 수 없는 서명 키입니다 - kid=" + kid);
+        }
+        return key;
+    }
+
+    @Override
+    public List<Map<String, String>> publicJwks() {
+        List<Map<String, String>> jwks = new ArrayList<>();
+        List<String> expired = new ArrayList<>();
+        for (String kid : redisService.findSetMembers(INDEX_KEY)) {
+            findKey(kid).ifPresentOrElse(
+                    key -> jwks.add(key.algorithm().toJwk(kid, key.publicKey())),
+                    () -> expired.add(kid));
+        }
+        if (!expired.isEmpty()) {
+            redisService.removeFromSet(INDEX_KEY, expired);
+        }
+        return jwks;
+    }
+
+    /**
+     * 기동 시 현재 키 적재 (없으면 생성)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rotateIfDue();
+    }
+
+    /**
+     * 현재 키를 Redis에서 다시 읽고, 교체 주기가 지났거나 없으면 다음 키로 교체
+     * 교체가 가까우면 다음 키를 미리 만들어 JWKS에 공개한다.
+     */
+    @Scheduled(
+            initialDelayString = "#{@jwtSigningProperties.rotationCheckInterval.toMillis()}",
+            fixedDelayString = "#{@jwtSigningProperties.rotationCheckInterval.toMillis()}"
+    )
+    public void rotateIfDue() {
+        Optional<StoredKey> latest = findCurrent();
+        if (latest.isEmpty() || isDue(latest.get()) || !adopt(latest.get())) {
+            rotate();
+            return;
+        }
+        if (isNextDue(latest.get()) && !redisService.exists(NEXT_KEY)) {
+            publishNext(latest.get());
+        }
+    }
+
+    @Override
+    public String channel() {
+        return ROTATED_CHANNEL;
+    }
+
+    /**
+     * 다른 노드가 발행한 교체 메시지 처리 (새 kid)
+     */
+    @Override
+    public void onMessage(String kid) {
+        findKey(kid).filter(key -> key.algorithm() == algorithm).ifPresent(key -> {
+            verificationKeys.put(kid, key.publicKey());
+            adopt(key);
+        });
+    }
+
+    String currentKid() {
+        return currentKey().kid();
+    }
+
+    /**
+     * 미리 공개한 다음 키를 현재 키로 올린다. 다음 키가 없거나 쓸 수 없으면 새로 만든다.
+     */
+    private void rotate() {
+        String lockValue = UUID.randomUUID().toString();
+        if (!redisService.setIfAbsent(ROTATION_LOCK_KEY, lockValue, ROTATION_LOCK_TTL)) {
+            log.debug("다른 노드가 서명 키를 교체 중이라 건너뜀");
+            return;
+        }
+
+        try {
+            // 락을 기다리는 사이 다른 노드가 이미 교체했으면 그 키를 쓴다.
+            Optional<StoredKey> latest = findCurrent();
+            if (latest.isPresent() && !isDue(latest.get()) && adopt(latest.get())) {
+                return;
+            }
+
+            StoredKey key = findNext()
+                    .filter(this::adopt)
+                    .orElseGet(() -> {
+                        StoredKey created = createKey(Instant.now());
+                        adopt(created);
+                        return created;
+                    });
+            redisService.save(CURRENT_KEY, key.kid(), keyTtl);
+            redisService.delete(NEXT_KEY);
+
+            verificationKeys.put(key.kid(), key.publicKey());
+            redisService.publish(ROTATED_CHANNEL, key.kid());
+            log.info("JWT 서명 키 교체 - kid={}, algorithm={}", key.kid(), algorithm);
+        } finally {
+            redisService.deleteIfEquals(ROTATION_LOCK_KEY, lockValue);
+        }
+    }
+
+    /**
+     * 현재 키의 교체 예정 시각부터 서명할 다음 키를 만들어 JWKS에만 공개
+     */
+    private void publishNext(StoredKey currentKey) {
+        String lockValue = UUID.randomUUID().toString();
+        if (!redisService.setIfAbsent(ROTATION_LOCK_KEY, lockValue, ROTATION_LOCK_TTL)) {
+            return;
+        }
+
+        try {
+            if (redisService.exists(NEXT_KEY)) {
+                return;
+            }
+
+            StoredKey key = createKey(currentKey.activatesAt().plus(properties.getRotationInterval()));
+            redisService.save(NEXT_KEY, key.kid(), keyTtl);
+            log.info("다음 JWT 서명 키 공개 - kid={}, activatesAt={}", key.kid(), key.activatesAt());
+        } finally {
+            redisService.deleteIfEquals(ROTATION_LOCK_KEY, lockValue);
+        }
+    }
+
+    private StoredKey createKey(Instant activatesAt) {
+        StoredKey key = StoredKey.generate(algorithm, activatesAt, cipher);
+        // 미리 공개하는 동안에도 보관 기간이 줄지 않도록 공개 시점부터 잰다.
+        redisService.save(KEY_PREFIX + key.kid(), key.serialize(), keyTtl.plus(nextKeyLeadTime()));
+        redisService.addToSet(INDEX_KEY, List.of(key.kid()));
+        return key;
+    }
+
+    /**
+     * 서명 키로 지정 (개인 키를 복호화하지 못하면 false)
+     * 이미 쓰고 있는 키면 다시 복호화하지 않는다.
+     */
+    private boolean adopt(StoredKey key) {
+        SigningKey signing = current;
+        if (signing != null && signing.kid().equals(key.kid())) {
+            return true;
+        }
+
+        try {
+            current = key.signingKey(cipher);
+            return true;
+        } catch (IllegalStateException e) {
+            log.error("서명 키를 복호화할 수 없어 새 키로 교체 - kid={}", key.kid(), e);
+            return false;
+        }
+    }
+
+    private SigningKey currentKey() {
+        SigningKey key = current;
+        if (key == null) {
+            rotateIfDue();
+            key = current;
+        }
+        if (key == null) {
+            throw new IllegalStateException("JWT 서명 키를 아직 불러오지 못했습니다");
+        }
+        return key;
+    }
+
+    private boolean isDue(StoredKey key) {
+        return !key.activatesAt().plus(properties.getRotationInterval()).isAfter(Instant.now());
+    }
+
+    /**
+     * 다음 키를 공개할 때가 됐는지 (교체 예정 시각 - nextKeyLeadTime)
+     */
+    private boolean isNextDue(StoredKey key) {
+        return !key.activatesAt().plus(properties.getRotationInterval()).minus(nextKeyLeadTime()).isAfter(Instant.now());
+    }
+
+    /**
+     * 다음 키를 서명에 쓰기 전에 JWKS에 공개해 두는 시간
+     * 공개가 최대 한 확인 주기 늦을 수 있고, 외부 검증자는 JWKS를 최대 캐시 시간만큼 다시 받지 않는다.
+     */
+    private Duration nextKeyLeadTime() {
+        return properties.getRotationCheckInterval().plus(SecurityConstants.JWKS_MAX_AGE);
+    }
+
+    private Optional<StoredKey> findCurrent() {
+        return redisService.find(CURRENT_KEY)
+                .flatMap(this::findKey)
+                .filter(key -> key.algorithm() == algorithm);
+    }
+
+    private Optional<StoredKey> findNext() {
+        return redisService.find(NEXT_KEY)
+                .flatMap(this::findKey)
+                .filter(key -> key.algorithm() == algorithm);
+    }
+
+    private Optional<StoredKey> findKey(String kid) {
+        return redisService.find(KEY_PREFIX + kid).map(value -> StoredKey.deserialize(kid, value));
+    }
+
+    /**
+     * 서명에 쓰는 복호화된 개인 키
+     */
+    record SigningKey(String kid, JwtKeyPairAlgorithm algorithm, PrivateKey privateKey) {
+    }
+
+    /**
+     * Redis에 보관하는 키 쌍 ("알고리즘|서명 시작 시각(ms)|암호화한 PKCS#8 개인 키|X.509 공개 키", 키는 Base64)
+     * 검증과 JWKS에는 공개 키만 쓰므로, 개인 키는 서명 키로 지정할 때만 복호화한다.
+     * activatesAt은 서명을 시작한(미리 공개한 키는 시작할) 시각으로, 교체 주기를 이 시각부터 잰다.
+     */
+    record StoredKey(
+            String kid,
+            JwtKeyPairAlgorithm algorithm,
+            Instant activatesAt,
+            String encryptedPrivateKey,
+            PublicKey publicKey
+    ) {
+        private static final String DELIMITER = "|";
+
+        static StoredKey generate(JwtKeyPairAlgorithm algorithm, Instant activatesAt, JwtKeyCipher cipher) {
+            KeyPair keyPair = algorithm.generateKeyPair();
+            String kid = UUID.randomUUID().toString();
+            return new StoredKey(kid, algorithm, activatesAt,
+                    cipher.encrypt(kid, keyPair.getPrivate().getEncoded()), keyPair.getPublic());
+        }
+
+        SigningKey signingKey(JwtKeyCipher cipher) {
+            try {
+                PrivateKey privateKey = KeyFactory.getInstance(algorithm.keyFactoryAlgorithm())
+                        .generatePrivate(new PKCS8EncodedKeySpec(cipher.decrypt(kid, encryptedPrivateKey)));
+                return new SigningKey(kid, algorithm, privateKey);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("서명 키 복원 실패 - kid=" + kid, e);
+            }
+        }
+
+        String serialize() {
+            return String.join(DELIMITER,
+                    algorithm.name(),
+                    String.valueOf(activatesAt.toEpochMilli()),
+                    encryptedPrivateKey,
+                    Base64.getEncoder().encodeToString(publicKey.getEncoded()));
+        }
+
+        static StoredKey deserialize(String kid, String value) {
+            String[] parts = value.split("\\|");
+            if (parts.length != 4) {
+                throw new IllegalStateException("잘못된 서명 키 형식 - kid=" + kid);
+            }
+
+            JwtKeyPairAlgorithm algorithm = JwtKeyPairAlgorithm.valueOf(parts[0]);
+            try {
+                return new StoredKey(
+                        kid,
+                        algorithm,
+                        Instant.ofEpochMilli(Long.parseLong(parts[1])),
+                        parts[2],
+                        KeyFactory.getInstance(algorithm.keyFactoryAlgorithm())
+                                .generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(parts[3]))));
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("서명 키 복원 실패 - kid=" + kid, e);
+            }
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.devon.techblog.application.security.service;
 
 import com.devon.techblog.application.security.dto.user.CustomUserDetails;
-import com.devon.techblog.domain.member.entity.Member;
+import com.devon.techblog.domain.member.dto.MemberAuthSnapshot;
 import com.devon.techblog.domain.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,7 +22,7 @@ public class LoginService implements UserDetailsService {
     @Override
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        Member member = memberRepository.findByEmail(email)
+        MemberAuthSnapshot member = memberRepository.findAuthSnapshotByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
 
         if (!member.isActive()) {
@@ -30,9 +30,9 @@ public class LoginService implements UserDetailsService {
         }
 
         return new CustomUserDetails(
-                member.getId(),
-                member.getPassword(),
-                member.getRole(),
+                member.memberId(),
+                member.password(),
+                member.role(),
                 member.isActive()
         );
     }
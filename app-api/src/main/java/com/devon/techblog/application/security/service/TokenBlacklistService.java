@@ -1,39 +1,309 @@
 package com.devon.techblog.application.security.service;
 
+import com.devon.techblog.application.security.config.properties.JwtProperties;
+import com.devon.techblog.application.security.config.properties.TokenBlacklistProperties;
 import com.devon.techblog.application.security.util.JwtTokenProvider;
+import com.devon.techblog.common.utils.BloomFilterSpec;
+import com.devon.techblog.infra.redis.adapter.RedisMessageHandler;
 import com.devon.techblog.infra.redis.adapter.RedisService;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
-import lombok.RequiredArgsConstructor;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * 리프레시 토큰 블랙리스트
+ *
+ * Redis의 토큰 해시 키(TTL = 토큰 남은 유효 기간)가 기준이고, 각 노드는 블랙리스트에 오른 토큰 해시의
+ * Bloom filter를 메모리에 들고 있다. 필터에 없는 토큰은 Redis를 조회하지 않고 바로 통과시키며,
+ * 필터에 있을 때만(실제 등록 또는 오탐) Redis로 확인한다.
+ *
+ * 필터는 기동 시와 주기적으로 Redis의 만료일별 해시 SET에서 다시 만들고(만료된 항목 정리 겸),
+ * 그 사이 다른 노드의 등록은 pub/sub으로 받는다. 재구성에 한 번도 성공하지 못한 동안에는 필터를 쓰지 않는다.
+ *
+ * Redis 기록에 실패한 등록은 버리지 않고 로컬 재시도 대기열에 넣어 주기적으로 다시 기록하며,
+ * 대기 중인 토큰은 이 노드에서 바로 차단한다.
+ *
+ * 만료일 SET이 생기기 전에 등록된 토큰 키는 SET에 없으므로, 첫 재구성 때 한 번 SCAN으로 찾아 마지막 만료일 SET에 넣는다.
+ * 남은 TTL을 읽지 않고 가장 늦은 날에 넣기 때문에 필터에 조금 더 오래 남을 뿐 누락되지는 않는다.
+ * 이관이 끝나면 표시 키를 남겨 다른 노드와 이후 기동에서는 SCAN을 생략한다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class TokenBlacklistService {
+public class TokenBlacklistService implements RedisMessageHandler {
 
+    static final String ADDED_CHANNEL = "blacklist:refresh-token:added";
     private static final String BLACKLIST_PREFIX = "blacklist:refresh-token:";
+    private static final String INDEX_PREFIX = "blacklist:refresh-token:index:";
+    private static final String LEGACY_MIGRATED_KEY = INDEX_PREFIX + "legacy-migrated";
+
     private final RedisService redisService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtProperties jwtProperties;
+    private final TokenBlacklistProperties properties;
+    private final BloomFilterSpec bloomFilterSpec;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    /**
+     * Redis 기록 재시도 대기열 (토큰 해시 -> 토큰 만료 시각)
+     */
+    private final Map<String, Instant> pendingWrites = new ConcurrentHashMap<>();
+
+    private volatile TokenBloomFilter bloomFilter;
+
+    /**
+     * 재구성 중인 필터 (재구성 도중 등록된 해시도 새 필터에 넣기 위해 노출한다)
+     */
+    private volatile TokenBloomFilter rebuilding;
+
+    private volatile boolean ready;
+
+    /**
+     * 만료일 SET 도입 전 키의 이관 여부 (노드 로컬, Redis 표시 키로도 확인한다)
+     */
+    private volatile boolean legacyIndexed;
+
+    private final Counter bloomSkips;
+    private final Counter bloomFalsePositives;
+    private final Counter writeFailures;
+    private final Counter droppedWrites;
+
+    public TokenBlacklistService(
+            RedisService redisService,
+            JwtTokenProvider jwtTokenProvider,
+            JwtProperties jwtProperties,
+            TokenBlacklistProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisService = redisService;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.jwtProperties = jwtProperties;
+        this.properties = properties;
+        this.bloomFilterSpec = BloomFilterSpec.of(properties.getExpectedInsertions(), properties.getFalsePositiveRate());
+        this.bloomFilter = new TokenBloomFilter(bloomFilterSpec);
+
+        Gauge.builder("token.blacklist.bloom.entries", this, service -> service.bloomFilter.insertions())
+                .description("로컬 Bloom filter에 넣은 토큰 해시 수")
+                .register(meterRegistry);
+        Gauge.builder("token.blacklist.retry.pending", pendingWrites, Map::size)
+                .description("Redis 기록을 기다리는 블랙리스트 등록 수")
+                .register(meterRegistry);
+        this.bloomSkips = Counter.builder("token.blacklist.bloom.skipped")
+                .description("Bloom filter에 없어 Redis 조회를 건너뛴 횟수")
+                .register(meterRegistry);
+        this.bloomFalsePositives = Counter.builder("token.blacklist.bloom.false-positives")
+                .description("Bloom filter에는 있었지만 Redis에 없던 횟수")
+                .register(meterRegistry);
+        this.writeFailures = Counter.builder("token.blacklist.write.failures")
+                .description("블랙리스트 Redis 기록 실패 횟수")
+                .register(meterRegistry);
+        this.droppedWrites = Counter.builder("token.blacklist.retry.dropped")
+                .description("재시도 대기열이 가득 차 버려진 등록 수")
+                .register(meterRegistry);
+    }
 
     public void addToBlacklist(String token) {
+        long ttl;
         try {
-            long ttl = jwtTokenProvider.getExpiresIn(token);
-            String key = generateRedisKey(token);
-            redisService.save(key, "0", Duration.ofMillis(ttl));
-        } catch (Exception e) {
-            // todo : 블랙 리스트 등록 실패시 전략 생각해보기
-            log.error("블랙 리스트 등록 실패", e);
+            ttl = jwtTokenProvider.getExpiresIn(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            // 이미 만료됐거나 서명이 맞지 않는 토큰은 재발급에 쓸 수 없으므로 등록하지 않는다.
+            log.debug("블랙리스트 등록 생략 - {}", e.getMessage());
+            return;
+        }
+
+        String hash = DigestUtils.sha256Hex(token);
+        Instant expiresAt = Instant.now().plusMillis(ttl);
+        putLocal(hash);
+
+        if (!write(hash, expiresAt)) {
+            enqueueRetry(hash, expiresAt);
         }
     }
 
     public boolean isBlacklisted(String token) {
-        String key = generateRedisKey(token);
-        return redisService.find(key).isPresent();
+        String hash = DigestUtils.sha256Hex(token);
+        if (pendingWrites.containsKey(hash)) {
+            return true;
+        }
+        if (ready && !bloomFilter.mightContain(hash)) {
+            bloomSkips.increment();
+            return false;
+        }
+
+        boolean blacklisted = redisService.find(BLACKLIST_PREFIX + hash).isPresent();
+        if (ready && !blacklisted) {
+            bloomFalsePositives.increment();
+        }
+        return blacklisted;
+    }
+
+    /**
+     * 기동 시 Bloom filter 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * Redis의 만료일별 해시 SET에서 Bloom filter를 새로 만들어 교체
+     * 오늘부터 리프레시 토큰 최대 유효 기간까지의 SET만 읽으므로 이미 만료된 토큰은 빠진다.
+     */
+    @Scheduled(
+            initialDelayString = "#{@tokenBlacklistProperties.rebuildInterval.toMillis()}",
+            fixedDelayString = "#{@tokenBlacklistProperties.rebuildInterval.toMillis()}"
+    )
+    public void rebuild() {
+        if (!rebuildLock.tryLock()) {
+            return;
+        }
+
+        TokenBloomFilter next = new TokenBloomFilter(bloomFilterSpec);
+        rebuilding = next;
+        try {
+            long firstDay = LocalDate.now(ZoneOffset.UTC).toEpochDay();
+            long lastDay = epochDay(Instant.now().plusMillis(jwtProperties.getRefreshTokenExpiration()));
+            if (!legacyIndexed) {
+                indexLegacyKeys(lastDay);
+            }
+            for (long day = firstDay; day <= lastDay; day++) {
+                redisService.findSetMembers(INDEX_PREFIX + day).forEach(next::put);
+            }
+            pendingWrites.keySet().forEach(next::put);
+
+            bloomFilter = next;
+            ready = true;
+            log.info("블랙리스트 Bloom filter 재구성 완료 - entries={}", next.insertions());
+        } catch (Exception e) {
+            log.warn("블랙리스트 Bloom filter 재구성 실패, 기존 필터 유지 - ready={}", ready, e);
+        } finally {
+            rebuilding = null;
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Redis 기록에 실패했던 등록 재시도
+     * Redis가 아직 응답하지 않으면 이번 주기는 멈추고, 토큰이 만료된 항목은 기록 없이 버린다.
+     */
+    @Scheduled(fixedDelayString = "#{@tokenBlacklistProperties.retryInterval.toMillis()}")
+    public void retryPendingWrites() {
+        for (Map.Entry<String, Instant> entry : pendingWrites.entrySet()) {
+            if (!write(entry.getKey(), entry.getValue())) {
+                return;
+            }
+            pendingWrites.remove(entry.getKey());
+        }
+    }
+
+    @Override
+    public String channel() {
+        return ADDED_CHANNEL;
+    }
+
+    /**
+     * 다른 노드가 발행한 블랙리스트 등록 메시지 처리 (토큰 해시)
+     */
+    @Override
+    public void onMessage(String hash) {
+        if (hash.isBlank()) {
+            log.warn("잘못된 블랙리스트 등록 메시지 - message={}", hash);
+            return;
+        }
+        putLocal(hash);
+    }
+
+    /**
+     * 만료일 SET에 없는 기존 토큰 키를 찾아 마지막 만료일 SET에 추가
+     * 토큰 키의 남은 TTL은 리프레시 토큰 유효 기간을 넘지 않으므로 lastDay SET이 먼저 사라지는 일은 없다.
+     */
+    private void indexLegacyKeys(long lastDay) {
+        if (redisService.exists(LEGACY_MIGRATED_KEY)) {
+            legacyIndexed = true;
+            return;
+        }
+
+        List<String> hashes = redisService.scanKeys(BLACKLIST_PREFIX + "*").stream()
+                .filter(key -> !key.startsWith(INDEX_PREFIX))
+                .map(key -> key.substring(BLACKLIST_PREFIX.length()))
+                .toList();
+        if (!hashes.isEmpty()) {
+            String indexKey = INDEX_PREFIX + lastDay;
+            redisService.addToSet(indexKey, hashes);
+            redisService.expire(indexKey,
+                    Duration.between(Instant.now(), Instant.ofEpochSecond((lastDay + 1) * 86_400)));
+        }
+
+        redisService.save(LEGACY_MIGRATED_KEY, "1", null);
+        legacyIndexed = true;
+        log.info("만료일 SET 도입 전 블랙리스트 키 이관 완료 - count={}", hashes.size());
+    }
+
+    int pendingWriteCount() {
+        return pendingWrites.size();
+    }
+
+    private void putLocal(String hash) {
+        bloomFilter.put(hash);
+        TokenBloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(hash);
+        }
+    }
+
+    /**
+     * 토큰 해시 키, 만료일 SET 기록 후 다른 노드에 알림
+     *
+     * @return 기록했거나 토큰이 이미 만료돼 기록할 필요가 없으면 true
+     */
+    private boolean write(String hash, Instant expiresAt) {
+        Instant now = Instant.now();
+        if (!expiresAt.isAfter(now)) {
+            return true;
+        }
+
+        try {
+            redisService.save(BLACKLIST_PREFIX + hash, "0", Duration.between(now, expiresAt));
+
+            long day = epochDay(expiresAt);
+            String indexKey = INDEX_PREFIX + day;
+            redisService.addToSet(indexKey, List.of(hash));
+            redisService.expire(indexKey, Duration.between(now, Instant.ofEpochSecond((day + 1) * 86_400)));
+
+            redisService.publish(ADDED_CHANNEL, hash);
+            return true;
+        } catch (Exception e) {
+            writeFailures.increment();
+            log.warn("블랙리스트 Redis 기록 실패, 재시도 대기열에 넣는다 - hash={}", hash, e);
+            return false;
+        }
+    }
+
+    private void enqueueRetry(String hash, Instant expiresAt) {
+        if (pendingWrites.size() >= properties.getRetryQueueCapacity()) {
+            droppedWrites.increment();
+            log.error("블랙리스트 재시도 대기열 초과, 등록을 버린다 - hash={}", hash);
+            return;
+        }
+        pendingWrites.put(hash, expiresAt);
     }
 
-    private String generateRedisKey(String token){
-        return BLACKLIST_PREFIX + DigestUtils.sha256Hex(token);
+    private static long epochDay(Instant instant) {
+        return LocalDate.ofInstant(instant, ZoneOffset.UTC).toEpochDay();
     }
 }
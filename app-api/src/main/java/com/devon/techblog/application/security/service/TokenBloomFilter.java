@@ -0,0 +1,47 @@
+package com.devon.techblog.application.security.service;
+
+import com.devon.techblog.common.utils.BloomFilterSpec;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 노드 로컬 Bloom filter (AtomicLongArray 비트셋)
+ *
+ * 잠금 없이 여러 스레드가 동시에 넣고 조회할 수 있다.
+ * 항목을 지울 수 없으므로, 만료된 항목을 비우려면 새 필터를 만들어 교체한다.
+ */
+class TokenBloomFilter {
+
+    private final BloomFilterSpec spec;
+    private final AtomicLongArray words;
+    private final LongAdder insertions = new LongAdder();
+
+    TokenBloomFilter(BloomFilterSpec spec) {
+        this.spec = spec;
+        this.words = new AtomicLongArray(Math.toIntExact((spec.bitSize() + 63) / 64));
+    }
+
+    void put(String item) {
+        for (long offset : spec.offsets(item)) {
+            long mask = 1L << (offset & 63);
+            words.getAndAccumulate((int) (offset >>> 6), mask, (word, bit) -> word | bit);
+        }
+        insertions.increment();
+    }
+
+    boolean mightContain(String item) {
+        for (long offset : spec.offsets(item)) {
+            if ((words.get((int) (offset >>> 6)) & (1L << (offset & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 넣은 항목 수 (중복 포함)
+     */
+    long insertions() {
+        return insertions.sum();
+    }
+}
@@ -0,0 +1,166 @@
+package com.devon.techblog.application.security.service;
+
+import com.devon.techblog.application.security.config.properties.JwtProperties;
+import com.devon.techblog.application.security.config.properties.TokenEpochProperties;
+import com.devon.techblog.application.security.util.VerifiedToken;
+import com.devon.techblog.infra.redis.adapter.RedisMessageHandler;
+import com.devon.techblog.infra.redis.adapter.RedisService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 회원별 토큰 epoch (일괄 폐기)
+ *
+ * 회원마다 "이 시각(초) 이전에 발급된 토큰은 무효"라는 기준 시각 하나를 Redis에 두고,
+ * 각 노드는 이를 짧은 TTL의 Caffeine 캐시에 들고 있다. 요청마다 토큰의 iat와 메모리의 epoch만 비교하므로
+ * 토큰별 Redis 키 없이 액세스·리프레시 토큰을 한 번에 폐기할 수 있다.
+ *
+ * 폐기 시 epoch를 Redis에 기록하고 pub/sub으로 다른 노드의 캐시를 갱신한다 (더 큰 값만 반영).
+ * Redis 키는 리프레시 토큰 최대 유효 기간 뒤에 만료되며, 그때는 이전에 발급된 토큰이 모두 만료된 상태다.
+ * JWT의 iat는 초 단위라, 폐기와 같은 초에 발급된 토큰은 유효한 것으로 본다.
+ *
+ * 캐시한 epoch는 localTtl이 지나면 Redis에서 다시 읽는다. 다시 읽다 실패하면 마지막으로 읽은 값을 계속 쓰므로,
+ * Redis 장애가 길어져도 이미 읽어 둔 회원의 인증은 막히지 않는다. 한 번도 읽지 못한 회원은 failClosed 설정에 따라
+ * 폐기된 것으로(기본값) 또는 유효한 것으로 보며, 이 결과는 캐시하지 않아 다음 요청에서 다시 조회한다.
+ */
+@Slf4j
+@Service
+public class TokenEpochService implements RedisMessageHandler {
+
+    static final String KEY_PREFIX = "token:epoch:";
+    static final String REVOKED_CHANNEL = "token:epoch:revoked";
+    private static final String MESSAGE_DELIMITER = "|";
+    private static final long NO_EPOCH = 0L;
+
+    private final RedisService redisService;
+    private final JwtProperties jwtProperties;
+    private final TokenEpochProperties properties;
+
+    /**
+     * 회원 ID -> 마지막으로 확인한 epoch
+     * 리프레시 토큰 유효 기간 동안 조회가 없으면 버린다 (그보다 오래된 epoch는 판정에 영향이 없다).
+     */
+    private final Cache<Long, CachedEpoch> localCache;
+
+    public TokenEpochService(
+            RedisService redisService,
+            JwtProperties jwtProperties,
+            TokenEpochProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisService = redisService;
+        this.jwtProperties = jwtProperties;
+        this.properties = properties;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaximumSize())
+                .expireAfterAccess(Duration.ofMillis(jwtProperties.getRefreshTokenExpiration()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "token.epoch");
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        return isRevoked(token.memberId(), token.issuedAt());
+    }
+
+    /**
+     * 회원의 epoch보다 먼저 발급된 토큰이면 true (iat가 없는 토큰은 epoch가 있을 때 폐기된 것으로 본다)
+     */
+    public boolean isRevoked(Long memberId, Instant issuedAt) {
+        Optional<Long> epoch = currentEpoch(memberId);
+        if (epoch.isEmpty()) {
+            return properties.getFailClosed();
+        }
+        if (epoch.get() == NO_EPOCH) {
+            return false;
+        }
+        return issuedAt == null || issuedAt.getEpochSecond() < epoch.get();
+    }
+
+    /**
+     * 지금까지 발급된 회원의 모든 토큰 폐기 (모든 노드)
+     * Redis에 먼저 기록하고 성공한 뒤에 로컬 캐시에 반영한다. 기록에 실패하면 예외를 그대로 던지며,
+     * 이때 이 노드만 폐기된 것처럼 보이는 상태가 남지 않는다.
+     */
+    public void revokeAll(Long memberId) {
+        long epoch = Instant.now().getEpochSecond();
+        redisService.save(KEY_PREFIX + memberId, String.valueOf(epoch),
+                Duration.ofMillis(jwtProperties.getRefreshTokenExpiration()));
+        merge(memberId, epoch);
+
+        redisService.publish(REVOKED_CHANNEL, memberId + MESSAGE_DELIMITER + epoch);
+    }
+
+    @Override
+    public String channel() {
+        return REVOKED_CHANNEL;
+    }
+
+    /**
+     * 폐기 메시지 처리 (memberId|epoch)
+     * 자신이 발행한 메시지도 같은 값으로 합쳐지므로 따로 거르지 않는다.
+     */
+    @Override
+    public void onMessage(String message) {
+        int delimiter = message.indexOf(MESSAGE_DELIMITER);
+        try {
+            Long memberId = Long.valueOf(message.substring(0, delimiter));
+            Long epoch = Long.valueOf(message.substring(delimiter + 1));
+            merge(memberId, epoch);
+        } catch (IndexOutOfBoundsException | NumberFormatException e) {
+            log.warn("잘못된 토큰 폐기 메시지 - message={}", message);
+        }
+    }
+
+    /**
+     * 로컬 epoch가 localTtl 안이면 그대로 쓰고, 아니면 Redis에서 다시 읽는다.
+     * Redis 조회에 실패하면 마지막으로 읽은 값을 쓰고, 그런 값도 없으면 empty
+     */
+    private Optional<Long> currentEpoch(Long memberId) {
+        CachedEpoch cached = localCache.getIfPresent(memberId);
+        if (cached != null && !cached.isStale(properties.getLocalTtl())) {
+            return Optional.of(cached.epoch());
+        }
+
+        try {
+            long epoch = redisService.find(KEY_PREFIX + memberId).map(Long::valueOf).orElse(NO_EPOCH);
+            return Optional.of(merge(memberId, epoch));
+        } catch (Exception e) {
+            if (cached != null) {
+                log.debug("토큰 epoch 조회 실패, 마지막으로 읽은 값 사용 - memberId={}", memberId, e);
+                return Optional.of(cached.epoch());
+            }
+            log.warn("토큰 epoch 조회 실패, 읽어 둔 값이 없어 {} - memberId={}",
+                    properties.getFailClosed() ? "폐기된 것으로 본다" : "유효한 것으로 본다", memberId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 더 큰 epoch만 반영하고 확인 시각을 갱신
+     */
+    private long merge(Long memberId, long epoch) {
+        return localCache.asMap()
+                .merge(memberId, new CachedEpoch(epoch, System.nanoTime()), CachedEpoch::latest)
+                .epoch();
+    }
+
+    private record CachedEpoch(long epoch, long checkedAtNanos) {
+
+        boolean isStale(Duration ttl) {
+            return System.nanoTime() - checkedAtNanos >= ttl.toNanos();
+        }
+
+        CachedEpoch latest(CachedEpoch other) {
+            return new CachedEpoch(Math.max(epoch, other.epoch), Math.max(checkedAtNanos, other.checkedAtNanos));
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.devon.techblog.application.security.service;
 
+import com.devon.techblog.application.member.cache.MemberAuthCache;
 import com.devon.techblog.application.security.util.JwtTokenProvider;
+import com.devon.techblog.application.security.util.VerifiedToken;
 import com.devon.techblog.common.exception.BusinessException;
 import com.devon.techblog.common.exception.code.AuthErrorCode;
 import com.devon.techblog.common.exception.code.MemberErrorCode;
-import com.devon.techblog.domain.member.entity.Member;
+import com.devon.techblog.domain.member.dto.MemberAuthSnapshot;
 import com.devon.techblog.domain.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,14 +21,21 @@ public class TokenRefreshService {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final MemberRepository memberRepository;
+    private final MemberAuthCache memberAuthCache;
     private final TokenBlacklistService tokenBlacklistService;
+    private final TokenEpochService tokenEpochService;
 
+    /**
+     * 리프레시 토큰을 한 번만 파싱해 타입·만료·폐기 여부를 확인하고 새 액세스 토큰을 발급
+     * 서명이 맞지 않거나 만료된 토큰이면 파싱 단계의 JwtException을 그대로 던진다.
+     */
     public String refreshAccessToken(String refreshToken) {
-        if (!jwtTokenProvider.isRefreshToken(refreshToken)) {
+        VerifiedToken token = jwtTokenProvider.verify(refreshToken);
+        if (!token.isRefreshToken()) {
             throw new BusinessException(AuthErrorCode.REFRESH_TOKEN_INVALID);
         }
 
-        if (jwtTokenProvider.isTokenExpired(refreshToken)) {
+        if (token.isExpired()) {
             throw new BusinessException(AuthErrorCode.REFRESH_TOKEN_EXPIRED);
         }
 
@@ -34,14 +43,18 @@ public class TokenRefreshService {
             throw new BusinessException(AuthErrorCode.REFRESH_TOKEN_INVALID);
         }
 
-        Long memberId = jwtTokenProvider.getUidFromToken(refreshToken);
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BusinessException(MemberErrorCode.USER_NOT_FOUND));
+        Long memberId = token.memberId();
+        if (tokenEpochService.isRevoked(token)) {
+            throw new BusinessException(AuthErrorCode.REFRESH_TOKEN_INVALID);
+        }
+
+        MemberAuthSnapshot member = memberAuthCache.get(memberId, () -> memberRepository.findAuthSnapshotById(memberId)
+                .orElseThrow(() -> new BusinessException(MemberErrorCode.USER_NOT_FOUND)));
 
         if (!member.isActive()) {
             throw new BusinessException(MemberErrorCode.MEMBER_INACTIVE);
         }
 
-        return jwtTokenProvider.generateAccessToken(memberId, member.getRole().name());
+        return jwtTokenProvider.generateAccessToken(memberId, member.role().name());
     }
 }
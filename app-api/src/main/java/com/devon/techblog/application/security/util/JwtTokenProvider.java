@@ -2,12 +2,13 @@ package com.devon.techblog.application.security.util;
 
 import com.devon.techblog.application.security.config.properties.JwtProperties;
 import com.devon.techblog.application.security.constants.JwtConstants;
+import com.devon.techblog.application.security.key.JwtKeyStore;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import java.nio.charset.StandardCharsets;
+import io.jsonwebtoken.ProtectedHeader;
+import java.time.Instant;
 import java.util.Date;
-import javax.crypto.SecretKey;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -16,24 +17,33 @@ import org.springframework.stereotype.Component;
 public class JwtTokenProvider {
 
     private final JwtProperties jwtProperties;
-    private final SecretKey secretKey;
+    private final JwtKeyStore keyStore;
 
-    public JwtTokenProvider(JwtProperties properties){
+    /**
+     * 검증 키는 토큰의 kid 헤더로 키 저장소에서 찾으므로 파서는 한 번만 만들어 재사용한다
+     * (불변 객체라 스레드 간 공유 가능).
+     */
+    private final JwtParser parser;
+
+    public JwtTokenProvider(JwtProperties properties, JwtKeyStore keyStore){
         this.jwtProperties = properties;
-        this.secretKey = Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.keyStore = keyStore;
+        this.parser = Jwts.parser()
+                .keyLocator(header -> keyStore.verificationKey(
+                        header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null))
+                .build();
     }
 
     public String generateAccessToken(Long memberId, String role) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtProperties.getAccessTokenExpiration());
 
-        return Jwts.builder()
-                .subject(String.valueOf(memberId))
-                .claim(JwtConstants.CLAIM_ROLE, role)
-                .claim(JwtConstants.CLAIM_TYPE, JwtConstants.TOKEN_TYPE_ACCESS)
-                .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(secretKey, Jwts.SIG.HS256)
+        return keyStore.sign(Jwts.builder()
+                        .subject(String.valueOf(memberId))
+                        .claim(JwtConstants.CLAIM_ROLE, role)
+                        .claim(JwtConstants.CLAIM_TYPE, JwtConstants.TOKEN_TYPE_ACCESS)
+                        .issuedAt(now)
+                        .expiration(expiryDate))
                 .compact();
     }
 
@@ -41,21 +51,24 @@ public class JwtTokenProvider {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtProperties.getRefreshTokenExpiration());
 
-        return Jwts.builder()
-                .subject(String.valueOf(memberId))
-                .claim(JwtConstants.CLAIM_TYPE, JwtConstants.TOKEN_TYPE_REFRESH)
-                .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(secretKey, Jwts.SIG.HS256)
+        return keyStore.sign(Jwts.builder()
+                        .subject(String.valueOf(memberId))
+                        .claim(JwtConstants.CLAIM_TYPE, JwtConstants.TOKEN_TYPE_REFRESH)
+                        .issuedAt(now)
+                        .expiration(expiryDate))
                 .compact();
     }
 
     public Claims validateToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * 서명 검증과 클레임 추출을 한 번의 파싱으로 처리
+     * 서명이 맞지 않거나 만료된 토큰이면 JwtException을 던진다.
+     */
+    public VerifiedToken verify(String token) {
+        return VerifiedToken.from(validateToken(token));
     }
 
     public Long getUidFromToken(String token) {
@@ -78,6 +91,14 @@ public class JwtTokenProvider {
         return claims.getExpiration();
     }
 
+    /**
+     * 토큰 발급 시각 (iat 클레임이 없으면 null)
+     */
+    public Instant getIssuedAt(String token) {
+        Date issuedAt = validateToken(token).getIssuedAt();
+        return issuedAt != null ? issuedAt.toInstant() : null;
+    }
+
     public long getExpiresIn(String token) {
         Date expiration = validateToken(token).getExpiration();
         return expiration.getTime() - System.currentTimeMillis();
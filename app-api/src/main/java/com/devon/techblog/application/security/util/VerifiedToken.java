@@ -0,0 +1,47 @@
+package com.devon.techblog.application.security.util;
+
+import com.devon.techblog.application.security.constants.JwtConstants;
+import io.jsonwebtoken.Claims;
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 토큰의 클레임
+ *
+ * 한 번 파싱한 결과에서 필요한 값을 모두 꺼내 두어, 같은 토큰을 항목마다 다시 파싱하지 않는다.
+ */
+public record VerifiedToken(
+        Long memberId,
+        String type,
+        String role,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+    public static VerifiedToken from(Claims claims) {
+        return new VerifiedToken(
+                Long.parseLong(claims.getSubject()),
+                claims.get(JwtConstants.CLAIM_TYPE, String.class),
+                claims.get(JwtConstants.CLAIM_ROLE, String.class),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration().toInstant()
+        );
+    }
+
+    public boolean isAccessToken() {
+        return JwtConstants.TOKEN_TYPE_ACCESS.equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return JwtConstants.TOKEN_TYPE_REFRESH.equals(type);
+    }
+
+    public boolean isExpired() {
+        return !expiresAt.isAfter(Instant.now());
+    }
+
+    /**
+     * 만료까지 남은 시간 (ms, 이미 만료됐으면 0 이하)
+     */
+    public long expiresIn() {
+        return expiresAt.toEpochMilli() - System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,81 @@
+package com.devon.techblog.application.security.util;
+
+import com.devon.techblog.application.security.config.properties.JwtProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증된 토큰 클레임 캐시 (노드 로컬 Caffeine)
+ *
+ * 같은 클라이언트가 같은 액세스 토큰으로 반복 요청하면 HMAC 검증과 클레임 파싱을 건너뛴다.
+ * 키는 토큰 전체의 SHA-256 다이제스트라 원문 토큰을 메모리에 들고 있지 않으며,
+ * 서명 부분만 키로 쓸 때와 달리 페이로드를 바꾼 토큰이 캐시에 걸리지 않는다.
+ * 항목은 토큰 만료 시각에 함께 만료되고, 검증에 실패한 토큰은 캐시하지 않는다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(
+            JwtTokenProvider jwtTokenProvider,
+            JwtProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getVerifiedCacheMaximumSize())
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, token.expiresIn()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken token, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken token, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified");
+    }
+
+    /**
+     * 캐시된 클레임을 반환하고, 없으면 서명을 검증해 채운다.
+     * 검증에 실패하면 JwtTokenProvider.verify와 같은 예외를 던진다.
+     */
+    public VerifiedToken verify(String token) {
+        return cache.get(digest(token), key -> jwtTokenProvider.verify(token));
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance(DIGEST_ALGORITHM)
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " not supported", e);
+        }
+    }
+}
@@ -11,6 +11,7 @@ public enum PostErrorCode implements ErrorCode {
 
     // 게시글 조회 에러 (404)
     POST_NOT_FOUND(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다"),
+    SERIES_NOT_FOUND(HttpStatus.NOT_FOUND, "시리즈를 찾을 수 없습니다"),
 
     // 권한 에러 (403)
     NO_PERMISSION(HttpStatus.FORBIDDEN, "권한이 없습니다"),
@@ -25,6 +26,14 @@ public enum PostErrorCode implements ErrorCode {
     POST_TITLE_TOO_LONG(HttpStatus.BAD_REQUEST, "제목은 200자를 초과할 수 없습니다"),
     POST_CONTENT_REQUIRED(HttpStatus.BAD_REQUEST, "내용은 필수입니다"),
 
+    // 목록 조회 에러 (400)
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다"),
+    INVALID_SEARCH_KEYWORD(HttpStatus.BAD_REQUEST, "검색어를 입력해주세요"),
+    INVALID_TAG_MATCH(HttpStatus.BAD_REQUEST, "태그 조건은 any 또는 all만 사용할 수 있습니다"),
+
+    // 태그 역색인 에러 (409)
+    TAG_INDEX_REBUILD_IN_PROGRESS(HttpStatus.CONFLICT, "태그 역색인을 재구성하는 중입니다"),
+
     // 첨부파일 에러 (400)
     ATTACHMENT_POST_REQUIRED(HttpStatus.BAD_REQUEST, "게시글은 필수입니다"),
     ATTACHMENT_URL_REQUIRED(HttpStatus.BAD_REQUEST, "첨부파일 URL은 필수입니다"),
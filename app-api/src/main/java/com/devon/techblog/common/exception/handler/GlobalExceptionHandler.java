@@ -12,6 +12,7 @@ import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -82,6 +83,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(AuthErrorCode.TOKEN_INVALID.getHttpStatus()).body(response);
     }
 
+    /**
+     * 메서드 보안(@PreAuthorize) 거부 처리 핸들러.
+     * <p>
+     * 컨트롤러 안에서 발생한 인가 실패는 필터 체인의 AccessDeniedHandler까지 전달되지 않으므로,
+     * 아래 최종 방어선에 잡혀 500이 되지 않도록 여기서 403 응답을 반환한다.
+     */
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException e) {
+        ErrorResponse response = ErrorResponse.from(AuthErrorCode.ACCESS_DENIED);
+        return ResponseEntity.status(AuthErrorCode.ACCESS_DENIED.getHttpStatus()).body(response);
+    }
+
     /**
      * 처리되지 않은 모든 예외에 대한 최종 방어선 핸들러.
      * <p>
@@ -66,7 +66,16 @@ public enum SwaggerErrorResponseDescription {
     POST_GET(new LinkedHashSet<>(Set.of(
             PostErrorCode.POST_NOT_FOUND
     ))),
-    POST_LIST(new LinkedHashSet<>(Set.of())),
+    POST_LIST(new LinkedHashSet<>(Set.of(
+            PostErrorCode.INVALID_TAG_MATCH
+    ))),
+    POST_SCROLL(new LinkedHashSet<>(Set.of(
+            PostErrorCode.INVALID_CURSOR,
+            PostErrorCode.INVALID_TAG_MATCH
+    ))),
+    POST_SEARCH(new LinkedHashSet<>(Set.of(
+            PostErrorCode.INVALID_SEARCH_KEYWORD
+    ))),
     POST_LIKE(new LinkedHashSet<>(Set.of(
             PostErrorCode.POST_NOT_FOUND,
             MemberErrorCode.USER_NOT_FOUND,
@@ -0,0 +1,55 @@
+package com.devon.techblog.common.utils;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.commons.codec.digest.MurmurHash3;
+
+/**
+ * Bloom filter 크기와 비트 위치 계산
+ *
+ * m = -n·ln(p) / (ln 2)², k = (m / n)·ln 2
+ * 비트 위치는 128bit MurmurHash3 두 값을 이용한 double hashing(h1 + i·h2)으로 구한다.
+ */
+public record BloomFilterSpec(long bitSize, int hashCount) {
+
+    public BloomFilterSpec {
+        if (bitSize <= 0) {
+            throw new IllegalArgumentException("bitSize must be positive");
+        }
+        if (hashCount <= 0) {
+            throw new IllegalArgumentException("hashCount must be positive");
+        }
+    }
+
+    public static BloomFilterSpec of(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be in (0, 1)");
+        }
+
+        double ln2 = Math.log(2);
+        long bitSize = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * ln2));
+        return new BloomFilterSpec(bitSize, hashCount);
+    }
+
+    /**
+     * 항목이 차지하는 비트 위치 k개
+     */
+    public long[] offsets(String item) {
+        long[] hash = MurmurHash3.hash128x64(item.getBytes(StandardCharsets.UTF_8));
+        long[] offsets = new long[hashCount];
+        for (int i = 0; i < hashCount; i++) {
+            offsets[i] = Math.floorMod(hash[0] + i * hash[1], bitSize);
+        }
+        return offsets;
+    }
+
+    /**
+     * 비트맵 하나가 차지하는 최대 바이트 수
+     */
+    public long sizeInBytes() {
+        return (bitSize + 7) / 8;
+    }
+}
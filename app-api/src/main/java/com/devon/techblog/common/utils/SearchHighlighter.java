@@ -0,0 +1,108 @@
+package com.devon.techblog.common.utils;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * 검색 결과 하이라이트
+ *
+ * 원문에서 검색어와 일치하는 부분을 찾아 <mark> 태그로 감싸고, 나머지는 HTML 이스케이프한다.
+ * 본문은 마크다운 문법을 걷어낸 뒤 첫 일치 위치 주변만 잘라 스니펫으로 만든다.
+ */
+public class SearchHighlighter {
+
+    private static final String PRE_TAG = "<mark>";
+    private static final String POST_TAG = "</mark>";
+    private static final String ELLIPSIS = "...";
+
+    private static final Pattern MARKDOWN_IMAGE = Pattern.compile("!\\[[^\\]]*]\\([^)]*\\)");
+    private static final Pattern MARKDOWN_LINK = Pattern.compile("\\[([^\\]]*)]\\([^)]*\\)");
+    private static final Pattern MARKDOWN_SYNTAX = Pattern.compile("[#>*_`~|]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public static String highlight(String text, List<String> terms) {
+        if (text == null || text.isEmpty()) {
+            return text;
+        }
+
+        Pattern pattern = termPattern(terms);
+        if (pattern == null) {
+            return HtmlUtils.htmlEscape(text);
+        }
+
+        // 원문에서 일치 위치를 찾고, 일치 구간과 그 사이 구간을 각각 이스케이프한다.
+        // 이스케이프한 뒤에 찾으면 "amp", "lt" 같은 검색어가 엔티티 안에 일치해 마크업이 깨진다.
+        StringBuilder result = new StringBuilder(text.length() + 16);
+        Matcher matcher = pattern.matcher(text);
+        int last = 0;
+        while (matcher.find()) {
+            result.append(HtmlUtils.htmlEscape(text.substring(last, matcher.start())))
+                    .append(PRE_TAG)
+                    .append(HtmlUtils.htmlEscape(matcher.group()))
+                    .append(POST_TAG);
+            last = matcher.end();
+        }
+        result.append(HtmlUtils.htmlEscape(text.substring(last)));
+        return result.toString();
+    }
+
+    /**
+     * 본문에서 첫 일치 위치 앞뒤로 length자를 잘라 하이라이트한 스니펫
+     * 일치하는 부분이 없으면(제목에만 일치한 경우 등) 본문 앞부분을 사용한다.
+     */
+    public static String snippet(String content, List<String> terms, int length) {
+        if (content == null || content.isBlank()) {
+            return "";
+        }
+
+        String plain = toPlainText(content);
+        int matchIndex = firstMatchIndex(plain, terms);
+        int start = matchIndex > 0 ? Math.max(0, matchIndex - length / 4) : 0;
+        int end = Math.min(plain.length(), start + length);
+
+        String fragment = plain.substring(start, end);
+        return (start > 0 ? ELLIPSIS : "")
+                + highlight(fragment, terms)
+                + (end < plain.length() ? ELLIPSIS : "");
+    }
+
+    private static String toPlainText(String markdown) {
+        String text = MARKDOWN_IMAGE.matcher(markdown).replaceAll(" ");
+        text = MARKDOWN_LINK.matcher(text).replaceAll("$1");
+        text = MARKDOWN_SYNTAX.matcher(text).replaceAll(" ");
+        return WHITESPACE.matcher(text).replaceAll(" ").trim();
+    }
+
+    private static int firstMatchIndex(String text, List<String> terms) {
+        Pattern pattern = termPattern(terms);
+        if (pattern == null) {
+            return -1;
+        }
+
+        Matcher matcher = pattern.matcher(text);
+        return matcher.find() ? matcher.start() : -1;
+    }
+
+    /**
+     * 긴 검색어가 먼저 일치하도록 길이 역순으로 정렬한 대소문자 무시 패턴
+     */
+    private static Pattern termPattern(List<String> terms) {
+        if (terms == null || terms.isEmpty()) {
+            return null;
+        }
+
+        String alternation = terms.stream()
+                .filter(term -> term != null && !term.isBlank())
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .map(Pattern::quote)
+                .collect(Collectors.joining("|"));
+        if (alternation.isEmpty()) {
+            return null;
+        }
+        return Pattern.compile(alternation, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    }
+}
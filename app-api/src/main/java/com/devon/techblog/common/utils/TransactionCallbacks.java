@@ -0,0 +1,57 @@
+package com.devon.techblog.common.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 결과에 맞춰 캐시·색인 갱신을 실행하는 헬퍼
+ *
+ * 트랜잭션 동기화가 없으면(트랜잭션 밖) 바로 실행한다.
+ */
+public class TransactionCallbacks {
+
+    /**
+     * 트랜잭션 안이면 커밋 후에, 밖이면 바로 실행 (롤백되면 실행하지 않음)
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    /**
+     * 지금 실행하고, 트랜잭션 안이면 커밋 후에 한 번 더 실행
+     * 캐시 무효화용 - 커밋 전에 다른 요청이 옛 값을 다시 채워도 커밋 후에 지운다.
+     */
+    public static void nowAndAfterCommit(Runnable action) {
+        action.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            afterCommit(action);
+        }
+    }
+
+    /**
+     * 트랜잭션 안이고 커밋되지 않고 끝나면(롤백 등) 실행
+     */
+    public static void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
@@ -1,6 +1,7 @@
 package com.devon.techblog.domain.comment.repository;
 
 import com.devon.techblog.domain.comment.dto.CommentQueryDto;
+import com.devon.techblog.domain.common.repository.count.CountMode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -9,7 +10,15 @@ public interface CommentQueryRepository {
     /**
      * 특정 게시글의 댓글 목록 조회 (Projection 사용 - 필요한 필드만)
      * fetch join 대신 필요한 컬럼만 SELECT하여 N+1 문제 해결 및 성능 최적화
+     * 전체 건수는 countMode에 따라 계산한다. (게시글 조건이 있으므로 ESTIMATED는 CACHED로 동작)
      */
-    Page<CommentQueryDto> findByPostIdWithMemberAsDto(Long postId, Pageable pageable);
+    Page<CommentQueryDto> findByPostIdWithMemberAsDto(Long postId, Pageable pageable, CountMode countMode);
+
+    /**
+     * 게시글별 댓글 수 캐시 키
+     */
+    static String countCacheKey(Long postId) {
+        return "comment:post:" + postId;
+    }
 
 }
@@ -10,12 +10,14 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.devon.techblog.domain.comment.dto.CommentQueryDto;
 import com.devon.techblog.domain.comment.repository.CommentQueryRepository;
 import com.devon.techblog.domain.common.repository.QueryDslOrderUtil;
+import com.devon.techblog.domain.common.repository.count.CountMode;
+import com.devon.techblog.domain.common.repository.count.CountQuery;
+import com.devon.techblog.domain.common.repository.count.TotalCountResolver;
 import java.util.List;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -23,6 +25,7 @@ import org.springframework.stereotype.Repository;
 public class CommentRepositoryImpl implements CommentQueryRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final TotalCountResolver totalCountResolver;
 
     // 허용된 정렬 필드 (화이트리스트)
     private static final Set<String> ALLOWED_SORT_FIELDS = Set.of(
@@ -33,7 +36,7 @@ public class CommentRepositoryImpl implements CommentQueryRepository {
     );
 
     @Override
-    public Page<CommentQueryDto> findByPostIdWithMemberAsDto(Long postId, Pageable pageable) {
+    public Page<CommentQueryDto> findByPostIdWithMemberAsDto(Long postId, Pageable pageable, CountMode countMode) {
         OrderSpecifier<?>[] orders = QueryDslOrderUtil.getOrderSpecifiersWithDefault(
                 pageable,
                 comment,
@@ -65,7 +68,8 @@ public class CommentRepositoryImpl implements CommentQueryRepository {
                 .from(comment)
                 .where(comment.post.id.eq(postId));
 
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        return totalCountResolver.page(content, pageable, countMode,
+                CountQuery.of(CommentQueryRepository.countCacheKey(postId), countQuery::fetchOne));
     }
 
 }
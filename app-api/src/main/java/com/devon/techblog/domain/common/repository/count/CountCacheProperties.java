@@ -0,0 +1,39 @@
+package com.devon.techblog.domain.common.repository.count;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 목록 조회 전체 건수 계산 설정
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "pagination.count")
+public class CountCacheProperties {
+
+    /**
+     * CACHED 모드의 조건별 건수 캐시 TTL (기본값 30초)
+     * 증감분이 반영되지 않는 조건(태그 필터 등)의 오차가 유지되는 최대 시간이다.
+     */
+    @NotNull
+    private Duration ttl = Duration.ofSeconds(30);
+
+    /**
+     * 게시글 목록 건수 계산 방식 (기본값 CACHED)
+     */
+    @NotNull
+    private CountMode postList = CountMode.CACHED;
+
+    /**
+     * 댓글 목록 건수 계산 방식 (기본값 CACHED)
+     */
+    @NotNull
+    private CountMode commentList = CountMode.CACHED;
+}
@@ -0,0 +1,27 @@
+package com.devon.techblog.domain.common.repository.count;
+
+/**
+ * 페이지 전체 건수(total) 계산 방식
+ */
+public enum CountMode {
+
+    /**
+     * 매 요청 COUNT(*) 실행 - 항상 정확하지만 조건에 맞는 행을 모두 스캔한다.
+     */
+    EXACT,
+
+    /**
+     * 조건별 건수를 짧은 TTL로 캐시하고, 생성/삭제 시 증감분을 반영한다.
+     * 캐시 미스일 때만 COUNT(*)를 실행한다.
+     */
+    CACHED,
+
+    /**
+     * InnoDB 통계의 테이블 행 수 추정치 사용 - 조건 없는 전체 목록에만 적용되고,
+     * 조건이 있거나 통계를 읽을 수 없으면 CACHED로 대체한다.
+     *
+     * TABLE_ROWS는 샘플링 통계라 실제 행 수와 수십 %까지 차이날 수 있고, 소프트 삭제된 행도 포함한다.
+     * 삭제 비율이 높을수록 실제보다 크게 나오므로, 총 페이지 수를 대략 보여줘도 되는 목록에만 사용한다.
+     */
+    ESTIMATED
+}
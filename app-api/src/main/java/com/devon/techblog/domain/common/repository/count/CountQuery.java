@@ -0,0 +1,24 @@
+package com.devon.techblog.domain.common.repository.count;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 전체 건수 계산에 필요한 정보
+ *
+ * @param cacheKey 조건별 캐시 키 (CACHED)
+ * @param estimateTable 추정치를 읽을 테이블명 - 조건 없는 전체 목록일 때만 지정 (ESTIMATED)
+ * @param exactCount 정확한 COUNT 쿼리 (EXACT, 캐시 미스)
+ */
+public record CountQuery(
+        String cacheKey,
+        String estimateTable,
+        LongSupplier exactCount
+) {
+    public static CountQuery of(String cacheKey, LongSupplier exactCount) {
+        return new CountQuery(cacheKey, null, exactCount);
+    }
+
+    public static CountQuery estimable(String cacheKey, String estimateTable, LongSupplier exactCount) {
+        return new CountQuery(cacheKey, estimateTable, exactCount);
+    }
+}
@@ -0,0 +1,103 @@
+package com.devon.techblog.domain.common.repository.count;
+
+import com.devon.techblog.common.utils.TransactionCallbacks;
+import com.devon.techblog.infra.redis.adapter.RedisService;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목록 조회 전체 건수 계산기
+ *
+ * CountMode에 따라 COUNT(*) 실행, 조건별 캐시(Redis), InnoDB 통계 추정치 중 하나로 total을 구한다.
+ * 캐시나 통계를 사용할 수 없으면 정확한 COUNT로 대체한다.
+ * 추정치는 소프트 삭제된 행까지 세는 근사값이므로(CountMode.ESTIMATED) 현재 페이지까지 확인된 건수보다 작게 내려가지 않도록만 보정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TotalCountResolver {
+
+    private static final String KEY_PREFIX = "count:";
+    private static final String ESTIMATE_SQL =
+            "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+
+    private final RedisService redisService;
+    private final JdbcTemplate jdbcTemplate;
+    private final CountCacheProperties properties;
+
+    /**
+     * content와 전체 건수로 페이지 구성
+     * 첫 페이지가 가득 차지 않았거나 마지막 페이지인 경우처럼 content만으로 total을 알 수 있으면 COUNT를 생략한다.
+     */
+    public <T> CountedPage<T> page(List<T> content, Pageable pageable, CountMode mode, CountQuery query) {
+        if (pageable.isPaged() && content.size() < pageable.getPageSize()
+                && (pageable.getOffset() == 0 || !content.isEmpty())) {
+            return new CountedPage<>(content, pageable, pageable.getOffset() + content.size(), true);
+        }
+
+        return switch (mode) {
+            case EXACT -> new CountedPage<>(content, pageable, query.exactCount().getAsLong(), true);
+            case CACHED -> cached(content, pageable, query);
+            case ESTIMATED -> estimate(query.estimateTable())
+                    .map(total -> new CountedPage<>(content, pageable,
+                            Math.max(total, pageable.getOffset() + content.size()), false))
+                    .orElseGet(() -> cached(content, pageable, query));
+        };
+    }
+
+    /**
+     * 캐시된 건수에 증감분 반영 (트랜잭션 안이면 커밋 후)
+     * 캐시가 없는 조건은 건드리지 않고 다음 조회 때 새로 계산한다.
+     */
+    public void applyDelta(String cacheKey, long delta) {
+        Runnable update = () -> {
+            try {
+                redisService.incrementIfPresent(KEY_PREFIX + cacheKey, delta);
+            } catch (Exception e) {
+                log.warn("건수 캐시 증감 실패 - key={}", cacheKey, e);
+            }
+        };
+
+        TransactionCallbacks.afterCommit(update);
+    }
+
+    private <T> CountedPage<T> cached(List<T> content, Pageable pageable, CountQuery query) {
+        String key = KEY_PREFIX + query.cacheKey();
+        try {
+            Optional<String> cached = redisService.find(key);
+            if (cached.isPresent()) {
+                long total = Math.max(0L, Long.parseLong(cached.get()));
+                return new CountedPage<>(content, pageable, total, false);
+            }
+        } catch (Exception e) {
+            log.warn("건수 캐시 조회 실패 - key={}", key, e);
+        }
+
+        long total = query.exactCount().getAsLong();
+        try {
+            redisService.save(key, String.valueOf(total), properties.getTtl());
+        } catch (Exception e) {
+            log.warn("건수 캐시 저장 실패 - key={}", key, e);
+        }
+        return new CountedPage<>(content, pageable, total, true);
+    }
+
+    private Optional<Long> estimate(String table) {
+        if (table == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.ofNullable(jdbcTemplate.queryForObject(ESTIMATE_SQL, Long.class, table));
+        } catch (DataAccessException e) {
+            log.debug("테이블 행 수 추정치를 읽을 수 없어 CACHED로 대체 - table={}", table, e);
+            return Optional.empty();
+        }
+    }
+}
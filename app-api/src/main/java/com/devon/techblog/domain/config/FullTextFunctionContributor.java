@@ -0,0 +1,28 @@
+package com.devon.techblog.domain.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * MySQL FULLTEXT 검색 함수 등록
+ *
+ * JPQL/QueryDSL에서 function('match_against', 제목, 본문, 질의)로 호출하면
+ * MATCH(제목, 본문) AGAINST (질의 IN BOOLEAN MODE)로 렌더링되어 관련도 점수(0이면 불일치)를 반환한다.
+ * 컬럼 목록은 FULLTEXT 인덱스(ft_post_title_content)의 컬럼 구성과 같아야 인덱스를 사용한다.
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCH_AGAINST,
+                "match(?1, ?2) against (?3 in boolean mode)",
+                functionContributions.getTypeConfiguration()
+                        .getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.DOUBLE)
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package com.devon.techblog.domain.member.dto;
+
+import com.devon.techblog.domain.member.entity.MemberRole;
+import com.devon.techblog.domain.member.entity.MemberStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * 인증에 필요한 회원 정보만 담은 조회 결과 (로그인, 토큰 재발급)
+ * 프로필 JSON 컬럼을 읽지 않도록 엔티티 대신 이 필드만 조회한다.
+ */
+public record MemberAuthSnapshot(
+        Long memberId,
+        String password,
+        MemberRole role,
+        MemberStatus status
+) {
+    @JsonIgnore
+    public boolean isActive() {
+        return status == MemberStatus.ACTIVE;
+    }
+
+    /**
+     * 비밀번호 해시를 뺀 사본 (캐시에 저장할 때 사용)
+     */
+    public MemberAuthSnapshot withoutPassword() {
+        return new MemberAuthSnapshot(memberId, null, role, status);
+    }
+}
@@ -1,10 +1,13 @@
 package com.devon.techblog.domain.member.repository;
 
+import com.devon.techblog.domain.member.dto.MemberAuthSnapshot;
 import com.devon.techblog.domain.member.entity.Member;
 import com.devon.techblog.domain.member.entity.MemberStatus;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
@@ -14,6 +17,20 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByEmail(String email);
 
+    /**
+     * 토큰 재발급용 인증 정보 (프로필 컬럼은 읽지 않는다)
+     */
+    @Query("SELECT new com.devon.techblog.domain.member.dto.MemberAuthSnapshot(m.id, m.password, m.role, m.status) "
+            + "FROM Member m WHERE m.id = :id")
+    Optional<MemberAuthSnapshot> findAuthSnapshotById(@Param("id") Long id);
+
+    /**
+     * 로그인용 인증 정보 (프로필 컬럼은 읽지 않는다)
+     */
+    @Query("SELECT new com.devon.techblog.domain.member.dto.MemberAuthSnapshot(m.id, m.password, m.role, m.status) "
+            + "FROM Member m WHERE m.email = :email")
+    Optional<MemberAuthSnapshot> findAuthSnapshotByEmail(@Param("email") String email);
+
     boolean existsByEmail(String email);
 
     boolean existsByNickname(String nickname);
@@ -0,0 +1,152 @@
+package com.devon.techblog.domain.post.cache;
+
+import com.devon.techblog.common.utils.TransactionCallbacks;
+import com.devon.techblog.domain.post.repository.PostLikeRepository;
+import com.devon.techblog.infra.redis.adapter.RedisService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 좋아요 게시글 ID 캐시 (Redis SET)
+ *
+ * 키 "post-like:member:{memberId}" 에 회원이 좋아요한 게시글 ID를 담는다.
+ * 여러 게시글의 좋아요 여부를 SMISMEMBER 한 번으로 확인하므로, 목록 페이지도 한 번의 왕복으로 처리한다.
+ *
+ * Redis SET은 비어 있으면 존재할 수 없어 "적재됨"을 표시하는 센티넬 멤버를 함께 넣는다.
+ * 조회 시 센티넬도 같이 확인해, 센티넬이 없으면(만료·미적재) DB에서 다시 적재한다.
+ * 좋아요/취소는 적재된 SET에만 SADD/SREM으로 바로 반영하고 롤백되면 SET을 지운다. Redis 장애 시에는 DB를 직접 조회한다.
+ *
+ * DB 조회와 SET 적재 사이에 커밋된 좋아요/취소가 옛 스냅샷에 묻히지 않도록, 좋아요/취소마다 회원별 버전
+ * "post-like:version:{memberId}"를 올린다(지금 한 번, 커밋 후 한 번). 적재는 DB를 읽기 전의 버전이 그대로일 때만
+ * SET을 원자적으로 교체하고, 그 사이 버전이 바뀌었으면 캐시하지 않아 다음 조회 때 다시 적재한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikedPostCache {
+
+    private static final String KEY_PREFIX = "post-like:member:";
+    private static final String VERSION_KEY_PREFIX = "post-like:version:";
+    private static final String LOADED_SENTINEL = "loaded";
+
+    private final RedisService redisService;
+    private final PostLikeRepository postLikeRepository;
+    private final LikedPostCacheProperties properties;
+
+    /**
+     * 회원이 좋아요한 게시글 여부
+     */
+    public boolean isLiked(Long memberId, Long postId) {
+        return likedAmong(memberId, List.of(postId)).contains(postId);
+    }
+
+    /**
+     * postIds 중 회원이 좋아요한 게시글 ID
+     */
+    public Set<Long> likedAmong(Long memberId, Collection<Long> postIds) {
+        if (memberId == null || postIds.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(postIds));
+        String key = KEY_PREFIX + memberId;
+        try {
+            List<String> members = new ArrayList<>(ids.size() + 1);
+            members.add(LOADED_SENTINEL);
+            ids.forEach(id -> members.add(id.toString()));
+
+            List<Boolean> contains = redisService.isSetMembers(key, members);
+            if (!contains.getFirst()) {
+                return load(key, memberId, ids);
+            }
+
+            Set<Long> liked = new HashSet<>();
+            for (int i = 0; i < ids.size(); i++) {
+                if (contains.get(i + 1)) {
+                    liked.add(ids.get(i));
+                }
+            }
+            return liked;
+        } catch (Exception e) {
+            log.warn("좋아요 캐시 조회 실패, DB로 대체 - memberId={}", memberId, e);
+            return new HashSet<>(postLikeRepository.findLikedPostIds(memberId, ids));
+        }
+    }
+
+    /**
+     * 좋아요 반영
+     * 적재된(센티넬이 있는) SET에만 추가한다. 적재 전이면 다음 조회 때 DB에서 함께 적재되므로 건너뛴다.
+     * 그냥 SADD 하면 센티넬도 TTL도 없는 키가 생겨, 그 회원이 조회하지 않는 한 Redis에 계속 남는다.
+     */
+    public void onLiked(Long memberId, Long postId) {
+        update(memberId, key -> redisService.addToSetIfMember(key, LOADED_SENTINEL, List.of(postId.toString())));
+    }
+
+    /**
+     * 좋아요 취소 반영
+     */
+    public void onUnliked(Long memberId, Long postId) {
+        update(memberId, key -> redisService.removeFromSet(key, List.of(postId.toString())));
+    }
+
+    /**
+     * 회원의 SET 삭제 - 다음 조회 때 DB에서 다시 적재한다.
+     */
+    public void evict(Long memberId) {
+        invalidate(KEY_PREFIX + memberId);
+    }
+
+    /**
+     * 회원의 좋아요 게시글 전체를 DB에서 읽어 SET에 적재하고, 요청한 게시글 중 좋아요한 것을 반환
+     */
+    private Set<Long> load(String key, Long memberId, List<Long> ids) {
+        String versionKey = VERSION_KEY_PREFIX + memberId;
+        String version = redisService.find(versionKey).orElse("");
+        List<Long> likedPostIds = postLikeRepository.findPostIdsByMemberId(memberId);
+
+        List<String> members = new ArrayList<>(likedPostIds.size() + 1);
+        likedPostIds.forEach(id -> members.add(id.toString()));
+        members.add(LOADED_SENTINEL);
+        if (!redisService.replaceSetIfEquals(key, members, properties.getTtl(), versionKey, version)) {
+            log.debug("적재 중 좋아요가 바뀌어 캐시하지 않음 - memberId={}", memberId);
+        }
+
+        Set<Long> liked = new HashSet<>(likedPostIds);
+        liked.retainAll(ids);
+        return liked;
+    }
+
+    /**
+     * 버전을 올리고 캐시를 갱신한다. 트랜잭션 안이면 커밋 후에 한 번 더 반영해, 커밋 전에 옛 DB를 읽은 적재가 있었어도 바로잡는다.
+     * 롤백되거나 갱신에 실패하면 SET을 지워 다음 조회 때 DB에서 다시 적재되도록 한다.
+     */
+    private void update(Long memberId, Consumer<String> update) {
+        String key = KEY_PREFIX + memberId;
+        TransactionCallbacks.nowAndAfterCommit(() -> {
+            try {
+                redisService.incrementWithTtl(VERSION_KEY_PREFIX + memberId, properties.getTtl());
+                update.accept(key);
+            } catch (Exception e) {
+                log.error("좋아요 캐시 갱신 실패 - memberId={}", memberId, e);
+                invalidate(key);
+            }
+        });
+        TransactionCallbacks.afterRollback(() -> invalidate(key));
+    }
+
+    private void invalidate(String key) {
+        try {
+            redisService.delete(key);
+        } catch (Exception e) {
+            log.warn("좋아요 캐시 삭제 실패, TTL 만료에 맡김 - key={}", key, e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.devon.techblog.domain.post.cache;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 회원별 좋아요 게시글 캐시 설정
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "post.like-cache")
+public class LikedPostCacheProperties {
+
+    /**
+     * 회원별 좋아요 SET의 TTL (기본값 1시간)
+     * 마지막 적재 이후 이 시간 동안 조회가 없던 회원의 SET은 만료되고, 다음 조회 때 DB에서 다시 적재한다.
+     */
+    @NotNull
+    private Duration ttl = Duration.ofHours(1);
+}
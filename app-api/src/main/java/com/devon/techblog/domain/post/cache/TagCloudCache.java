@@ -0,0 +1,108 @@
+package com.devon.techblog.domain.post.cache;
+
+import com.devon.techblog.common.utils.TransactionCallbacks;
+import com.devon.techblog.domain.post.dto.TagUsage;
+import com.devon.techblog.domain.post.repository.TagRepository;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인기 태그(사용 횟수 상위 N개) 로컬 캐시
+ *
+ * 상위 size개 태그를 사용 횟수 내림차순 스냅샷으로 들고 있어, 인기 태그 조회는 DB 없이 앞부분만 잘라 반환한다.
+ * 이 노드에서 일어난 사용 횟수 증감은 커밋 후 스냅샷에 바로 반영하고(스냅샷 밖의 태그는 건너뜀),
+ * 다른 노드의 변경과 새로 상위권에 든 태그는 refreshInterval마다 DB에서 다시 읽어 맞춘다.
+ */
+@Slf4j
+@Component
+public class TagCloudCache {
+
+    private static final Comparator<TagUsage> RANKING =
+            Comparator.comparingLong(TagUsage::usageCount).reversed().thenComparing(TagUsage::id);
+
+    private final TagRepository tagRepository;
+    private final TagCloudCacheProperties properties;
+    private volatile List<TagUsage> ranking;
+
+    public TagCloudCache(TagRepository tagRepository, TagCloudCacheProperties properties) {
+        this.tagRepository = tagRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * 사용 횟수 상위 limit개 태그
+     * limit이 캐시 크기보다 크면 DB에서 조회한다.
+     */
+    public List<TagUsage> top(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        if (limit > properties.getSize()) {
+            return tagRepository.findTopByUsageCount(limit);
+        }
+
+        List<TagUsage> snapshot = ranking != null ? ranking : refresh();
+        return snapshot.subList(0, Math.min(limit, snapshot.size()));
+    }
+
+    /**
+     * 태그 사용 횟수 증감을 스냅샷에 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void applyDelta(Collection<Long> tagIds, long delta) {
+        if (tagIds.isEmpty()) {
+            return;
+        }
+
+        TransactionCallbacks.afterCommit(() -> update(tagIds, delta));
+    }
+
+    /**
+     * DB에서 상위 태그를 다시 읽어 스냅샷 교체
+     */
+    public synchronized List<TagUsage> refresh() {
+        ranking = List.copyOf(tagRepository.findTopByUsageCount(properties.getSize()));
+        return ranking;
+    }
+
+    @Scheduled(fixedDelayString = "#{@tagCloudCacheProperties.refreshInterval.toMillis()}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("인기 태그 캐시 갱신 실패, 기존 스냅샷 유지", e);
+        }
+    }
+
+    /**
+     * 스냅샷에 있는 태그만 증감하고 다시 정렬한다 (최대 size개라 정렬 비용은 작다).
+     * 사용 횟수는 DB와 같이 0 아래로 내려가지 않는다.
+     */
+    private synchronized void update(Collection<Long> tagIds, long delta) {
+        List<TagUsage> snapshot = ranking;
+        if (snapshot == null) {
+            return;
+        }
+
+        Map<Long, TagUsage> byId = snapshot.stream()
+                .collect(Collectors.toMap(TagUsage::id, Function.identity()));
+        boolean changed = false;
+        for (Long tagId : tagIds) {
+            TagUsage usage = byId.get(tagId);
+            if (usage != null) {
+                byId.put(tagId, usage.withUsageCount(Math.max(0L, usage.usageCount() + delta)));
+                changed = true;
+            }
+        }
+
+        if (changed) {
+            ranking = byId.values().stream().sorted(RANKING).toList();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.devon.techblog.domain.post.cache;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 인기 태그 목록 로컬 캐시 설정
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "post.tag-cloud")
+public class TagCloudCacheProperties {
+
+    /**
+     * 메모리에 유지하는 상위 태그 수 (기본값 100)
+     * 이보다 많은 개수를 요청하면 캐시를 거치지 않고 DB에서 조회한다.
+     */
+    @NotNull
+    @Positive
+    @Max(1_000)
+    private Integer size = 100;
+
+    /**
+     * DB에서 상위 태그를 다시 읽는 주기 (기본값 1분)
+     * 다른 노드의 사용 횟수 변경과 새로 상위권에 든 태그는 이 주기만큼 늦게 반영된다.
+     */
+    @NotNull
+    private Duration refreshInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,164 @@
+package com.devon.techblog.domain.post.cache;
+
+import com.devon.techblog.common.utils.TransactionCallbacks;
+import com.devon.techblog.domain.post.entity.Tag;
+import com.devon.techblog.domain.post.repository.TagRepository;
+import com.devon.techblog.infra.redis.adapter.RedisMessageHandler;
+import com.devon.techblog.infra.redis.adapter.RedisService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 태그 이름 <-> ID 사전 (노드 로컬 메모리)
+ *
+ * 태그는 이름이 바뀌거나 삭제되지 않고 수도 적으므로, 기동 시 전체를 적재해 두고 이름 해석을 DB 없이 처리한다.
+ * 조회는 ConcurrentHashMap 읽기라 잠금이 없다.
+ * 이 노드에서 만든 태그는 바로 등록하고 pub/sub으로 다른 노드에 알리며,
+ * 메시지를 놓친 경우에도 사전에 없는 이름은 DB에서 찾아 채운다 (존재하지 않는 이름은 캐시하지 않는다).
+ */
+@Slf4j
+@Component
+public class TagDictionary implements RedisMessageHandler {
+
+    static final String CREATED_CHANNEL = "tag:created";
+    private static final String MESSAGE_DELIMITER = "|";
+
+    private final TagRepository tagRepository;
+    private final RedisService redisService;
+    private final Map<String, Long> idsByName = new ConcurrentHashMap<>();
+    private final Map<Long, String> namesById = new ConcurrentHashMap<>();
+
+    public TagDictionary(TagRepository tagRepository, RedisService redisService) {
+        this.tagRepository = tagRepository;
+        this.redisService = redisService;
+    }
+
+    /**
+     * 기동 시 전체 태그 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            List<Tag> tags = tagRepository.findAll();
+            tags.forEach(tag -> put(tag.getId(), tag.getName()));
+            log.info("태그 사전 적재 완료 - tags={}", tags.size());
+        } catch (Exception e) {
+            log.warn("태그 사전 적재 실패, 조회 시 DB에서 채운다", e);
+        }
+    }
+
+    /**
+     * 태그 이름(정규화된 소문자)별 ID
+     * 존재하지 않는 태그는 결과에 포함되지 않는다. 사전에 없는 이름은 한 번의 IN 쿼리로 조회한다.
+     */
+    public Map<String, Long> resolve(Collection<String> names) {
+        Map<String, Long> resolved = new HashMap<>();
+        Set<String> missing = new HashSet<>();
+        for (String name : names) {
+            Long id = idsByName.get(name);
+            if (id != null) {
+                resolved.put(name, id);
+            } else {
+                missing.add(name);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            tagRepository.findByNameIn(new ArrayList<>(missing)).forEach(tag -> {
+                put(tag.getId(), tag.getName());
+                resolved.put(tag.getName(), tag.getId());
+            });
+        }
+        return resolved;
+    }
+
+    /**
+     * 태그 ID별 이름
+     * 존재하지 않는 태그는 결과에 포함되지 않는다. 사전에 없는 ID는 한 번의 IN 쿼리로 조회한다.
+     */
+    public Map<Long, String> namesOf(Collection<Long> ids) {
+        Map<Long, String> resolved = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+        for (Long id : ids) {
+            String name = namesById.get(id);
+            if (name != null) {
+                resolved.put(id, name);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            tagRepository.findAllById(missing).forEach(tag -> {
+                put(tag.getId(), tag.getName());
+                resolved.put(tag.getId(), tag.getName());
+            });
+        }
+        return resolved;
+    }
+
+    /**
+     * 새로 만든 태그 등록 (이 노드 즉시, 다른 노드는 pub/sub)
+     * 트랜잭션 안이면 커밋 후에 등록해, 롤백으로 사라진 태그 ID가 사전에 남거나 다른 노드에 퍼지지 않게 한다.
+     */
+    public void register(Collection<Tag> tags) {
+        TransactionCallbacks.afterCommit(() -> registerNow(tags));
+    }
+
+    private void registerNow(Collection<Tag> tags) {
+        for (Tag tag : tags) {
+            if (put(tag.getId(), tag.getName())) {
+                publish(tag);
+            }
+        }
+    }
+
+    @Override
+    public String channel() {
+        return CREATED_CHANNEL;
+    }
+
+    /**
+     * 다른 노드가 발행한 태그 생성 메시지 처리 ("{id}|{name}")
+     */
+    @Override
+    public void onMessage(String message) {
+        int delimiter = message.indexOf(MESSAGE_DELIMITER);
+        if (delimiter < 0) {
+            log.warn("잘못된 태그 생성 메시지 - message={}", message);
+            return;
+        }
+
+        try {
+            put(Long.valueOf(message.substring(0, delimiter)), message.substring(delimiter + 1));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 태그 생성 메시지 - message={}", message);
+        }
+    }
+
+    /**
+     * @return 처음 등록된 태그면 true
+     */
+    private boolean put(Long id, String name) {
+        namesById.putIfAbsent(id, name);
+        return idsByName.putIfAbsent(name, id) == null;
+    }
+
+    private void publish(Tag tag) {
+        try {
+            redisService.publish(CREATED_CHANNEL, tag.getId() + MESSAGE_DELIMITER + tag.getName());
+        } catch (Exception e) {
+            log.warn("태그 생성 알림 실패, 다른 노드는 조회 시 DB에서 채운다 - tagId={}", tag.getId(), e);
+        }
+    }
+}
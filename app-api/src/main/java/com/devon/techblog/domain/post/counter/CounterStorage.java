@@ -0,0 +1,16 @@
+package com.devon.techblog.domain.post.counter;
+
+/**
+ * 게시글 카운터 저장 방식
+ */
+public enum CounterStorage {
+
+    /** post 테이블 컬럼을 요청마다 UPDATE */
+    COLUMN,
+
+    /**
+     * post_counter_shard의 슬롯 중 하나에 증감분을 upsert 하고, 읽을 때 컬럼 + 슬롯 합계를 사용
+     * 인기 게시글에 쓰기가 몰려도 post 행 잠금을 기다리지 않는다.
+     */
+    SHARDED
+}
@@ -0,0 +1,63 @@
+package com.devon.techblog.domain.post.counter;
+
+import com.devon.techblog.domain.post.entity.PostCounterType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 게시글 카운터 저장 방식 설정
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "post.counter")
+public class PostCounterProperties {
+
+    /**
+     * 카운터 종류별 저장 방식 (지정하지 않은 종류는 COLUMN)
+     */
+    @NotNull
+    private Map<PostCounterType, CounterStorage> storage = new EnumMap<>(PostCounterType.class);
+
+    /**
+     * 게시글당 슬롯 수 (기본값 16) - 동시에 쓸 수 있는 최대 트랜잭션 수에 해당한다.
+     */
+    @NotNull
+    @Positive
+    @Max(1024)
+    private Integer slots = 16;
+
+    /**
+     * 슬롯 합계 로컬 캐시 TTL (기본값 5초) - 다른 노드에서 반영된 증감은 이 시간만큼 늦게 보인다.
+     */
+    @NotNull
+    private Duration sumCacheTtl = Duration.ofSeconds(5);
+
+    /**
+     * 슬롯 합계 로컬 캐시 최대 항목 수 (기본값 10000)
+     */
+    @NotNull
+    @Positive
+    private Long sumCacheMaximumSize = 10_000L;
+
+    /**
+     * 슬롯을 기준 컬럼으로 접을 때 한 트랜잭션에서 처리할 게시글 수 (기본값 500)
+     */
+    @NotNull
+    @Positive
+    private Integer foldBatchSize = 500;
+
+    public CounterStorage storageOf(PostCounterType type) {
+        return storage.getOrDefault(type, CounterStorage.COLUMN);
+    }
+}
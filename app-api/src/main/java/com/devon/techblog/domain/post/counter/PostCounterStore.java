@@ -0,0 +1,126 @@
+package com.devon.techblog.domain.post.counter;
+
+import com.devon.techblog.common.utils.TransactionCallbacks;
+import com.devon.techblog.domain.post.entity.PostCounterType;
+import com.devon.techblog.domain.post.repository.PostCounterShardRepository;
+import com.devon.techblog.domain.post.repository.PostRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 카운터 증감·조회 (저장 방식은 PostCounterProperties에서 카운터 종류별로 선택)
+ *
+ * SHARDED 방식에서는 post 컬럼을 기준값으로 두고 증감분만 임의의 슬롯에 쌓는다.
+ * 따라서 COLUMN에서 SHARDED로 바꿀 때 옮길 데이터가 없고, 읽을 때 컬럼 + 슬롯 합계(로컬 캐시)를 사용한다.
+ * SHARDED에서 COLUMN으로 되돌리거나 슬롯이 쌓인 게시글을 정리할 때는 fold()로 슬롯 합계를 컬럼에 접는다.
+ */
+@Slf4j
+@Component
+public class PostCounterStore {
+
+    private final PostRepository postRepository;
+    private final PostCounterShardRepository shardRepository;
+    private final PostCounterProperties properties;
+    private final Map<PostCounterType, Cache<Long, Long>> sumCaches = new EnumMap<>(PostCounterType.class);
+
+    public PostCounterStore(
+            PostRepository postRepository,
+            PostCounterShardRepository shardRepository,
+            PostCounterProperties properties
+    ) {
+        this.postRepository = postRepository;
+        this.shardRepository = shardRepository;
+        this.properties = properties;
+        for (PostCounterType type : PostCounterType.values()) {
+            sumCaches.put(type, Caffeine.newBuilder()
+                    .maximumSize(properties.getSumCacheMaximumSize())
+                    .expireAfterWrite(properties.getSumCacheTtl())
+                    .build());
+        }
+    }
+
+    public void increment(PostCounterType type, Long postId) {
+        add(type, postId, 1);
+    }
+
+    public void decrement(PostCounterType type, Long postId) {
+        add(type, postId, -1);
+    }
+
+    /**
+     * 게시글 하나의 카운터 값
+     *
+     * @param columnValue 이미 조회한 post 컬럼 값
+     */
+    public long resolve(PostCounterType type, Long postId, long columnValue) {
+        return resolveAll(type, Map.of(postId, columnValue)).get(postId);
+    }
+
+    /**
+     * 여러 게시글의 카운터 값 - 캐시에 없는 게시글의 슬롯 합계는 IN 조회 한 번으로 가져온다.
+     *
+     * @param columnValues 게시글 ID -> 이미 조회한 post 컬럼 값
+     */
+    public Map<Long, Long> resolveAll(PostCounterType type, Map<Long, Long> columnValues) {
+        if (properties.storageOf(type) != CounterStorage.SHARDED || columnValues.isEmpty()) {
+            return columnValues;
+        }
+
+        Map<Long, Long> sums = sumCaches.get(type).getAll(columnValues.keySet(),
+                postIds -> shardRepository.sumByPostIds(type, List.copyOf(postIds)));
+
+        Map<Long, Long> values = new HashMap<>(columnValues.size());
+        columnValues.forEach((postId, columnValue) ->
+                values.put(postId, Math.max(0L, columnValue + sums.getOrDefault(postId, 0L))));
+        return values;
+    }
+
+    /**
+     * 슬롯이 있는 모든 게시글의 슬롯 합계를 post 컬럼에 더하고 슬롯을 지운다.
+     *
+     * @return 접은 게시글 수
+     */
+    public long fold(PostCounterType type) {
+        Cache<Long, Long> cache = sumCaches.get(type);
+        long folded = 0L;
+        long lastPostId = 0L;
+        while (true) {
+            List<Long> postIds = shardRepository.fold(type, lastPostId, properties.getFoldBatchSize());
+            if (postIds.isEmpty()) {
+                break;
+            }
+            cache.invalidateAll(postIds);
+            folded += postIds.size();
+            lastPostId = postIds.getLast();
+        }
+
+        log.info("샤딩 카운터 접기 완료 - type={}, posts={}", type, folded);
+        return folded;
+    }
+
+    private void add(PostCounterType type, Long postId, long delta) {
+        if (properties.storageOf(type) == CounterStorage.SHARDED) {
+            int slot = ThreadLocalRandom.current().nextInt(properties.getSlots());
+            shardRepository.add(type, postId, slot, delta);
+            TransactionCallbacks.afterCommit(() -> sumCaches.get(type).invalidate(postId));
+            return;
+        }
+
+        switch (type) {
+            case COMMENT -> {
+                if (delta > 0) {
+                    postRepository.incrementCommentCount(postId);
+                } else {
+                    postRepository.decrementCommentCount(postId);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.devon.techblog.domain.post.dto;
+
+/**
+ * 비정규화 카운터 한 행의 저장된 값과 원본 테이블에서 다시 센 값
+ */
+public record CounterDrift(
+        Long id,
+        long stored,
+        long actual
+) {
+
+    public boolean drifted() {
+        return stored != actual;
+    }
+
+    public long magnitude() {
+        return Math.abs(actual - stored);
+    }
+}
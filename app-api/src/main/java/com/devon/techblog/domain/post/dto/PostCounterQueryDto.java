@@ -0,0 +1,16 @@
+package com.devon.techblog.domain.post.dto;
+
+/**
+ * 게시글 실시간 카운터 Projection DTO
+ * 상세 조회 캐시와 달리 매 요청마다 조회하는 값만 담는다.
+ */
+public record PostCounterQueryDto(
+        Long viewsCount,
+        Long likeCount,
+        Long commentCount
+) {
+
+    public PostCounterQueryDto withCommentCount(Long commentCount) {
+        return new PostCounterQueryDto(viewsCount, likeCount, commentCount);
+    }
+}
@@ -0,0 +1,112 @@
+package com.devon.techblog.domain.post.dto;
+
+import com.devon.techblog.common.exception.BusinessException;
+import com.devon.techblog.common.exception.code.PostErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * 게시글 키셋(커서) 페이지네이션 위치
+ *
+ * 정렬 키 하나와 id(동률 처리용)로 마지막으로 읽은 행을 가리킨다.
+ * 클라이언트에는 encode()로 만든 불투명 토큰만 전달하며, 정렬 기준도 토큰에 포함해
+ * 이어지는 페이지가 같은 순서를 유지하도록 한다.
+ *
+ * @param sortField 정렬 키 (SORT_FIELDS 중 하나)
+ * @param ascending 오름차순 여부
+ * @param lastValue 마지막 행의 정렬 키 값 (첫 페이지는 null)
+ * @param lastId 마지막 행의 id (첫 페이지는 null)
+ */
+public record PostCursor(
+        String sortField,
+        boolean ascending,
+        String lastValue,
+        Long lastId
+) {
+
+    public static final String DEFAULT_SORT_FIELD = "createdAt";
+
+    // 키셋 정렬이 가능한 필드 (목록 조회 결과에 값이 포함된 필드만 허용)
+    public static final Set<String> SORT_FIELDS = Set.of(
+            "id",
+            "title",
+            "viewsCount",
+            "likeCount",
+            "createdAt"
+    );
+
+    private static final String DELIMITER = "|";
+
+    public PostCursor {
+        if (sortField == null || !SORT_FIELDS.contains(sortField)) {
+            sortField = DEFAULT_SORT_FIELD;
+            ascending = false;
+        }
+    }
+
+    public static PostCursor first(String sortField, boolean ascending) {
+        return new PostCursor(sortField, ascending, null, null);
+    }
+
+    public boolean isFirst() {
+        return lastId == null;
+    }
+
+    /**
+     * 주어진 행 다음부터 읽는 커서
+     */
+    public PostCursor next(PostSummaryQueryDto last) {
+        String value = switch (sortField) {
+            case "id" -> String.valueOf(last.postId());
+            case "title" -> last.title();
+            case "viewsCount" -> String.valueOf(last.viewsCount());
+            case "likeCount" -> String.valueOf(last.likeCount());
+            default -> last.createdAt().toString();
+        };
+        return new PostCursor(sortField, ascending, value, last.postId());
+    }
+
+    public Long lastValueAsLong() {
+        return Long.valueOf(lastValue);
+    }
+
+    public Instant lastValueAsInstant() {
+        return Instant.parse(lastValue);
+    }
+
+    /**
+     * 불투명 토큰으로 인코딩 (정렬키|방향|id|값, Base64 URL-safe)
+     * 값(제목 등)에 구분자가 포함될 수 있어 값은 항상 마지막에 둔다.
+     */
+    public String encode() {
+        String raw = sortField + DELIMITER + (ascending ? "asc" : "desc") + DELIMITER + lastId + DELIMITER + lastValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4 || !SORT_FIELDS.contains(parts[0])) {
+                throw new BusinessException(PostErrorCode.INVALID_CURSOR);
+            }
+            PostCursor cursor = new PostCursor(parts[0], "asc".equals(parts[1]), parts[3], Long.valueOf(parts[2]));
+            cursor.validateLastValue();
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(PostErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    private void validateLastValue() {
+        switch (sortField) {
+            case "id", "viewsCount", "likeCount" -> lastValueAsLong();
+            case "createdAt" -> lastValueAsInstant();
+            default -> {
+            }
+        }
+    }
+}
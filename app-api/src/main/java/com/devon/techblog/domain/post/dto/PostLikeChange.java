@@ -0,0 +1,11 @@
+package com.devon.techblog.domain.post.dto;
+
+/**
+ * 좋아요 원장의 (게시글, 회원) 최종 상태 - DB에 반영할 변경분
+ */
+public record PostLikeChange(
+        Long postId,
+        Long memberId,
+        boolean liked
+) {
+}
@@ -1,24 +1,54 @@
 package com.devon.techblog.domain.post.dto;
 
+import com.devon.techblog.domain.post.entity.Tag;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import org.springframework.util.DigestUtils;
 
 public record PostSearchCondition(
         String keyword,
         Long memberId,
-        List<String> tags
+        List<String> tags,
+        TagMatch tagMatch
 ) {
 
     public PostSearchCondition {
         keyword = normalizeKeyword(keyword);
         tags = normalizeTags(tags);
+        tagMatch = tagMatch != null ? tagMatch : TagMatch.ANY;
     }
 
     public static PostSearchCondition empty() {
-        return new PostSearchCondition(null, null, null);
+        return new PostSearchCondition(null, null, null, null);
     }
 
     public static PostSearchCondition forTags(List<String> tags) {
-        return new PostSearchCondition(null, null, tags);
+        return forTags(tags, TagMatch.ANY);
+    }
+
+    public static PostSearchCondition forTags(List<String> tags, TagMatch tagMatch) {
+        return new PostSearchCondition(null, null, tags, tagMatch);
+    }
+
+    public static PostSearchCondition forKeyword(String keyword) {
+        return new PostSearchCondition(keyword, null, null, null);
+    }
+
+    /**
+     * 조건이 없는 전체 목록 여부
+     */
+    public boolean isUnfiltered() {
+        return keyword == null && memberId == null && tags == null;
+    }
+
+    /**
+     * 전체 건수 캐시 키 - 같은 조건이면 태그 순서와 관계없이 같은 키가 된다.
+     */
+    public String countCacheKey() {
+        String canonical = "k=" + keyword
+                + "|m=" + memberId
+                + "|t=" + (tags == null ? null : tags.stream().sorted().toList() + ":" + tagMatch);
+        return "post:" + DigestUtils.md5DigestAsHex(canonical.getBytes(StandardCharsets.UTF_8));
     }
 
     private static String normalizeKeyword(String keyword) {
@@ -30,11 +60,19 @@ public record PostSearchCondition(
         return trimmed.isEmpty() ? null : trimmed;
     }
 
+    /**
+     * 태그 이름은 저장 시와 같이 소문자로 정규화하고 중복을 제거한다.
+     */
     private static List<String> normalizeTags(List<String> tags) {
-        if (tags == null || tags.isEmpty()) {
+        if (tags == null) {
             return null;
         }
 
-        return List.copyOf(tags);
+        List<String> normalized = tags.stream()
+                .filter(tag -> tag != null && !tag.isBlank())
+                .map(Tag::normalizeName)
+                .distinct()
+                .toList();
+        return normalized.isEmpty() ? null : normalized;
     }
 }
@@ -0,0 +1,11 @@
+package com.devon.techblog.domain.post.dto;
+
+/**
+ * 키워드 검색 결과 한 건
+ * 하이라이트 스니펫을 만들 수 있도록 요약 정보와 함께 본문을 담는다.
+ */
+public record PostSearchHit(
+        PostSummaryQueryDto summary,
+        String content
+) {
+}
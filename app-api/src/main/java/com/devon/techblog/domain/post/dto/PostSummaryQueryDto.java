@@ -19,4 +19,9 @@ public record PostSummaryQueryDto(
         String summary,
         String thumbnail
 ) {
+
+    public PostSummaryQueryDto withCommentCount(Long commentCount) {
+        return new PostSummaryQueryDto(postId, title, createdAt, viewsCount, likeCount, commentCount,
+                memberId, memberNickname, memberProfileImageUrl, summary, thumbnail);
+    }
 }
@@ -0,0 +1,13 @@
+package com.devon.techblog.domain.post.dto;
+
+import java.time.Instant;
+
+/**
+ * 태그 역색인 재구성용 (게시글, 태그, 작성 시각) 행
+ */
+public record PostTagIndexEntry(
+        Long postId,
+        Long tagId,
+        Instant createdAt
+) {
+}
@@ -0,0 +1,9 @@
+package com.devon.techblog.domain.post.dto;
+
+/**
+ * 시리즈 목차 항목 (시리즈 내 순서대로 조회)
+ */
+public record SeriesPostEntry(
+        Long postId,
+        String title
+) {}
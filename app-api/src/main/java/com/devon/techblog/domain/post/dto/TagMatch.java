@@ -0,0 +1,30 @@
+package com.devon.techblog.domain.post.dto;
+
+import com.devon.techblog.common.exception.BusinessException;
+import com.devon.techblog.common.exception.code.PostErrorCode;
+import java.util.Locale;
+
+/**
+ * 태그 필터 조건 결합 방식
+ */
+public enum TagMatch {
+    /** 태그 중 하나라도 달린 게시글 (OR) */
+    ANY,
+    /** 모든 태그가 달린 게시글 (AND) */
+    ALL;
+
+    /**
+     * 요청 파라미터 값(any / all, 대소문자 무관) 변환, 없으면 ANY
+     * 알 수 없는 값을 ANY로 처리하면 오타(alll 등)가 조용히 OR 조건이 되므로 INVALID_TAG_MATCH로 거부한다.
+     */
+    public static TagMatch from(String value) {
+        if (value == null || value.isBlank()) {
+            return ANY;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(PostErrorCode.INVALID_TAG_MATCH);
+        }
+    }
+}
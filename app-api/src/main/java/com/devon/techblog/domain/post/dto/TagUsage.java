@@ -0,0 +1,14 @@
+package com.devon.techblog.domain.post.dto;
+
+/**
+ * 태그 사용 횟수 (인기 태그 목록용)
+ */
+public record TagUsage(
+        Long id,
+        String name,
+        long usageCount
+) {
+    public TagUsage withUsageCount(long usageCount) {
+        return new TagUsage(id, name, usageCount);
+    }
+}
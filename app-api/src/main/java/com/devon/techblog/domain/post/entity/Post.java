@@ -67,6 +67,9 @@ public class Post extends BaseTimeEntity {
     @JoinColumn(name = "series_id")
     private Series series;
 
+    @Column(name = "series_order")
+    private Integer seriesOrder;
+
     @Column(name = "visibility", length = 20)
     private String visibility;
 
@@ -165,8 +168,21 @@ public class Post extends BaseTimeEntity {
         this.series = series;
     }
 
+    /**
+     * 시리즈에 편입하며 시리즈 내 순서를 함께 지정한다.
+     */
+    public void moveToSeries(Series series, int seriesOrder) {
+        Assert.notNull(series, "series required");
+        if (seriesOrder < 1) {
+            throw new IllegalArgumentException("series order must be positive");
+        }
+        this.series = series;
+        this.seriesOrder = seriesOrder;
+    }
+
     public void removeSeries() {
         this.series = null;
+        this.seriesOrder = null;
     }
 
     public void updateVisibility(String visibility) {
@@ -0,0 +1,41 @@
+package com.devon.techblog.domain.post.entity;
+
+import com.devon.techblog.domain.post.entity.id.PostCounterShardId;
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * 게시글 샤딩 카운터의 슬롯 하나
+ *
+ * 실제 카운터 값은 post의 기준 컬럼 + 모든 슬롯 amount의 합이다.
+ * 쓰기는 PostCounterShardRepository의 upsert로만 하며, 이 엔티티는 스키마 매핑용이다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "post_counter_shard")
+public class PostCounterShard {
+
+    @EmbeddedId
+    private PostCounterShardId id;
+
+    @MapsId("postId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Post post;
+
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+}
@@ -0,0 +1,22 @@
+package com.devon.techblog.domain.post.entity;
+
+/**
+ * 샤딩 저장을 지원하는 게시글 카운터 종류
+ */
+public enum PostCounterType {
+
+    COMMENT("comment_count");
+
+    private final String column;
+
+    PostCounterType(String column) {
+        this.column = column;
+    }
+
+    /**
+     * 기준값이 저장된 post 테이블 컬럼
+     */
+    public String column() {
+        return column;
+    }
+}
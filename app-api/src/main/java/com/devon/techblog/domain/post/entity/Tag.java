@@ -7,6 +7,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import java.util.Locale;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -39,8 +40,16 @@ public class Tag extends BaseTimeEntity {
         }
 
         return Tag.builder()
-                .name(name.trim().toLowerCase())
+                .name(normalizeName(name))
                 .usageCount(0L)
                 .build();
     }
+
+    /**
+     * 태그 이름 정규화 (앞뒤 공백 제거 후 소문자)
+     * 저장과 조회, 태그 필터가 모두 같은 규칙을 써야 같은 태그로 취급된다.
+     */
+    public static String normalizeName(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
 }
@@ -0,0 +1,45 @@
+package com.devon.techblog.domain.post.entity.id;
+
+import com.devon.techblog.domain.post.entity.PostCounterType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import java.io.Serializable;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostCounterShardId implements Serializable {
+
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "counter_type", length = 20)
+    private PostCounterType counterType;
+
+    @Column(name = "slot")
+    private Integer slot;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PostCounterShardId)) return false;
+
+        PostCounterShardId that = (PostCounterShardId) o;
+        return Objects.equals(postId, that.postId) &&
+                counterType == that.counterType &&
+                Objects.equals(slot, that.slot);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(postId, counterType, slot);
+    }
+}
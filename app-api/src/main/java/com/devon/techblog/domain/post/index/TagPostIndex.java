@@ -0,0 +1,329 @@
+package com.devon.techblog.domain.post.index;
+
+import com.devon.techblog.common.exception.BusinessException;
+import com.devon.techblog.common.exception.code.PostErrorCode;
+import com.devon.techblog.common.utils.TransactionCallbacks;
+import com.devon.techblog.domain.post.cache.TagDictionary;
+import com.devon.techblog.domain.post.dto.PostTagIndexEntry;
+import com.devon.techblog.domain.post.dto.TagMatch;
+import com.devon.techblog.domain.post.repository.PostTagRepository;
+import com.devon.techblog.domain.post.repository.TagRepository;
+import com.devon.techblog.infra.redis.adapter.RedisService;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * 태그별 게시글 역색인 (Redis ZSET)
+ *
+ * 키 "tag-index:tag:{tagId}" 에 태그가 달린 게시글 ID를 작성 시각(epoch millis) 점수로 담아,
+ * 태그 필터 최신순 목록을 DB 대신 ZREVRANGE로 읽는다.
+ * 여러 태그는 ZUNIONSTORE(ANY) / ZINTERSTORE(ALL)로 합친 결과를 짧은 TTL 동안 재사용한다.
+ *
+ * 게시글 작성·태그 수정·삭제 시 커밋 후 ZADD/ZREM으로 갱신한다.
+ * DB에서 전체를 다시 적재(rebuild)해야 준비 표시 키가 생기고, 표시가 없으면 조회는 DB로 대체된다.
+ * 갱신에 실패하면 색인이 DB와 어긋났을 수 있으므로 준비 표시를 지워 재구성 전까지 DB를 사용한다.
+ *
+ * 재구성은 임시 키 "tag-index:build:{tagId}"에 적재한 뒤 RENAME으로 교체하므로, 그동안 기존 색인은 그대로 조회된다.
+ * 재구성 중의 갱신은 기존 키에 반영하면서 (게시글, 태그)를 "tag-index:rebuild:dirty" SET에 기록하고,
+ * 적재가 끝나면(교체 전후 한 번씩) 기록된 항목을 DB에서 다시 읽어 바로잡는다.
+ * 배치로 읽은 뒤 ZADD 하기 전에 커밋된 삭제가 적재로 되살아나 목록과 건수(ZCARD)에 섞이지 않도록 하기 위해서다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagPostIndex {
+
+    private static final String KEY_PREFIX = "tag-index:tag:";
+    private static final String BUILD_KEY_PREFIX = "tag-index:build:";
+    private static final String DIRTY_KEY = "tag-index:rebuild:dirty";
+    private static final String RESULT_KEY_PREFIX = "tag-index:result:";
+    private static final String READY_KEY = "tag-index:ready";
+    private static final String REBUILD_LOCK_KEY = "tag-index:rebuild-lock";
+    private static final Sort RECENCY_ORDER = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    private final RedisService redisService;
+    private final TagDictionary tagDictionary;
+    private final TagRepository tagRepository;
+    private final PostTagRepository postTagRepository;
+    private final TagPostIndexProperties properties;
+
+    /**
+     * 태그 필터 최신순 게시글 ID 페이지
+     * 색인을 사용할 수 없거나(비활성·미적재·Redis 장애) 최신순이 아닌 정렬이면 empty를 반환하며, 호출 측은 DB로 조회한다.
+     * 태그 이름은 정규화된 소문자여야 하고, 존재하지 않는 태그 처리는 DB 조회와 같다.
+     */
+    public Optional<Page<Long>> findPostIds(List<String> tagNames, TagMatch tagMatch, Pageable pageable) {
+        if (!properties.isEnabled() || tagNames == null || tagNames.isEmpty() || !isRecencyOrder(pageable)) {
+            return Optional.empty();
+        }
+
+        try {
+            if (!redisService.exists(READY_KEY)) {
+                return Optional.empty();
+            }
+
+            Collection<Long> tagIds = tagDictionary.resolve(tagNames).values();
+            boolean unsatisfiable = tagIds.isEmpty() || (tagMatch == TagMatch.ALL && tagIds.size() < tagNames.size());
+            if (unsatisfiable) {
+                return Optional.of(Page.empty(pageable));
+            }
+
+            String key = resultKey(tagIds, tagMatch);
+            long start = pageable.getOffset();
+            List<Long> postIds = redisService.reverseRangeOfSortedSet(key, start, start + pageable.getPageSize() - 1)
+                    .stream()
+                    .map(Long::valueOf)
+                    .toList();
+            long total = redisService.sizeOfSortedSet(key);
+
+            return Optional.of(new PageImpl<>(postIds, pageable, total));
+        } catch (Exception e) {
+            log.warn("태그 역색인 조회 실패, DB로 대체 - tags={}", tagNames, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 게시글을 태그별 색인에 추가 (트랜잭션 안이면 커밋 후)
+     */
+    public void index(Long postId, Instant createdAt, Collection<Long> tagIds) {
+        if (tagIds.isEmpty()) {
+            return;
+        }
+
+        Map<String, Double> member = Map.of(postId.toString(), score(createdAt));
+        afterCommit(() -> tagIds.forEach(tagId -> redisService.addToSortedSet(key(tagId), member)), postId, tagIds);
+    }
+
+    /**
+     * 게시글을 태그별 색인에서 제거 (트랜잭션 안이면 커밋 후)
+     */
+    public void unindex(Long postId, Collection<Long> tagIds) {
+        if (tagIds.isEmpty()) {
+            return;
+        }
+
+        List<String> member = List.of(postId.toString());
+        afterCommit(() -> tagIds.forEach(tagId -> redisService.removeFromSortedSet(key(tagId), member)), postId, tagIds);
+    }
+
+    /**
+     * DB(post_tag + post)에서 색인 전체를 다시 적재
+     * (post_id, tag_id) 키셋 순서로 배치 단위로 읽어 임시 키에 ZADD 하고, 재구성 중 바뀐 항목을 바로잡은 뒤 기존 키와 교체한다.
+     * 배치마다 락 TTL을 연장하며, 락을 잃으면(TTL 만료 후 다른 노드가 획득) 교체하지 않고 중단한다.
+     *
+     * @return 적재한 (게시글, 태그) 항목 수
+     */
+    public long rebuild() {
+        String lockValue = UUID.randomUUID().toString();
+        if (!redisService.setIfAbsent(REBUILD_LOCK_KEY, lockValue, properties.getRebuildLockTtl())) {
+            throw new BusinessException(PostErrorCode.TAG_INDEX_REBUILD_IN_PROGRESS);
+        }
+
+        try {
+            deleteKeys(tagRepository.findAllIds(), TagPostIndex::buildKey);
+            long indexed = load(lockValue);
+            repairDirty(lockValue, TagPostIndex::buildKey);
+
+            swap(tagRepository.findAllIds());
+            repairDirty(lockValue, TagPostIndex::key);
+            redisService.save(READY_KEY, Instant.now().toString(), null);
+
+            log.info("태그 역색인 재구성 완료 - entries={}", indexed);
+            return indexed;
+        } finally {
+            redisService.deleteIfEquals(REBUILD_LOCK_KEY, lockValue);
+        }
+    }
+
+    private long load(String lockValue) {
+        int batchSize = properties.getRebuildBatchSize();
+        long lastPostId = 0L;
+        long lastTagId = 0L;
+        long indexed = 0L;
+
+        while (true) {
+            List<PostTagIndexEntry> entries = postTagRepository.findIndexEntriesAfter(lastPostId, lastTagId, batchSize);
+            if (entries.isEmpty()) {
+                return indexed;
+            }
+
+            Map<Long, Map<String, Double>> membersByTag = entries.stream()
+                    .collect(Collectors.groupingBy(PostTagIndexEntry::tagId, HashMap::new, Collectors.toMap(
+                            entry -> entry.postId().toString(), entry -> score(entry.createdAt()))));
+            membersByTag.forEach((tagId, members) -> redisService.addToSortedSet(buildKey(tagId), members));
+            extendLock(lockValue);
+
+            indexed += entries.size();
+            PostTagIndexEntry last = entries.getLast();
+            lastPostId = last.postId();
+            lastTagId = last.tagId();
+
+            if (entries.size() < batchSize) {
+                return indexed;
+            }
+        }
+    }
+
+    /**
+     * 재구성 중 갱신된 (게시글, 태그)를 DB의 현재 상태로 다시 반영
+     * 반영하는 동안 새로 기록된 항목이 없을 때까지 반복한다.
+     */
+    private void repairDirty(String lockValue, Function<Long, String> keyOf) {
+        while (true) {
+            Set<String> dirty = redisService.findSetMembers(DIRTY_KEY);
+            if (dirty.isEmpty()) {
+                return;
+            }
+            redisService.removeFromSet(DIRTY_KEY, dirty);
+
+            Set<Long> postIds = dirty.stream()
+                    .map(member -> Long.valueOf(member.substring(0, member.indexOf(':'))))
+                    .collect(Collectors.toSet());
+            Map<String, Double> current = postTagRepository.findIndexEntriesByPostIds(postIds).stream()
+                    .collect(Collectors.toMap(entry -> dirtyMember(entry.postId(), entry.tagId()),
+                            entry -> score(entry.createdAt())));
+
+            for (String member : dirty) {
+                int separator = member.indexOf(':');
+                String postId = member.substring(0, separator);
+                String key = keyOf.apply(Long.valueOf(member.substring(separator + 1)));
+                Double score = current.get(member);
+                if (score != null) {
+                    redisService.addToSortedSet(key, Map.of(postId, score));
+                } else {
+                    redisService.removeFromSortedSet(key, List.of(postId));
+                }
+            }
+            extendLock(lockValue);
+        }
+    }
+
+    /**
+     * 임시 키를 기존 키로 교체 - 항목이 없어 임시 키가 생기지 않은 태그는 기존 키를 지운다.
+     * 태그는 삭제되지 않으므로, 적재가 끝난 뒤 다시 읽은 태그 ID에는 재구성 중 생긴 태그도 포함된다.
+     */
+    private void swap(List<Long> tagIds) {
+        List<String> emptyKeys = new ArrayList<>();
+        for (Long tagId : tagIds) {
+            if (redisService.exists(buildKey(tagId))) {
+                redisService.rename(buildKey(tagId), key(tagId));
+            } else {
+                emptyKeys.add(key(tagId));
+            }
+        }
+        deleteKeys(emptyKeys);
+    }
+
+    private void extendLock(String lockValue) {
+        if (!redisService.expireIfEquals(REBUILD_LOCK_KEY, lockValue, properties.getRebuildLockTtl())) {
+            throw new BusinessException(PostErrorCode.TAG_INDEX_REBUILD_IN_PROGRESS);
+        }
+    }
+
+    private void deleteKeys(List<Long> tagIds, Function<Long, String> keyOf) {
+        deleteKeys(tagIds.stream().map(keyOf).toList());
+    }
+
+    private void deleteKeys(List<String> keys) {
+        int batchSize = properties.getRebuildBatchSize();
+        for (int from = 0; from < keys.size(); from += batchSize) {
+            redisService.deleteAll(keys.subList(from, Math.min(from + batchSize, keys.size())));
+        }
+    }
+
+    /**
+     * 태그가 하나면 태그 키를 그대로 읽고, 여러 개면 합집합/교집합 결과 키를 만든다.
+     * 같은 게시글은 어느 태그에서나 점수가 같으므로 AGGREGATE MAX로 점수를 그대로 유지한다.
+     */
+    private String resultKey(Collection<Long> tagIds, TagMatch tagMatch) {
+        List<Long> sortedIds = tagIds.stream().sorted().toList();
+        if (sortedIds.size() == 1) {
+            return key(sortedIds.getFirst());
+        }
+
+        String resultKey = RESULT_KEY_PREFIX + tagMatch.name().toLowerCase(Locale.ROOT) + ":"
+                + sortedIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        if (!redisService.exists(resultKey)) {
+            List<String> sourceKeys = sortedIds.stream().map(TagPostIndex::key).toList();
+            if (tagMatch == TagMatch.ALL) {
+                redisService.intersectSortedSets(resultKey, sourceKeys);
+            } else {
+                redisService.unionSortedSets(resultKey, sourceKeys);
+            }
+            redisService.expire(resultKey, properties.getResultTtl());
+        }
+        return resultKey;
+    }
+
+    /**
+     * 정렬 없음(기본 최신순) 또는 createdAt 내림차순만 색인으로 처리한다.
+     */
+    private boolean isRecencyOrder(Pageable pageable) {
+        return pageable.isPaged() && (pageable.getSort().isUnsorted() || RECENCY_ORDER.equals(pageable.getSort()));
+    }
+
+    /**
+     * 재구성 중이면 (게시글, 태그)를 먼저 기록한 뒤 기존 키를 갱신한다.
+     */
+    private void afterCommit(Runnable update, Long postId, Collection<Long> tagIds) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Runnable safeUpdate = () -> {
+            try {
+                if (redisService.exists(REBUILD_LOCK_KEY)) {
+                    redisService.addToSet(DIRTY_KEY, tagIds.stream().map(tagId -> dirtyMember(postId, tagId)).toList());
+                }
+                update.run();
+            } catch (Exception e) {
+                log.error("태그 역색인 갱신 실패, 재구성 전까지 DB로 조회 - postId={}", postId, e);
+                markStale();
+            }
+        };
+
+        TransactionCallbacks.afterCommit(safeUpdate);
+    }
+
+    private void markStale() {
+        try {
+            redisService.delete(READY_KEY);
+        } catch (Exception e) {
+            log.error("태그 역색인 준비 표시 삭제 실패 - 재구성이 필요합니다", e);
+        }
+    }
+
+    private static double score(Instant createdAt) {
+        return createdAt.toEpochMilli();
+    }
+
+    private static String key(Long tagId) {
+        return KEY_PREFIX + tagId;
+    }
+
+    private static String buildKey(Long tagId) {
+        return BUILD_KEY_PREFIX + tagId;
+    }
+
+    private static String dirtyMember(Long postId, Long tagId) {
+        return postId + ":" + tagId;
+    }
+}
@@ -0,0 +1,48 @@
+package com.devon.techblog.domain.post.index;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 태그별 게시글 역색인 설정
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "post.tag-index")
+public class TagPostIndexProperties {
+
+    /**
+     * 역색인 사용 여부 (기본값 true)
+     * false면 갱신과 조회를 모두 건너뛰고 DB로 조회한다. 다시 켤 때는 재구성이 필요하다.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 여러 태그 조회 시 합집합/교집합 결과 ZSET의 TTL (기본값 30초)
+     * 이 시간 동안은 같은 태그 조합 조회에 결과를 재사용하므로, 새 글이 늦게 보일 수 있다.
+     */
+    @NotNull
+    private Duration resultTtl = Duration.ofSeconds(30);
+
+    /**
+     * 재구성 시 한 번에 읽는 post_tag 행 수 (기본값 1,000)
+     */
+    @NotNull
+    @Positive
+    private Integer rebuildBatchSize = 1_000;
+
+    /**
+     * 재구성 중복 실행 방지 락 TTL (기본값 10분)
+     * 재구성 도중 노드가 죽어도 이 시간이 지나면 다시 실행할 수 있다.
+     */
+    @NotNull
+    private Duration rebuildLockTtl = Duration.ofMinutes(10);
+}
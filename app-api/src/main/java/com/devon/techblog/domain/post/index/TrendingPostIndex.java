@@ -0,0 +1,198 @@
+package com.devon.techblog.domain.post.index;
+
+import com.devon.techblog.common.utils.TransactionCallbacks;
+import com.devon.techblog.infra.redis.adapter.RedisService;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인기 게시글 순위 (Redis ZSET, 시간 감쇠 점수)
+ *
+ * 게시글의 인기 점수는 반응(조회·좋아요·댓글)마다 가중치 * 2^(-(지금 - 반응 시각) / 반감기)를 더한 값이다.
+ * 모든 점수를 주기적으로 다시 계산하지 않도록, 반응 시점에 가중치 * 2^((반응 시각 - 기준 시각) / 반감기)를 ZINCRBY 한다.
+ * 같은 시각에 모든 게시글의 점수에 같은 배율을 곱한 값이므로 순서는 감쇠 점수와 같고, 인기순 조회는 ZREVRANGE 한 번이다.
+ *
+ * 배율이 계속 커지지 않도록 기준 시각은 generation 주기마다 옮긴다. 주기별로 키 "trending:posts:{주기 번호}"를 따로 두고,
+ * 주기가 바뀌면 처음 접근한 노드가 이전 주기 점수를 2^(-주기/반감기) 배 해서 새 키에 합친 뒤 상위 maxSize개만 남긴다.
+ * 주기 키는 두 주기 동안만 유지(TTL)되므로, 다음 주기로 넘어간 뒤에는 이전 키가 자연히 사라진다.
+ * Redis를 사용할 수 없거나 점수가 아직 없으면 조회는 empty를 반환하고 호출 측이 DB로 대체한다.
+ */
+@Slf4j
+@Component
+public class TrendingPostIndex {
+
+    public static final String SORT_PROPERTY = "trending";
+
+    private static final String KEY_PREFIX = "trending:posts:";
+    private static final String ROLLOVER_LOCK_PREFIX = "trending:rollover:";
+
+    private final RedisService redisService;
+    private final TrendingPostIndexProperties properties;
+    private final AtomicLong rolledGeneration = new AtomicLong(Long.MIN_VALUE);
+
+    public TrendingPostIndex(RedisService redisService, TrendingPostIndexProperties properties) {
+        this.redisService = redisService;
+        this.properties = properties;
+    }
+
+    /**
+     * 정렬 조건에 인기순(sort=trending)이 포함되어 있는지
+     */
+    public static boolean isTrendingOrder(Pageable pageable) {
+        return pageable.getSort().stream().anyMatch(order -> SORT_PROPERTY.equals(order.getProperty()));
+    }
+
+    /**
+     * 인기순 게시글 ID 페이지
+     * 인기순 정렬이 아니거나 순위를 사용할 수 없으면(비활성·점수 없음·Redis 장애) empty를 반환한다.
+     */
+    public Optional<Page<Long>> findPostIds(Pageable pageable) {
+        return findPostIds(pageable, Instant.now());
+    }
+
+    Optional<Page<Long>> findPostIds(Pageable pageable, Instant now) {
+        if (!properties.isEnabled() || pageable.isUnpaged() || !isTrendingOrder(pageable)) {
+            return Optional.empty();
+        }
+
+        try {
+            long generation = generationOf(now);
+            rollOver(generation);
+
+            String key = key(generation);
+            long total = redisService.sizeOfSortedSet(key);
+            if (total == 0) {
+                return Optional.empty();
+            }
+
+            long start = pageable.getOffset();
+            List<Long> postIds = redisService.reverseRangeOfSortedSet(key, start, start + pageable.getPageSize() - 1)
+                    .stream()
+                    .map(Long::valueOf)
+                    .toList();
+            return Optional.of(new PageImpl<>(postIds, pageable, total));
+        } catch (Exception e) {
+            log.warn("인기 게시글 순위 조회 실패, DB로 대체", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 게시글 하나의 반응을 점수에 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void record(Long postId, TrendingSignal signal) {
+        recordAll(signal, Map.of(postId, 1L));
+    }
+
+    /**
+     * 취소된 반응(좋아요 취소·댓글 삭제)만큼 점수를 되돌린다 (트랜잭션 안이면 커밋 후)
+     * 현재 시각 기준으로 빼므로 오래된 반응을 취소하면 남은 기여분보다 크게 빠질 수 있어, 점수는 0에서 멈춘다.
+     */
+    public void retract(Long postId, TrendingSignal signal) {
+        recordAll(signal, Map.of(postId, -1L));
+    }
+
+    /**
+     * 여러 게시글의 반응 횟수를 한 번에 반영 (조회수 버퍼 flush 등)
+     *
+     * @param counts 게시글 ID -> 반응 횟수 (음수면 취소, 점수는 0 아래로 내려가지 않는다)
+     */
+    public void recordAll(TrendingSignal signal, Map<Long, Long> counts) {
+        double weight = properties.weightOf(signal);
+        if (!properties.isEnabled() || counts.isEmpty() || weight == 0) {
+            return;
+        }
+        afterCommit(() -> increment(signal, counts, Instant.now()));
+    }
+
+    /**
+     * 삭제된 게시글을 순위에서 제거 (트랜잭션 안이면 커밋 후)
+     * 이전 주기 키에서도 지워, 주기 전환 시 다시 합쳐지지 않도록 한다.
+     */
+    public void remove(Long postId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        afterCommit(() -> {
+            long generation = generationOf(Instant.now());
+            List<String> member = List.of(postId.toString());
+            redisService.removeFromSortedSet(key(generation), member);
+            redisService.removeFromSortedSet(key(generation - 1), member);
+        });
+    }
+
+    void increment(TrendingSignal signal, Map<Long, Long> counts, Instant now) {
+        long generation = generationOf(now);
+        rollOver(generation);
+
+        double scale = properties.weightOf(signal) * Math.pow(2, elapsedHalfLives(generation, now));
+        Map<String, Double> increments = new HashMap<>(counts.size());
+        Map<String, Double> decrements = new HashMap<>();
+        counts.forEach((postId, count) -> {
+            if (count >= 0) {
+                increments.put(postId.toString(), count * scale);
+            } else {
+                decrements.put(postId.toString(), -count * scale);
+            }
+        });
+        redisService.incrementScoresInSortedSet(key(generation), increments);
+        redisService.decrementScoresInSortedSet(key(generation), decrements);
+        redisService.expire(key(generation), properties.getGeneration().multipliedBy(2));
+    }
+
+    /**
+     * 이 노드에서 처음 보는 주기면, 이전 주기 점수를 감쇠시켜 새 주기 키에 합친다.
+     * 합치기는 주기마다 한 노드만 수행하며(setIfAbsent 락), ZUNIONSTORE 한 번이라 그 사이의 ZINCRBY도 보존된다.
+     */
+    private void rollOver(long generation) {
+        long rolled = rolledGeneration.get();
+        if (rolled >= generation) {
+            return;
+        }
+
+        long generationMillis = properties.getGeneration().toMillis();
+        if (redisService.setIfAbsent(ROLLOVER_LOCK_PREFIX + generation, Instant.now().toString(),
+                properties.getGeneration().multipliedBy(2))) {
+            String key = key(generation);
+            double decay = Math.pow(2, -(double) generationMillis / properties.getHalfLife().toMillis());
+            redisService.addScaledSortedSet(key, key(generation - 1), decay);
+            redisService.trimSortedSet(key, properties.getMaxSize());
+            log.info("인기 게시글 순위 주기 전환 - generation={}", generation);
+        }
+        rolledGeneration.accumulateAndGet(generation, Math::max);
+    }
+
+    private long generationOf(Instant now) {
+        return Math.floorDiv(now.toEpochMilli(), properties.getGeneration().toMillis());
+    }
+
+    private double elapsedHalfLives(long generation, Instant now) {
+        long generationStart = generation * properties.getGeneration().toMillis();
+        return (double) (now.toEpochMilli() - generationStart) / properties.getHalfLife().toMillis();
+    }
+
+    private void afterCommit(Runnable update) {
+        Runnable safeUpdate = () -> {
+            try {
+                update.run();
+            } catch (Exception e) {
+                log.warn("인기 게시글 점수 갱신 실패", e);
+            }
+        };
+
+        TransactionCallbacks.afterCommit(safeUpdate);
+    }
+
+    private static String key(long generation) {
+        return KEY_PREFIX + generation;
+    }
+}
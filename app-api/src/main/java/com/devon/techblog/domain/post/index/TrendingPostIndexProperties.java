@@ -0,0 +1,79 @@
+package com.devon.techblog.domain.post.index;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 인기 게시글 순위 설정
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "post.trending")
+public class TrendingPostIndexProperties {
+
+    /**
+     * 인기순 사용 여부 (기본값 true)
+     * false면 점수 갱신을 건너뛰고 인기순 요청은 좋아요순 DB 조회로 대체한다.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 반감기 (기본값 24시간) - 이 시간이 지난 반응은 점수의 절반만 기여한다.
+     */
+    @NotNull
+    private Duration halfLife = Duration.ofHours(24);
+
+    /**
+     * 점수 기준 시각을 옮기는 주기 (기본값 7일)
+     * 주기가 바뀌면 이전 주기의 점수를 감쇠시켜 새 주기 ZSET에 합친다. 반감기의 512배를 넘을 수 없다.
+     */
+    @NotNull
+    private Duration generation = Duration.ofDays(7);
+
+    /**
+     * 주기 전환 시 남길 최대 게시글 수 (기본값 10,000)
+     */
+    @NotNull
+    @Positive
+    private Long maxSize = 10_000L;
+
+    @NotNull
+    @PositiveOrZero
+    private Double viewWeight = 1.0;
+
+    @NotNull
+    @PositiveOrZero
+    private Double likeWeight = 5.0;
+
+    @NotNull
+    @PositiveOrZero
+    private Double commentWeight = 10.0;
+
+    public double weightOf(TrendingSignal signal) {
+        return switch (signal) {
+            case VIEW -> viewWeight;
+            case LIKE -> likeWeight;
+            case COMMENT -> commentWeight;
+        };
+    }
+
+    /**
+     * 한 주기 안에서 점수 배율(2^(경과/반감기))이 double 범위를 넘지 않도록 제한한다.
+     */
+    @AssertTrue(message = "generation은 halfLife의 512배를 넘을 수 없습니다")
+    public boolean isGenerationWithinRange() {
+        return halfLife == null || generation == null
+                || (halfLife.isPositive() && generation.isPositive()
+                && generation.toMillis() <= halfLife.toMillis() * 512);
+    }
+}
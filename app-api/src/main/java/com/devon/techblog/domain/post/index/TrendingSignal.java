@@ -0,0 +1,10 @@
+package com.devon.techblog.domain.post.index;
+
+/**
+ * 인기 점수에 반영되는 게시글 반응 종류 (가중치는 TrendingPostIndexProperties)
+ */
+public enum TrendingSignal {
+    VIEW,
+    LIKE,
+    COMMENT
+}
@@ -1,8 +1,7 @@
 package com.devon.techblog.domain.post.policy;
 
 import com.devon.techblog.application.post.dto.ViewContext;
-import com.devon.techblog.infra.redis.adapter.RedisService;
-import java.time.Duration;
+import com.devon.techblog.domain.post.policy.viewer.ViewerDedupStrategy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -10,31 +9,25 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ViewCountPolicy {
 
-    private static final Duration VIEW_COUNT_TTL = Duration.ofMinutes(10);
-    private static final String VIEW_KEY_PREFIX = "view-count:";
-
-    private final RedisService redisService;
+    private final ViewerDedupStrategy viewerDedupStrategy;
 
+    /**
+     * 윈도우 내 첫 조회인지 판단
+     * 중복 판단 방식은 post.view-count.dedup.mode 설정(EXACT / BLOOM)에 따라 결정된다.
+     */
     public boolean shouldCount(Long postId, ViewContext context){
-        String redisKey = buildViewKey(postId, context);
-
-        if (redisService.find(redisKey).isPresent()) {
-            return false;
-        }
-
-        redisService.save(redisKey, "1", VIEW_COUNT_TTL);
-        return true;
+        return viewerDedupStrategy.markIfFirst(postId, buildViewerId(context));
     }
 
-    private String buildViewKey(Long postId, ViewContext context) {
+    private String buildViewerId(ViewContext context) {
         if (context.getMemberId() != null) {
-            return VIEW_KEY_PREFIX + postId + ":member:" + context.getMemberId();
+            return "member:" + context.getMemberId();
         }
         String ip = context.getIpAddress();
         String userAgent = context.getUserAgent();
         if (userAgent == null || userAgent.isBlank()) {
-            return VIEW_KEY_PREFIX + postId + ":ip:" + (ip == null ? "unknown" : ip);
+            return "ip:" + (ip == null ? "unknown" : ip);
         }
-        return VIEW_KEY_PREFIX + postId + ":ip:" + (ip == null ? "unknown" : ip) + ":ua:" + userAgent.hashCode();
+        return "ip:" + (ip == null ? "unknown" : ip) + ":ua:" + userAgent.hashCode();
     }
 }
@@ -0,0 +1,50 @@
+package com.devon.techblog.domain.post.policy.viewer;
+
+import com.devon.techblog.common.utils.BloomFilterSpec;
+import com.devon.techblog.infra.redis.adapter.RedisService;
+import java.time.Duration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 비트맵 기반 Bloom filter 중복 판단
+ *
+ * 조회자마다 키를 만드는 대신 (게시글, 시간 버킷)마다 비트맵 하나만 유지한다.
+ * 고유 조회자가 많은 게시글에서 키 수와 메모리를 크게 줄이는 대신,
+ * 오탐률만큼 새 조회자가 이미 본 조회자로 판단되어 조회수가 덜 집계될 수 있다.
+ * 중복 판단 구간은 TTL이 아닌 고정 시간 버킷(window) 단위다.
+ *
+ * 모든 비트를 한 번에 SETBIT 하면서 이전 값이 0인 비트가 하나라도 있으면 새 조회자로 판단한다 (RedisService.setBits).
+ */
+@Component
+@ConditionalOnProperty(prefix = "post.view-count.dedup", name = "mode", havingValue = "bloom")
+public class BloomFilterViewerDedupStrategy implements ViewerDedupStrategy {
+
+    private static final String BLOOM_KEY_PREFIX = "view-bloom:";
+
+    private final RedisService redisService;
+    private final BloomFilterSpec spec;
+    private final Duration window;
+
+    public BloomFilterViewerDedupStrategy(RedisService redisService, ViewerDedupProperties properties) {
+        this.redisService = redisService;
+        this.spec = BloomFilterSpec.of(
+                properties.getBloom().getExpectedViewers(),
+                properties.getBloom().getFalsePositiveRate()
+        );
+        this.window = properties.getWindow();
+    }
+
+    @Override
+    public boolean markIfFirst(Long postId, String viewerId) {
+        long bucket = System.currentTimeMillis() / window.toMillis();
+        String key = BLOOM_KEY_PREFIX + postId + ":" + bucket;
+
+        // 노드 간 시계 오차를 고려해 버킷 길이의 두 배만큼 유지
+        return redisService.setBits(key, spec.offsets(viewerId), window.multipliedBy(2));
+    }
+
+    public BloomFilterSpec getSpec() {
+        return spec;
+    }
+}
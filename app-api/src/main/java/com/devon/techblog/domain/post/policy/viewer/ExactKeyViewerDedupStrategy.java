@@ -0,0 +1,26 @@
+package com.devon.techblog.domain.post.policy.viewer;
+
+import com.devon.techblog.infra.redis.adapter.RedisService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * (게시글, 조회자)마다 TTL 키를 하나씩 두는 정확한 중복 판단
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "post.view-count.dedup", name = "mode", havingValue = "exact", matchIfMissing = true)
+public class ExactKeyViewerDedupStrategy implements ViewerDedupStrategy {
+
+    private static final String VIEW_KEY_PREFIX = "view-count:";
+
+    private final RedisService redisService;
+    private final ViewerDedupProperties properties;
+
+    @Override
+    public boolean markIfFirst(Long postId, String viewerId) {
+        String redisKey = VIEW_KEY_PREFIX + postId + ":" + viewerId;
+        return redisService.setIfAbsent(redisKey, "1", properties.getWindow());
+    }
+}
@@ -0,0 +1,8 @@
+package com.devon.techblog.domain.post.policy.viewer;
+
+public enum ViewerDedupMode {
+    /** (게시글, 조회자)마다 TTL 키 하나 - 정확하지만 조회자 수만큼 키가 생긴다 */
+    EXACT,
+    /** 게시글·시간 버킷마다 Bloom filter 하나 - 메모리가 고정되지만 오탐만큼 조회수가 덜 집계된다 */
+    BLOOM
+}
@@ -0,0 +1,61 @@
+package com.devon.techblog.domain.post.policy.viewer;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 조회자 중복 판단 설정
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "post.view-count.dedup")
+public class ViewerDedupProperties {
+
+    /**
+     * 중복 판단 전략 (기본값 EXACT)
+     */
+    @NotNull
+    private ViewerDedupMode mode = ViewerDedupMode.EXACT;
+
+    /**
+     * 같은 조회자를 한 번으로 보는 시간 (기본값 10분)
+     * EXACT는 키 TTL, BLOOM은 시간 버킷 크기로 사용한다.
+     */
+    @NotNull
+    private Duration window = Duration.ofMinutes(10);
+
+    @Valid
+    @NotNull
+    private Bloom bloom = new Bloom();
+
+    @Getter
+    @Setter
+    public static class Bloom {
+
+        /**
+         * 게시글 하나가 한 윈도우 동안 받을 것으로 예상하는 고유 조회자 수 (기본값 10,000)
+         */
+        @NotNull
+        @Positive
+        private Integer expectedViewers = 10_000;
+
+        /**
+         * 허용 오탐률 - 새 조회자를 이미 본 조회자로 잘못 판단할 확률 (기본값 1%)
+         */
+        @NotNull
+        @DecimalMin(value = "0.0", inclusive = false)
+        @DecimalMax(value = "0.5")
+        private Double falsePositiveRate = 0.01;
+    }
+}
@@ -0,0 +1,17 @@
+package com.devon.techblog.domain.post.policy.viewer;
+
+/**
+ * 조회자 중복 판단 전략
+ * 같은 조회자가 일정 시간 안에 다시 조회한 경우 조회수를 올리지 않기 위해 사용한다.
+ */
+public interface ViewerDedupStrategy {
+
+    /**
+     * 조회 기록을 남기고, 윈도우 내 첫 조회인지 여부를 반환
+     *
+     * @param postId 게시글 ID
+     * @param viewerId 조회자 식별자 (member:{id} 또는 ip:{ip}:ua:{hash})
+     * @return 첫 조회면 true
+     */
+    boolean markIfFirst(Long postId, String viewerId);
+}
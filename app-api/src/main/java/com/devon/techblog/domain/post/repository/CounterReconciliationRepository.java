@@ -0,0 +1,76 @@
+package com.devon.techblog.domain.post.repository;
+
+import com.devon.techblog.domain.post.dto.CounterDrift;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 비정규화 카운터를 원본 테이블과 대조·보정하는 Repository
+ *
+ * 대상 테이블을 PK 키셋 순서로 limit 건씩 읽으며 저장된 값과 다시 센 값을 함께 조회하고,
+ * 어긋난 행만 "읽었던 값과 같을 때만" 차이만큼 UPDATE 한다(compare-and-set).
+ * 샤딩 카운터의 증감분은 그대로 두고 기준 컬럼에 차이를 더하므로, 저장 방식과 관계없이 같은 방법으로 보정된다.
+ * 조회와 보정 사이에 좋아요·댓글 등으로 값이 바뀐 행은 건드리지 않고 다음 실행에서 다시 확인한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CounterReconciliationRepository {
+
+    private static final String MAX_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM %s";
+    private static final String SELECT_SQL = """
+            SELECT t.id, (%s) AS stored, (%s) AS actual
+            FROM %s t
+            WHERE t.id > ?
+            ORDER BY t.id
+            LIMIT ?
+            """;
+    private static final String FIX_SQL = "UPDATE %s t SET %s = %s + ? WHERE t.id = ? AND (%s) = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 진행률 계산용 대상 테이블의 최대 ID
+     */
+    public long findMaxId(DenormalizedCounter counter) {
+        Long maxId = jdbcTemplate.queryForObject(MAX_ID_SQL.formatted(counter.table()), Long.class);
+        return maxId == null ? 0L : maxId;
+    }
+
+    /**
+     * afterId 다음부터 limit 건의 저장된 값과 다시 센 값
+     */
+    public List<CounterDrift> findCounters(DenormalizedCounter counter, long afterId, int limit) {
+        String sql = SELECT_SQL.formatted(counter.storedSql(), counter.actualSql(), counter.table());
+        return jdbcTemplate.query(sql,
+                (rs, rowNum) -> new CounterDrift(rs.getLong("id"), rs.getLong("stored"), rs.getLong("actual")),
+                afterId, limit);
+    }
+
+    /**
+     * 어긋난 값을 다시 센 값으로 보정
+     *
+     * @return 보정된 행 수 (JDBC 드라이버가 행 수를 알려주지 않는 배치는 성공으로 센다)
+     */
+    @Transactional
+    public int fix(DenormalizedCounter counter, List<CounterDrift> drifts, int batchSize) {
+        if (drifts.isEmpty()) {
+            return 0;
+        }
+
+        String sql = FIX_SQL.formatted(counter.table(), counter.column(), counter.column(), counter.storedSql());
+        int[][] results = jdbcTemplate.batchUpdate(sql, drifts, batchSize, (ps, drift) -> {
+            ps.setLong(1, drift.actual() - drift.stored());
+            ps.setLong(2, drift.id());
+            ps.setLong(3, drift.stored());
+        });
+        return Arrays.stream(results)
+                .flatMapToInt(Arrays::stream)
+                .map(updated -> updated == Statement.SUCCESS_NO_INFO ? 1 : updated)
+                .sum();
+    }
+}
@@ -0,0 +1,60 @@
+package com.devon.techblog.domain.post.repository;
+
+import java.util.Locale;
+
+/**
+ * 원본 테이블에서 다시 계산할 수 있는 비정규화 카운터
+ * actualSql은 대상 테이블 별칭 t의 행 하나에 대한 상관 서브쿼리로, 원본 테이블의 인덱스만으로 계산된다.
+ * storedSql은 현재 저장된 값으로, 샤딩 카운터(post_counter_shard)에 쌓인 증감분이 있으면 함께 더한다.
+ */
+public enum DenormalizedCounter {
+
+    /** post.like_count = post_like 행 수 */
+    POST_LIKE_COUNT("post", "like_count", "t.like_count",
+            "SELECT COUNT(*) FROM post_like s WHERE s.post_id = t.id"),
+
+    /** post.comment_count (+ 샤딩 증감분) = 삭제되지 않은 댓글 수 */
+    POST_COMMENT_COUNT("post", "comment_count",
+            "t.comment_count + (SELECT COALESCE(SUM(c.amount), 0) FROM post_counter_shard c"
+                    + " WHERE c.post_id = t.id AND c.counter_type = 'COMMENT')",
+            "SELECT COUNT(*) FROM comment s WHERE s.post_id = t.id AND s.is_deleted = false"),
+
+    /** tag.usage_count = post_tag 행 수 (게시글 삭제 시 감소시키지 않는 기존 집계 방식과 같다) */
+    TAG_USAGE_COUNT("tag", "usage_count", "t.usage_count",
+            "SELECT COUNT(*) FROM post_tag s WHERE s.tag_id = t.id");
+
+    private final String table;
+    private final String column;
+    private final String storedSql;
+    private final String actualSql;
+
+    DenormalizedCounter(String table, String column, String storedSql, String actualSql) {
+        this.table = table;
+        this.column = column;
+        this.storedSql = storedSql;
+        this.actualSql = actualSql;
+    }
+
+    String table() {
+        return table;
+    }
+
+    String column() {
+        return column;
+    }
+
+    String storedSql() {
+        return storedSql;
+    }
+
+    String actualSql() {
+        return actualSql;
+    }
+
+    /**
+     * 메트릭 태그·로그용 이름 (예: post_like_count)
+     */
+    public String metricName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
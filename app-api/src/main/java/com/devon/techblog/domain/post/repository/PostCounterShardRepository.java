@@ -0,0 +1,116 @@
+package com.devon.techblog.domain.post.repository;
+
+import com.devon.techblog.domain.post.entity.PostCounterType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시글 샤딩 카운터(post_counter_shard) Repository
+ *
+ * 증감은 게시글마다 N개로 나눈 슬롯 중 하나에 upsert 하므로, 같은 게시글에 대한 동시 쓰기가
+ * post 행 하나의 잠금에 몰리지 않고 슬롯 수만큼 분산된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostCounterShardRepository {
+
+    private static final String ADD_SQL = """
+            INSERT INTO post_counter_shard (post_id, counter_type, slot, amount) VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE amount = amount + ?
+            """;
+    private static final String SUM_SQL = """
+            SELECT post_id, SUM(amount) FROM post_counter_shard
+            WHERE counter_type = ? AND post_id IN (%s)
+            GROUP BY post_id
+            """;
+    private static final String FOLD_TARGETS_SQL = """
+            SELECT DISTINCT post_id FROM post_counter_shard
+            WHERE counter_type = ? AND post_id > ?
+            ORDER BY post_id
+            LIMIT ?
+            """;
+    private static final String LOCK_POSTS_SQL = "SELECT id FROM post WHERE id IN (%s) FOR UPDATE";
+    private static final String LOCK_SQL = """
+            SELECT post_id, amount FROM post_counter_shard
+            WHERE counter_type = ? AND post_id IN (%s)
+            FOR UPDATE
+            """;
+    private static final String ADD_TO_COLUMN_SQL = "UPDATE post SET %s = %s + ? WHERE id = ?";
+    private static final String DELETE_SQL = "DELETE FROM post_counter_shard WHERE counter_type = ? AND post_id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 슬롯 하나에 증감분 반영 (슬롯 행이 없으면 생성)
+     */
+    public void add(PostCounterType type, Long postId, int slot, long delta) {
+        jdbcTemplate.update(ADD_SQL, postId, type.name(), slot, delta, delta);
+    }
+
+    /**
+     * 게시글별 슬롯 합계 - 슬롯이 없는 게시글은 0
+     */
+    public Map<Long, Long> sumByPostIds(PostCounterType type, Collection<Long> postIds) {
+        Map<Long, Long> sums = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return sums;
+        }
+        postIds.forEach(postId -> sums.put(postId, 0L));
+
+        List<Object> args = new ArrayList<>(postIds.size() + 1);
+        args.add(type.name());
+        args.addAll(postIds);
+        jdbcTemplate.query(SUM_SQL.formatted(placeholders(postIds.size())),
+                (RowCallbackHandler) rs -> sums.put(rs.getLong(1), rs.getLong(2)), args.toArray());
+        return sums;
+    }
+
+    /**
+     * afterPostId 다음부터 슬롯이 있는 게시글 limit 개의 슬롯 합계를 기준 컬럼에 더하고 슬롯을 지운다.
+     * post 행 -> 슬롯 행 순으로 잠근 뒤 합산하므로, 그 사이의 증감은 기다렸다가 다음 접기 대상이 된다.
+     * 댓글 작성도 FK 검사로 post 행을 먼저 잠그므로 잠금 순서가 같아 데드락이 생기지 않는다.
+     *
+     * @return 접은 게시글 ID (post id 순, 더 없으면 빈 목록)
+     */
+    @Transactional
+    public List<Long> fold(PostCounterType type, long afterPostId, int limit) {
+        List<Long> postIds = jdbcTemplate.queryForList(FOLD_TARGETS_SQL, Long.class, type.name(), afterPostId, limit);
+        if (postIds.isEmpty()) {
+            return postIds;
+        }
+
+        List<Object> args = new ArrayList<>(postIds.size() + 1);
+        args.add(type.name());
+        args.addAll(postIds);
+        String placeholders = placeholders(postIds.size());
+
+        jdbcTemplate.queryForList(LOCK_POSTS_SQL.formatted(placeholders), Long.class, postIds.toArray());
+
+        Map<Long, Long> sums = new TreeMap<>();
+        jdbcTemplate.query(LOCK_SQL.formatted(placeholders),
+                (RowCallbackHandler) rs -> sums.merge(rs.getLong(1), rs.getLong(2), Long::sum), args.toArray());
+
+        String column = type.column();
+        jdbcTemplate.batchUpdate(ADD_TO_COLUMN_SQL.formatted(column, column), List.copyOf(sums.entrySet()),
+                sums.size(), (ps, entry) -> {
+                    ps.setLong(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                });
+        jdbcTemplate.update(DELETE_SQL.formatted(placeholders), args.toArray());
+        return postIds;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,110 @@
+package com.devon.techblog.domain.post.repository;
+
+import com.devon.techblog.domain.post.dto.PostLikeChange;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 좋아요 원장 변경분을 post_like / post.like_count에 일괄 반영하는 Repository
+ *
+ * 변경분은 (게시글, 회원)별 최종 상태이므로, 현재 DB 상태와 비교해 실제로 달라지는 행만 INSERT/DELETE 하고
+ * 그만큼만 like_count를 조정한다. 같은 변경분을 다시 반영해도 결과가 같아(멱등) 재시도 시 중복 집계되지 않는다.
+ * INSERT할 행은 FOR UPDATE로 없음을 확인한 행이라 IGNORE를 붙이지 않는다. IGNORE는 FK 위반을 경고로 바꿔
+ * 넣지 못한 행까지 like_count에 더하므로, 위반은 DataIntegrityViolationException으로 드러나 트랜잭션 전체를 되돌린다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostLikeBatchRepository {
+
+    private static final String SELECT_EXISTING_SQL =
+            "SELECT post_id, member_id FROM post_like WHERE (post_id, member_id) IN (%s) FOR UPDATE";
+    private static final String INSERT_SQL =
+            "INSERT INTO post_like (post_id, member_id, created_at) VALUES (?, ?, ?)";
+    private static final String DELETE_SQL =
+            "DELETE FROM post_like WHERE post_id = ? AND member_id = ?";
+    private static final String ADD_LIKE_COUNT_SQL =
+            "UPDATE post SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?";
+    private static final Comparator<PostLikeChange> LOCK_ORDER =
+            Comparator.comparing(PostLikeChange::postId).thenComparing(PostLikeChange::memberId);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 변경분을 한 트랜잭션으로 반영
+     * 행 잠금은 (post_id, member_id) 순, like_count UPDATE는 post id 순으로 잡아 노드 간 락 순서를 고정한다.
+     *
+     * @return 게시글 ID -> 실제로 반영된 like_count 증감
+     */
+    @Transactional
+    public Map<Long, Long> applyChanges(List<PostLikeChange> changes, int batchSize) {
+        if (changes.isEmpty()) {
+            return Map.of();
+        }
+
+        List<PostLikeChange> sorted = changes.stream().sorted(LOCK_ORDER).toList();
+        Set<List<Long>> existing = lockExisting(sorted, batchSize);
+
+        List<PostLikeChange> inserts = new ArrayList<>();
+        List<PostLikeChange> deletes = new ArrayList<>();
+        Map<Long, Long> deltas = new TreeMap<>();
+        for (PostLikeChange change : sorted) {
+            boolean exists = existing.contains(List.of(change.postId(), change.memberId()));
+            if (change.liked() && !exists) {
+                inserts.add(change);
+                deltas.merge(change.postId(), 1L, Long::sum);
+            } else if (!change.liked() && exists) {
+                deletes.add(change);
+                deltas.merge(change.postId(), -1L, Long::sum);
+            }
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, inserts, batchSize, (ps, change) -> {
+            ps.setLong(1, change.postId());
+            ps.setLong(2, change.memberId());
+            ps.setTimestamp(3, now);
+        });
+        jdbcTemplate.batchUpdate(DELETE_SQL, deletes, batchSize, (ps, change) -> {
+            ps.setLong(1, change.postId());
+            ps.setLong(2, change.memberId());
+        });
+
+        deltas.values().removeIf(delta -> delta == 0);
+        jdbcTemplate.batchUpdate(ADD_LIKE_COUNT_SQL, List.copyOf(deltas.entrySet()), batchSize, (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+        return Collections.unmodifiableMap(deltas);
+    }
+
+    private Set<List<Long>> lockExisting(List<PostLikeChange> sorted, int batchSize) {
+        Set<List<Long>> existing = new HashSet<>();
+        for (int from = 0; from < sorted.size(); from += batchSize) {
+            List<PostLikeChange> chunk = sorted.subList(from, Math.min(from + batchSize, sorted.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "(?, ?)"));
+
+            Object[] args = new Object[chunk.size() * 2];
+            for (int i = 0; i < chunk.size(); i++) {
+                args[i * 2] = chunk.get(i).postId();
+                args[i * 2 + 1] = chunk.get(i).memberId();
+            }
+
+            jdbcTemplate.query(SELECT_EXISTING_SQL.formatted(placeholders),
+                    (RowCallbackHandler) rs -> existing.add(List.of(rs.getLong(1), rs.getLong(2))), args);
+        }
+        return existing;
+    }
+}
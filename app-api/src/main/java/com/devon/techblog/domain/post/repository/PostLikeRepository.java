@@ -1,7 +1,11 @@
 package com.devon.techblog.domain.post.repository;
 
 import com.devon.techblog.domain.post.entity.PostLike;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -10,7 +14,31 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     @Query("SELECT CASE WHEN COUNT(pl) > 0 THEN true ELSE false END FROM PostLike pl WHERE pl.id.postId = :postId AND pl.id.memberId = :memberId")
     boolean existsByPostIdAndMemberId(@Param("postId") Long postId, @Param("memberId") Long memberId);
 
-    void deleteByPostIdAndMemberId(Long postId, Long memberId);
+    @Query("SELECT pl.id.postId FROM PostLike pl WHERE pl.id.memberId = :memberId")
+    List<Long> findPostIdsByMemberId(@Param("memberId") Long memberId);
+
+    @Query("SELECT pl.id.postId FROM PostLike pl WHERE pl.id.memberId = :memberId AND pl.id.postId IN :postIds")
+    List<Long> findLikedPostIds(@Param("memberId") Long memberId, @Param("postIds") Collection<Long> postIds);
+
+    @Query("SELECT pl.id.memberId FROM PostLike pl WHERE pl.id.postId = :postId")
+    List<Long> findMemberIdsByPostId(@Param("postId") Long postId);
+
+    /**
+     * 좋아요 행이 없을 때만 추가
+     * @return 추가했으면 1, 이미 있으면 0
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT IGNORE INTO post_like (post_id, member_id, created_at) VALUES (:postId, :memberId, :createdAt)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId, @Param("memberId") Long memberId,
+                       @Param("createdAt") Instant createdAt);
+
+    /**
+     * @return 삭제했으면 1, 좋아요 행이 없으면 0
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM PostLike pl WHERE pl.id.postId = :postId AND pl.id.memberId = :memberId")
+    int deleteByPostIdAndMemberId(@Param("postId") Long postId, @Param("memberId") Long memberId);
 
     long countByPostId(Long postId);
 }
@@ -1,12 +1,39 @@
 package com.devon.techblog.domain.post.repository;
 
+import com.devon.techblog.domain.common.repository.count.CountMode;
+import com.devon.techblog.domain.post.dto.PostCursor;
 import com.devon.techblog.domain.post.dto.PostSearchCondition;
+import com.devon.techblog.domain.post.dto.PostSearchHit;
 import com.devon.techblog.domain.post.dto.PostSummaryQueryDto;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface PostQueryRepository {
 
-    Page<PostSummaryQueryDto> searchPosts(PostSearchCondition condition, Pageable pageable);
+    /**
+     * 오프셋 기반 목록 조회
+     * 전체 건수는 countMode에 따라 COUNT(*), 조건별 캐시, 테이블 통계 추정치 중 하나로 구한다.
+     */
+    Page<PostSummaryQueryDto> searchPosts(PostSearchCondition condition, Pageable pageable, CountMode countMode);
+
+    /**
+     * 키셋(커서) 기반 목록 조회
+     * OFFSET 대신 커서 위치 이후의 행을 인덱스로 바로 찾고, 전체 건수(count)는 조회하지 않는다.
+     */
+    Slice<PostSummaryQueryDto> scrollPosts(PostSearchCondition condition, PostCursor cursor, int size);
+
+    /**
+     * 키워드 검색 (condition.keyword 필수)
+     * FULLTEXT 모드는 관련도 순, LIKE 모드는 최신순으로 정렬하며 pageable의 정렬 조건은 사용하지 않는다.
+     */
+    Page<PostSearchHit> searchByKeyword(PostSearchCondition condition, Pageable pageable, CountMode countMode);
+
+    /**
+     * ID 목록으로 삭제되지 않은 게시글 요약을 한 번에 조회 (순서는 보장하지 않음)
+     */
+    List<PostSummaryQueryDto> findSummariesByIds(Collection<Long> postIds);
 
 }
@@ -1,6 +1,9 @@
 package com.devon.techblog.domain.post.repository;
 
+import com.devon.techblog.domain.post.dto.PostCounterQueryDto;
+import com.devon.techblog.domain.post.dto.SeriesPostEntry;
 import com.devon.techblog.domain.post.entity.Post;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -12,6 +15,34 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostQueryRepo
     @Query("SELECT p FROM Post p JOIN FETCH p.member WHERE p.id = :id AND p.isDeleted = false")
     Optional<Post> findByIdWithMember(@Param("id") Long id);
 
+    @Query("SELECT new com.devon.techblog.domain.post.dto.PostCounterQueryDto(p.viewsCount, p.likeCount, p.commentCount) "
+            + "FROM Post p WHERE p.id = :id AND p.isDeleted = false")
+    Optional<PostCounterQueryDto> findCountersById(@Param("id") Long id);
+
+    /**
+     * 시리즈 목차 (series_order 순, 순서가 같으면 먼저 작성된 순)
+     * idx_post_series_order (series_id, is_deleted, series_order) 범위 스캔으로 정렬 없이 읽는다.
+     */
+    @Query("SELECT new com.devon.techblog.domain.post.dto.SeriesPostEntry(p.id, p.title) "
+            + "FROM Post p WHERE p.series.id = :seriesId AND p.isDeleted = false "
+            + "ORDER BY p.seriesOrder, p.id")
+    List<SeriesPostEntry> findSeriesPosts(@Param("seriesId") Long seriesId);
+
+    /**
+     * 시리즈 내 마지막 순서 (게시글이 없으면 0)
+     * 삭제된 게시글도 포함해, 삭제 후 다시 편입된 게시글과 순서가 겹치지 않게 한다.
+     */
+    @Query("SELECT COALESCE(MAX(p.seriesOrder), 0) FROM Post p WHERE p.series.id = :seriesId")
+    int findMaxSeriesOrder(@Param("seriesId") Long seriesId);
+
+    /**
+     * 삭제되지 않은 게시글 행 잠금 (SELECT ... FOR UPDATE)
+     * 좋아요/취소는 post -> post_like 순으로 잠가, post_like INSERT의 FK 검사(post 공유 잠금)와
+     * like_count UPDATE(배타 잠금)가 엇갈려 생기는 데드락을 막는다.
+     */
+    @Query(value = "SELECT id FROM post WHERE id = :postId AND is_deleted = false FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockActiveById(@Param("postId") Long postId);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("UPDATE Post p SET p.likeCount = p.likeCount + 1 WHERE p.id = :postId")
     int incrementLikeCount(@Param("postId") Long postId);
@@ -20,10 +51,6 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostQueryRepo
     @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.id = :postId AND p.likeCount > 0")
     int decrementLikeCount(@Param("postId") Long postId);
 
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("UPDATE Post p SET p.viewsCount = p.viewsCount + 1 WHERE p.id = :postId")
-    int incrementViewCount(@Param("postId") Long postId);
-
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.id = :postId")
     int incrementCommentCount(@Param("postId") Long postId);
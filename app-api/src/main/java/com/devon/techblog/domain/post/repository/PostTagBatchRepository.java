@@ -0,0 +1,93 @@
+package com.devon.techblog.domain.post.repository;
+
+import com.devon.techblog.domain.post.entity.Post;
+import com.devon.techblog.domain.post.entity.PostTag;
+import jakarta.persistence.EntityManager;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 게시글-태그 연결(post_tag) 일괄 쓰기 Repository
+ *
+ * Post.postTags의 cascade/orphanRemoval에 맡기면 태그마다 INSERT/DELETE가 한 번씩 나가고,
+ * 복합 키(PostTagId) 엔티티라 새 엔티티인지 확인하는 SELECT가 앞서기도 한다.
+ * 여기서는 게시글 하나의 추가분/삭제분을 각각 문장 하나로 처리한다.
+ * 태그 ID는 정렬해서 넣어, 같은 게시글을 동시에 수정하는 요청끼리 잠금 순서가 같다.
+ * JDBC로 직접 쓰므로 영속성 컨텍스트의 Post.postTags는 바뀌지 않는다. 쓰기 후 reload로 다시 적재한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostTagBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO post_tag (post_id, tag_id) VALUES %s";
+    private static final String DELETE_SQL = "DELETE FROM post_tag WHERE post_id = ? AND tag_id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * 게시글에 태그 연결 (multi-row INSERT 한 번)
+     */
+    public int insertAll(Long postId, Collection<Long> tagIds) {
+        if (tagIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> sorted = tagIds.stream().distinct().sorted().toList();
+        Object[] args = new Object[sorted.size() * 2];
+        for (int i = 0; i < sorted.size(); i++) {
+            args[i * 2] = postId;
+            args[i * 2 + 1] = sorted.get(i);
+        }
+
+        String values = String.join(", ", Collections.nCopies(sorted.size(), "(?, ?)"));
+        return jdbcTemplate.update(INSERT_SQL.formatted(values), args);
+    }
+
+    /**
+     * 게시글에서 태그 연결 해제 (DELETE 한 번)
+     */
+    public int deleteAll(Long postId, Collection<Long> tagIds) {
+        if (tagIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> sorted = tagIds.stream().distinct().sorted().toList();
+        Object[] args = new Object[sorted.size() + 1];
+        args[0] = postId;
+        for (int i = 0; i < sorted.size(); i++) {
+            args[i + 1] = sorted.get(i);
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(sorted.size(), "?"));
+        return jdbcTemplate.update(DELETE_SQL.formatted(placeholders), args);
+    }
+
+    /**
+     * 일괄 쓰기 후 게시글의 postTags를 DB 상태로 다시 적재
+     *
+     * 영속 상태면 postTags가 cascade/orphanRemoval 대상이라 컬렉션을 직접 고치면 같은 행을 다시 INSERT/DELETE 하게 된다.
+     * 그래서 대기 중인 변경을 flush한 뒤 기존 PostTag를 분리하고 게시글을 refresh 해, 다음 접근 때 컬렉션을 새로 읽는다.
+     * 벌크 UPDATE(clearAutomatically)로 이미 준영속이 된 게시글은 컬렉션 변경이 DB에 반영되지 않으므로 새로 읽은 행으로 바꾼다.
+     */
+    public void reload(Post post) {
+        if (entityManager.contains(post)) {
+            entityManager.flush();
+            post.getPostTags().forEach(entityManager::detach);
+            post.clearPostTags();
+            entityManager.refresh(post);
+            return;
+        }
+
+        List<PostTag> current = entityManager.createQuery(
+                        "SELECT pt FROM PostTag pt JOIN FETCH pt.tag WHERE pt.post.id = :postId", PostTag.class)
+                .setParameter("postId", post.getId())
+                .getResultList();
+        post.clearPostTags();
+        current.forEach(post::addPostTag);
+    }
+}
@@ -1,6 +1,8 @@
 package com.devon.techblog.domain.post.repository;
 
+import com.devon.techblog.domain.post.dto.PostTagIndexEntry;
 import com.devon.techblog.domain.post.entity.PostTag;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -12,4 +14,32 @@ public interface PostTagRepository extends JpaRepository<PostTag, Long> {
     List<PostTag> findByPostIdWithTag(@Param("postId") Long postId);
 
     void deleteByPostId(Long postId);
+
+    /**
+     * 태그 역색인 재구성용 키셋 조회 - (postId, tagId) 이후의 삭제되지 않은 게시글 태그를 PK 순서로 limit건
+     */
+    @Query("""
+            SELECT new com.devon.techblog.domain.post.dto.PostTagIndexEntry(pt.id.postId, pt.id.tagId, p.createdAt)
+            FROM PostTag pt JOIN pt.post p
+            WHERE p.isDeleted = false
+              AND (pt.id.postId > :postId OR (pt.id.postId = :postId AND pt.id.tagId > :tagId))
+            ORDER BY pt.id.postId, pt.id.tagId
+            LIMIT :limit
+            """)
+    List<PostTagIndexEntry> findIndexEntriesAfter(
+            @Param("postId") Long postId,
+            @Param("tagId") Long tagId,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 태그 역색인 재구성 도중 바뀐 게시글들의 현재 색인 항목 - 삭제된 게시글은 제외
+     */
+    @Query("""
+            SELECT new com.devon.techblog.domain.post.dto.PostTagIndexEntry(pt.id.postId, pt.id.tagId, p.createdAt)
+            FROM PostTag pt JOIN pt.post p
+            WHERE p.isDeleted = false
+              AND pt.id.postId IN :postIds
+            """)
+    List<PostTagIndexEntry> findIndexEntriesByPostIds(@Param("postIds") Collection<Long> postIds);
 }
@@ -0,0 +1,39 @@
+package com.devon.techblog.domain.post.repository;
+
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 조회수 증가분을 JDBC 배치 UPDATE로 반영하는 Repository
+ * 게시글마다 누적된 delta를 한 트랜잭션 안에서 일괄 반영한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostViewCountBatchRepository {
+
+    private static final String ADD_VIEWS_COUNT_SQL =
+            "UPDATE post SET views_count = views_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * postId -> 증가분 맵을 batchSize 단위로 나누어 반영한다.
+     * 전체가 하나의 트랜잭션이므로 실패 시 어떤 증가분도 반영되지 않는다.
+     */
+    @Transactional
+    public void addViewCounts(Map<Long, Long> deltas, int batchSize) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Long>> entries = List.copyOf(deltas.entrySet());
+        jdbcTemplate.batchUpdate(ADD_VIEWS_COUNT_SQL, entries, batchSize, (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+    }
+}
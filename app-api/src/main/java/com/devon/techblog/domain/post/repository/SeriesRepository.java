@@ -14,4 +14,11 @@ public interface SeriesRepository extends JpaRepository<Series, Long> {
 
     @Query("SELECT s FROM Series s WHERE s.id = :id AND s.isDeleted = false")
     Optional<Series> findByIdAndNotDeleted(@Param("id") Long id);
+
+    /**
+     * 삭제되지 않은 시리즈 행 잠금 (SELECT ... FOR UPDATE)
+     * 같은 시리즈에 게시글을 동시에 편입할 때 마지막 순서 조회와 편입을 직렬화해 순서가 겹치지 않게 한다.
+     */
+    @Query(value = "SELECT id FROM series WHERE id = :id AND is_deleted = false FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockActiveById(@Param("id") Long id);
 }
@@ -0,0 +1,65 @@
+package com.devon.techblog.domain.post.repository;
+
+import com.devon.techblog.domain.post.entity.Tag;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 태그 일괄 생성(upsert) Repository
+ *
+ * tag.id는 IDENTITY라 JPA saveAll은 태그마다 INSERT를 한 번씩 보낸다.
+ * 여기서는 없는 태그를 multi-row INSERT ... ON DUPLICATE KEY 한 번으로 만들고, ID는 이어지는 IN 조회 한 번으로 얻는다.
+ * 같은 새 태그를 동시에 만드는 요청은 uk_tag_name 충돌 대신 기존 행을 그대로 두는 것으로 끝난다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TagBatchRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO tag (name, usage_count, created_at, updated_at) VALUES %s
+            ON DUPLICATE KEY UPDATE id = id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * 이름(정규화된 소문자)별 태그를 없으면 만들고 모두 반환
+     *
+     * 호출한 트랜잭션 안에서 실행되므로 롤백되면 만든 태그도 함께 사라진다 (usage_count=0 고아 태그가 남지 않는다).
+     * upsert는 멱등이라 별도 트랜잭션이 필요 없고, 커넥션도 하나만 쓴다.
+     * 트랜잭션 스냅샷이 먼저 잡혀 있으면 다른 요청이 방금 커밋한 태그가 일반 SELECT로는 보이지 않으므로,
+     * ID 조회는 잠금 읽기(FOR SHARE)로 최신 커밋 행을 읽는다.
+     * 이름을 정렬해 넣으므로 같은 태그들을 동시에 만드는 요청끼리 uk_tag_name 잠금 순서가 같다.
+     */
+    public List<Tag> upsertAll(Collection<String> names) {
+        if (names.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> sorted = names.stream().distinct().sorted().toList();
+        Timestamp now = Timestamp.from(Instant.now());
+
+        Object[] args = new Object[sorted.size() * 3];
+        for (int i = 0; i < sorted.size(); i++) {
+            args[i * 3] = sorted.get(i);
+            args[i * 3 + 1] = now;
+            args[i * 3 + 2] = now;
+        }
+        String values = String.join(", ", Collections.nCopies(sorted.size(), "(?, 0, ?, ?)"));
+        jdbcTemplate.update(UPSERT_SQL.formatted(values), args);
+
+        return entityManager.createQuery("SELECT t FROM Tag t WHERE t.name IN :names", Tag.class)
+                .setParameter("names", sorted)
+                .setLockMode(LockModeType.PESSIMISTIC_READ)
+                .getResultList();
+    }
+}
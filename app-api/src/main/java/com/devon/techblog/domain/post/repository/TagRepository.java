@@ -1,5 +1,6 @@
 package com.devon.techblog.domain.post.repository;
 
+import com.devon.techblog.domain.post.dto.TagUsage;
 import com.devon.techblog.domain.post.entity.Tag;
 import java.util.List;
 import java.util.Optional;
@@ -15,8 +16,16 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
     @Query("SELECT t FROM Tag t WHERE t.name IN :names")
     List<Tag> findByNameIn(@Param("names") List<String> names);
 
-    @Query("SELECT t FROM Tag t ORDER BY t.usageCount DESC LIMIT :limit")
-    List<Tag> findTopByUsageCount(@Param("limit") int limit);
+    @Query("SELECT t.id FROM Tag t")
+    List<Long> findAllIds();
+
+    @Query("""
+            SELECT new com.devon.techblog.domain.post.dto.TagUsage(t.id, t.name, t.usageCount)
+            FROM Tag t
+            ORDER BY t.usageCount DESC, t.id
+            LIMIT :limit
+            """)
+    List<TagUsage> findTopByUsageCount(@Param("limit") int limit);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("UPDATE Tag t SET t.usageCount = t.usageCount + 1 WHERE t.id = :tagId")
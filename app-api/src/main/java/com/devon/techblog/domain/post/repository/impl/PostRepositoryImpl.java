@@ -3,23 +3,50 @@ package com.devon.techblog.domain.post.repository.impl;
 import static com.devon.techblog.domain.member.entity.QMember.member;
 import static com.devon.techblog.domain.post.entity.QPost.post;
 import static com.devon.techblog.domain.post.entity.QPostTag.postTag;
-import static com.devon.techblog.domain.post.entity.QTag.tag;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Order;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.devon.techblog.domain.common.repository.QueryDslOrderUtil;
+import com.devon.techblog.domain.common.repository.count.CountMode;
+import com.devon.techblog.domain.common.repository.count.CountQuery;
+import com.devon.techblog.domain.common.repository.count.TotalCountResolver;
+import com.devon.techblog.domain.config.FullTextFunctionContributor;
+import com.devon.techblog.domain.post.dto.PostCursor;
 import com.devon.techblog.domain.post.dto.PostSearchCondition;
+import com.devon.techblog.domain.post.dto.PostSearchHit;
 import com.devon.techblog.domain.post.dto.PostSummaryQueryDto;
+import com.devon.techblog.domain.post.dto.TagMatch;
+import com.devon.techblog.domain.post.index.TrendingPostIndex;
+import com.devon.techblog.domain.post.cache.TagDictionary;
 import com.devon.techblog.domain.post.repository.PostQueryRepository;
+import com.devon.techblog.domain.post.search.FullTextQuery;
+import com.devon.techblog.domain.post.search.PostSearchMode;
+import com.devon.techblog.domain.post.search.PostSearchProperties;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.function.LongSupplier;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -27,6 +54,9 @@ import org.springframework.stereotype.Repository;
 public class PostRepositoryImpl implements PostQueryRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final TotalCountResolver totalCountResolver;
+    private final PostSearchProperties searchProperties;
+    private final TagDictionary tagDictionary;
 
     // 허용된 정렬 필드 (화이트리스트)
     private static final Set<String> ALLOWED_SORT_FIELDS = Set.of(
@@ -38,83 +68,286 @@ public class PostRepositoryImpl implements PostQueryRepository {
             "updatedAt"
     );
 
+    private static final String TRENDING_FALLBACK_FIELD = "likeCount";
+
     @Override
-    public Page<PostSummaryQueryDto> searchPosts(PostSearchCondition condition, Pageable pageable) {
+    public Page<PostSummaryQueryDto> searchPosts(PostSearchCondition condition, Pageable pageable, CountMode countMode) {
         PostSearchCondition effectiveCondition = condition != null ? condition : PostSearchCondition.empty();
-        BooleanBuilder predicate = new BooleanBuilder();
-        predicate.and(isNotDeleted());
-        addCondition(predicate, containsKeyword(effectiveCondition.keyword()));
-        addCondition(predicate, eqMemberId(effectiveCondition.memberId()));
-        addCondition(predicate, inTags(effectiveCondition.tags()));
-
-        List<PostSummaryQueryDto> content = queryFactory
-                .select(Projections.constructor(PostSummaryQueryDto.class,
-                        post.id,
-                        post.title,
-                        post.createdAt,
-                        post.viewsCount,
-                        post.likeCount,
-                        post.commentCount,
-                        member.id,
-                        member.nickname,
-                        member.profileImageUrl,
-                        post.summary,
-                        post.thumbnail
-                ))
+        BooleanBuilder predicate = searchPredicate(effectiveCondition);
+
+        List<PostSummaryQueryDto> content = selectSummary()
+                .where(predicate)
+                .orderBy(getOrderSpecifiers(pageable))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        var countQuery = queryFactory
+                .select(post.count())
+                .from(post)
+                .where(predicate);
+        LongSupplier exactCount = countQuery::fetchOne;
+
+        CountQuery count = effectiveCondition.isUnfiltered()
+                ? CountQuery.estimable(effectiveCondition.countCacheKey(), "post", exactCount)
+                : CountQuery.of(effectiveCondition.countCacheKey(), exactCount);
+
+        return totalCountResolver.page(content, pageable, countMode, count);
+    }
+
+    @Override
+    public Slice<PostSummaryQueryDto> scrollPosts(PostSearchCondition condition, PostCursor cursor, int size) {
+        BooleanBuilder predicate = searchPredicate(condition);
+        addCondition(predicate, afterCursor(cursor));
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<PostSummaryQueryDto> content = new ArrayList<>(selectSummary()
+                .where(predicate)
+                .orderBy(getKeysetOrderSpecifiers(cursor))
+                .limit(size + 1L)
+                .fetch());
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content.removeLast();
+        }
+
+        return new SliceImpl<>(content, PageRequest.ofSize(size), hasNext);
+    }
+
+    @Override
+    public Page<PostSearchHit> searchByKeyword(PostSearchCondition condition, Pageable pageable, CountMode countMode) {
+        BooleanBuilder predicate = searchPredicate(condition);
+        OrderSpecifier<?>[] orderSpecifiers = isFullText()
+                ? new OrderSpecifier<?>[]{matchScore(fullTextQuery(condition.keyword())).desc(), post.id.desc()}
+                : new OrderSpecifier<?>[]{post.createdAt.desc(), post.id.desc()};
+
+        ConstructorExpression<PostSummaryQueryDto> summary = summaryProjection();
+        List<Tuple> rows = queryFactory
+                .select(summary, post.content)
                 .from(post)
                 .join(post.member, member)
                 .where(predicate)
-                .orderBy(getOrderSpecifiers(pageable))
+                .orderBy(orderSpecifiers)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
+        List<PostSearchHit> content = rows.stream()
+                .map(row -> new PostSearchHit(row.get(summary), row.get(post.content)))
+                .toList();
 
         var countQuery = queryFactory
                 .select(post.count())
                 .from(post)
                 .where(predicate);
 
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        return totalCountResolver.page(content, pageable, countMode,
+                CountQuery.of(condition.countCacheKey(), countQuery::fetchOne));
+    }
+
+    @Override
+    public List<PostSummaryQueryDto> findSummariesByIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        return selectSummary()
+                .where(post.id.in(postIds), isNotDeleted())
+                .fetch();
+    }
+
+    private JPAQuery<PostSummaryQueryDto> selectSummary() {
+        return queryFactory
+                .select(summaryProjection())
+                .from(post)
+                .join(post.member, member);
+    }
+
+    private ConstructorExpression<PostSummaryQueryDto> summaryProjection() {
+        return Projections.constructor(PostSummaryQueryDto.class,
+                post.id,
+                post.title,
+                post.createdAt,
+                post.viewsCount,
+                post.likeCount,
+                post.commentCount,
+                member.id,
+                member.nickname,
+                member.profileImageUrl,
+                post.summary,
+                post.thumbnail
+        );
+    }
+
+    private BooleanBuilder searchPredicate(PostSearchCondition condition) {
+        PostSearchCondition effectiveCondition = condition != null ? condition : PostSearchCondition.empty();
+        BooleanBuilder predicate = new BooleanBuilder();
+        predicate.and(isNotDeleted());
+        addCondition(predicate, containsKeyword(effectiveCondition.keyword()));
+        addCondition(predicate, eqMemberId(effectiveCondition.memberId()));
+        addCondition(predicate, hasTags(effectiveCondition.tags(), effectiveCondition.tagMatch()));
+        return predicate;
     }
 
     private OrderSpecifier<?>[] getOrderSpecifiers(Pageable pageable) {
         return QueryDslOrderUtil.getOrderSpecifiersWithDefault(
-                pageable,
+                Pageable.unpaged(toColumnSort(pageable.getSort())),
                 post,
                 ALLOWED_SORT_FIELDS,
                 post.createdAt.desc()
         );
     }
 
+    /**
+     * 인기순(sort=trending)은 컬럼이 아니라 인기 게시글 순위(Redis)의 정렬이므로,
+     * DB로 조회할 때는 좋아요순으로 바꾼다. 화이트리스트에서 걸러져 기본 정렬(최신순)이 되지 않도록 명시적으로 매핑한다.
+     */
+    private static Sort toColumnSort(Sort sort) {
+        return Sort.by(sort.stream()
+                .map(order -> TrendingPostIndex.SORT_PROPERTY.equals(order.getProperty())
+                        ? Sort.Order.desc(TRENDING_FALLBACK_FIELD)
+                        : order)
+                .toList());
+    }
+
+    /**
+     * 키셋 정렬: 정렬 키 + id (동률 처리), 두 키 모두 같은 방향
+     * idx_post_deleted_{정렬 키} (is_deleted, 정렬 키, id) 인덱스 순서와 일치한다.
+     */
+    private OrderSpecifier<?>[] getKeysetOrderSpecifiers(PostCursor cursor) {
+        Order direction = cursor.ascending() ? Order.ASC : Order.DESC;
+        if ("id".equals(cursor.sortField())) {
+            return new OrderSpecifier<?>[]{new OrderSpecifier<>(direction, post.id)};
+        }
+        return new OrderSpecifier<?>[]{
+                new OrderSpecifier<>(direction, keysetPath(cursor.sortField())),
+                new OrderSpecifier<>(direction, post.id)
+        };
+    }
+
+    /**
+     * 커서 이후 행 조건
+     * 내림차순 기준: key < :value OR (key = :value AND id < :id)
+     */
+    private BooleanExpression afterCursor(PostCursor cursor) {
+        if (cursor.isFirst()) {
+            return null;
+        }
+
+        BooleanExpression afterId = cursor.ascending() ? post.id.gt(cursor.lastId()) : post.id.lt(cursor.lastId());
+        return switch (cursor.sortField()) {
+            case "id" -> afterId;
+            case "title" -> seek(post.title, cursor.lastValue(), cursor.ascending(), afterId);
+            case "viewsCount" -> seek(post.viewsCount, cursor.lastValueAsLong(), cursor.ascending(), afterId);
+            case "likeCount" -> seek(post.likeCount, cursor.lastValueAsLong(), cursor.ascending(), afterId);
+            default -> seek(post.createdAt, cursor.lastValueAsInstant(), cursor.ascending(), afterId);
+        };
+    }
+
+    private <T extends Comparable<?>> BooleanExpression seek(
+            ComparableExpression<T> key,
+            T value,
+            boolean ascending,
+            BooleanExpression afterId
+    ) {
+        BooleanExpression beyond = ascending ? key.gt(value) : key.lt(value);
+        return beyond.or(key.eq(value).and(afterId));
+    }
+
+    private BooleanExpression seek(
+            NumberPath<Long> key,
+            Long value,
+            boolean ascending,
+            BooleanExpression afterId
+    ) {
+        BooleanExpression beyond = ascending ? key.gt(value) : key.lt(value);
+        return beyond.or(key.eq(value).and(afterId));
+    }
+
+    private ComparableExpressionBase<?> keysetPath(String sortField) {
+        return switch (sortField) {
+            case "title" -> post.title;
+            case "viewsCount" -> post.viewsCount;
+            case "likeCount" -> post.likeCount;
+            default -> post.createdAt;
+        };
+    }
+
     private BooleanExpression isNotDeleted() {
         return post.isDeleted.eq(false);
     }
 
+    /**
+     * 키워드 조건
+     * FULLTEXT 모드는 ft_post_title_content 인덱스를 사용하고,
+     * LIKE 모드는 선행 와일드카드 때문에 인덱스 없이 본문(TEXT)까지 전체를 스캔한다.
+     */
     private BooleanExpression containsKeyword(String keyword) {
         if (keyword == null) {
             return null;
         }
 
+        if (isFullText()) {
+            FullTextQuery query = fullTextQuery(keyword);
+            return query.isEmpty() ? null : matchScore(query).gt(0.0);
+        }
+
         return post.title.containsIgnoreCase(keyword)
                 .or(post.content.containsIgnoreCase(keyword));
     }
 
+    private NumberExpression<Double> matchScore(FullTextQuery query) {
+        return Expressions.numberTemplate(Double.class,
+                "function('" + FullTextFunctionContributor.MATCH_AGAINST + "', {0}, {1}, {2})",
+                post.title, post.content, query.toBooleanModeQuery());
+    }
+
+    private FullTextQuery fullTextQuery(String keyword) {
+        return FullTextQuery.parse(keyword, searchProperties.getMaxTerms());
+    }
+
+    private boolean isFullText() {
+        return searchProperties.getMode() == PostSearchMode.FULLTEXT;
+    }
+
     private BooleanExpression eqMemberId(Long memberId) {
         return memberId != null ? post.member.id.eq(memberId) : null;
     }
 
-    private BooleanExpression inTags(List<String> tags) {
-        if (tags == null || tags.isEmpty()) {
+    /**
+     * 태그 조건
+     * 태그 이름은 TagDictionary로 미리 ID로 바꿔 tag 테이블 조인 없이 post_tag 인덱스만 읽는다.
+     * - ANY: EXISTS (post_tag WHERE post_id = p.id AND tag_id IN (...)) - PK (post_id, tag_id) 탐색
+     * - ALL: p.id IN (post_tag WHERE tag_id IN (...) GROUP BY post_id HAVING COUNT(*) = 태그 수)
+     *        - idx_post_tag_tag_id (tag_id, post_id) 범위 스캔
+     * 존재하지 않는 태그만 요청했거나(ANY), 하나라도 존재하지 않으면(ALL) 결과가 없다.
+     */
+    private BooleanExpression hasTags(List<String> tagNames, TagMatch tagMatch) {
+        if (tagNames == null || tagNames.isEmpty()) {
             return null;
         }
 
-        return post.id.in(
-            queryFactory
-                .select(postTag.post.id)
+        Collection<Long> tagIds = tagDictionary.resolve(tagNames).values();
+        boolean unsatisfiable = tagIds.isEmpty() || (tagMatch == TagMatch.ALL && tagIds.size() < tagNames.size());
+        if (unsatisfiable) {
+            // NOT NULL PK에 대한 IS NULL - 옵티마이저가 Impossible WHERE로 처리해 테이블을 읽지 않는다
+            return post.id.isNull();
+        }
+
+        if (tagMatch == TagMatch.ALL) {
+            return post.id.in(JPAExpressions
+                    .select(postTag.id.postId)
+                    .from(postTag)
+                    .where(postTag.id.tagId.in(tagIds))
+                    .groupBy(postTag.id.postId)
+                    .having(postTag.count().eq((long) tagIds.size())));
+        }
+
+        return JPAExpressions
+                .selectOne()
                 .from(postTag)
-                .join(postTag.tag, tag)
-                .where(tag.name.in(tags))
-        );
+                .where(postTag.id.postId.eq(post.id), postTag.id.tagId.in(tagIds))
+                .exists();
     }
 
     private void addCondition(BooleanBuilder builder, BooleanExpression expression) {
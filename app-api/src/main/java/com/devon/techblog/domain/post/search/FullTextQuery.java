@@ -0,0 +1,56 @@
+package com.devon.techblog.domain.post.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 검색어를 FULLTEXT BOOLEAN MODE 질의로 변환한 값
+ *
+ * 검색어를 공백으로 나눈 단어를 모두 포함해야 하며(AND), 각 단어는 ngram 구문 검색으로 처리된다.
+ * 사용자가 입력한 BOOLEAN MODE 연산자(+ - < > ( ) ~ * " @)는 제거한다.
+ */
+public record FullTextQuery(List<String> terms) {
+
+    private static final Pattern OPERATORS = Pattern.compile("[+\\-<>()~*\"@]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * ngram_token_size 기본값(2)보다 짧은 단어는 구문 검색으로 찾을 수 없어 접두어 검색으로 바꾼다.
+     */
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
+    public FullTextQuery {
+        terms = List.copyOf(terms);
+    }
+
+    public static FullTextQuery parse(String keyword, int maxTerms) {
+        if (keyword == null) {
+            return new FullTextQuery(List.of());
+        }
+
+        List<String> terms = Arrays.stream(WHITESPACE.split(OPERATORS.matcher(keyword).replaceAll(" ")))
+                .filter(term -> !term.isBlank())
+                .map(term -> term.toLowerCase(Locale.ROOT))
+                .distinct()
+                .limit(maxTerms)
+                .toList();
+        return new FullTextQuery(terms);
+    }
+
+    public boolean isEmpty() {
+        return terms.isEmpty();
+    }
+
+    /**
+     * MATCH ... AGAINST (? IN BOOLEAN MODE)에 전달할 질의 문자열
+     * 예) "스프링 jpa 락" -> +"스프링" +"jpa" +락*
+     */
+    public String toBooleanModeQuery() {
+        return terms.stream()
+                .map(term -> term.length() < NGRAM_TOKEN_SIZE ? "+" + term + "*" : "+\"" + term + "\"")
+                .collect(Collectors.joining(" "));
+    }
+}
@@ -0,0 +1,8 @@
+package com.devon.techblog.domain.post.search;
+
+public enum PostSearchMode {
+    /** MySQL FULLTEXT(ngram) 인덱스 + MATCH ... AGAINST - 인덱스 검색, 관련도 순 정렬 */
+    FULLTEXT,
+    /** LIKE '%키워드%' 부분 일치 - FULLTEXT 인덱스가 없는 DB(H2 등)용, 전체 테이블을 스캔한다 */
+    LIKE
+}
@@ -0,0 +1,40 @@
+package com.devon.techblog.domain.post.search;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 게시글 키워드 검색 설정
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "post.search")
+public class PostSearchProperties {
+
+    /**
+     * 검색 방식 (기본값 FULLTEXT)
+     */
+    @NotNull
+    private PostSearchMode mode = PostSearchMode.FULLTEXT;
+
+    /**
+     * 검색어에서 사용할 최대 단어 수 (기본값 5)
+     * 나머지 단어는 버린다.
+     */
+    @Positive
+    private int maxTerms = 5;
+
+    /**
+     * 본문 하이라이트 스니펫 길이 (기본값 160자)
+     */
+    @Min(20)
+    private int snippetLength = 160;
+}
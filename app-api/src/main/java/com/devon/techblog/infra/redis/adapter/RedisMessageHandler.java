@@ -0,0 +1,20 @@
+package com.devon.techblog.infra.redis.adapter;
+
+/**
+ * Redis pub/sub 채널 구독자
+ *
+ * 빈으로 등록하면 RedisConfig가 channel()을 구독해 받은 메시지(UTF-8 문자열)를 onMessage로 넘긴다.
+ * test 프로필에는 구독 컨테이너가 없어 호출되지 않는다.
+ */
+public interface RedisMessageHandler {
+
+    /**
+     * 구독할 채널
+     */
+    String channel();
+
+    /**
+     * 다른 노드(자신 포함)가 발행한 메시지 처리
+     */
+    void onMessage(String message);
+}
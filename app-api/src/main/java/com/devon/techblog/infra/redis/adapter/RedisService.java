@@ -1,14 +1,194 @@
 package com.devon.techblog.infra.redis.adapter;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface RedisService {
 
+    /**
+     * 값 저장 (SET key value [EX ttl]), ttl이 null이면 만료 없이 저장한다.
+     */
     void save(String key, String value,  Duration ttl);
 
     Optional<String> find(String key);
 
+    /**
+     * 키가 없을 때만 값을 저장 (SET key value NX EX ttl)
+     * 단일 명령으로 처리되므로 조회 후 저장하는 방식과 달리 경쟁 조건이 없다.
+     *
+     * @return 새로 저장했으면 true, 이미 키가 있으면 false
+     */
+    boolean setIfAbsent(String key, String value, Duration ttl);
+
     void delete(String key);
 
+    /**
+     * 값이 expectedValue일 때만 키 삭제 (GET + DEL, Lua 스크립트로 원자적 처리)
+     * 락 TTL이 지나 다른 노드가 잡은 락을 지우지 않도록, 획득할 때 넣은 값으로 소유자를 확인한 뒤 해제할 때 사용한다.
+     *
+     * @return 삭제했으면 true
+     */
+    boolean deleteIfEquals(String key, String expectedValue);
+
+    /**
+     * 키 이름 변경 (RENAME sourceKey destKey) - destKey가 있으면 덮어쓰며, sourceKey가 없으면 예외가 발생한다.
+     */
+    void rename(String sourceKey, String destKey);
+
+    /**
+     * 여러 키를 한 번에 삭제 (DEL key...)
+     */
+    void deleteAll(Collection<String> keys);
+
+    /**
+     * 키 존재 여부 (EXISTS key)
+     */
+    boolean exists(String key);
+
+    /**
+     * 패턴과 일치하는 키 목록 (SCAN MATCH pattern, 커서를 끝까지 순회)
+     * KEYS와 달리 Redis를 오래 막지 않지만 키 공간 전체를 훑으므로 일회성 작업에만 사용한다.
+     */
+    List<String> scanKeys(String pattern);
+
+    /**
+     * 키가 있을 때만 정수 값을 증감 (EXISTS + INCRBY, Lua 스크립트로 원자적 처리)
+     * INCRBY는 키가 없으면 0에서 시작해 새로 만들기 때문에, 캐시된 값에만 증감분을 반영할 때 사용한다.
+     *
+     * @return 증감 후 값, 키가 없으면 empty
+     */
+    Optional<Long> incrementIfPresent(String key, long delta);
+
+    /**
+     * 정수 값을 1 증가시키고 TTL 갱신 (INCR + PEXPIRE, Lua 스크립트로 원자적 처리)
+     *
+     * @return 증가 후 값
+     */
+    long incrementWithTtl(String key, Duration ttl);
+
+    /**
+     * 키의 TTL 갱신 (EXPIRE key ttl)
+     */
+    void expire(String key, Duration ttl);
+
+    /**
+     * 값이 expectedValue일 때만 TTL 갱신 (GET + PEXPIRE, Lua 스크립트로 원자적 처리)
+     * 오래 걸리는 작업이 자기가 잡은 락만 연장하도록 할 때 사용한다.
+     *
+     * @return 갱신했으면 true
+     */
+    boolean expireIfEquals(String key, String expectedValue, Duration ttl);
+
+    /**
+     * 여러 비트를 1로 설정 (SETBIT key offset 1 ..., Lua 스크립트로 원자적 처리)
+     * 이전 값이 0이던 비트가 하나라도 있으면 키의 TTL을 ttl로 갱신한다.
+     *
+     * @return 이전 값이 0이던 비트가 하나라도 있으면 true
+     */
+    boolean setBits(String key, long[] offsets, Duration ttl);
+
+    /**
+     * SET에 멤버 추가 (SADD key member...)
+     */
+    void addToSet(String key, Collection<String> members);
+
+    /**
+     * SET에 requiredMember가 있을 때만 멤버 추가 (SISMEMBER + SADD, Lua 스크립트로 원자적 처리)
+     * 적재 표시(센티넬) 멤버가 있는 캐시 SET에만 반영해, 적재되지 않은 키가 TTL 없이 생기지 않도록 할 때 사용한다.
+     *
+     * @return 추가했으면 true, requiredMember가 없어 건너뛰었으면 false
+     */
+    boolean addToSetIfMember(String key, String requiredMember, Collection<String> members);
+
+    /**
+     * guardKey의 값이 expectedGuard일 때만 SET을 members로 교체하고 TTL 설정 (GET + DEL + SADD + PEXPIRE, Lua 스크립트로 원자적 처리)
+     * guardKey가 없으면 빈 문자열로 비교한다. DB에서 읽은 스냅샷을 그 사이 변경이 없었을 때만 캐시에 올릴 때 사용한다.
+     *
+     * @return 교체했으면 true, guardKey 값이 달라 건너뛰었으면 false
+     */
+    boolean replaceSetIfEquals(String key, Collection<String> members, Duration ttl, String guardKey, String expectedGuard);
+
+    /**
+     * SET에서 멤버 제거 (SREM key member...)
+     */
+    void removeFromSet(String key, Collection<String> members);
+
+    /**
+     * SET 전체 멤버 조회 (SMEMBERS key)
+     * 키가 없으면 빈 집합을 반환한다.
+     */
+    Set<String> findSetMembers(String key);
+
+    /**
+     * 여러 멤버의 SET 포함 여부를 한 번에 확인 (SMISMEMBER key member...)
+     * 키가 없으면 모두 false를 반환한다.
+     *
+     * @return members와 같은 순서의 포함 여부 목록
+     */
+    List<Boolean> isSetMembers(String key, List<String> members);
+
+    /**
+     * ZSET에 멤버를 점수와 함께 추가 (ZADD key score member...)
+     * 이미 있는 멤버는 점수만 갱신한다.
+     */
+    void addToSortedSet(String key, Map<String, Double> scoredMembers);
+
+    /**
+     * ZSET에서 멤버 제거 (ZREM key member...)
+     */
+    void removeFromSortedSet(String key, Collection<String> members);
+
+    /**
+     * 점수 내림차순 범위 조회 (ZREVRANGE key start end)
+     * 점수가 같으면 멤버의 사전 역순으로 정렬된다. 키가 없으면 빈 목록을 반환한다.
+     */
+    List<String> reverseRangeOfSortedSet(String key, long start, long end);
+
+    /**
+     * ZSET 멤버 수 (ZCARD key)
+     */
+    long sizeOfSortedSet(String key);
+
+    /**
+     * 여러 멤버의 점수를 한 번에 증감 (ZINCRBY key delta member, 파이프라인)
+     * 멤버나 키가 없으면 0점에서 시작한다.
+     */
+    void incrementScoresInSortedSet(String key, Map<String, Double> deltas);
+
+    /**
+     * 여러 멤버의 점수를 한 번에 감소시키되 0 아래로는 내리지 않는다 (ZSCORE + ZADD, Lua 스크립트로 원자적 처리)
+     * ZSET에 없는 멤버는 음수 점수로 새로 생기지 않도록 건너뛴다.
+     */
+    void decrementScoresInSortedSet(String key, Map<String, Double> deltas);
+
+    /**
+     * sourceKey의 점수에 weight를 곱해 destKey에 더한다 (ZUNIONSTORE destKey 2 destKey sourceKey WEIGHTS 1 weight)
+     */
+    void addScaledSortedSet(String destKey, String sourceKey, double weight);
+
+    /**
+     * 점수 상위 maxSize개만 남기고 제거 (ZREMRANGEBYRANK key 0 -(maxSize+1))
+     */
+    void trimSortedSet(String key, long maxSize);
+
+    /**
+     * 여러 ZSET의 합집합을 destKey에 저장 (ZUNIONSTORE destKey n key... AGGREGATE MAX)
+     */
+    void unionSortedSets(String destKey, Collection<String> keys);
+
+    /**
+     * 여러 ZSET의 교집합을 destKey에 저장 (ZINTERSTORE destKey n key... AGGREGATE MAX)
+     */
+    void intersectSortedSets(String destKey, Collection<String> keys);
+
+    /**
+     * 채널에 메시지 발행 (PUBLISH channel message)
+     * 구독 중인 모든 노드에 전달되며, 구독자가 없으면 버려진다.
+     */
+    void publish(String channel, String message);
+
 }
@@ -1,18 +1,109 @@
 package com.devon.techblog.infra.redis.adapter;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class RedisServiceImpl implements RedisService {
+    private static final long SCAN_COUNT = 1_000L;
+
+    private static final RedisScript<Long> INCREMENT_IF_PRESENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('INCRBY', KEYS[1], ARGV[1]) end return nil",
+            Long.class);
+
+    private static final RedisScript<Long> DELETE_IF_EQUALS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private static final RedisScript<Long> EXPIRE_IF_EQUALS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end return 0",
+            Long.class);
+
+    private static final RedisScript<Long> INCREMENT_WITH_TTL_SCRIPT = new DefaultRedisScript<>(
+            "local value = redis.call('INCR', KEYS[1]) redis.call('PEXPIRE', KEYS[1], ARGV[1]) return value",
+            Long.class);
+
+    /**
+     * KEYS[1] = SET 키, KEYS[2] = 확인할 키, ARGV[1] = 기대 값(없으면 ''), ARGV[2] = TTL(ms), ARGV[3..] = 멤버
+     */
+    private static final RedisScript<Long> REPLACE_SET_IF_EQUALS_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '') ~= ARGV[1] then
+              return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('SADD', KEYS[1], unpack(ARGV, 3))
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1] = SET 키, ARGV[1] = 있어야 하는 멤버, ARGV[2..] = 추가할 멤버
+     */
+    private static final RedisScript<Long> ADD_TO_SET_IF_MEMBER_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 0 then
+              return 0
+            end
+            redis.call('SADD', KEYS[1], unpack(ARGV, 2))
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1] = 비트맵 키, ARGV[1] = TTL(초), ARGV[2..] = 비트 위치
+     */
+    private static final RedisScript<Long> SET_BITS_SCRIPT = new DefaultRedisScript<>("""
+            local changed = 0
+            for i = 2, #ARGV do
+              if redis.call('SETBIT', KEYS[1], ARGV[i], 1) == 0 then
+                changed = 1
+              end
+            end
+            if changed == 1 then
+              redis.call('EXPIRE', KEYS[1], ARGV[1])
+            end
+            return changed
+            """, Long.class);
+
+    /**
+     * KEYS[1] = ZSET 키, ARGV = 멤버, 감소량 쌍
+     */
+    private static final RedisScript<Long> DECREMENT_SCORES_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #ARGV, 2 do
+              local score = redis.call('ZSCORE', KEYS[1], ARGV[i])
+              if score then
+                redis.call('ZADD', KEYS[1], math.max(0, tonumber(score) - tonumber(ARGV[i + 1])), ARGV[i])
+              end
+            end
+            return 0
+            """, Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
 
     @Override
     public void save(String key, String value, Duration ttl){
+        if (ttl == null) {
+            redisTemplate.opsForValue().set(key, value);
+            return;
+        }
         redisTemplate.opsForValue().set(key, value, ttl);
     }
 
@@ -21,9 +112,213 @@ public class RedisServiceImpl implements RedisService {
         return Optional.ofNullable(redisTemplate.opsForValue().get(key));
     }
 
+    @Override
+    public boolean setIfAbsent(String key, String value, Duration ttl){
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, ttl));
+    }
+
     @Override
     public void delete(String key){
         redisTemplate.delete(key);
     }
 
+    @Override
+    public boolean deleteIfEquals(String key, String expectedValue){
+        Long deleted = redisTemplate.execute(DELETE_IF_EQUALS_SCRIPT, List.of(key), expectedValue);
+        return deleted != null && deleted == 1L;
+    }
+
+    @Override
+    public void deleteAll(Collection<String> keys){
+        redisTemplate.delete(keys);
+    }
+
+    @Override
+    public boolean exists(String key){
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    }
+
+    @Override
+    public List<String> scanKeys(String pattern){
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        return keys;
+    }
+
+    @Override
+    public Optional<Long> incrementIfPresent(String key, long delta){
+        return Optional.ofNullable(redisTemplate.execute(INCREMENT_IF_PRESENT_SCRIPT, List.of(key), String.valueOf(delta)));
+    }
+
+    @Override
+    public void rename(String sourceKey, String destKey){
+        redisTemplate.rename(sourceKey, destKey);
+    }
+
+    @Override
+    public long incrementWithTtl(String key, Duration ttl){
+        Long value = redisTemplate.execute(INCREMENT_WITH_TTL_SCRIPT, List.of(key), String.valueOf(ttl.toMillis()));
+        return value == null ? 0L : value;
+    }
+
+    @Override
+    public void expire(String key, Duration ttl){
+        redisTemplate.expire(key, ttl);
+    }
+
+    @Override
+    public boolean expireIfEquals(String key, String expectedValue, Duration ttl){
+        Long updated = redisTemplate.execute(EXPIRE_IF_EQUALS_SCRIPT, List.of(key),
+                expectedValue, String.valueOf(ttl.toMillis()));
+        return updated != null && updated == 1L;
+    }
+
+    @Override
+    public boolean setBits(String key, long[] offsets, Duration ttl){
+        Object[] args = new Object[offsets.length + 1];
+        args[0] = String.valueOf(ttl.toSeconds());
+        for (int i = 0; i < offsets.length; i++) {
+            args[i + 1] = String.valueOf(offsets[i]);
+        }
+        Long changed = redisTemplate.execute(SET_BITS_SCRIPT, List.of(key), args);
+        return changed != null && changed == 1L;
+    }
+
+    @Override
+    public void addToSet(String key, Collection<String> members){
+        redisTemplate.opsForSet().add(key, members.toArray(String[]::new));
+    }
+
+    @Override
+    public boolean addToSetIfMember(String key, String requiredMember, Collection<String> members){
+        Object[] args = new Object[members.size() + 1];
+        args[0] = requiredMember;
+        int i = 1;
+        for (String member : members) {
+            args[i++] = member;
+        }
+        Long added = redisTemplate.execute(ADD_TO_SET_IF_MEMBER_SCRIPT, List.of(key), args);
+        return added != null && added == 1L;
+    }
+
+    @Override
+    public boolean replaceSetIfEquals(String key, Collection<String> members, Duration ttl,
+                                      String guardKey, String expectedGuard){
+        Object[] args = new Object[members.size() + 2];
+        args[0] = expectedGuard;
+        args[1] = String.valueOf(ttl.toMillis());
+        int i = 2;
+        for (String member : members) {
+            args[i++] = member;
+        }
+        Long replaced = redisTemplate.execute(REPLACE_SET_IF_EQUALS_SCRIPT, List.of(key, guardKey), args);
+        return replaced != null && replaced == 1L;
+    }
+
+    @Override
+    public void removeFromSet(String key, Collection<String> members){
+        redisTemplate.opsForSet().remove(key, members.toArray());
+    }
+
+    @Override
+    public Set<String> findSetMembers(String key){
+        Set<String> members = redisTemplate.opsForSet().members(key);
+        return members != null ? members : Set.of();
+    }
+
+    @Override
+    public List<Boolean> isSetMembers(String key, List<String> members){
+        Map<Object, Boolean> result = redisTemplate.opsForSet().isMember(key, members.toArray());
+        return members.stream()
+                .map(member -> result != null && Boolean.TRUE.equals(result.get(member)))
+                .toList();
+    }
+
+    @Override
+    public void addToSortedSet(String key, Map<String, Double> scoredMembers){
+        Set<TypedTuple<String>> tuples = scoredMembers.entrySet().stream()
+                .map(entry -> TypedTuple.of(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toSet());
+        redisTemplate.opsForZSet().add(key, tuples);
+    }
+
+    @Override
+    public void removeFromSortedSet(String key, Collection<String> members){
+        redisTemplate.opsForZSet().remove(key, members.toArray());
+    }
+
+    @Override
+    public List<String> reverseRangeOfSortedSet(String key, long start, long end){
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(key, start, end);
+        return members != null ? new ArrayList<>(members) : List.of();
+    }
+
+    @Override
+    public long sizeOfSortedSet(String key){
+        Long size = redisTemplate.opsForZSet().zCard(key);
+        return size != null ? size : 0L;
+    }
+
+    @Override
+    public void incrementScoresInSortedSet(String key, Map<String, Double> deltas){
+        if (deltas.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                ZSetOperations<String, String> zSetOperations = (ZSetOperations<String, String>) operations.opsForZSet();
+                deltas.forEach((member, delta) -> zSetOperations.incrementScore(key, member, delta));
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void decrementScoresInSortedSet(String key, Map<String, Double> deltas){
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>(deltas.size() * 2);
+        deltas.forEach((member, delta) -> {
+            args.add(member);
+            args.add(String.valueOf(delta));
+        });
+        redisTemplate.execute(DECREMENT_SCORES_SCRIPT, List.of(key), args.toArray());
+    }
+
+    @Override
+    public void addScaledSortedSet(String destKey, String sourceKey, double weight){
+        redisTemplate.opsForZSet().unionAndStore(
+                destKey, List.of(sourceKey), destKey, Aggregate.SUM, Weights.of(1, weight));
+    }
+
+    @Override
+    public void trimSortedSet(String key, long maxSize){
+        redisTemplate.opsForZSet().removeRange(key, 0, -maxSize - 1);
+    }
+
+    @Override
+    public void unionSortedSets(String destKey, Collection<String> keys){
+        List<String> sources = new ArrayList<>(keys);
+        redisTemplate.opsForZSet().unionAndStore(
+                sources.getFirst(), sources.subList(1, sources.size()), destKey, Aggregate.MAX);
+    }
+
+    @Override
+    public void intersectSortedSets(String destKey, Collection<String> keys){
+        List<String> sources = new ArrayList<>(keys);
+        redisTemplate.opsForZSet().intersectAndStore(
+                sources.getFirst(), sources.subList(1, sources.size()), destKey, Aggregate.MAX);
+    }
+
+    @Override
+    public void publish(String channel, String message){
+        redisTemplate.convertAndSend(channel, message);
+    }
+
 }
@@ -1,5 +1,9 @@
 package com.devon.techblog.infra.redis.config;
 
+import com.devon.techblog.infra.redis.adapter.RedisMessageHandler;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -7,6 +11,8 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -37,4 +43,22 @@ public class RedisConfig {
         template.setValueSerializer(new StringRedisSerializer());
         return template;
     }
+
+    /**
+     * Redis pub/sub 구독 컨테이너
+     * 노드 간 로컬 캐시 무효화 등 브로드캐스트 메시지를 받도록 RedisMessageHandler 빈을 모두 채널별로 등록한다.
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(ObjectProvider<RedisMessageHandler> handlers) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        subscribe(container, handlers.orderedStream());
+        return container;
+    }
+
+    static void subscribe(RedisMessageListenerContainer container, Stream<RedisMessageHandler> handlers) {
+        handlers.forEach(handler -> container.addMessageListener(
+                (message, pattern) -> handler.onMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(handler.channel())));
+    }
 }
@@ -65,7 +65,7 @@ class CommentControllerTest {
     void getCommentPage_success() throws Exception {
         MemberResponse memberResponse = new MemberResponse(1L, "tester", null);
         CommentResponse comment = new CommentResponse(1L, 1L, "댓글내용", memberResponse, Instant.now(), Instant.now());
-        PageResponse<CommentResponse> response = new PageResponse<>(List.of(comment), 0, 10, 1, 1);
+        PageResponse<CommentResponse> response = new PageResponse<>(List.of(comment), 0, 10, 1, 1, true);
 
         given(commentService.getCommentPageByPostId(any(), any())).willReturn(response);
 
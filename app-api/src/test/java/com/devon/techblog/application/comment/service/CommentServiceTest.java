@@ -20,12 +20,19 @@ import com.devon.techblog.domain.comment.dto.CommentQueryDto;
 import com.devon.techblog.domain.comment.entity.Comment;
 import com.devon.techblog.domain.comment.repository.CommentRepository;
 import com.devon.techblog.domain.common.policy.OwnershipPolicy;
+import com.devon.techblog.domain.common.repository.count.CountCacheProperties;
+import com.devon.techblog.domain.common.repository.count.CountMode;
+import com.devon.techblog.domain.common.repository.count.TotalCountResolver;
 import com.devon.techblog.domain.member.MemberFixture;
 import com.devon.techblog.domain.member.entity.Member;
 import com.devon.techblog.domain.member.repository.MemberRepository;
 import com.devon.techblog.domain.post.CommentFixture;
 import com.devon.techblog.domain.post.PostFixture;
+import com.devon.techblog.domain.post.counter.PostCounterStore;
 import com.devon.techblog.domain.post.entity.Post;
+import com.devon.techblog.domain.post.entity.PostCounterType;
+import com.devon.techblog.domain.post.index.TrendingPostIndex;
+import com.devon.techblog.domain.post.index.TrendingSignal;
 import com.devon.techblog.domain.post.repository.PostRepository;
 import java.time.Instant;
 import java.util.List;
@@ -51,6 +58,15 @@ class CommentServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private TotalCountResolver totalCountResolver;
+
+    @Mock
+    private PostCounterStore postCounterStore;
+
+    @Mock
+    private TrendingPostIndex trendingPostIndex;
+
     private CommentService commentService;
 
     private Member member;
@@ -61,7 +77,8 @@ class CommentServiceTest {
     void setUp() {
         // spy로 실제 객체 사용하기
         OwnershipPolicy ownershipPolicy = new OwnershipPolicy();
-        commentService = new CommentService(commentRepository, memberRepository, postRepository, ownershipPolicy);
+        commentService = new CommentService(commentRepository, memberRepository, postRepository, ownershipPolicy,
+                totalCountResolver, new CountCacheProperties(), postCounterStore, trendingPostIndex);
 
         member = MemberFixture.createWithId(1L);
         post = PostFixture.createWithId(1L, member);
@@ -142,7 +159,7 @@ class CommentServiceTest {
         Page<CommentQueryDto> page = new PageImpl<>(List.of(dto), pageable, 1);
 
         given(postRepository.existsById(1L)).willReturn(true);
-        given(commentRepository.findByPostIdWithMemberAsDto(1L, pageable)).willReturn(page);
+        given(commentRepository.findByPostIdWithMemberAsDto(1L, pageable, CountMode.CACHED)).willReturn(page);
 
         PageResponse<CommentResponse> response = commentService.getCommentPageByPostId(1L, pageable);
 
@@ -184,7 +201,9 @@ class CommentServiceTest {
 
         commentService.createComment(1L, request, 1L);
 
-        verify(postRepository).incrementCommentCount(1L);
+        verify(postCounterStore).increment(PostCounterType.COMMENT, 1L);
+        verify(trendingPostIndex).record(1L, TrendingSignal.COMMENT);
+        verify(totalCountResolver).applyDelta("comment:post:1", 1);
     }
 
     @Test
@@ -238,7 +257,9 @@ class CommentServiceTest {
 
         commentService.deleteComment(1L, 1L);
 
-        verify(postRepository).decrementCommentCount(1L);
+        verify(postCounterStore).decrement(PostCounterType.COMMENT, 1L);
+        verify(trendingPostIndex).retract(1L, TrendingSignal.COMMENT);
+        verify(totalCountResolver).applyDelta("comment:post:1", -1);
     }
 
     @Test
@@ -0,0 +1,27 @@
+package com.devon.techblog.application.common.dto.request;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devon.techblog.application.common.constant.PaginationConstants;
+import com.devon.techblog.config.annotation.UnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class CursorRequestTest {
+
+    @Test
+    @DisplayName("페이지 크기는 최대값을 넘지 않는다")
+    void size_isClampedToMax() {
+        assertThat(new CursorRequest(null, 10_000, null).size()).isEqualTo(PaginationConstants.MAX_SCROLL_SIZE);
+        assertThat(new CursorRequest(null, 0, null).size()).isEqualTo(PaginationConstants.DEFAULT_SIZE);
+    }
+
+    @Test
+    @DisplayName("정렬 방향을 생략하면 PageSortRequest와 같이 오름차순이다")
+    void ascending_defaultsToAsc() {
+        assertThat(new CursorRequest(null, null, "viewsCount").ascending()).isTrue();
+        assertThat(new CursorRequest(null, null, "viewsCount,desc").ascending()).isFalse();
+        assertThat(new CursorRequest(null, null, null).ascending()).isFalse();
+    }
+}
@@ -0,0 +1,115 @@
+package com.devon.techblog.application.member.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.devon.techblog.common.exception.BusinessException;
+import com.devon.techblog.common.exception.code.MemberErrorCode;
+import com.devon.techblog.config.annotation.UnitTest;
+import com.devon.techblog.domain.member.dto.MemberAuthSnapshot;
+import com.devon.techblog.domain.member.entity.MemberRole;
+import com.devon.techblog.domain.member.entity.MemberStatus;
+import com.devon.techblog.fake.FakeRedisService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class MemberAuthCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private FakeRedisService redisService;
+    private MemberAuthCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        redisService = new FakeRedisService();
+        cache = newNode();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 회원 인증 정보는 로컬 캐시에서 반환된다")
+    void get_secondCall_hitsLocalCache() {
+        cache.get(1L, loader(1L));
+        MemberAuthSnapshot snapshot = cache.get(1L, loader(1L));
+
+        assertThat(snapshot.role()).isEqualTo(MemberRole.USER);
+        assertThat(snapshot.isActive()).isTrue();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 채운 값은 Redis에서 읽어 DB를 조회하지 않는다")
+    void get_fromOtherNode_hitsRemoteCache() {
+        cache.get(1L, loader(1L));
+
+        MemberAuthSnapshot snapshot = newNode().get(1L, loader(1L));
+
+        assertThat(snapshot).isEqualTo(cache.get(1L, loader(1L)));
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("비밀번호 해시는 캐시에 저장하지 않는다")
+    void get_dropsPassword() {
+        MemberAuthSnapshot snapshot = cache.get(1L, loader(1L));
+
+        assertThat(snapshot.password()).isNull();
+        assertThat(redisService.find(MemberAuthCache.KEY_PREFIX + 1L))
+                .hasValueSatisfying(json -> assertThat(json).doesNotContain("hashed-password"));
+    }
+
+    @Test
+    @DisplayName("무효화하면 로컬과 Redis 캐시가 모두 비워진다")
+    void evict_clearsBothTiers() {
+        cache.get(1L, loader(1L));
+
+        cache.evict(1L);
+        cache.get(1L, loader(1L));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 로컬 캐시를 비운다")
+    void onEvictionMessage_fromOtherNode_invalidatesLocal() {
+        cache.get(1L, loader(1L));
+        redisService.delete(MemberAuthCache.KEY_PREFIX + 1L);
+
+        cache.onMessage("other-node|1");
+        cache.get(1L, loader(1L));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("로더가 실패하면 아무것도 캐시하지 않는다")
+    void get_whenLoaderFails_cachesNothing() {
+        Supplier<MemberAuthSnapshot> notFound = () -> {
+            throw new BusinessException(MemberErrorCode.USER_NOT_FOUND);
+        };
+
+        assertThatThrownBy(() -> cache.get(1L, notFound)).isInstanceOf(BusinessException.class);
+
+        cache.get(1L, loader(1L));
+        assertThat(loads).hasValue(1);
+    }
+
+    private MemberAuthCache newNode() {
+        return new MemberAuthCache(redisService, objectMapper, new MemberAuthCacheProperties(), new SimpleMeterRegistry());
+    }
+
+    private Supplier<MemberAuthSnapshot> loader(Long memberId) {
+        return () -> {
+            loads.incrementAndGet();
+            return new MemberAuthSnapshot(memberId, "hashed-password", MemberRole.USER, MemberStatus.ACTIVE);
+        };
+    }
+}
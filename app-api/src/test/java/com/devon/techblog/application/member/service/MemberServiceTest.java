@@ -4,13 +4,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 
 import com.devon.techblog.application.member.MemberRequestFixture;
+import com.devon.techblog.application.member.cache.MemberAuthCache;
 import com.devon.techblog.application.member.dto.request.MemberUpdateRequest;
 import com.devon.techblog.application.member.dto.request.PasswordUpdateRequest;
 import com.devon.techblog.application.member.dto.response.MemberDetailsResponse;
 import com.devon.techblog.application.member.dto.response.MemberUpdateResponse;
 import com.devon.techblog.application.member.validator.MemberValidator;
+import com.devon.techblog.application.security.service.TokenEpochService;
 import com.devon.techblog.common.exception.BusinessException;
 import com.devon.techblog.common.exception.code.MemberErrorCode;
 import com.devon.techblog.config.annotation.UnitTest;
@@ -34,6 +37,12 @@ class MemberServiceTest {
     @Mock
     private MemberValidator memberValidator;
 
+    @Mock
+    private TokenEpochService tokenEpochService;
+
+    @Mock
+    private MemberAuthCache memberAuthCache;
+
     @InjectMocks
     private MemberService memberService;
 
@@ -79,7 +88,7 @@ class MemberServiceTest {
     }
 
     @Test
-    @DisplayName("비밀번호 변경 시 검증 후 저장된다")
+    @DisplayName("비밀번호 변경 시 검증 후 저장되고 기존 토큰은 폐기된다")
     void updatePassword_success() {
         PasswordUpdateRequest request = new PasswordUpdateRequest("password1234", "newPassword123");
         given(memberRepository.findByIdAndStatus(1L, MemberStatus.ACTIVE)).willReturn(Optional.of(member));
@@ -88,16 +97,19 @@ class MemberServiceTest {
         memberService.updatePassword(1L, request);
 
         assertThat(member.getPassword()).isEqualTo("newPassword123");
+        verify(tokenEpochService).revokeAll(1L);
     }
 
     @Test
-    @DisplayName("회원 탈퇴 시 상태가 변경되고 저장된다")
+    @DisplayName("회원 탈퇴 시 상태가 변경되어 저장되고 인증 캐시와 기존 토큰은 폐기된다")
     void deleteMember_success() {
         given(memberRepository.findByIdAndStatus(1L, MemberStatus.ACTIVE)).willReturn(Optional.of(member));
 
         memberService.deleteMember(1L);
 
         assertThat(member.getStatus()).isEqualTo(MemberStatus.WITHDRAWN);
+        verify(memberAuthCache).evict(1L);
+        verify(tokenEpochService).revokeAll(1L);
     }
 
     @Test
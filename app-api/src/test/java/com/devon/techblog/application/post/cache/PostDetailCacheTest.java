@@ -0,0 +1,107 @@
+package com.devon.techblog.application.post.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.devon.techblog.application.member.dto.response.MemberResponse;
+import com.devon.techblog.common.exception.BusinessException;
+import com.devon.techblog.common.exception.code.PostErrorCode;
+import com.devon.techblog.config.annotation.UnitTest;
+import com.devon.techblog.fake.FakeRedisService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class PostDetailCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private FakeRedisService redisService;
+    private PostDetailCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        redisService = new FakeRedisService();
+        cache = newNode();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 게시글은 로컬 캐시에서 반환된다")
+    void get_secondCall_hitsLocalCache() {
+        cache.get(1L, loader(1L));
+        PostDetailSnapshot snapshot = cache.get(1L, loader(1L));
+
+        assertThat(snapshot.title()).isEqualTo("title-1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 채운 값은 Redis에서 읽어 DB를 조회하지 않는다")
+    void get_fromOtherNode_hitsRemoteCache() {
+        cache.get(1L, loader(1L));
+
+        PostDetailSnapshot snapshot = newNode().get(1L, loader(1L));
+
+        assertThat(snapshot).isEqualTo(cache.get(1L, loader(1L)));
+        assertThat(loads).hasValue(1);
+        assertThat(redisService.find(PostDetailCache.KEY_PREFIX + 1L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("무효화하면 로컬과 Redis 캐시가 모두 비워진다")
+    void evict_clearsBothTiers() {
+        cache.get(1L, loader(1L));
+
+        cache.evict(1L);
+        cache.get(1L, loader(1L));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 로컬 캐시를 비운다")
+    void onEvictionMessage_fromOtherNode_invalidatesLocal() {
+        cache.get(1L, loader(1L));
+        redisService.delete(PostDetailCache.KEY_PREFIX + 1L);
+
+        cache.onMessage("other-node|1");
+        cache.get(1L, loader(1L));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("로더가 실패하면 아무것도 캐시하지 않는다")
+    void get_whenLoaderFails_cachesNothing() {
+        Supplier<PostDetailSnapshot> notFound = () -> {
+            throw new BusinessException(PostErrorCode.POST_NOT_FOUND);
+        };
+
+        assertThatThrownBy(() -> cache.get(1L, notFound)).isInstanceOf(BusinessException.class);
+
+        cache.get(1L, loader(1L));
+        assertThat(loads).hasValue(1);
+    }
+
+    private PostDetailCache newNode() {
+        return new PostDetailCache(redisService, objectMapper, new PostDetailCacheProperties(), new SimpleMeterRegistry());
+    }
+
+    private Supplier<PostDetailSnapshot> loader(Long postId) {
+        return () -> {
+            loads.incrementAndGet();
+            return new PostDetailSnapshot(postId, new MemberResponse(10L, "devon", null), "title-" + postId,
+                    "content", null, Instant.parse("2025-01-01T00:00:00Z"), Instant.parse("2025-01-01T00:00:00Z"),
+                    "summary", List.of("Java", "Spring"), null, null, "public");
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package com.devon.techblog.application.post.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devon.techblog.config.annotation.UnitTest;
+import com.devon.techblog.domain.post.dto.SeriesPostEntry;
+import com.devon.techblog.fake.FakeRedisService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class SeriesTocCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private FakeRedisService redisService;
+    private SeriesTocCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        redisService = new FakeRedisService();
+        cache = new SeriesTocCache(redisService, objectMapper, new SeriesTocCacheProperties());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 목차는 순서를 유지한 채 Redis에서 반환된다")
+    void get_secondCall_hitsCache() {
+        cache.get(1L, loader());
+        List<SeriesPostEntry> entries = cache.get(1L, loader());
+
+        assertThat(entries).containsExactly(
+                new SeriesPostEntry(11L, "1편"),
+                new SeriesPostEntry(12L, "2편"),
+                new SeriesPostEntry(10L, "3편"));
+        assertThat(loads).hasValue(1);
+        assertThat(redisService.find(SeriesTocCache.KEY_PREFIX + 1L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("빈 목차도 캐시한다")
+    void get_emptyToc_isCached() {
+        Supplier<List<SeriesPostEntry>> empty = () -> {
+            loads.incrementAndGet();
+            return List.of();
+        };
+
+        cache.get(2L, empty);
+
+        assertThat(cache.get(2L, empty)).isEmpty();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 조회 때 다시 읽는다")
+    void evict_reloads() {
+        cache.get(1L, loader());
+
+        cache.evict(1L);
+        cache.get(1L, loader());
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private Supplier<List<SeriesPostEntry>> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            return List.of(
+                    new SeriesPostEntry(11L, "1편"),
+                    new SeriesPostEntry(12L, "2편"),
+                    new SeriesPostEntry(10L, "3편"));
+        };
+    }
+}
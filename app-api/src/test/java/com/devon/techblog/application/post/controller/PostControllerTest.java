@@ -3,6 +3,7 @@ package com.devon.techblog.application.post.controller;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -57,7 +58,7 @@ class PostControllerTest {
     void createPost_success() throws Exception {
         PostCreateRequest request = PostRequestFixture.createRequest();
         MemberResponse memberResponse = new MemberResponse(1L, "tester", null);
-        PostResponse response = new PostResponse(1L, memberResponse, "제목", "내용", null, Instant.now(), Instant.now(), 0L, 0L, 0L, false, null, null, null, null, "public");
+        PostResponse response = new PostResponse(1L, memberResponse, "제목", "내용", null, Instant.now(), Instant.now(), 0L, 0L, 0L, false, null, null, null, null, "public", null, null);
 
         given(postService.createPost(any(), any())).willReturn(response);
 
@@ -75,7 +76,7 @@ class PostControllerTest {
     void updatePost_success() throws Exception {
         PostUpdateRequest request = PostRequestFixture.updateRequest();
         MemberResponse memberResponse = new MemberResponse(1L, "tester", null);
-        PostResponse response = new PostResponse(1L, memberResponse, "수정된제목", "수정된내용", null, Instant.now(), Instant.now(), 0L, 0L, 0L, false, null, null, null, null, "public");
+        PostResponse response = new PostResponse(1L, memberResponse, "수정된제목", "수정된내용", null, Instant.now(), Instant.now(), 0L, 0L, 0L, false, null, null, null, null, "public", null, null);
 
         given(postService.updatePost(any(), any(), any())).willReturn(response);
 
@@ -100,7 +101,7 @@ class PostControllerTest {
     @DisplayName("게시글 단건 조회 - 200 OK")
     void getPost_success() throws Exception {
         MemberResponse memberResponse = new MemberResponse(1L, "tester", null);
-        PostResponse response = new PostResponse(1L, memberResponse, "제목", "내용", null, Instant.now(), Instant.now(), 10L, 5L, 0L, false, null, null, null, null, "public");
+        PostResponse response = new PostResponse(1L, memberResponse, "제목", "내용", null, Instant.now(), Instant.now(), 10L, 5L, 0L, false, null, null, null, null, "public", null, null);
 
         given(postService.getPostDetails(any(), any())).willReturn(response);
 
@@ -117,10 +118,10 @@ class PostControllerTest {
     @DisplayName("게시글 목록 조회 - 200 OK")
     void getPostPage_success() throws Exception {
         MemberResponse memberResponse = new MemberResponse(1L, "tester", null);
-        PostSummaryResponse summary = new PostSummaryResponse(1L, "제목", memberResponse, Instant.now(), 10L, 5L, 3L, null, null);
-        PageResponse<PostSummaryResponse> response = new PageResponse<>(List.of(summary), 0, 10, 1, 1);
+        PostSummaryResponse summary = new PostSummaryResponse(1L, "제목", memberResponse, Instant.now(), 10L, 5L, 3L, false, null, null);
+        PageResponse<PostSummaryResponse> response = new PageResponse<>(List.of(summary), 0, 10, 1, 1, true);
 
-        given(postService.getPostPage(any())).willReturn(response);
+        given(postService.getPostPage(any(), any())).willReturn(response);
 
         mockMvc.perform(get("/api/v1/posts")
                         .param("page", "0")
@@ -130,6 +131,19 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.data.items[0].title").value("제목"));
     }
 
+    @Test
+    @DisplayName("알 수 없는 태그 결합 방식 - 400 Bad Request")
+    void getPostPage_unknownTagMatch_returns400() throws Exception {
+        mockMvc.perform(get("/api/v1/posts")
+                        .param("tags", "java")
+                        .param("tagMatch", "alll"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value(PostErrorCode.INVALID_TAG_MATCH.getMessage()));
+
+        verify(postService, never()).getPostPageByTags(any(), any(), any(), any());
+    }
+
     @Test
     @DisplayName("게시글 좋아요 - 204 No Content")
     void likePost_success() throws Exception {
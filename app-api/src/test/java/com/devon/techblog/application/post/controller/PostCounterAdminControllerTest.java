@@ -0,0 +1,53 @@
+package com.devon.techblog.application.post.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.devon.techblog.common.exception.code.AuthErrorCode;
+import com.devon.techblog.config.annotation.ControllerWebMvcTest;
+import com.devon.techblog.domain.post.counter.PostCounterStore;
+import com.devon.techblog.domain.post.entity.PostCounterType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@ControllerWebMvcTest(PostCounterAdminController.class)
+class PostCounterAdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PostCounterStore postCounterStore;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("관리자는 카운터 샤드를 합칠 수 있다")
+    void foldCounterShards_admin_returns200() throws Exception {
+        given(postCounterStore.fold(PostCounterType.COMMENT)).willReturn(3L);
+
+        mockMvc.perform(post("/api/v1/admin/post-counters/{type}/fold", "COMMENT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.foldedPosts").value(3L));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("관리자가 아니면 403 Forbidden이고 샤드를 합치지 않는다")
+    void foldCounterShards_nonAdmin_returns403() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/post-counters/{type}/fold", "COMMENT"))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value(AuthErrorCode.ACCESS_DENIED.getMessage()));
+
+        verify(postCounterStore, never()).fold(any());
+    }
+}
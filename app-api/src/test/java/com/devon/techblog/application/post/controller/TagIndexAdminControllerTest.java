@@ -0,0 +1,51 @@
+package com.devon.techblog.application.post.controller;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.devon.techblog.application.post.service.PostTagService;
+import com.devon.techblog.common.exception.code.AuthErrorCode;
+import com.devon.techblog.config.annotation.ControllerWebMvcTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@ControllerWebMvcTest(TagIndexAdminController.class)
+class TagIndexAdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PostTagService postTagService;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("관리자는 태그 역색인을 재구성할 수 있다")
+    void rebuildTagIndex_admin_returns200() throws Exception {
+        given(postTagService.rebuildTagIndex()).willReturn(42L);
+
+        mockMvc.perform(post("/api/v1/admin/tag-index/rebuild"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.indexedEntries").value(42L));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("관리자가 아니면 403 Forbidden이고 재구성하지 않는다")
+    void rebuildTagIndex_nonAdmin_returns403() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/tag-index/rebuild"))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value(AuthErrorCode.ACCESS_DENIED.getMessage()));
+
+        verify(postTagService, never()).rebuildTagIndex();
+    }
+}
@@ -0,0 +1,128 @@
+package com.devon.techblog.application.post.counter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.devon.techblog.config.annotation.UnitTest;
+import com.devon.techblog.domain.post.dto.CounterDrift;
+import com.devon.techblog.domain.post.repository.CounterReconciliationRepository;
+import com.devon.techblog.domain.post.repository.DenormalizedCounter;
+import com.devon.techblog.fake.FakeRedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+@UnitTest
+class CounterReconcilerTest {
+
+    /**
+     * 게시글 1~3 중 2번만 어긋나 있다.
+     */
+    private static final List<CounterDrift> POSTS = List.of(
+            new CounterDrift(1L, 1L, 1L),
+            new CounterDrift(2L, 5L, 3L),
+            new CounterDrift(3L, 0L, 0L));
+
+    @Mock
+    private CounterReconciliationRepository repository;
+
+    private FakeRedisService redisService;
+    private SimpleMeterRegistry meterRegistry;
+    private CounterReconcileProperties properties;
+    private CounterReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        redisService = new FakeRedisService();
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new CounterReconcileProperties();
+        properties.setChunkSize(2);
+        properties.setChunkPause(Duration.ZERO);
+        properties.setMaxDutyCycle(1.0);
+        reconciler = new CounterReconciler(repository, redisService, properties, meterRegistry);
+
+        lenient().when(repository.findMaxId(any())).thenReturn(3L);
+        lenient().when(repository.findCounters(any(), anyLong(), anyInt())).thenAnswer(invocation -> {
+            DenormalizedCounter counter = invocation.getArgument(0);
+            long afterId = invocation.getArgument(1);
+            int limit = invocation.getArgument(2);
+            List<CounterDrift> rows = counter == DenormalizedCounter.TAG_USAGE_COUNT ? List.of() : POSTS;
+            return rows.stream().filter(row -> row.id() > afterId).limit(limit).toList();
+        });
+        lenient().when(repository.fix(any(), anyList(), anyInt()))
+                .thenAnswer(invocation -> ((List<?>) invocation.getArgument(1)).size());
+    }
+
+    private double meter(String name, DenormalizedCounter counter) {
+        return meterRegistry.get(name).tag("counter", counter.metricName()).counter().count();
+    }
+
+    @Test
+    @DisplayName("모든 카운터를 청크 단위로 끝까지 확인하고 어긋난 행만 보정한다")
+    void reconcile_fixesOnlyDriftedRows() {
+        boolean completed = reconciler.reconcile();
+
+        assertThat(completed).isTrue();
+        verify(repository).fix(DenormalizedCounter.POST_LIKE_COUNT, List.of(POSTS.get(1)), 500);
+        verify(repository).fix(DenormalizedCounter.POST_LIKE_COUNT, List.of(), 500);
+        assertThat(meter("counter.reconcile.drift.rows", DenormalizedCounter.POST_LIKE_COUNT)).isEqualTo(1.0);
+        assertThat(meter("counter.reconcile.drift.magnitude", DenormalizedCounter.POST_COMMENT_COUNT)).isEqualTo(2.0);
+        assertThat(meterRegistry.get("counter.reconcile.progress")
+                .tag("counter", "post_like_count").gauge().value()).isEqualTo(1.0);
+        assertThat(redisService.exists("counter-reconcile:cursor:post_like_count")).isFalse();
+        assertThat(redisService.exists("counter-reconcile:lock")).isFalse();
+    }
+
+    @Test
+    @DisplayName("시간 제한에 걸리면 진행 위치를 남기고, 다음 실행은 그 위치부터 이어서 처리한다")
+    void reconcile_resumesFromCursor() {
+        properties.setMaxRunDuration(Duration.ZERO);
+
+        boolean completed = reconciler.reconcile();
+
+        assertThat(completed).isFalse();
+        assertThat(redisService.find("counter-reconcile:cursor:post_like_count")).contains("2");
+
+        properties.setMaxRunDuration(Duration.ofMinutes(1));
+        assertThat(reconciler.reconcile()).isTrue();
+        verify(repository).findCounters(DenormalizedCounter.POST_LIKE_COUNT, 2L, 2);
+        verify(repository).findCounters(eq(DenormalizedCounter.POST_LIKE_COUNT), eq(0L), anyInt());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 실행 중이면 실행하지 않는다")
+    void reconcile_whileLocked_skips() {
+        redisService.setIfAbsent("counter-reconcile:lock", "other-node", Duration.ofMinutes(1));
+
+        assertThat(reconciler.reconcile()).isFalse();
+        verify(repository, never()).findCounters(any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("처리 중 락을 다른 노드가 가져가면 멈추고, 그 노드의 락은 지우지 않는다")
+    void reconcile_lockTakenOver_stopsWithoutReleasingOthersLock() {
+        willAnswer(invocation -> {
+            redisService.delete("counter-reconcile:lock");
+            redisService.setIfAbsent("counter-reconcile:lock", "other-node", Duration.ofMinutes(1));
+            return ((List<?>) invocation.getArgument(1)).size();
+        }).given(repository).fix(any(), anyList(), anyInt());
+
+        assertThat(reconciler.reconcile()).isFalse();
+
+        assertThat(redisService.find("counter-reconcile:lock")).contains("other-node");
+        assertThat(redisService.find("counter-reconcile:cursor:post_like_count")).contains("2");
+        verify(repository, never()).findCounters(DenormalizedCounter.POST_LIKE_COUNT, 2L, 2);
+    }
+}
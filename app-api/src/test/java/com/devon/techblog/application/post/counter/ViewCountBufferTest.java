@@ -0,0 +1,154 @@
+package com.devon.techblog.application.post.counter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.devon.techblog.config.annotation.UnitTest;
+import com.devon.techblog.domain.post.index.TrendingPostIndex;
+import com.devon.techblog.domain.post.index.TrendingSignal;
+import com.devon.techblog.domain.post.repository.PostViewCountBatchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+@UnitTest
+class ViewCountBufferTest {
+
+    @Mock
+    private PostViewCountBatchRepository batchRepository;
+
+    @Mock
+    private TrendingPostIndex trendingPostIndex;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ViewCountBuffer viewCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        viewCountBuffer = new ViewCountBuffer(batchRepository, new ViewCountBufferProperties(), trendingPostIndex,
+                meterRegistry);
+    }
+
+    @Test
+    @DisplayName("버퍼에 쌓인 조회수는 게시글별로 합산되어 한 번에 반영된다")
+    void flush_aggregatesDeltasPerPost() {
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(2L);
+
+        viewCountBuffer.flush();
+
+        verify(batchRepository).addViewCounts(Map.of(1L, 2L, 2L, 1L), 500);
+        verify(trendingPostIndex).recordAll(TrendingSignal.VIEW, Map.of(1L, 2L, 2L, 1L));
+        assertThat(viewCountBuffer.pendingViews()).isZero();
+        assertThat(meterRegistry.get("post.view.buffer.flushed").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("쌓인 조회수가 없으면 DB에 접근하지 않는다")
+    void flush_whenEmpty_skipsUpdate() {
+        viewCountBuffer.flush();
+
+        verify(batchRepository, never()).addViewCounts(anyMap(), anyInt());
+    }
+
+    @Test
+    @DisplayName("flush에 실패하면 증가분이 버퍼로 되돌아가 다음 주기에 재시도된다")
+    void flush_whenUpdateFails_restoresDeltas() {
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(1L);
+        doThrow(new DataAccessResourceFailureException("db down"))
+                .when(batchRepository).addViewCounts(Map.of(1L, 2L), 500);
+
+        viewCountBuffer.flush();
+
+        assertThat(viewCountBuffer.pendingViews()).isEqualTo(2L);
+        assertThat(meterRegistry.get("post.view.buffer.pending").gauge().value()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("post.view.buffer.flush.failures").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("한 주기 동안 증가가 없던 게시글은 버퍼에서 빠지고, 이후 증가는 다시 집계된다")
+    void flush_idlePost_removedAndRecountedLater() {
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.flush();
+        viewCountBuffer.flush();
+
+        assertThat(meterRegistry.get("post.view.buffer.posts").gauge().value()).isZero();
+
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.flush();
+
+        verify(batchRepository, times(2)).addViewCounts(Map.of(1L, 1L), 500);
+    }
+
+    @Test
+    @DisplayName("flush와 동시에 들어온 조회수도 유실되지 않는다")
+    void flush_concurrentWithIncrements_losesNothing() throws Exception {
+        assertNoLostViews(i -> (long) (i % 8));
+    }
+
+    @Test
+    @DisplayName("증가가 멈춘 게시글이 버퍼에서 빠지는 중에 들어온 조회수도 유실되지 않는다")
+    void flush_concurrentWithIdleRemoval_losesNothing() throws Exception {
+        assertNoLostViews(i -> (long) ((i / 50) % 64));
+    }
+
+    private void assertNoLostViews(IntFunction<Long> postIdOf) throws Exception {
+        AtomicLong flushed = new AtomicLong();
+        doAnswer(invocation -> {
+            Map<Long, Long> deltas = invocation.getArgument(0);
+            deltas.values().forEach(flushed::addAndGet);
+            return null;
+        }).when(batchRepository).addViewCounts(anyMap(), anyInt());
+
+        int threads = 4;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            writers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    viewCountBuffer.increment(postIdOf.apply(i));
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        while (writers.stream().anyMatch(writer -> !writer.isDone())) {
+            viewCountBuffer.flush();
+        }
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        viewCountBuffer.flush();
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        assertThat(flushed.get()).isEqualTo((long) threads * perThread);
+        assertThat(viewCountBuffer.pendingViews()).isZero();
+    }
+}
@@ -0,0 +1,149 @@
+package com.devon.techblog.application.post.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devon.techblog.common.exception.BusinessException;
+import com.devon.techblog.common.exception.code.PostErrorCode;
+import com.devon.techblog.config.annotation.RepositoryJpaTest;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.MountableFile;
+
+/**
+ * 좋아요 동시성 테스트 (MySQL 8, Docker 필요 - 없으면 건너뜀)
+ *
+ * 실제 스키마(infra/db/schema.sql)에서 회원 100명이 같은 게시글에 10번씩, 총 1,000건의 좋아요를 동시에 보낸다.
+ * 각 회원의 좋아요는 한 번만 반영되고, like_count는 post_like 행 수와 같아야 한다.
+ */
+@RepositoryJpaTest
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(DirectPostLikeStrategy.class)
+@TestPropertySource(properties = {
+        "spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.hbm2ddl.auto=none"
+})
+class DirectPostLikeStrategyConcurrencyTest {
+
+    private static final int MEMBERS = 100;
+    private static final int CLICKS_PER_MEMBER = 10;
+    private static final int THREADS = 32;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("mydb")
+            .withUsername("root")
+            .withPassword("test")
+            .withCopyFileToContainer(
+                    MountableFile.forHostPath(Path.of("..", "infra", "db", "schema.sql").toAbsolutePath()),
+                    "/docker-entrypoint-initdb.d/schema.sql");
+
+    @Autowired
+    private DirectPostLikeStrategy directPostLikeStrategy;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long postId;
+    private List<Long> memberIds;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM post_like");
+        jdbcTemplate.update("DELETE FROM post");
+        jdbcTemplate.update("DELETE FROM member");
+
+        List<Object[]> memberRows = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            memberRows.add(new Object[]{"like" + i + "@example.com", "like" + i});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO member (email, password, nickname, status, role)
+                VALUES (?, 'password', ?, 'ACTIVE', 'USER')
+                """, memberRows);
+        memberIds = jdbcTemplate.queryForList("SELECT id FROM member ORDER BY id", Long.class);
+
+        jdbcTemplate.update("""
+                INSERT INTO post (member_id, title, content, views_count, like_count, comment_count,
+                                  is_deleted, is_draft, comments_allowed, created_at, updated_at)
+                VALUES (?, 'title', 'content', 0, 0, 0, 0, 0, 1, NOW(6), NOW(6))
+                """, memberIds.getFirst());
+        postId = jdbcTemplate.queryForObject("SELECT id FROM post", Long.class);
+    }
+
+    @Test
+    @DisplayName("동시 좋아요 1,000건 - 회원마다 한 번만 반영되고 like_count는 post_like 행 수와 같다")
+    void like_underConcurrentRequests_countsOncePerMember() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int click = 0; click < CLICKS_PER_MEMBER; click++) {
+                for (Long memberId : memberIds) {
+                    Callable<Boolean> request = () -> {
+                        start.await();
+                        directPostLikeStrategy.like(postId, memberId);
+                        return true;
+                    };
+                    results.add(executor.submit(request));
+                }
+            }
+            start.countDown();
+
+            int liked = 0;
+            for (Future<Boolean> result : results) {
+                if (succeeded(result)) {
+                    liked++;
+                }
+            }
+
+            long rows = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM post_like WHERE post_id = ?", Long.class, postId);
+            long likeCount = jdbcTemplate.queryForObject(
+                    "SELECT like_count FROM post WHERE id = ?", Long.class, postId);
+
+            assertThat(liked).isEqualTo(MEMBERS);
+            assertThat(rows).isEqualTo(MEMBERS);
+            assertThat(likeCount).isEqualTo(rows);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 중복 좋아요는 ALREADY_LIKED로 거절되어야 하며, 그 밖의 예외(데드락 등)는 테스트 실패로 본다.
+     */
+    private boolean succeeded(Future<Boolean> result) throws InterruptedException {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause())
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining(PostErrorCode.ALREADY_LIKED.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.devon.techblog.application.post.like;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.devon.techblog.common.exception.BusinessException;
+import com.devon.techblog.common.exception.code.MemberErrorCode;
+import com.devon.techblog.common.exception.code.PostErrorCode;
+import com.devon.techblog.config.annotation.UnitTest;
+import com.devon.techblog.domain.member.repository.MemberRepository;
+import com.devon.techblog.domain.post.repository.PostLikeRepository;
+import com.devon.techblog.domain.post.repository.PostRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+@UnitTest
+class DirectPostLikeStrategyTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @InjectMocks
+    private DirectPostLikeStrategy directPostLikeStrategy;
+
+    @Test
+    @DisplayName("좋아요 행이 추가되면 좋아요 수를 증가시킨다")
+    void like_success() {
+        given(memberRepository.existsById(1L)).willReturn(true);
+        given(postRepository.lockActiveById(1L)).willReturn(Optional.of(1L));
+        given(postLikeRepository.insertIfAbsent(anyLong(), anyLong(), any())).willReturn(1);
+
+        directPostLikeStrategy.like(1L, 1L);
+
+        verify(postRepository).incrementLikeCount(1L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글에 좋아요 시 예외가 발생한다")
+    void like_postNotFound() {
+        given(memberRepository.existsById(1L)).willReturn(true);
+        given(postRepository.lockActiveById(1L)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> directPostLikeStrategy.like(1L, 1L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(PostErrorCode.POST_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회원이 좋아요 시 예외가 발생한다")
+    void like_memberNotFound() {
+        given(memberRepository.existsById(1L)).willReturn(false);
+
+        assertThatThrownBy(() -> directPostLikeStrategy.like(1L, 1L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(MemberErrorCode.USER_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("좋아요 행이 이미 있으면 좋아요 수를 바꾸지 않고 예외가 발생한다")
+    void like_alreadyLiked() {
+        given(memberRepository.existsById(1L)).willReturn(true);
+        given(postRepository.lockActiveById(1L)).willReturn(Optional.of(1L));
+        given(postLikeRepository.insertIfAbsent(anyLong(), anyLong(), any())).willReturn(0);
+
+        assertThatThrownBy(() -> directPostLikeStrategy.like(1L, 1L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(PostErrorCode.ALREADY_LIKED.getMessage());
+        verify(postRepository, never()).incrementLikeCount(anyLong());
+    }
+
+    @Test
+    @DisplayName("좋아요 행이 삭제되면 좋아요 수를 감소시킨다")
+    void unlike_success() {
+        given(postRepository.lockActiveById(1L)).willReturn(Optional.of(1L));
+        given(postLikeRepository.deleteByPostIdAndMemberId(1L, 1L)).willReturn(1);
+
+        directPostLikeStrategy.unlike(1L, 1L);
+
+        verify(postRepository).decrementLikeCount(1L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글의 좋아요 취소 시 예외가 발생한다")
+    void unlike_postNotFound() {
+        given(postRepository.lockActiveById(1L)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> directPostLikeStrategy.unlike(1L, 1L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(PostErrorCode.POST_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("삭제할 좋아요 행이 없으면 좋아요 수를 바꾸지 않고 예외가 발생한다")
+    void unlike_notLiked() {
+        given(postRepository.lockActiveById(1L)).willReturn(Optional.of(1L));
+        given(postLikeRepository.deleteByPostIdAndMemberId(1L, 1L)).willReturn(0);
+
+        assertThatThrownBy(() -> directPostLikeStrategy.unlike(1L, 1L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(PostErrorCode.LIKE_NOT_FOUND.getMessage());
+        verify(postRepository, never()).decrementLikeCount(anyLong());
+    }
+}
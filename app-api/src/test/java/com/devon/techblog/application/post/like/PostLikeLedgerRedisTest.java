@@ -0,0 +1,101 @@
+package com.devon.techblog.application.post.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.devon.techblog.config.RedisTestContainer;
+import com.devon.techblog.domain.post.dto.PostLikeChange;
+import com.devon.techblog.domain.post.repository.PostLikeRepository;
+import com.devon.techblog.domain.post.repository.PostRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 좋아요 원장 Lua 스크립트 테스트 (Redis 7, Docker 필요 - 없으면 건너뜀)
+ *
+ * 좋아요/취소 토글, 게시글 SET 적재, pending -> processing 가져가기를 실제 Redis에서 확인한다.
+ */
+@Tag("integration")
+@Testcontainers(disabledWithoutDocker = true)
+class PostLikeLedgerRedisTest {
+
+    @Container
+    static GenericContainer<?> redis = RedisTestContainer.container();
+
+    private RedisTemplate<String, String> redisTemplate;
+    private PostRepository postRepository;
+    private PostLikeRepository postLikeRepository;
+    private PostLikeLedger postLikeLedger;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = RedisTestContainer.redisTemplate(redis);
+        RedisTestContainer.flushAll(redisTemplate);
+        postRepository = mock(PostRepository.class);
+        postLikeRepository = mock(PostLikeRepository.class);
+        given(postRepository.existsById(1L)).willReturn(true);
+        postLikeLedger = new PostLikeLedger(redisTemplate, postRepository, postLikeRepository, new PostLikeProperties());
+    }
+
+    @Test
+    @DisplayName("처음 토글할 때 DB의 좋아요 회원으로 게시글 SET을 한 번만 적재하고 그 상태를 기준으로 판단한다")
+    void like_loadsPostSetOnceFromDatabase() {
+        given(postLikeRepository.findMemberIdsByPostId(1L)).willReturn(List.of(10L));
+
+        assertThat(postLikeLedger.like(1L, 10L)).isFalse();
+        assertThat(postLikeLedger.like(1L, 11L)).isTrue();
+        assertThat(postLikeLedger.like(1L, 11L)).isFalse();
+
+        verify(postLikeRepository, times(1)).findMemberIdsByPostId(1L);
+        assertThat(redisTemplate.opsForSet().members("like-ledger:post:1"))
+                .containsExactlyInAnyOrder("loaded", "10", "11");
+        assertThat(redisTemplate.getExpire("like-ledger:post:1")).isPositive();
+    }
+
+    @Test
+    @DisplayName("같은 회원이 좋아요 후 취소하면 pending에는 마지막 상태만 남는다")
+    void likeThenUnlike_keepsLastStateOnly() {
+        given(postLikeRepository.findMemberIdsByPostId(1L)).willReturn(List.of());
+
+        postLikeLedger.like(1L, 10L);
+        assertThat(postLikeLedger.unlike(1L, 10L)).isTrue();
+        assertThat(postLikeLedger.unlike(1L, 10L)).isFalse();
+
+        assertThat(postLikeLedger.claimPending()).containsExactly(new PostLikeChange(1L, 10L, false));
+    }
+
+    @Test
+    @DisplayName("완료 처리 전에는 같은 변경분을 다시 가져가고, 그 사이의 변경은 다음 pending으로 넘어간다")
+    void claimPending_returnsSameProcessingUntilCompleted() {
+        given(postLikeRepository.findMemberIdsByPostId(1L)).willReturn(List.of());
+        postLikeLedger.like(1L, 10L);
+
+        List<PostLikeChange> first = postLikeLedger.claimPending();
+        postLikeLedger.like(1L, 11L);
+
+        assertThat(postLikeLedger.claimPending()).isEqualTo(first).containsExactly(new PostLikeChange(1L, 10L, true));
+
+        postLikeLedger.completeProcessing();
+        assertThat(postLikeLedger.claimPending()).containsExactly(new PostLikeChange(1L, 11L, true));
+        postLikeLedger.completeProcessing();
+        assertThat(postLikeLedger.claimPending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반영할 수 없는 변경분은 dead-letter HASH에 최종 상태로 남는다")
+    void deadLetter_recordsChange() {
+        postLikeLedger.deadLetter(new PostLikeChange(1L, 10L, true));
+
+        assertThat(redisTemplate.opsForHash().get("like-ledger:dead-letter", "1:10")).isEqualTo("1");
+    }
+}
@@ -0,0 +1,138 @@
+package com.devon.techblog.application.post.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.devon.techblog.config.annotation.UnitTest;
+import com.devon.techblog.domain.post.cache.LikedPostCache;
+import com.devon.techblog.domain.post.dto.PostLikeChange;
+import com.devon.techblog.domain.post.repository.PostLikeBatchRepository;
+import com.devon.techblog.fake.FakeRedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@UnitTest
+class PostLikeReconcilerTest {
+
+    private static final List<PostLikeChange> CHANGES = List.of(
+            new PostLikeChange(1L, 10L, true),
+            new PostLikeChange(1L, 11L, false),
+            new PostLikeChange(2L, 10L, true));
+
+    @Mock
+    private PostLikeLedger postLikeLedger;
+
+    @Mock
+    private PostLikeBatchRepository batchRepository;
+
+    @Mock
+    private LikedPostCache likedPostCache;
+
+    private FakeRedisService redisService;
+    private SimpleMeterRegistry meterRegistry;
+    private PostLikeReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        redisService = new FakeRedisService();
+        meterRegistry = new SimpleMeterRegistry();
+        reconciler = new PostLikeReconciler(postLikeLedger, batchRepository, likedPostCache, redisService,
+                new PostLikeProperties(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("가져간 변경분을 DB에 반영하고 완료 처리한 뒤 회원 캐시를 지운다")
+    void reconcile_appliesClaimedChanges() {
+        given(postLikeLedger.claimPending()).willReturn(CHANGES);
+        given(batchRepository.applyChanges(CHANGES, 500)).willReturn(Map.of(2L, 1L));
+
+        reconciler.reconcile();
+
+        verify(postLikeLedger).completeProcessing();
+        verify(likedPostCache).evict(10L);
+        verify(likedPostCache).evict(11L);
+        assertThat(meterRegistry.get("post.like.ledger.reconciled").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("변경분이 없으면 DB에 접근하지 않는다")
+    void reconcile_whenEmpty_skipsUpdate() {
+        given(postLikeLedger.claimPending()).willReturn(List.of());
+
+        reconciler.reconcile();
+
+        verifyNoInteractions(batchRepository);
+        verify(postLikeLedger, never()).completeProcessing();
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 완료 처리하지 않아 다음 주기에 같은 변경분을 다시 반영한다")
+    void reconcile_whenApplyFails_keepsProcessing() {
+        given(postLikeLedger.claimPending()).willReturn(CHANGES);
+        given(batchRepository.applyChanges(anyList(), anyInt()))
+                .willThrow(new DataAccessResourceFailureException("db down"));
+
+        reconciler.reconcile();
+
+        verify(postLikeLedger, never()).completeProcessing();
+        verifyNoInteractions(likedPostCache);
+        assertThat(meterRegistry.get("post.like.ledger.reconcile.failures").counter().count()).isEqualTo(1.0);
+        assertThat(redisService.exists("like-ledger:reconcile-lock")).isFalse();
+    }
+
+    @Test
+    @DisplayName("일괄 반영이 제약 위반으로 실패하면 한 건씩 반영하고, 실패한 건만 dead-letter로 옮긴 뒤 완료 처리한다")
+    void reconcile_whenRowViolatesConstraint_deadLettersOnlyThatRow() {
+        PostLikeChange bad = CHANGES.get(1);
+        given(postLikeLedger.claimPending()).willReturn(CHANGES);
+        given(batchRepository.applyChanges(CHANGES, 500))
+                .willThrow(new DataIntegrityViolationException("fk_post_like_member"));
+        given(batchRepository.applyChanges(List.of(CHANGES.get(0)), 1)).willReturn(Map.of(1L, 1L));
+        given(batchRepository.applyChanges(List.of(bad), 1))
+                .willThrow(new DataIntegrityViolationException("fk_post_like_member"));
+        given(batchRepository.applyChanges(List.of(CHANGES.get(2)), 1)).willReturn(Map.of(2L, 1L));
+
+        reconciler.reconcile();
+
+        verify(postLikeLedger).deadLetter(bad);
+        verify(postLikeLedger).completeProcessing();
+        assertThat(meterRegistry.get("post.like.ledger.dead-letters").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("post.like.ledger.reconcile.failures").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("락 TTL이 지나 다른 노드가 락을 잡았으면 그 락을 지우지 않는다")
+    void reconcile_whenLockTakenOver_keepsOtherNodesLock() {
+        given(postLikeLedger.claimPending()).willAnswer(invocation -> {
+            redisService.save("like-ledger:reconcile-lock", "other-node", Duration.ofMinutes(1));
+            return List.of();
+        });
+
+        reconciler.reconcile();
+
+        assertThat(redisService.find("like-ledger:reconcile-lock")).contains("other-node");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 반영 중이면 실행하지 않는다")
+    void reconcile_whileLocked_skips() {
+        redisService.setIfAbsent("like-ledger:reconcile-lock", "other-node", Duration.ofMinutes(1));
+
+        reconciler.reconcile();
+
+        verifyNoInteractions(postLikeLedger, batchRepository);
+    }
+}
@@ -1,23 +1,17 @@
 package com.devon.techblog.application.post.service;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
+import com.devon.techblog.application.post.like.PostLikeStrategy;
 import com.devon.techblog.common.exception.BusinessException;
 import com.devon.techblog.common.exception.code.PostErrorCode;
 import com.devon.techblog.config.annotation.UnitTest;
-import com.devon.techblog.domain.member.MemberFixture;
-import com.devon.techblog.domain.member.entity.Member;
-import com.devon.techblog.domain.member.repository.MemberRepository;
-import com.devon.techblog.domain.post.PostFixture;
-import com.devon.techblog.domain.post.entity.Post;
-import com.devon.techblog.domain.post.policy.PostLikePolicy;
-import com.devon.techblog.domain.post.repository.PostLikeRepository;
-import com.devon.techblog.domain.post.repository.PostRepository;
-import java.util.Optional;
-import org.junit.jupiter.api.BeforeEach;
+import com.devon.techblog.domain.post.cache.LikedPostCache;
+import com.devon.techblog.domain.post.index.TrendingPostIndex;
+import com.devon.techblog.domain.post.index.TrendingSignal;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -27,95 +21,54 @@ import org.mockito.Mock;
 class PostLikeServiceTest {
 
     @Mock
-    private PostRepository postRepository;
+    private PostLikeStrategy postLikeStrategy;
 
     @Mock
-    private PostLikeRepository postLikeRepository;
+    private LikedPostCache likedPostCache;
 
     @Mock
-    private MemberRepository memberRepository;
-
-    @Mock
-    private PostLikePolicy postLikePolicy;
+    private TrendingPostIndex trendingPostIndex;
 
     @InjectMocks
     private PostLikeService postLikeService;
 
-    private Member member;
-    private Post post;
-
-    @BeforeEach
-    void setUp() {
-        member = MemberFixture.createWithId(1L);
-        post = PostFixture.createWithId(1L, member);
-    }
-
     @Test
-    @DisplayName("게시글에 좋아요를 할 수 있다")
+    @DisplayName("좋아요를 반영한 뒤 회원의 좋아요 캐시를 갱신한다")
     void likePost_success() {
-        given(postRepository.findByIdWithMember(1L)).willReturn(Optional.of(post));
-        given(memberRepository.existsById(1L)).willReturn(true);
-        given(memberRepository.getReferenceById(1L)).willReturn(member);
-        doNothing().when(postLikePolicy).validateCanLike(1L, 1L);
-
-        postLikeService.likePost(1L, 1L);
-    }
-
-    @Test
-    @DisplayName("존재하지 않는 게시글에 좋아요 시 예외가 발생한다")
-    void likePost_postNotFound() {
-        given(postRepository.findByIdWithMember(1L)).willReturn(Optional.empty());
-
-        assertThatThrownBy(() -> postLikeService.likePost(1L, 1L))
-                .isInstanceOf(BusinessException.class);
-    }
+        postLikeService.likePost(1L, 2L);
 
-    @Test
-    @DisplayName("존재하지 않는 회원이 좋아요 시 예외가 발생한다")
-    void likePost_memberNotFound() {
-        given(postRepository.findByIdWithMember(1L)).willReturn(Optional.of(post));
-        given(memberRepository.existsById(1L)).willReturn(false);
-
-        assertThatThrownBy(() -> postLikeService.likePost(1L, 1L))
-                .isInstanceOf(BusinessException.class);
+        verify(postLikeStrategy).like(1L, 2L);
+        verify(likedPostCache).onLiked(2L, 1L);
+        verify(trendingPostIndex).record(1L, TrendingSignal.LIKE);
     }
 
     @Test
-    @DisplayName("이미 좋아요한 게시글에 좋아요 시 예외가 발생한다")
-    void likePost_alreadyLiked() {
-        given(postRepository.findByIdWithMember(1L)).willReturn(Optional.of(post));
-        given(memberRepository.existsById(1L)).willReturn(true);
-        doThrow(new BusinessException(PostErrorCode.ALREADY_LIKED)).when(postLikePolicy).validateCanLike(1L, 1L);
+    @DisplayName("좋아요 반영에 실패하면 캐시를 갱신하지 않는다")
+    void likePost_failure_skipsCache() {
+        doThrow(new BusinessException(PostErrorCode.ALREADY_LIKED)).when(postLikeStrategy).like(1L, 2L);
 
-        assertThatThrownBy(() -> postLikeService.likePost(1L, 1L))
+        assertThatThrownBy(() -> postLikeService.likePost(1L, 2L))
                 .isInstanceOf(BusinessException.class);
+        verifyNoInteractions(likedPostCache, trendingPostIndex);
     }
 
     @Test
-    @DisplayName("게시글 좋아요를 취소할 수 있다")
+    @DisplayName("좋아요 취소를 반영한 뒤 회원의 좋아요 캐시를 갱신한다")
     void unlikePost_success() {
-        given(postRepository.existsById(1L)).willReturn(true);
-        doNothing().when(postLikePolicy).validateCanUnlike(1L, 1L);
+        postLikeService.unlikePost(1L, 2L);
 
-        postLikeService.unlikePost(1L, 1L);
-    }
-
-    @Test
-    @DisplayName("존재하지 않는 게시글의 좋아요 취소 시 예외가 발생한다")
-    void unlikePost_postNotFound() {
-        given(postRepository.existsById(1L)).willReturn(false);
-
-        assertThatThrownBy(() -> postLikeService.unlikePost(1L, 1L))
-                .isInstanceOf(BusinessException.class);
+        verify(postLikeStrategy).unlike(1L, 2L);
+        verify(likedPostCache).onUnliked(2L, 1L);
+        verify(trendingPostIndex).retract(1L, TrendingSignal.LIKE);
     }
 
     @Test
-    @DisplayName("좋아요하지 않은 게시글의 좋아요 취소 시 예외가 발생한다")
-    void unlikePost_notLiked() {
-        given(postRepository.existsById(1L)).willReturn(true);
-        doThrow(new BusinessException(PostErrorCode.LIKE_NOT_FOUND)).when(postLikePolicy).validateCanUnlike(1L, 1L);
+    @DisplayName("좋아요 취소 반영에 실패하면 캐시를 갱신하지 않는다")
+    void unlikePost_failure_skipsCache() {
+        doThrow(new BusinessException(PostErrorCode.LIKE_NOT_FOUND)).when(postLikeStrategy).unlike(1L, 2L);
 
-        assertThatThrownBy(() -> postLikeService.unlikePost(1L, 1L))
+        assertThatThrownBy(() -> postLikeService.unlikePost(1L, 2L))
                 .isInstanceOf(BusinessException.class);
+        verifyNoInteractions(likedPostCache);
     }
 }
@@ -3,44 +3,72 @@ package com.devon.techblog.application.post.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
+import com.devon.techblog.application.common.dto.request.CursorRequest;
+import com.devon.techblog.application.common.dto.response.CursorResponse;
 import com.devon.techblog.application.common.dto.response.PageResponse;
 import com.devon.techblog.application.file.service.FileService;
 import com.devon.techblog.application.post.PostRequestFixture;
+import com.devon.techblog.application.post.cache.PostDetailCache;
+import com.devon.techblog.application.post.cache.PostDetailSnapshot;
+import com.devon.techblog.application.member.dto.response.MemberResponse;
 import com.devon.techblog.application.post.dto.request.PostCreateRequest;
 import com.devon.techblog.application.post.dto.request.PostUpdateRequest;
 import com.devon.techblog.application.post.dto.response.PostResponse;
+import com.devon.techblog.application.post.dto.response.PostSearchResponse;
 import com.devon.techblog.application.post.dto.response.PostSummaryResponse;
 import com.devon.techblog.common.exception.BusinessException;
 import com.devon.techblog.common.exception.code.MemberErrorCode;
 import com.devon.techblog.common.exception.code.PostErrorCode;
 import com.devon.techblog.config.annotation.UnitTest;
 import com.devon.techblog.domain.common.policy.OwnershipPolicy;
+import com.devon.techblog.domain.common.repository.count.CountCacheProperties;
+import com.devon.techblog.domain.common.repository.count.TotalCountResolver;
 import com.devon.techblog.domain.file.repository.FileRepository;
 import com.devon.techblog.domain.member.MemberFixture;
 import com.devon.techblog.domain.member.entity.Member;
 import com.devon.techblog.domain.member.repository.MemberRepository;
+import com.devon.techblog.domain.post.cache.LikedPostCache;
 import com.devon.techblog.domain.post.PostFixture;
 import com.devon.techblog.domain.post.PostQueryDtoFixture;
+import com.devon.techblog.domain.post.counter.PostCounterStore;
+import com.devon.techblog.domain.post.dto.PostCounterQueryDto;
+import com.devon.techblog.domain.post.dto.PostCursor;
 import com.devon.techblog.domain.post.dto.PostSearchCondition;
+import com.devon.techblog.domain.post.dto.PostSearchHit;
 import com.devon.techblog.domain.post.dto.PostSummaryQueryDto;
+import com.devon.techblog.domain.post.dto.SeriesPostEntry;
+import com.devon.techblog.domain.post.dto.TagMatch;
 import com.devon.techblog.domain.post.entity.Post;
-import com.devon.techblog.domain.post.repository.PostLikeRepository;
+import com.devon.techblog.domain.post.index.TagPostIndex;
+import com.devon.techblog.domain.post.index.TrendingPostIndex;
 import com.devon.techblog.domain.post.repository.PostRepository;
+import com.devon.techblog.domain.post.search.PostSearchProperties;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 @UnitTest
 class PostServiceTest {
@@ -58,7 +86,7 @@ class PostServiceTest {
     private OwnershipPolicy ownershipPolicy;
 
     @Mock
-    private PostLikeRepository postLikeRepository;
+    private LikedPostCache likedPostCache;
 
     @Mock
     private FileService fileService;
@@ -66,6 +94,30 @@ class PostServiceTest {
     @Mock
     private PostTagService postTagService;
 
+    @Mock
+    private PostDetailCache postDetailCache;
+
+    @Mock
+    private TotalCountResolver totalCountResolver;
+
+    @Mock
+    private CountCacheProperties countCacheProperties;
+
+    @Spy
+    private PostSearchProperties postSearchProperties = new PostSearchProperties();
+
+    @Mock
+    private TagPostIndex tagPostIndex;
+
+    @Mock
+    private PostCounterStore postCounterStore;
+
+    @Mock
+    private TrendingPostIndex trendingPostIndex;
+
+    @Mock
+    private SeriesService seriesService;
+
     @InjectMocks
     private PostService postService;
 
@@ -76,6 +128,13 @@ class PostServiceTest {
     void setUp() {
         member = MemberFixture.createWithId(1L);
         post = PostFixture.createWithId(1L, member);
+
+        lenient().when(postDetailCache.get(eq(1L), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<PostDetailSnapshot>>getArgument(1).get());
+        lenient().when(postCounterStore.resolve(any(), anyLong(), anyLong()))
+                .thenAnswer(invocation -> invocation.getArgument(2));
+        lenient().when(postCounterStore.resolveAll(any(), anyMap()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
     }
 
     @Test
@@ -104,6 +163,7 @@ class PostServiceTest {
 
         assertThat(post.getTitle()).isEqualTo(PostFixture.UPDATED_TITLE);
         assertThat(post.getContent()).isEqualTo(PostFixture.UPDATED_CONTENT);
+        verify(postDetailCache).evict(1L);
     }
 
     @Test
@@ -114,24 +174,105 @@ class PostServiceTest {
         postService.deletePost(1L, 1L);
 
         assertThat(post.isDeleted()).isTrue();
+        verify(postDetailCache).evict(1L);
+        verify(postTagService).removeFromTagIndex(post);
+        verify(trendingPostIndex).remove(1L);
+        verify(seriesService).evictSeriesPosts(post);
+    }
+
+    @Test
+    @DisplayName("시리즈를 지정해 게시글을 생성하면 시리즈에 편입한다")
+    void createPost_withSeries_movesToSeries() {
+        PostCreateRequest request = PostRequestFixture.createRequestWithSeries(5L);
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+        given(postRepository.save(any(Post.class))).willReturn(post);
+
+        postService.createPost(request, 1L);
+
+        verify(seriesService).moveToSeries(any(Post.class), eq(5L), eq(1L));
+    }
+
+    @Test
+    @DisplayName("제목을 바꾸지 않으면 시리즈 목차를 비우지 않는다")
+    void updatePost_withoutTitleChange_keepsSeriesToc() {
+        PostUpdateRequest request = PostRequestFixture.updateRequestWithSeries(5L);
+        given(postRepository.findByIdWithMember(1L)).willReturn(Optional.of(post));
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+        given(postRepository.save(post)).willReturn(post);
+
+        postService.updatePost(1L, request, 1L);
+
+        verify(seriesService).moveToSeries(post, 5L, 1L);
+        verify(seriesService, never()).evictSeriesPosts(any());
+    }
+
+    @Test
+    @DisplayName("시리즈 제외를 요청하면 시리즈에서 빼고 편입하지 않는다")
+    void updatePost_removeFromSeries() {
+        PostUpdateRequest request = PostRequestFixture.updateRequestRemovingSeries();
+        given(postRepository.findByIdWithMember(1L)).willReturn(Optional.of(post));
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+        given(postRepository.save(post)).willReturn(post);
+
+        postService.updatePost(1L, request, 1L);
+
+        verify(seriesService).removeFromSeries(post);
+        verify(seriesService, never()).moveToSeries(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("시리즈에 속한 게시글 상세는 목차에서 이전/다음 글을 채운다")
+    void getPostDetails_inSeries_fillsNavigation() {
+        PostDetailSnapshot snapshot = new PostDetailSnapshot(1L, MemberResponse.of(member), "2편", "내용", null,
+                null, null, null, List.of(), 3L, "시리즈명", "public");
+        given(postDetailCache.get(eq(1L), any())).willReturn(snapshot);
+        given(postRepository.findCountersById(1L)).willReturn(Optional.of(new PostCounterQueryDto(0L, 0L, 0L)));
+        given(seriesService.findSeriesPosts(3L)).willReturn(List.of(
+                new SeriesPostEntry(5L, "1편"),
+                new SeriesPostEntry(1L, "2편"),
+                new SeriesPostEntry(7L, "3편")));
+
+        PostResponse response = postService.getPostDetails(1L, null);
+
+        assertThat(response.prevPost().postId()).isEqualTo(5L);
+        assertThat(response.nextPost().postId()).isEqualTo(7L);
+        assertThat(response.nextPost().title()).isEqualTo("3편");
     }
 
     @Test
     @DisplayName("게시글 상세를 조회할 수 있다")
     void getPostDetails_success() {
+        given(postRepository.findCountersById(1L)).willReturn(Optional.of(new PostCounterQueryDto(7L, 3L, 2L)));
         given(postRepository.findByIdWithMember(1L)).willReturn(Optional.of(post));
-        given(postLikeRepository.existsByPostIdAndMemberId(1L, 1L)).willReturn(false);
+        given(likedPostCache.isLiked(1L, 1L)).willReturn(false);
 
         PostResponse response = postService.getPostDetails(1L, 1L);
 
         assertThat(response.postId()).isEqualTo(1L);
         assertThat(response.title()).isEqualTo(PostFixture.DEFAULT_TITLE);
+        assertThat(response.viewCount()).isEqualTo(7L);
+        assertThat(response.likeCount()).isEqualTo(3L);
+        assertThat(response.commentCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("게시글 상세가 캐시에 있으면 게시글 본문을 다시 조회하지 않는다")
+    void getPostDetails_cacheHit_skipsPostQuery() {
+        PostDetailSnapshot cached = PostDetailSnapshot.from(post);
+        given(postDetailCache.get(eq(1L), any())).willReturn(cached);
+        given(postRepository.findCountersById(1L)).willReturn(Optional.of(new PostCounterQueryDto(7L, 3L, 2L)));
+
+        PostResponse response = postService.getPostDetails(1L, null);
+
+        assertThat(response.title()).isEqualTo(PostFixture.DEFAULT_TITLE);
+        assertThat(response.likeCount()).isEqualTo(3L);
+        verify(postRepository, never()).findByIdWithMember(1L);
     }
 
     @Test
     @DisplayName("존재하지 않는 게시글 조회 시 예외가 발생한다")
     void getPostDetails_notFound() {
-        given(postRepository.findByIdWithMember(1L)).willReturn(Optional.empty());
+        given(postRepository.findCountersById(1L)).willReturn(Optional.empty());
 
         assertThatThrownBy(() -> postService.getPostDetails(1L, 1L))
                 .isInstanceOf(BusinessException.class);
@@ -144,14 +285,92 @@ class PostServiceTest {
         PostSummaryQueryDto dto = PostQueryDtoFixture.create();
         Page<PostSummaryQueryDto> page = new PageImpl<>(List.of(dto), pageable, 1);
 
-        given(postRepository.searchPosts(any(PostSearchCondition.class), eq(pageable))).willReturn(page);
+        given(postRepository.searchPosts(any(PostSearchCondition.class), eq(pageable), any())).willReturn(page);
 
-        PageResponse<PostSummaryResponse> response = postService.getPostPage(pageable);
+        PageResponse<PostSummaryResponse> response = postService.getPostPage(pageable, null);
 
         assertThat(response.items()).hasSize(1);
         assertThat(response.items().getFirst().postId()).isEqualTo(1L);
     }
 
+    @Test
+    @DisplayName("게시글 목록 조회 시 페이지 전체의 좋아요 여부를 한 번에 조회한다")
+    void getPostPage_withMemberId_resolvesLikedInBulk() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<PostSummaryQueryDto> page = new PageImpl<>(List.of(
+                PostQueryDtoFixture.create(1L, "첫 번째"),
+                PostQueryDtoFixture.create(2L, "두 번째")
+        ), pageable, 2);
+
+        given(postRepository.searchPosts(any(PostSearchCondition.class), eq(pageable), any())).willReturn(page);
+        given(likedPostCache.likedAmong(1L, List.of(1L, 2L))).willReturn(Set.of(2L));
+
+        PageResponse<PostSummaryResponse> response = postService.getPostPage(pageable, 1L);
+
+        assertThat(response.items()).extracting(PostSummaryResponse::isLiked).containsExactly(false, true);
+    }
+
+    @Test
+    @DisplayName("인기순 조회는 인기 게시글 순위 순서대로 게시글을 한 번에 채운다")
+    void getPostPage_trending_usesTrendingIndex() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("trending"));
+        Page<Long> postIds = new PageImpl<>(List.of(2L, 1L), pageable, 2);
+        given(trendingPostIndex.findPostIds(pageable)).willReturn(Optional.of(postIds));
+        given(postRepository.findSummariesByIds(List.of(2L, 1L))).willReturn(List.of(
+                PostQueryDtoFixture.create(1L, "first"),
+                PostQueryDtoFixture.create(2L, "second")));
+
+        PageResponse<PostSummaryResponse> response = postService.getPostPage(pageable, null);
+
+        assertThat(response.items()).extracting(PostSummaryResponse::postId).containsExactly(2L, 1L);
+        verify(postRepository, never()).searchPosts(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("인기 게시글 순위를 사용할 수 없으면 좋아요순으로 DB에서 조회한다")
+    void getPostPage_trendingUnavailable_fallsBackToLikeCount() {
+        Pageable pageable = PageRequest.of(1, 10, Sort.by("trending"));
+        Pageable fallback = PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "likeCount"));
+        given(trendingPostIndex.findPostIds(pageable)).willReturn(Optional.empty());
+        given(postRepository.searchPosts(any(PostSearchCondition.class), eq(fallback), any()))
+                .willReturn(new PageImpl<>(List.of(PostQueryDtoFixture.create()), fallback, 11));
+
+        PageResponse<PostSummaryResponse> response = postService.getPostPage(pageable, null);
+
+        assertThat(response.items()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("게시글 목록을 커서로 조회하면 다음 페이지 커서를 반환한다")
+    void scrollPosts_returnsNextCursor() {
+        PostSummaryQueryDto last = PostQueryDtoFixture.create(5L, "마지막");
+        Slice<PostSummaryQueryDto> slice = new SliceImpl<>(
+                List.of(PostQueryDtoFixture.create(6L, "첫 번째"), last), PageRequest.ofSize(2), true);
+        given(postRepository.scrollPosts(any(PostSearchCondition.class), any(PostCursor.class), eq(2))).willReturn(slice);
+
+        CursorResponse<PostSummaryResponse> response = postService.scrollPosts(
+                null, TagMatch.ANY, new CursorRequest(null, 2, "id,desc"), null);
+
+        assertThat(response.items()).hasSize(2);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(PostCursor.decode(response.nextCursor()))
+                .isEqualTo(new PostCursor("id", false, "5", 5L));
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 다음 커서가 없다")
+    void scrollPosts_lastPage_hasNoCursor() {
+        Slice<PostSummaryQueryDto> slice = new SliceImpl<>(
+                List.of(PostQueryDtoFixture.create()), PageRequest.ofSize(20), false);
+        given(postRepository.scrollPosts(any(PostSearchCondition.class), any(PostCursor.class), eq(20))).willReturn(slice);
+
+        CursorResponse<PostSummaryResponse> response = postService.scrollPosts(
+                null, TagMatch.ANY, new CursorRequest(null, null, null), null);
+
+        assertThat(response.nextCursor()).isNull();
+        assertThat(response.hasNext()).isFalse();
+    }
+
     @Test
     @DisplayName("게시글 생성 시 회원이 존재하지 않으면 예외가 발생한다")
     void createPost_memberNotFound_throwsException() {
@@ -204,8 +423,9 @@ class PostServiceTest {
     @Test
     @DisplayName("게시글 조회 시 좋아요 여부를 확인한다 - memberId가 있을 때")
     void getPostDetails_withMemberId_checksLiked() {
+        given(postRepository.findCountersById(1L)).willReturn(Optional.of(new PostCounterQueryDto(0L, 1L, 0L)));
         given(postRepository.findByIdWithMember(1L)).willReturn(Optional.of(post));
-        given(postLikeRepository.existsByPostIdAndMemberId(1L, 1L)).willReturn(true);
+        given(likedPostCache.isLiked(1L, 1L)).willReturn(true);
 
         PostResponse response = postService.getPostDetails(1L, 1L);
 
@@ -215,6 +435,7 @@ class PostServiceTest {
     @Test
     @DisplayName("게시글 조회 시 좋아요 여부를 확인한다 - memberId가 null일 때")
     void getPostDetails_withoutMemberId_isLikedFalse() {
+        given(postRepository.findCountersById(1L)).willReturn(Optional.of(new PostCounterQueryDto(0L, 0L, 0L)));
         given(postRepository.findByIdWithMember(1L)).willReturn(Optional.of(post));
 
         PostResponse response = postService.getPostDetails(1L, null);
@@ -230,9 +451,9 @@ class PostServiceTest {
         PostSummaryQueryDto dto = PostQueryDtoFixture.create();
         Page<PostSummaryQueryDto> page = new PageImpl<>(List.of(dto), pageable, 1);
 
-        given(postRepository.searchPosts(any(PostSearchCondition.class), eq(pageable))).willReturn(page);
+        given(postRepository.searchPosts(any(PostSearchCondition.class), eq(pageable), any())).willReturn(page);
 
-        PageResponse<PostSummaryResponse> response = postService.getPostPageByTags(tags, pageable);
+        PageResponse<PostSummaryResponse> response = postService.getPostPageByTags(tags, TagMatch.ANY, pageable, null);
 
         assertThat(response.items()).hasSize(1);
         assertThat(response.items().getFirst().postId()).isEqualTo(1L);
@@ -245,11 +466,58 @@ class PostServiceTest {
         List<String> tags = List.of("NonExistentTag");
         Page<PostSummaryQueryDto> page = new PageImpl<>(List.of(), pageable, 0);
 
-        given(postRepository.searchPosts(any(PostSearchCondition.class), eq(pageable))).willReturn(page);
+        given(postRepository.searchPosts(any(PostSearchCondition.class), eq(pageable), any())).willReturn(page);
 
-        PageResponse<PostSummaryResponse> response = postService.getPostPageByTags(tags, pageable);
+        PageResponse<PostSummaryResponse> response = postService.getPostPageByTags(tags, TagMatch.ANY, pageable, null);
 
         assertThat(response.items()).isEmpty();
         assertThat(response.totalElements()).isZero();
     }
+
+    @Test
+    @DisplayName("태그 역색인을 사용할 수 있으면 색인 순서대로 게시글을 한 번에 채운다")
+    void getPostPageByTags_usesTagIndex() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<Long> postIds = new PageImpl<>(List.of(3L, 1L, 2L), pageable, 3);
+        given(tagPostIndex.findPostIds(List.of("java"), TagMatch.ANY, pageable)).willReturn(Optional.of(postIds));
+        given(postRepository.findSummariesByIds(List.of(3L, 1L, 2L))).willReturn(List.of(
+                PostQueryDtoFixture.create(1L, "first"),
+                PostQueryDtoFixture.create(3L, "third")));
+
+        PageResponse<PostSummaryResponse> response = postService.getPostPageByTags(
+                List.of("Java"), TagMatch.ANY, pageable, null);
+
+        assertThat(response.items()).extracting(PostSummaryResponse::postId).containsExactly(3L, 1L);
+        assertThat(response.totalElements()).isEqualTo(3);
+        verify(postRepository, never()).searchPosts(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("키워드 검색 결과의 제목과 본문 스니펫에서 검색어가 강조된다")
+    void searchPosts_highlightsTerms() {
+        Pageable pageable = PageRequest.of(0, 10);
+        PostSummaryQueryDto dto = PostQueryDtoFixture.create(1L, "Spring <트랜잭션> 정리");
+        PostSearchHit hit = new PostSearchHit(dto, "## 개요\n@Transactional은 **spring** AOP 프록시로 동작한다.");
+        Page<PostSearchHit> page = new PageImpl<>(List.of(hit), pageable, 1);
+
+        given(postRepository.searchByKeyword(any(PostSearchCondition.class), eq(pageable), any())).willReturn(page);
+
+        PageResponse<PostSearchResponse> response = postService.searchPosts("spring 트랜잭션", pageable, null);
+
+        PostSearchResponse result = response.items().getFirst();
+        assertThat(result.post().postId()).isEqualTo(1L);
+        assertThat(result.highlightedTitle()).isEqualTo("<mark>Spring</mark> &lt;<mark>트랜잭션</mark>&gt; 정리");
+        assertThat(result.snippet()).isEqualTo("개요 @Transactional은 <mark>spring</mark> AOP 프록시로 동작한다.");
+    }
+
+    @Test
+    @DisplayName("검색어가 비어 있으면 예외가 발생한다")
+    void searchPosts_blankKeyword_throwsException() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        assertThatThrownBy(() -> postService.searchPosts(" \"* ", pageable, null))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(PostErrorCode.INVALID_SEARCH_KEYWORD.getMessage());
+        verify(postRepository, never()).searchByKeyword(any(), any(), any());
+    }
 }
@@ -1,27 +1,39 @@
 package com.devon.techblog.application.post.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.devon.techblog.config.annotation.UnitTest;
 import com.devon.techblog.domain.member.MemberFixture;
 import com.devon.techblog.domain.member.entity.Member;
 import com.devon.techblog.domain.post.PostFixture;
+import com.devon.techblog.domain.post.cache.TagCloudCache;
+import com.devon.techblog.domain.post.cache.TagDictionary;
+import com.devon.techblog.domain.post.dto.TagUsage;
 import com.devon.techblog.domain.post.entity.Post;
 import com.devon.techblog.domain.post.entity.PostTag;
 import com.devon.techblog.domain.post.entity.Tag;
+import com.devon.techblog.domain.post.index.TagPostIndex;
+import com.devon.techblog.domain.post.repository.PostTagBatchRepository;
+import com.devon.techblog.domain.post.repository.TagBatchRepository;
 import com.devon.techblog.domain.post.repository.TagRepository;
+import com.devon.techblog.fake.FakeRedisService;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.dao.CannotAcquireLockException;
 
 @UnitTest
 class PostTagServiceTest {
@@ -29,7 +41,18 @@ class PostTagServiceTest {
     @Mock
     private TagRepository tagRepository;
 
-    @InjectMocks
+    @Mock
+    private TagBatchRepository tagBatchRepository;
+
+    @Mock
+    private PostTagBatchRepository postTagBatchRepository;
+
+    @Mock
+    private TagPostIndex tagPostIndex;
+
+    @Mock
+    private TagCloudCache tagCloudCache;
+
     private PostTagService postTagService;
 
     private Post post;
@@ -38,37 +61,56 @@ class PostTagServiceTest {
     void setUp() {
         Member member = MemberFixture.createWithId(1L);
         post = PostFixture.createWithId(1L, member);
+        TagDictionary tagDictionary = new TagDictionary(tagRepository, new FakeRedisService());
+        postTagService = new PostTagService(
+                tagRepository, tagBatchRepository, tagDictionary, postTagBatchRepository, tagPostIndex, tagCloudCache);
     }
 
     @Test
-    @DisplayName("새로운 태그로 PostTag를 생성할 수 있다")
+    @DisplayName("새로운 태그로 게시글 태그를 생성할 수 있다")
     void createPostTags_withNewTags() {
         List<String> tagNames = List.of("Java", "Spring");
         Tag javaTag = createTagWithId(1L, "java");
         Tag springTag = createTagWithId(2L, "spring");
 
         given(tagRepository.findByNameIn(anyList())).willReturn(Collections.emptyList());
-        given(tagRepository.saveAll(anyList())).willReturn(List.of(javaTag, springTag));
+        given(tagBatchRepository.upsertAll(List.of("java", "spring"))).willReturn(List.of(javaTag, springTag));
 
-        List<PostTag> postTags = postTagService.createPostTags(post, tagNames);
+        List<String> tags = postTagService.createPostTags(post, tagNames);
 
-        assertThat(postTags).hasSize(2);
-        verify(tagRepository, times(1)).saveAll(anyList());
+        assertThat(tags).containsExactly("java", "spring");
+        verify(tagBatchRepository, times(1)).upsertAll(anyList());
         verify(tagRepository, times(1)).bulkIncrementUsageCount(anyList());
     }
 
     @Test
-    @DisplayName("기존 태그로 PostTag를 생성할 수 있다")
+    @DisplayName("게시글 태그는 INSERT 한 번으로 기록되고 태그 역색인에 추가된 뒤 게시글의 태그가 다시 적재된다")
+    void createPostTags_insertsInBulkAndIndexes() {
+        Tag javaTag = createTagWithId(1L, "java");
+        Tag springTag = createTagWithId(2L, "spring");
+
+        given(tagRepository.findByNameIn(anyList())).willReturn(List.of(javaTag, springTag));
+
+        postTagService.createPostTags(post, List.of("java", "spring"));
+
+        verify(postTagBatchRepository, times(1)).insertAll(post.getId(), List.of(1L, 2L));
+        verify(tagRepository, times(1)).bulkIncrementUsageCount(List.of(1L, 2L));
+        verify(tagPostIndex).index(post.getId(), post.getCreatedAt(), List.of(1L, 2L));
+        verify(postTagBatchRepository).reload(post);
+    }
+
+    @Test
+    @DisplayName("기존 태그로 게시글 태그를 생성할 수 있다")
     void createPostTags_withExistingTags() {
         List<String> tagNames = List.of("java");
         Tag existingTag = createTagWithId(1L, "java");
 
         given(tagRepository.findByNameIn(anyList())).willReturn(List.of(existingTag));
 
-        List<PostTag> postTags = postTagService.createPostTags(post, tagNames);
+        List<String> tags = postTagService.createPostTags(post, tagNames);
 
-        assertThat(postTags).hasSize(1);
-        verify(tagRepository, times(0)).saveAll(anyList());
+        assertThat(tags).containsExactly("java");
+        verify(tagBatchRepository, times(0)).upsertAll(anyList());
         verify(tagRepository, times(1)).bulkIncrementUsageCount(anyList());
     }
 
@@ -80,10 +122,11 @@ class PostTagServiceTest {
 
         given(tagRepository.findByNameIn(anyList())).willReturn(List.of(javaTag));
 
-        List<PostTag> postTags = postTagService.createPostTags(post, tagNames);
+        List<String> tags = postTagService.createPostTags(post, tagNames);
 
-        assertThat(postTags).hasSize(1);
+        assertThat(tags).containsExactly("java");
         verify(tagRepository, times(1)).findByNameIn(anyList());
+        verify(postTagBatchRepository).insertAll(post.getId(), List.of(1L));
     }
 
     @Test
@@ -95,20 +138,21 @@ class PostTagServiceTest {
 
         given(tagRepository.findByNameIn(anyList())).willReturn(List.of(javaTag, springTag));
 
-        List<PostTag> postTags = postTagService.createPostTags(post, tagNames);
+        List<String> tags = postTagService.createPostTags(post, tagNames);
 
-        assertThat(postTags).hasSize(2);
+        assertThat(tags).containsExactly("java", "spring");
         verify(tagRepository, times(1)).findByNameIn(anyList());
     }
 
     @Test
-    @DisplayName("null 또는 빈 리스트를 전달하면 빈 PostTag 리스트를 반환한다")
+    @DisplayName("null 또는 빈 리스트를 전달하면 빈 태그 목록을 반환한다")
     void createPostTags_handlesNullAndEmptyList() {
-        List<PostTag> nullResult = postTagService.createPostTags(post, null);
-        List<PostTag> emptyResult = postTagService.createPostTags(post, new ArrayList<>());
+        List<String> nullResult = postTagService.createPostTags(post, null);
+        List<String> emptyResult = postTagService.createPostTags(post, new ArrayList<>());
 
         assertThat(nullResult).isEmpty();
         assertThat(emptyResult).isEmpty();
+        verifyNoInteractions(postTagBatchRepository);
     }
 
     @Test
@@ -116,31 +160,35 @@ class PostTagServiceTest {
     void updatePostTags_success() {
         Tag oldTag = createTagWithId(1L, "java");
         Tag newTag = createTagWithId(2L, "spring");
-        PostTag oldPostTag = PostTag.create(post, oldTag);
-
-        post.addPostTag(oldPostTag);
+        post.addPostTag(PostTag.create(post, oldTag));
 
         given(tagRepository.findByNameIn(anyList())).willReturn(List.of(newTag));
 
-        postTagService.updatePostTags(post, List.of("spring"));
+        List<String> tags = postTagService.updatePostTags(post, List.of("spring"));
 
-        verify(tagRepository, times(1)).bulkDecrementUsageCount(anyList());
-        verify(tagRepository, times(1)).bulkIncrementUsageCount(anyList());
+        assertThat(tags).containsExactly("spring");
+        verify(postTagBatchRepository).deleteAll(post.getId(), List.of(1L));
+        verify(postTagBatchRepository).insertAll(post.getId(), List.of(2L));
+        verify(tagRepository, times(1)).bulkDecrementUsageCount(List.of(1L));
+        verify(tagRepository, times(1)).bulkIncrementUsageCount(List.of(2L));
+        verify(postTagBatchRepository).reload(post);
     }
 
     @Test
     @DisplayName("동일한 태그로 업데이트하면 변경사항이 없다")
     void updatePostTags_noChange() {
         Tag javaTag = createTagWithId(1L, "java");
-        PostTag postTag = PostTag.create(post, javaTag);
+        post.addPostTag(PostTag.create(post, javaTag));
 
-        post.addPostTag(postTag);
+        given(tagRepository.findByNameIn(anyList())).willReturn(List.of(javaTag));
 
         postTagService.updatePostTags(post, List.of("java"));
 
+        verify(postTagBatchRepository, never()).deleteAll(anyLong(), any());
+        verify(postTagBatchRepository, never()).insertAll(anyLong(), any());
+        verify(postTagBatchRepository, never()).reload(any());
         verify(tagRepository, times(0)).bulkDecrementUsageCount(anyList());
         verify(tagRepository, times(0)).bulkIncrementUsageCount(anyList());
-        assertThat(post.getPostTags()).hasSize(1);
     }
 
     @Test
@@ -157,24 +205,95 @@ class PostTagServiceTest {
 
         postTagService.updatePostTags(post, List.of("spring", "kotlin"));
 
-        verify(tagRepository, times(1)).bulkDecrementUsageCount(anyList());
-        verify(tagRepository, times(1)).bulkIncrementUsageCount(anyList());
+        verify(postTagBatchRepository).deleteAll(post.getId(), List.of(1L));
+        verify(postTagBatchRepository).insertAll(post.getId(), List.of(3L));
+        verify(tagPostIndex).unindex(post.getId(), List.of(1L));
+        verify(tagPostIndex).index(post.getId(), post.getCreatedAt(), List.of(3L));
+    }
+
+    @Test
+    @DisplayName("태그를 모두 비우면 기존 태그를 DELETE 한 번으로 해제한다")
+    void updatePostTags_removeAll() {
+        post.addPostTag(PostTag.create(post, createTagWithId(1L, "java")));
+        post.addPostTag(PostTag.create(post, createTagWithId(2L, "spring")));
+
+        List<String> tags = postTagService.updatePostTags(post, null);
+
+        assertThat(tags).isEmpty();
+        verify(postTagBatchRepository).deleteAll(post.getId(), List.of(1L, 2L));
+        verify(postTagBatchRepository, never()).insertAll(anyLong(), any());
+        verify(tagRepository, never()).findByNameIn(anyList());
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글의 태그를 역색인에서 제거한다")
+    void removeFromTagIndex() {
+        post.addPostTag(PostTag.create(post, createTagWithId(1L, "java")));
+        post.addPostTag(PostTag.create(post, createTagWithId(2L, "spring")));
+
+        postTagService.removeFromTagIndex(post);
+
+        verify(tagPostIndex).unindex(post.getId(), List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("일부만 새 태그면 없는 태그만 upsert 한다")
+    void createPostTags_upsertsOnlyMissingTags() {
+        Tag javaTag = createTagWithId(1L, "java");
+        Tag springTag = createTagWithId(2L, "spring");
+
+        given(tagRepository.findByNameIn(anyList())).willReturn(List.of(javaTag));
+        given(tagBatchRepository.upsertAll(List.of("spring"))).willReturn(List.of(springTag));
+
+        postTagService.createPostTags(post, List.of("java", "spring"));
+
+        verify(postTagBatchRepository).insertAll(post.getId(), List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("태그 upsert가 잠금 충돌로 실패하면 호출한 트랜잭션과 함께 실패한다")
+    void createPostTags_propagatesUpsertLockFailure() {
+        given(tagRepository.findByNameIn(anyList())).willReturn(Collections.emptyList());
+        given(tagBatchRepository.upsertAll(List.of("java"))).willThrow(new CannotAcquireLockException("deadlock"));
+
+        assertThatThrownBy(() -> postTagService.createPostTags(post, List.of("java")))
+                .isInstanceOf(CannotAcquireLockException.class);
+        verify(tagBatchRepository, times(1)).upsertAll(List.of("java"));
+        verify(postTagBatchRepository, never()).insertAll(anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("한 번 찾았거나 만든 태그는 태그 사전에서 바로 찾는다")
+    void createPostTags_resolvesFromDictionary() {
+        Tag javaTag = createTagWithId(1L, "java");
+        Tag springTag = createTagWithId(2L, "spring");
+        Post other = PostFixture.createWithId(2L, post.getMember());
+
+        given(tagRepository.findByNameIn(List.of("java"))).willReturn(List.of(javaTag));
+        given(tagRepository.findByNameIn(List.of("spring"))).willReturn(Collections.emptyList());
+        given(tagBatchRepository.upsertAll(List.of("spring"))).willReturn(List.of(springTag));
+        postTagService.createPostTags(post, List.of("java"));
+        postTagService.createPostTags(post, List.of("spring"));
+
+        postTagService.createPostTags(other, List.of("Spring", "java"));
+
+        verify(postTagBatchRepository).insertAll(other.getId(), List.of(2L, 1L));
+        verify(tagRepository, times(2)).findByNameIn(anyList());
+        verify(tagBatchRepository, times(1)).upsertAll(anyList());
     }
 
     @Test
     @DisplayName("인기 태그 상위 N개를 조회할 수 있다")
     void getTopTags() {
-        Tag tag1 = createTagWithId(1L, "java");
-        Tag tag2 = createTagWithId(2L, "spring");
-        List<Tag> topTags = List.of(tag1, tag2);
+        TagUsage tag1 = new TagUsage(1L, "java", 5L);
+        TagUsage tag2 = new TagUsage(2L, "spring", 3L);
 
-        given(tagRepository.findTopByUsageCount(10)).willReturn(topTags);
+        given(tagCloudCache.top(10)).willReturn(List.of(tag1, tag2));
 
-        List<Tag> result = postTagService.getTopTags(10);
+        List<TagUsage> result = postTagService.getTopTags(10);
 
-        assertThat(result).hasSize(2);
         assertThat(result).containsExactly(tag1, tag2);
-        verify(tagRepository, times(1)).findTopByUsageCount(10);
+        verify(tagCloudCache, times(1)).top(10);
     }
 
     private Tag createTagWithId(Long id, String name) {
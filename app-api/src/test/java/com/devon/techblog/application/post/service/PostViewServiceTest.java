@@ -4,10 +4,10 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.devon.techblog.application.post.counter.ViewCountBuffer;
 import com.devon.techblog.application.post.dto.ViewContext;
 import com.devon.techblog.config.annotation.UnitTest;
 import com.devon.techblog.domain.post.policy.ViewCountPolicy;
-import com.devon.techblog.domain.post.repository.PostRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -17,7 +17,7 @@ import org.mockito.Mock;
 class PostViewServiceTest {
 
     @Mock
-    private PostRepository postRepository;
+    private ViewCountBuffer viewCountBuffer;
 
     @Mock
     private ViewCountPolicy viewCountPolicy;
@@ -37,7 +37,7 @@ class PostViewServiceTest {
 
         postViewService.incrementViewCount(1L, context);
 
-        verify(postRepository).incrementViewCount(1L);
+        verify(viewCountBuffer).increment(1L);
     }
 
     @Test
@@ -52,6 +52,6 @@ class PostViewServiceTest {
 
         postViewService.incrementViewCount(1L, context);
 
-        verify(postRepository, never()).incrementViewCount(1L);
+        verify(viewCountBuffer, never()).increment(1L);
     }
 }
@@ -0,0 +1,162 @@
+package com.devon.techblog.application.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.devon.techblog.application.post.cache.SeriesTocCache;
+import com.devon.techblog.application.post.dto.response.SeriesPostResponse;
+import com.devon.techblog.common.exception.BusinessException;
+import com.devon.techblog.common.exception.code.PostErrorCode;
+import com.devon.techblog.config.annotation.UnitTest;
+import com.devon.techblog.domain.common.policy.OwnershipPolicy;
+import com.devon.techblog.domain.member.MemberFixture;
+import com.devon.techblog.domain.member.entity.Member;
+import com.devon.techblog.domain.post.PostFixture;
+import com.devon.techblog.domain.post.SeriesFixture;
+import com.devon.techblog.domain.post.dto.SeriesPostEntry;
+import com.devon.techblog.domain.post.entity.Post;
+import com.devon.techblog.domain.post.entity.Series;
+import com.devon.techblog.domain.post.repository.PostRepository;
+import com.devon.techblog.domain.post.repository.SeriesRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+@UnitTest
+class SeriesServiceTest {
+
+    @Mock
+    private SeriesRepository seriesRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private OwnershipPolicy ownershipPolicy;
+
+    @Mock
+    private SeriesTocCache seriesTocCache;
+
+    @InjectMocks
+    private SeriesService seriesService;
+
+    private Member member;
+    private Post post;
+    private Series series;
+
+    @BeforeEach
+    void setUp() {
+        member = MemberFixture.createWithId(1L);
+        post = PostFixture.createWithId(1L, member);
+        series = SeriesFixture.createWithId(3L, member);
+    }
+
+    @Test
+    @DisplayName("시리즈에 편입하면 마지막 순서 다음으로 지정하고 목차를 비운다")
+    void moveToSeries_appendsToEnd() {
+        given(seriesRepository.findByIdAndNotDeleted(3L)).willReturn(Optional.of(series));
+        given(seriesRepository.lockActiveById(3L)).willReturn(Optional.of(3L));
+        given(postRepository.findMaxSeriesOrder(3L)).willReturn(4);
+
+        seriesService.moveToSeries(post, 3L, 1L);
+
+        assertThat(post.getSeries()).isEqualTo(series);
+        assertThat(post.getSeriesOrder()).isEqualTo(5);
+        verify(ownershipPolicy).validateOwnership(1L, 1L);
+        verify(seriesTocCache).evict(3L);
+    }
+
+    @Test
+    @DisplayName("다른 시리즈로 옮기면 두 시리즈의 목차를 모두 비운다")
+    void moveToSeries_fromOtherSeries_evictsBoth() {
+        post.moveToSeries(SeriesFixture.createWithId(2L, member), 1);
+        given(seriesRepository.findByIdAndNotDeleted(3L)).willReturn(Optional.of(series));
+        given(seriesRepository.lockActiveById(3L)).willReturn(Optional.of(3L));
+        given(postRepository.findMaxSeriesOrder(3L)).willReturn(0);
+
+        seriesService.moveToSeries(post, 3L, 1L);
+
+        assertThat(post.getSeriesOrder()).isEqualTo(1);
+        verify(seriesTocCache).evict(2L);
+        verify(seriesTocCache).evict(3L);
+    }
+
+    @Test
+    @DisplayName("이미 같은 시리즈에 있으면 순서를 유지한다")
+    void moveToSeries_sameSeries_noop() {
+        post.moveToSeries(series, 2);
+
+        seriesService.moveToSeries(post, 3L, 1L);
+
+        assertThat(post.getSeriesOrder()).isEqualTo(2);
+        verify(postRepository, never()).findMaxSeriesOrder(anyLong());
+        verify(seriesTocCache, never()).evict(anyLong());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 시리즈로는 편입할 수 없다")
+    void moveToSeries_seriesNotFound() {
+        given(seriesRepository.findByIdAndNotDeleted(3L)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> seriesService.moveToSeries(post, 3L, 1L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", PostErrorCode.SERIES_NOT_FOUND);
+        assertThat(post.getSeries()).isNull();
+    }
+
+    @Test
+    @DisplayName("시리즈 목차를 캐시를 거쳐 순서대로 조회한다")
+    void getSeriesPosts_returnsOrderedEntries() {
+        given(seriesTocCache.get(any(), any()))
+                .willAnswer(invocation -> invocation.<Supplier<List<SeriesPostEntry>>>getArgument(1).get());
+        given(postRepository.findSeriesPosts(3L)).willReturn(List.of(
+                new SeriesPostEntry(1L, "1편"),
+                new SeriesPostEntry(2L, "2편")));
+
+        List<SeriesPostResponse> posts = seriesService.getSeriesPosts(3L);
+
+        assertThat(posts).extracting(SeriesPostResponse::postId).containsExactly(1L, 2L);
+        verify(seriesRepository, never()).findByIdAndNotDeleted(anyLong());
+    }
+
+    @Test
+    @DisplayName("목차가 비어 있고 시리즈도 없으면 예외가 발생한다")
+    void getSeriesPosts_seriesNotFound() {
+        given(seriesTocCache.get(any(), any())).willReturn(List.of());
+        given(seriesRepository.findByIdAndNotDeleted(3L)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> seriesService.getSeriesPosts(3L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", PostErrorCode.SERIES_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("시리즈에서 제외하면 시리즈와 순서를 비우고 목차를 비운다")
+    void removeFromSeries_clearsSeries() {
+        post.moveToSeries(series, 2);
+
+        seriesService.removeFromSeries(post);
+
+        assertThat(post.getSeries()).isNull();
+        assertThat(post.getSeriesOrder()).isNull();
+        verify(seriesTocCache).evict(3L);
+    }
+
+    @Test
+    @DisplayName("시리즈에 속하지 않은 게시글은 제외해도 아무것도 하지 않는다")
+    void removeFromSeries_notInSeries_noop() {
+        seriesService.removeFromSeries(post);
+
+        verify(seriesTocCache, never()).evict(anyLong());
+    }
+}
@@ -15,6 +15,7 @@ import com.devon.techblog.application.member.dto.request.SignupRequest;
 import com.devon.techblog.application.security.dto.response.LoginResponse;
 import com.devon.techblog.application.security.service.SignupService;
 import com.devon.techblog.application.security.service.TokenBlacklistService;
+import com.devon.techblog.application.security.service.TokenEpochService;
 import com.devon.techblog.application.security.service.TokenRefreshService;
 import com.devon.techblog.application.security.util.CookieProvider;
 import com.devon.techblog.common.exception.BusinessException;
@@ -22,6 +23,7 @@ import com.devon.techblog.common.exception.code.MemberErrorCode;
 import com.devon.techblog.config.annotation.ControllerWebMvcTest;
 import com.devon.techblog.domain.member.repository.MemberRepository;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -43,6 +45,9 @@ class AuthControllerTest {
     @MockitoBean
     private TokenBlacklistService tokenBlacklistService;
 
+    @MockitoBean
+    private TokenEpochService tokenEpochService;
+
     @MockitoBean
     private CookieProvider cookieProvider;
 
@@ -165,6 +170,19 @@ class AuthControllerTest {
         verify(tokenBlacklistService).addToBlacklist("token-value");
     }
 
+    @Test
+    @WithMockUser
+    @DisplayName("모든 기기에서 로그아웃하면 회원의 토큰을 폐기하고 리프레시 토큰 쿠키를 삭제한다")
+    void logoutAll_revokesAllTokens() throws Exception {
+        mockMvc.perform(post("/auth/logout-all"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").value("모든 기기에서 로그아웃되었습니다"));
+
+        verify(tokenEpochService).revokeAll(1L);
+        verify(cookieProvider).deleteRefreshTokenCookie(any(HttpServletResponse.class));
+    }
+
     @Test
     @DisplayName("이메일 중복 여부를 조회한다")
     void checkEmail_returnsAvailability() throws Exception {
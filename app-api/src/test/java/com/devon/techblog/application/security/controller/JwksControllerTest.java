@@ -0,0 +1,51 @@
+package com.devon.techblog.application.security.controller;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.devon.techblog.application.security.constants.SecurityConstants;
+import com.devon.techblog.application.security.key.JwtKeyStore;
+import com.devon.techblog.config.annotation.ControllerWebMvcTest;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@ControllerWebMvcTest(JwksController.class)
+class JwksControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private JwtKeyStore jwtKeyStore;
+
+    @Test
+    @DisplayName("JWKS 조회 시 공개 키 목록을 JWK Set 형식으로 반환한다")
+    void jwks_returnsKeySet() throws Exception {
+        given(jwtKeyStore.publicJwks()).willReturn(List.of(
+                Map.of("kty", "OKP", "crv", "Ed25519", "x", "abc", "kid", "key-1", "alg", "EdDSA")));
+
+        mockMvc.perform(get(SecurityConstants.JWKS_URL))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=300, public"))
+                .andExpect(jsonPath("$.keys[0].kid").value("key-1"))
+                .andExpect(jsonPath("$.keys[0].kty").value("OKP"));
+    }
+
+    @Test
+    @DisplayName("HS256 모드에서는 빈 키 목록을 반환한다")
+    void jwks_hmac_returnsEmptyKeySet() throws Exception {
+        given(jwtKeyStore.publicJwks()).willReturn(List.of());
+
+        mockMvc.perform(get(SecurityConstants.JWKS_URL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.keys").isEmpty());
+    }
+}
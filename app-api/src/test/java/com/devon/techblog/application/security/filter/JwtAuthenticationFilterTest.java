@@ -7,10 +7,14 @@ import static org.mockito.Mockito.verify;
 
 import com.devon.techblog.application.security.dto.user.CustomUserDetails;
 import com.devon.techblog.application.security.service.LoginService;
-import com.devon.techblog.application.security.util.JwtTokenProvider;
+import com.devon.techblog.application.security.service.TokenEpochService;
+import com.devon.techblog.application.security.constants.JwtConstants;
+import com.devon.techblog.application.security.util.VerifiedToken;
+import com.devon.techblog.application.security.util.VerifiedTokenCache;
 import com.devon.techblog.config.annotation.UnitTest;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
+import java.time.Instant;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,11 +28,14 @@ import org.springframework.security.core.context.SecurityContextHolder;
 class JwtAuthenticationFilterTest {
 
     @Mock
-    private JwtTokenProvider jwtTokenProvider;
+    private VerifiedTokenCache verifiedTokenCache;
 
     @Mock
     private LoginService loginService;
 
+    @Mock
+    private TokenEpochService tokenEpochService;
+
     @InjectMocks
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
@@ -46,10 +53,10 @@ class JwtAuthenticationFilterTest {
 
         request.addHeader("Authorization", "Bearer valid-token");
 
-        given(jwtTokenProvider.isAccessToken("valid-token")).willReturn(true);
-        given(jwtTokenProvider.isTokenExpired("valid-token")).willReturn(false);
-        given(jwtTokenProvider.getUidFromToken("valid-token")).willReturn(1L);
-        given(jwtTokenProvider.getRoleFromToken("valid-token")).willReturn("USER");
+        VerifiedToken token = new VerifiedToken(
+                1L, JwtConstants.TOKEN_TYPE_ACCESS, "USER", Instant.now(), Instant.now().plusSeconds(60));
+        given(verifiedTokenCache.verify("valid-token")).willReturn(token);
+        given(tokenEpochService.isRevoked(token)).willReturn(false);
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
@@ -68,7 +75,45 @@ class JwtAuthenticationFilterTest {
 
         request.addHeader("Authorization", "Bearer invalid-token");
 
-        given(jwtTokenProvider.isAccessToken("invalid-token")).willThrow(new JwtException("invalid"));
+        given(verifiedTokenCache.verify("invalid-token")).willThrow(new JwtException("invalid"));
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰으로는 인증이 세팅되지 않는다")
+    void doFilterInternal_ignoresRefreshToken() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain filterChain = mock(FilterChain.class);
+
+        request.addHeader("Authorization", "Bearer refresh-token");
+
+        given(verifiedTokenCache.verify("refresh-token")).willReturn(new VerifiedToken(
+                1L, JwtConstants.TOKEN_TYPE_REFRESH, null, Instant.now(), Instant.now().plusSeconds(60)));
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("일괄 폐기 이전에 발급된 액세스 토큰으로는 인증이 세팅되지 않는다")
+    void doFilterInternal_ignoresRevokedToken() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain filterChain = mock(FilterChain.class);
+
+        request.addHeader("Authorization", "Bearer revoked-token");
+
+        VerifiedToken token = new VerifiedToken(
+                1L, JwtConstants.TOKEN_TYPE_ACCESS, "USER", Instant.now().minusSeconds(60), Instant.now().plusSeconds(60));
+        given(verifiedTokenCache.verify("revoked-token")).willReturn(token);
+        given(tokenEpochService.isRevoked(token)).willReturn(true);
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
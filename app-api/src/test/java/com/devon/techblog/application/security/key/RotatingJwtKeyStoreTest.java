@@ -0,0 +1,241 @@
+package com.devon.techblog.application.security.key;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.devon.techblog.application.security.config.properties.JwtProperties;
+import com.devon.techblog.application.security.config.properties.JwtSigningProperties;
+import com.devon.techblog.application.security.util.JwtTokenProvider;
+import com.devon.techblog.config.annotation.UnitTest;
+import com.devon.techblog.fake.FakeRedisService;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+@UnitTest
+class RotatingJwtKeyStoreTest {
+
+    private static final String KEY_ENCRYPTION_KEY = "MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=";
+
+    private JwtProperties jwtProperties;
+    private FakeRedisService redisService;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("0123456789abcdef0123456789abcdef");
+        jwtProperties.setAccessTokenExpiration(60_000L);
+        jwtProperties.setRefreshTokenExpiration(120_000L);
+        redisService = new FakeRedisService();
+    }
+
+    private JwtSigningProperties signingProperties(JwtSigningAlgorithm algorithm, Duration rotationInterval,
+                                                  boolean legacyHmac) {
+        JwtSigningProperties properties = new JwtSigningProperties();
+        properties.setAlgorithm(algorithm);
+        properties.setRotationInterval(rotationInterval);
+        properties.setLegacyHmacVerification(legacyHmac);
+        properties.setKeyEncryptionKey(KEY_ENCRYPTION_KEY);
+        return properties;
+    }
+
+    private RotatingJwtKeyStore newNode(JwtSigningAlgorithm algorithm, Duration rotationInterval, boolean legacyHmac) {
+        return new RotatingJwtKeyStore(redisService, jwtProperties,
+                signingProperties(algorithm, rotationInterval, legacyHmac));
+    }
+
+    private RotatingJwtKeyStore newNode(JwtSigningAlgorithm algorithm) {
+        return newNode(algorithm, Duration.ofDays(7), true);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = JwtSigningAlgorithm.class, names = {"ES256", "EdDSA"})
+    @DisplayName("현재 키로 서명한 토큰은 같은 Redis를 쓰는 다른 노드에서도 검증된다")
+    void sign_verifiedByOtherNode(JwtSigningAlgorithm algorithm) {
+        JwtTokenProvider signer = new JwtTokenProvider(jwtProperties, newNode(algorithm));
+        JwtTokenProvider verifier = new JwtTokenProvider(jwtProperties, newNode(algorithm));
+
+        String token = signer.generateAccessToken(1L, "USER");
+
+        assertThat(verifier.verify(token).memberId()).isEqualTo(1L);
+        assertThat(verifier.verify(token).role()).isEqualTo("USER");
+    }
+
+    @Test
+    @DisplayName("키를 교체해도 이전 키로 서명한 토큰은 계속 검증된다")
+    void rotate_keepsPreviousKeyForVerification() {
+        RotatingJwtKeyStore keyStore = newNode(JwtSigningAlgorithm.ES256, Duration.ZERO, true);
+        JwtTokenProvider provider = new JwtTokenProvider(jwtProperties, keyStore);
+        String oldToken = provider.generateAccessToken(1L, "USER");
+        String oldKid = keyStore.currentKid();
+
+        keyStore.rotateIfDue();
+        String newToken = provider.generateAccessToken(2L, "USER");
+
+        assertThat(keyStore.currentKid()).isNotEqualTo(oldKid);
+        assertThat(provider.verify(oldToken).memberId()).isEqualTo(1L);
+        assertThat(provider.verify(newToken).memberId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("교체 주기가 지나지 않았으면 다른 노드가 만든 현재 키를 그대로 쓴다")
+    void rotateIfDue_notDue_adoptsCurrentKey() {
+        RotatingJwtKeyStore first = newNode(JwtSigningAlgorithm.EdDSA);
+        RotatingJwtKeyStore second = newNode(JwtSigningAlgorithm.EdDSA);
+
+        first.rotateIfDue();
+        second.rotateIfDue();
+
+        assertThat(second.currentKid()).isEqualTo(first.currentKid());
+        assertThat(redisService.findSetMembers(RotatingJwtKeyStore.INDEX_KEY)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("JWKS에는 보관 중인 모든 키의 공개 키만 담긴다")
+    void publicJwks_listsAllKeys() {
+        RotatingJwtKeyStore keyStore = newNode(JwtSigningAlgorithm.ES256, Duration.ZERO, true);
+        keyStore.rotateIfDue();
+        String oldKid = keyStore.currentKid();
+        keyStore.rotateIfDue();
+
+        assertThat(keyStore.publicJwks())
+                .extracting(jwk -> jwk.get("kid"))
+                .containsExactlyInAnyOrder(oldKid, keyStore.currentKid());
+
+        Map<String, String> jwk = keyStore.publicJwks().get(0);
+        assertThat(jwk).containsEntry("kty", "EC").containsEntry("crv", "P-256").containsEntry("alg", "ES256");
+        assertThat(jwk).containsKeys("x", "y").doesNotContainKey("d");
+    }
+
+    @Test
+    @DisplayName("Ed25519 공개 키는 OKP JWK로 내보낸다")
+    void publicJwks_ed25519() {
+        RotatingJwtKeyStore keyStore = newNode(JwtSigningAlgorithm.EdDSA);
+        keyStore.rotateIfDue();
+
+        assertThat(keyStore.publicJwks()).singleElement().satisfies(jwk -> {
+            assertThat(jwk).containsEntry("kty", "OKP").containsEntry("crv", "Ed25519").containsEntry("alg", "EdDSA");
+            assertThat(jwk.get("x")).hasSize(43);
+        });
+    }
+
+    @Test
+    @DisplayName("전환 기간에는 kid 없는 기존 HS256 토큰도 검증하고, 끄면 거부한다")
+    void legacyHmacToken() {
+        String legacyToken = new JwtTokenProvider(jwtProperties, new HmacJwtKeyStore(jwtProperties))
+                .generateAccessToken(1L, "USER");
+
+        JwtTokenProvider accepting = new JwtTokenProvider(jwtProperties,
+                newNode(JwtSigningAlgorithm.ES256, Duration.ofDays(7), true));
+        JwtTokenProvider rejecting = new JwtTokenProvider(jwtProperties,
+                newNode(JwtSigningAlgorithm.ES256, Duration.ofDays(7), false));
+
+        assertThat(accepting.verify(legacyToken).memberId()).isEqualTo(1L);
+        assertThatThrownBy(() -> rejecting.verify(legacyToken)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("Redis에 없는 kid로 서명한 토큰은 거부한다")
+    void unknownKid_rejected() {
+        String foreignToken = new JwtTokenProvider(jwtProperties, newNode(JwtSigningAlgorithm.ES256))
+                .generateAccessToken(1L, "USER");
+        redisService = new FakeRedisService();
+
+        JwtTokenProvider verifier = new JwtTokenProvider(jwtProperties, newNode(JwtSigningAlgorithm.ES256));
+
+        assertThatThrownBy(() -> verifier.verify(foreignToken)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("개인 키는 KEK로 암호화해 저장하고, KEK가 다른 노드는 새 키로 교체하되 이전 토큰은 공개 키로 검증한다")
+    void privateKey_storedEncrypted() {
+        RotatingJwtKeyStore first = newNode(JwtSigningAlgorithm.EdDSA);
+        String token = new JwtTokenProvider(jwtProperties, first).generateAccessToken(1L, "USER");
+        String oldKid = first.currentKid();
+
+        String stored = redisService.find(RotatingJwtKeyStore.KEY_PREFIX + oldKid).orElseThrow();
+        assertThat(stored.split("\\|")[2]).doesNotStartWith("MC4CAQAwBQYDK2Vw");
+
+        JwtSigningProperties otherKek = signingProperties(JwtSigningAlgorithm.EdDSA, Duration.ofDays(7), true);
+        otherKek.setKeyEncryptionKey("ZmVkY2JhOTg3NjU0MzIxMGZlZGNiYTk4NzY1NDMyMTA=");
+        RotatingJwtKeyStore second = new RotatingJwtKeyStore(redisService, jwtProperties, otherKek);
+
+        assertThat(second.currentKid()).isNotEqualTo(oldKid);
+        assertThat(new JwtTokenProvider(jwtProperties, second).verify(token).memberId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("KEK가 없으면 비대칭 키 저장소를 만들지 않는다")
+    void missingKeyEncryptionKey_rejected() {
+        JwtSigningProperties properties = signingProperties(JwtSigningAlgorithm.ES256, Duration.ofDays(7), true);
+        properties.setKeyEncryptionKey("");
+
+        assertThatThrownBy(() -> new RotatingJwtKeyStore(redisService, jwtProperties, properties))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("다음 키는 교체 전에 JWKS에 먼저 공개하고, 교체 시각이 되면 그 키로 서명한다")
+    void nextKey_publishedBeforeSigning() {
+        // 교체 주기(5분)가 공개 리드 타임(확인 주기 1분 + JWKS 캐시 5분)보다 짧아 바로 다음 키를 공개한다.
+        JwtSigningProperties properties = signingProperties(JwtSigningAlgorithm.ES256, Duration.ofMinutes(5), true);
+        RotatingJwtKeyStore keyStore = new RotatingJwtKeyStore(redisService, jwtProperties, properties);
+        keyStore.rotateIfDue();
+        String currentKid = keyStore.currentKid();
+
+        keyStore.rotateIfDue();
+
+        Set<String> published = new HashSet<>();
+        keyStore.publicJwks().forEach(jwk -> published.add(jwk.get("kid")));
+        String nextKid = redisService.find(RotatingJwtKeyStore.NEXT_KEY).orElseThrow();
+        assertThat(published).containsExactlyInAnyOrder(currentKid, nextKid);
+        assertThat(keyStore.currentKid()).isEqualTo(currentKid);
+
+        properties.setRotationInterval(Duration.ZERO);
+        keyStore.rotateIfDue();
+
+        assertThat(keyStore.currentKid()).isEqualTo(nextKid);
+        assertThat(redisService.find(RotatingJwtKeyStore.CURRENT_KEY)).contains(nextKid);
+        assertThat(redisService.exists(RotatingJwtKeyStore.NEXT_KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis에 없는 kid는 잠시 기억해 다시 조회하지 않는다")
+    void unknownKid_cachedNegatively() {
+        redisService = spy(new FakeRedisService());
+        RotatingJwtKeyStore keyStore = newNode(JwtSigningAlgorithm.ES256);
+
+        assertThatThrownBy(() -> keyStore.verificationKey("unknown")).isInstanceOf(UnsupportedJwtException.class);
+        assertThatThrownBy(() -> keyStore.verificationKey("unknown")).isInstanceOf(UnsupportedJwtException.class);
+
+        verify(redisService, times(1)).find(RotatingJwtKeyStore.KEY_PREFIX + "unknown");
+    }
+
+    @Test
+    @DisplayName("교체 중 락이 만료돼 다른 노드가 잡았으면 그 락을 지우지 않는다")
+    void rotate_doesNotReleaseOtherNodesLock() {
+        redisService = spy(new FakeRedisService());
+        doAnswer(invocation -> {
+            redisService.save(RotatingJwtKeyStore.ROTATION_LOCK_KEY, "other-node", Duration.ofMinutes(1));
+            return null;
+        }).when(redisService).publish(eq(RotatingJwtKeyStore.ROTATED_CHANNEL), anyString());
+
+        newNode(JwtSigningAlgorithm.ES256).rotateIfDue();
+
+        assertThat(redisService.find(RotatingJwtKeyStore.ROTATION_LOCK_KEY)).contains("other-node");
+    }
+}
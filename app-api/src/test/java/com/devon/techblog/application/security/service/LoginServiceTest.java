@@ -7,6 +7,7 @@ import static org.mockito.BDDMockito.given;
 import com.devon.techblog.application.security.dto.user.CustomUserDetails;
 import com.devon.techblog.config.annotation.UnitTest;
 import com.devon.techblog.domain.member.MemberFixture;
+import com.devon.techblog.domain.member.dto.MemberAuthSnapshot;
 import com.devon.techblog.domain.member.entity.Member;
 import com.devon.techblog.domain.member.repository.MemberRepository;
 import java.util.Optional;
@@ -26,12 +27,16 @@ class LoginServiceTest {
     @InjectMocks
     private LoginService loginService;
 
+    private static MemberAuthSnapshot snapshotOf(Member member) {
+        return new MemberAuthSnapshot(member.getId(), member.getPassword(), member.getRole(), member.getStatus());
+    }
+
     @Test
     @DisplayName("존재하는 활성화된 회원이면 CustomUserDetails를 반환한다")
     void loadUserByUsername_success() {
         Member member = MemberFixture.createWithId(1L);
         member.loginSuccess();
-        given(memberRepository.findByEmail(member.getEmail())).willReturn(Optional.of(member));
+        given(memberRepository.findAuthSnapshotByEmail(member.getEmail())).willReturn(Optional.of(snapshotOf(member)));
 
         var userDetails = loginService.loadUserByUsername(member.getEmail());
 
@@ -42,7 +47,7 @@ class LoginServiceTest {
     @Test
     @DisplayName("존재하지 않는 이메일이면 UsernameNotFoundException을 던진다")
     void loadUserByUsername_notFound() {
-        given(memberRepository.findByEmail("unknown@example.com")).willReturn(Optional.empty());
+        given(memberRepository.findAuthSnapshotByEmail("unknown@example.com")).willReturn(Optional.empty());
 
         assertThatThrownBy(() -> loginService.loadUserByUsername("unknown@example.com"))
                 .isInstanceOf(UsernameNotFoundException.class);
@@ -53,7 +58,7 @@ class LoginServiceTest {
     void loadUserByUsername_disabled() {
         Member member = MemberFixture.createWithId(2L);
         member.deactivate();
-        given(memberRepository.findByEmail(member.getEmail())).willReturn(Optional.of(member));
+        given(memberRepository.findAuthSnapshotByEmail(member.getEmail())).willReturn(Optional.of(snapshotOf(member)));
 
         assertThatThrownBy(() -> loginService.loadUserByUsername(member.getEmail()))
                 .isInstanceOf(DisabledException.class);
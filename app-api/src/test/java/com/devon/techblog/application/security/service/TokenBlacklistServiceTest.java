@@ -1,26 +1,44 @@
 package com.devon.techblog.application.security.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.devon.techblog.application.security.config.properties.JwtProperties;
+import com.devon.techblog.application.security.config.properties.TokenBlacklistProperties;
 import com.devon.techblog.application.security.util.JwtTokenProvider;
 import com.devon.techblog.config.annotation.UnitTest;
 import com.devon.techblog.infra.redis.adapter.RedisService;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.springframework.data.redis.RedisConnectionFailureException;
 
 @UnitTest
 class TokenBlacklistServiceTest {
 
     private static final String TOKEN = "refresh-token";
+    private static final String OTHER_TOKEN = "other-refresh-token";
     private static final long TTL_MILLIS = 120_000L;
+    private static final String KEY = "blacklist:refresh-token:" + DigestUtils.sha256Hex(TOKEN);
 
     @Mock
     private RedisService redisService;
@@ -28,9 +46,16 @@ class TokenBlacklistServiceTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
-    @InjectMocks
     private TokenBlacklistService tokenBlacklistService;
 
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setRefreshTokenExpiration(TTL_MILLIS);
+        tokenBlacklistService = new TokenBlacklistService(redisService, jwtTokenProvider, jwtProperties,
+                new TokenBlacklistProperties(), new SimpleMeterRegistry());
+    }
+
     @Test
     @DisplayName("토큰을 블랙리스트에 등록하면 sha256 해시 키와 TTL로 Redis에 저장한다")
     void addToBlacklist_savesHashedKeyAndTtl() {
@@ -38,15 +63,26 @@ class TokenBlacklistServiceTest {
 
         tokenBlacklistService.addToBlacklist(TOKEN);
 
-        String expectedKey = "blacklist:refresh-token:" + DigestUtils.sha256Hex(TOKEN);
-        verify(redisService).save(eq(expectedKey), eq("0"), eq(Duration.ofMillis(TTL_MILLIS)));
+        ArgumentCaptor<Duration> ttl = ArgumentCaptor.forClass(Duration.class);
+        verify(redisService).save(eq(KEY), eq("0"), ttl.capture());
+        assertThat(ttl.getValue().toMillis()).isBetween(TTL_MILLIS - 1_000L, TTL_MILLIS);
+        verify(redisService).publish("blacklist:refresh-token:added", DigestUtils.sha256Hex(TOKEN));
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 등록하지 않는다")
+    void addToBlacklist_expiredToken_skips() {
+        given(jwtTokenProvider.getExpiresIn(TOKEN)).willThrow(new ExpiredJwtException(null, null, "expired"));
+
+        tokenBlacklistService.addToBlacklist(TOKEN);
+
+        verify(redisService, never()).save(anyString(), anyString(), any());
     }
 
     @Test
     @DisplayName("블랙리스트에 등록된 토큰은 존재함을 반환한다")
     void isBlacklisted_returnsTrueWhenPresent() {
-        String expectedKey = "blacklist:refresh-token:" + DigestUtils.sha256Hex(TOKEN);
-        given(redisService.find(expectedKey)).willReturn(Optional.of("0"));
+        given(redisService.find(KEY)).willReturn(Optional.of("0"));
 
         boolean actual = tokenBlacklistService.isBlacklisted(TOKEN);
 
@@ -56,11 +92,99 @@ class TokenBlacklistServiceTest {
     @Test
     @DisplayName("블랙리스트에 없는 토큰은 false를 반환한다")
     void isBlacklisted_returnsFalseWhenAbsent() {
-        String expectedKey = "blacklist:refresh-token:" + DigestUtils.sha256Hex(TOKEN);
-        given(redisService.find(expectedKey)).willReturn(Optional.empty());
+        given(redisService.find(KEY)).willReturn(Optional.empty());
 
         boolean actual = tokenBlacklistService.isBlacklisted(TOKEN);
 
         assertThat(actual).isFalse();
     }
+
+    @Test
+    @DisplayName("Bloom filter를 적재한 뒤에는 필터에 없는 토큰을 Redis 조회 없이 통과시킨다")
+    void isBlacklisted_afterWarmUp_skipsRedisForUnknownToken() {
+        tokenBlacklistService.warmUp();
+
+        assertThat(tokenBlacklistService.isBlacklisted(TOKEN)).isFalse();
+        verify(redisService, never()).find(anyString());
+    }
+
+    @Test
+    @DisplayName("기동 시 만료일별 해시 SET에서 필터를 채워, 등록된 토큰은 Redis로 확인한다")
+    void warmUp_loadsIndexedHashes() {
+        String indexKey = "blacklist:refresh-token:index:" + LocalDate.now(ZoneOffset.UTC).toEpochDay();
+        given(redisService.findSetMembers(anyString())).willReturn(Set.of());
+        given(redisService.findSetMembers(indexKey)).willReturn(Set.of(DigestUtils.sha256Hex(TOKEN)));
+        given(redisService.find(KEY)).willReturn(Optional.of("0"));
+
+        tokenBlacklistService.warmUp();
+
+        assertThat(tokenBlacklistService.isBlacklisted(TOKEN)).isTrue();
+        assertThat(tokenBlacklistService.isBlacklisted(OTHER_TOKEN)).isFalse();
+        verify(redisService, times(1)).find(anyString());
+    }
+
+    @Test
+    @DisplayName("만료일 SET 도입 전의 토큰 키도 필터에 넣고 마지막 만료일 SET으로 이관한다")
+    void warmUp_indexesLegacyKeys() {
+        String hash = DigestUtils.sha256Hex(TOKEN);
+        String lastDayKey = "blacklist:refresh-token:index:"
+                + LocalDate.ofInstant(Instant.now().plusMillis(TTL_MILLIS), ZoneOffset.UTC).toEpochDay();
+        given(redisService.scanKeys("blacklist:refresh-token:*"))
+                .willReturn(List.of(KEY, "blacklist:refresh-token:index:1"));
+        given(redisService.findSetMembers(anyString())).willReturn(Set.of());
+        given(redisService.find(KEY)).willReturn(Optional.of("0"));
+
+        tokenBlacklistService.warmUp();
+
+        assertThat(tokenBlacklistService.isBlacklisted(TOKEN)).isTrue();
+        verify(redisService).addToSet(lastDayKey, List.of(hash));
+        verify(redisService).save("blacklist:refresh-token:index:legacy-migrated", "1", null);
+
+        tokenBlacklistService.rebuild();
+        verify(redisService, times(1)).scanKeys(anyString());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 이관을 마쳤으면 SCAN하지 않는다")
+    void warmUp_legacyAlreadyMigrated_skipsScan() {
+        given(redisService.exists("blacklist:refresh-token:index:legacy-migrated")).willReturn(true);
+
+        tokenBlacklistService.warmUp();
+
+        verify(redisService, never()).scanKeys(anyString());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 등록 메시지를 받으면 해당 토큰은 Redis로 확인한다")
+    void onAddedMessage_addsToFilter() {
+        tokenBlacklistService.warmUp();
+        given(redisService.find(KEY)).willReturn(Optional.of("0"));
+
+        tokenBlacklistService.onMessage(DigestUtils.sha256Hex(TOKEN));
+
+        assertThat(tokenBlacklistService.isBlacklisted(TOKEN)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Redis 기록에 실패하면 대기열에 넣어 이 노드에서 차단하고, 재시도에 성공하면 대기열에서 뺀다")
+    void addToBlacklist_whenRedisFails_retriesLater() {
+        given(jwtTokenProvider.getExpiresIn(TOKEN)).willReturn(TTL_MILLIS);
+        willThrow(new RedisConnectionFailureException("down"))
+                .given(redisService).save(eq(KEY), eq("0"), any(Duration.class));
+
+        tokenBlacklistService.addToBlacklist(TOKEN);
+
+        assertThat(tokenBlacklistService.pendingWriteCount()).isEqualTo(1);
+        assertThat(tokenBlacklistService.isBlacklisted(TOKEN)).isTrue();
+        verify(redisService, never()).find(anyString());
+
+        willThrow(new RedisConnectionFailureException("down")).willDoNothing()
+                .given(redisService).save(eq(KEY), eq("0"), any(Duration.class));
+        tokenBlacklistService.retryPendingWrites();
+        assertThat(tokenBlacklistService.pendingWriteCount()).isEqualTo(1);
+
+        tokenBlacklistService.retryPendingWrites();
+        assertThat(tokenBlacklistService.pendingWriteCount()).isZero();
+        verify(redisService).publish("blacklist:refresh-token:added", DigestUtils.sha256Hex(TOKEN));
+    }
 }
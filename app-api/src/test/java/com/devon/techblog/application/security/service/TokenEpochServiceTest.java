@@ -0,0 +1,185 @@
+package com.devon.techblog.application.security.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.devon.techblog.application.security.config.properties.JwtProperties;
+import com.devon.techblog.application.security.config.properties.TokenEpochProperties;
+import com.devon.techblog.config.annotation.UnitTest;
+import com.devon.techblog.fake.FakeRedisService;
+import com.devon.techblog.infra.redis.adapter.RedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class TokenEpochServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    private FakeRedisService redisService;
+    private TokenEpochService tokenEpochService;
+
+    @BeforeEach
+    void setUp() {
+        redisService = new FakeRedisService();
+        tokenEpochService = newNode();
+    }
+
+    private TokenEpochService newNode() {
+        return newNode(redisService);
+    }
+
+    private TokenEpochService newNode(RedisService redis) {
+        return newNode(redis, new TokenEpochProperties());
+    }
+
+    private TokenEpochService newNode(RedisService redis, TokenEpochProperties properties) {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setRefreshTokenExpiration(604_800_000L);
+        return new TokenEpochService(redis, jwtProperties, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("폐기 기록이 없는 회원의 토큰은 유효하다")
+    void isRevoked_noEpoch_false() {
+        assertThat(tokenEpochService.isRevoked(MEMBER_ID, Instant.now().minusSeconds(3600))).isFalse();
+    }
+
+    @Test
+    @DisplayName("일괄 폐기 이전에 발급된 토큰은 폐기되고, 이후에 발급된 토큰은 유효하다")
+    void revokeAll_revokesOnlyEarlierTokens() {
+        Instant before = Instant.now().minusSeconds(10);
+
+        tokenEpochService.revokeAll(MEMBER_ID);
+
+        assertThat(tokenEpochService.isRevoked(MEMBER_ID, before)).isTrue();
+        assertThat(tokenEpochService.isRevoked(MEMBER_ID, Instant.now().plusSeconds(1))).isFalse();
+        assertThat(tokenEpochService.isRevoked(2L, before)).isFalse();
+        assertThat(redisService.find(TokenEpochService.KEY_PREFIX + MEMBER_ID)).isPresent();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 폐기한 epoch는 Redis에서 읽는다")
+    void isRevoked_fromOtherNode_readsRedis() {
+        Instant before = Instant.now().minusSeconds(10);
+
+        newNode().revokeAll(MEMBER_ID);
+
+        assertThat(tokenEpochService.isRevoked(MEMBER_ID, before)).isTrue();
+    }
+
+    @Test
+    @DisplayName("폐기 메시지를 받으면 로컬에 캐시된 epoch를 갱신한다")
+    void onRevokedMessage_updatesCachedEpoch() {
+        Instant issuedAt = Instant.now().minusSeconds(10);
+        assertThat(tokenEpochService.isRevoked(MEMBER_ID, issuedAt)).isFalse();
+
+        tokenEpochService.onMessage(MEMBER_ID + "|" + Instant.now().getEpochSecond());
+
+        assertThat(tokenEpochService.isRevoked(MEMBER_ID, issuedAt)).isTrue();
+    }
+
+    @Test
+    @DisplayName("이전 epoch를 담은 메시지는 더 최근 epoch를 덮어쓰지 않는다")
+    void onRevokedMessage_keepsLatestEpoch() {
+        tokenEpochService.revokeAll(MEMBER_ID);
+
+        tokenEpochService.onMessage(MEMBER_ID + "|1");
+
+        assertThat(tokenEpochService.isRevoked(MEMBER_ID, Instant.now().minusSeconds(10))).isTrue();
+    }
+
+    @Test
+    @DisplayName("잘못된 폐기 메시지는 무시한다")
+    void onRevokedMessage_malformed_ignored() {
+        tokenEpochService.onMessage("not-a-message");
+        tokenEpochService.onMessage("abc|123");
+
+        assertThat(tokenEpochService.isRevoked(MEMBER_ID, Instant.now().minusSeconds(10))).isFalse();
+    }
+
+    @Test
+    @DisplayName("한 번도 읽지 못한 회원은 Redis 조회에 실패하면 폐기된 것으로 보고, 실패를 캐시하지 않아 다음 요청에서 다시 조회한다")
+    void isRevoked_redisFailureBeforeFirstLoad_failsClosedWithoutCaching() {
+        RedisService failingRedis = mock(RedisService.class);
+        given(failingRedis.find(anyString()))
+                .willThrow(new IllegalStateException("redis down"))
+                .willReturn(Optional.empty());
+        TokenEpochService node = newNode(failingRedis);
+        Instant issuedAt = Instant.now().minusSeconds(10);
+
+        assertThat(node.isRevoked(MEMBER_ID, issuedAt)).isTrue();
+        assertThat(node.isRevoked(MEMBER_ID, issuedAt)).isFalse();
+        verify(failingRedis, times(2)).find(TokenEpochService.KEY_PREFIX + MEMBER_ID);
+    }
+
+    @Test
+    @DisplayName("failClosed가 false면 한 번도 읽지 못한 회원의 토큰은 Redis 조회에 실패해도 유효하다")
+    void isRevoked_redisFailureBeforeFirstLoad_failOpenWhenConfigured() {
+        RedisService failingRedis = mock(RedisService.class);
+        given(failingRedis.find(anyString())).willThrow(new IllegalStateException("redis down"));
+        TokenEpochProperties properties = new TokenEpochProperties();
+        properties.setFailClosed(false);
+        TokenEpochService node = newNode(failingRedis, properties);
+
+        assertThat(node.isRevoked(MEMBER_ID, Instant.now().minusSeconds(10))).isFalse();
+    }
+
+    @Test
+    @DisplayName("다시 읽다 Redis 조회에 실패하면 마지막으로 읽은 epoch로 판정한다")
+    void isRevoked_redisFailureAfterLoad_usesLastKnownEpoch() {
+        long epoch = Instant.now().getEpochSecond();
+        RedisService failingRedis = mock(RedisService.class);
+        given(failingRedis.find(anyString()))
+                .willReturn(Optional.of(String.valueOf(epoch)))
+                .willThrow(new IllegalStateException("redis down"));
+        TokenEpochProperties properties = new TokenEpochProperties();
+        properties.setLocalTtl(Duration.ZERO);
+        TokenEpochService node = newNode(failingRedis, properties);
+
+        assertThat(node.isRevoked(MEMBER_ID, Instant.ofEpochSecond(epoch - 10))).isTrue();
+
+        assertThat(node.isRevoked(MEMBER_ID, Instant.ofEpochSecond(epoch - 10))).isTrue();
+        assertThat(node.isRevoked(MEMBER_ID, Instant.ofEpochSecond(epoch + 1))).isFalse();
+        verify(failingRedis, times(3)).find(TokenEpochService.KEY_PREFIX + MEMBER_ID);
+    }
+
+    @Test
+    @DisplayName("localTtl 안에서는 Redis를 다시 읽지 않는다")
+    void isRevoked_withinLocalTtl_usesLocalEpoch() {
+        RedisService spyRedis = mock(RedisService.class);
+        given(spyRedis.find(anyString())).willReturn(Optional.empty());
+        TokenEpochService node = newNode(spyRedis);
+
+        node.isRevoked(MEMBER_ID, Instant.now());
+        node.isRevoked(MEMBER_ID, Instant.now());
+
+        verify(spyRedis, times(1)).find(TokenEpochService.KEY_PREFIX + MEMBER_ID);
+    }
+
+    @Test
+    @DisplayName("Redis 기록에 실패하면 로컬 캐시에도 폐기를 반영하지 않는다")
+    void revokeAll_redisFailure_leavesLocalCacheUntouched() {
+        RedisService failingRedis = mock(RedisService.class);
+        willThrow(new IllegalStateException("redis down"))
+                .given(failingRedis).save(anyString(), anyString(), any(Duration.class));
+        given(failingRedis.find(anyString())).willReturn(Optional.empty());
+        TokenEpochService node = newNode(failingRedis);
+
+        assertThatThrownBy(() -> node.revokeAll(MEMBER_ID)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(node.isRevoked(MEMBER_ID, Instant.now().minusSeconds(10))).isFalse();
+    }
+}
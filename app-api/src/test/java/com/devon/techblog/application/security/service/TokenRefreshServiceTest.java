@@ -2,17 +2,26 @@ package com.devon.techblog.application.security.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 
+import com.devon.techblog.application.member.cache.MemberAuthCache;
+import com.devon.techblog.application.security.constants.JwtConstants;
 import com.devon.techblog.application.security.util.JwtTokenProvider;
+import com.devon.techblog.application.security.util.VerifiedToken;
 import com.devon.techblog.common.exception.BusinessException;
 import com.devon.techblog.common.exception.code.AuthErrorCode;
 import com.devon.techblog.common.exception.code.MemberErrorCode;
 import com.devon.techblog.config.annotation.UnitTest;
 import com.devon.techblog.domain.member.MemberFixture;
+import com.devon.techblog.domain.member.dto.MemberAuthSnapshot;
 import com.devon.techblog.domain.member.entity.Member;
 import com.devon.techblog.domain.member.repository.MemberRepository;
+import java.time.Instant;
 import java.util.Optional;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,9 +40,15 @@ class TokenRefreshServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private MemberAuthCache memberAuthCache;
+
     @Mock
     private TokenBlacklistService tokenBlacklistService;
 
+    @Mock
+    private TokenEpochService tokenEpochService;
+
     @InjectMocks
     private TokenRefreshService tokenRefreshService;
 
@@ -45,26 +60,52 @@ class TokenRefreshServiceTest {
         activeMember.updateProfileImage("https://example.com/profile.png");
     }
 
+    /**
+     * 캐시 미스를 흉내 내 loader(DB 조회)를 그대로 실행한다.
+     */
+    @SuppressWarnings("unchecked")
+    private void givenCacheMiss(Long memberId) {
+        given(memberAuthCache.get(eq(memberId), any()))
+                .willAnswer(invocation -> ((Supplier<MemberAuthSnapshot>) invocation.getArgument(1)).get());
+    }
+
+    private void givenRefreshToken(Long memberId, Instant issuedAt, Instant expiresAt) {
+        given(jwtTokenProvider.verify(VALID_REFRESH_TOKEN)).willReturn(new VerifiedToken(
+                memberId, JwtConstants.TOKEN_TYPE_REFRESH, null, issuedAt, expiresAt));
+    }
+
+    private void givenRefreshToken(Long memberId) {
+        givenRefreshToken(memberId, Instant.now(), Instant.now().plusSeconds(3600));
+    }
+
+    private static MemberAuthSnapshot snapshotOf(Member member) {
+        return new MemberAuthSnapshot(member.getId(), member.getPassword(), member.getRole(), member.getStatus());
+    }
+
     @Test
     @DisplayName("리프레시 토큰으로 새로운 액세스 토큰을 발급한다")
     void refreshAccessToken_success() {
-        given(jwtTokenProvider.isRefreshToken(VALID_REFRESH_TOKEN)).willReturn(true);
-        given(jwtTokenProvider.isTokenExpired(VALID_REFRESH_TOKEN)).willReturn(false);
+        givenRefreshToken(activeMember.getId());
         given(tokenBlacklistService.isBlacklisted(VALID_REFRESH_TOKEN)).willReturn(false);
-        given(jwtTokenProvider.getUidFromToken(VALID_REFRESH_TOKEN)).willReturn(activeMember.getId());
-        given(memberRepository.findById(activeMember.getId())).willReturn(Optional.of(activeMember));
+        givenCacheMiss(activeMember.getId());
+        given(memberRepository.findAuthSnapshotById(activeMember.getId()))
+                .willReturn(Optional.of(snapshotOf(activeMember)));
         given(jwtTokenProvider.generateAccessToken(activeMember.getId(), activeMember.getRole().name()))
                 .willReturn("fresh-access-token");
 
         String accessToken = tokenRefreshService.refreshAccessToken(VALID_REFRESH_TOKEN);
 
         assertThat(accessToken).isEqualTo("fresh-access-token");
+        then(jwtTokenProvider).should().verify(VALID_REFRESH_TOKEN);
+        then(jwtTokenProvider).should().generateAccessToken(activeMember.getId(), activeMember.getRole().name());
+        then(jwtTokenProvider).shouldHaveNoMoreInteractions();
     }
 
     @Test
     @DisplayName("리프레시 토큰이 아닌 경우 예외를 던진다")
     void refreshAccessToken_invalidTokenType() {
-        given(jwtTokenProvider.isRefreshToken(INVALID_TOKEN)).willReturn(false);
+        given(jwtTokenProvider.verify(INVALID_TOKEN)).willReturn(new VerifiedToken(
+                1L, JwtConstants.TOKEN_TYPE_ACCESS, "USER", Instant.now(), Instant.now().plusSeconds(3600)));
 
         assertThatThrownBy(() -> tokenRefreshService.refreshAccessToken(INVALID_TOKEN))
                 .isInstanceOf(BusinessException.class)
@@ -75,8 +116,7 @@ class TokenRefreshServiceTest {
     @Test
     @DisplayName("만료된 리프레시 토큰이면 예외를 던진다")
     void refreshAccessToken_expiredToken() {
-        given(jwtTokenProvider.isRefreshToken(VALID_REFRESH_TOKEN)).willReturn(true);
-        given(jwtTokenProvider.isTokenExpired(VALID_REFRESH_TOKEN)).willReturn(true);
+        givenRefreshToken(activeMember.getId(), Instant.now().minusSeconds(7200), Instant.now().minusSeconds(1));
 
         assertThatThrownBy(() -> tokenRefreshService.refreshAccessToken(VALID_REFRESH_TOKEN))
                 .isInstanceOf(BusinessException.class)
@@ -87,10 +127,9 @@ class TokenRefreshServiceTest {
     @Test
     @DisplayName("존재하지 않는 회원이면 예외를 던진다")
     void refreshAccessToken_memberNotFound() {
-        given(jwtTokenProvider.isRefreshToken(VALID_REFRESH_TOKEN)).willReturn(true);
-        given(jwtTokenProvider.isTokenExpired(VALID_REFRESH_TOKEN)).willReturn(false);
-        given(jwtTokenProvider.getUidFromToken(VALID_REFRESH_TOKEN)).willReturn(999L);
-        given(memberRepository.findById(999L)).willReturn(Optional.empty());
+        givenRefreshToken(999L);
+        givenCacheMiss(999L);
+        given(memberRepository.findAuthSnapshotById(999L)).willReturn(Optional.empty());
 
         assertThatThrownBy(() -> tokenRefreshService.refreshAccessToken(VALID_REFRESH_TOKEN))
                 .isInstanceOf(BusinessException.class)
@@ -104,10 +143,8 @@ class TokenRefreshServiceTest {
         var inactiveMember = MemberFixture.createWithId(2L);
         inactiveMember.deactivate();
 
-        given(jwtTokenProvider.isRefreshToken(VALID_REFRESH_TOKEN)).willReturn(true);
-        given(jwtTokenProvider.isTokenExpired(VALID_REFRESH_TOKEN)).willReturn(false);
-        given(jwtTokenProvider.getUidFromToken(VALID_REFRESH_TOKEN)).willReturn(inactiveMember.getId());
-        given(memberRepository.findById(inactiveMember.getId())).willReturn(Optional.of(inactiveMember));
+        givenRefreshToken(inactiveMember.getId());
+        given(memberAuthCache.get(eq(inactiveMember.getId()), any())).willReturn(snapshotOf(inactiveMember));
 
         assertThatThrownBy(() -> tokenRefreshService.refreshAccessToken(VALID_REFRESH_TOKEN))
                 .isInstanceOf(BusinessException.class)
@@ -118,8 +155,7 @@ class TokenRefreshServiceTest {
     @Test
     @DisplayName("블랙리스트에 포함된 리프레시 토큰이면 예외")
     void refreshAccessToken_blacklistedToken() {
-        given(jwtTokenProvider.isRefreshToken(VALID_REFRESH_TOKEN)).willReturn(true);
-        given(jwtTokenProvider.isTokenExpired(VALID_REFRESH_TOKEN)).willReturn(false);
+        givenRefreshToken(activeMember.getId());
         given(tokenBlacklistService.isBlacklisted(VALID_REFRESH_TOKEN)).willReturn(true);
 
         assertThatThrownBy(() -> tokenRefreshService.refreshAccessToken(VALID_REFRESH_TOKEN))
@@ -127,4 +163,18 @@ class TokenRefreshServiceTest {
                 .satisfies(exception -> assertThat(((BusinessException) exception).getErrorCode())
                         .isEqualTo(AuthErrorCode.REFRESH_TOKEN_INVALID));
     }
+
+    @Test
+    @DisplayName("일괄 폐기 이전에 발급된 리프레시 토큰이면 예외")
+    void refreshAccessToken_revokedToken() {
+        Instant issuedAt = Instant.now().minusSeconds(60);
+        givenRefreshToken(activeMember.getId(), issuedAt, Instant.now().plusSeconds(3600));
+        given(tokenBlacklistService.isBlacklisted(VALID_REFRESH_TOKEN)).willReturn(false);
+        given(tokenEpochService.isRevoked(any(VerifiedToken.class))).willReturn(true);
+
+        assertThatThrownBy(() -> tokenRefreshService.refreshAccessToken(VALID_REFRESH_TOKEN))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(exception -> assertThat(((BusinessException) exception).getErrorCode())
+                        .isEqualTo(AuthErrorCode.REFRESH_TOKEN_INVALID));
+    }
 }
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.devon.techblog.application.security.config.properties.JwtProperties;
 import com.devon.techblog.application.security.constants.JwtConstants;
+import com.devon.techblog.application.security.key.HmacJwtKeyStore;
 import com.devon.techblog.config.annotation.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,7 +21,7 @@ class JwtTokenProviderTest {
         properties.setSecret("0123456789abcdef0123456789abcdef");
         properties.setAccessTokenExpiration(60_000L);
         properties.setRefreshTokenExpiration(120_000L);
-        jwtTokenProvider = new JwtTokenProvider(properties);
+        jwtTokenProvider = new JwtTokenProvider(properties, new HmacJwtKeyStore(properties));
     }
 
     @Test
@@ -47,6 +48,20 @@ class JwtTokenProviderTest {
         assertThat(jwtTokenProvider.getExpiresIn(token)).isGreaterThan(0L);
     }
 
+    @Test
+    @DisplayName("한 번의 검증으로 uid, role, type, 만료 시각을 모두 읽는다")
+    void verify_extractsAllClaims() {
+        String token = jwtTokenProvider.generateAccessToken(1L, "USER");
+
+        VerifiedToken verified = jwtTokenProvider.verify(token);
+
+        assertThat(verified.memberId()).isEqualTo(1L);
+        assertThat(verified.role()).isEqualTo("USER");
+        assertThat(verified.isAccessToken()).isTrue();
+        assertThat(verified.isExpired()).isFalse();
+        assertThat(verified.expiresIn()).isPositive();
+    }
+
     @Test
     @DisplayName("유효하지 않은 토큰은 만료된 것으로 처리한다")
     void isTokenExpired_invalidToken() {
@@ -60,7 +75,7 @@ class JwtTokenProviderTest {
         properties.setSecret("abcdefghijklmnopabcdefghijklmnop");
         properties.setAccessTokenExpiration(10L);
         properties.setRefreshTokenExpiration(10L);
-        JwtTokenProvider shortLivedProvider = new JwtTokenProvider(properties);
+        JwtTokenProvider shortLivedProvider = new JwtTokenProvider(properties, new HmacJwtKeyStore(properties));
 
         String token = shortLivedProvider.generateAccessToken(3L, "USER");
         Thread.sleep(20L);
@@ -0,0 +1,59 @@
+package com.devon.techblog.application.security.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.devon.techblog.application.security.config.properties.JwtProperties;
+import com.devon.techblog.application.security.key.HmacJwtKeyStore;
+import com.devon.techblog.config.annotation.UnitTest;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class VerifiedTokenCacheTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("0123456789abcdef0123456789abcdef");
+        properties.setAccessTokenExpiration(60_000L);
+        properties.setRefreshTokenExpiration(120_000L);
+        jwtTokenProvider = spy(new JwtTokenProvider(properties, new HmacJwtKeyStore(properties)));
+        cache = new VerifiedTokenCache(jwtTokenProvider, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 서명을 검증한다")
+    void verify_sameToken_verifiesOnce() {
+        String token = jwtTokenProvider.generateAccessToken(1L, "USER");
+
+        VerifiedToken first = cache.verify(token);
+        VerifiedToken second = cache.verify(token);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(second.memberId()).isEqualTo(1L);
+        verify(jwtTokenProvider, times(1)).verify(token);
+    }
+
+    @Test
+    @DisplayName("페이로드를 바꿔 서명이 맞지 않는 토큰은 캐시하지 않고 매번 예외가 발생한다")
+    void verify_tamperedToken_throwsEveryTime() {
+        String[] token = jwtTokenProvider.generateAccessToken(1L, "USER").split("\\.");
+        String[] other = jwtTokenProvider.generateAccessToken(2L, "ADMIN").split("\\.");
+        String tampered = token[0] + "." + other[1] + "." + token[2];
+
+        assertThatThrownBy(() -> cache.verify(tampered)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> cache.verify(tampered)).isInstanceOf(JwtException.class);
+        verify(jwtTokenProvider, times(2)).verify(anyString());
+    }
+}
@@ -0,0 +1,44 @@
+package com.devon.techblog.common.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.devon.techblog.config.annotation.UnitTest;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class BloomFilterSpecTest {
+
+    @Test
+    @DisplayName("예상 삽입 수와 오탐률로 비트 수와 해시 함수 수를 계산한다")
+    void of_calculatesOptimalSize() {
+        BloomFilterSpec spec = BloomFilterSpec.of(10_000, 0.01);
+
+        assertThat(spec.bitSize()).isEqualTo(95_851L);
+        assertThat(spec.hashCount()).isEqualTo(7);
+        assertThat(spec.sizeInBytes()).isEqualTo(11_982L);
+    }
+
+    @Test
+    @DisplayName("같은 항목은 항상 같은 비트 위치를 가지며 범위를 벗어나지 않는다")
+    void offsets_areDeterministicAndInRange() {
+        BloomFilterSpec spec = BloomFilterSpec.of(1_000, 0.01);
+
+        long[] first = spec.offsets("member:42");
+        long[] second = spec.offsets("member:42");
+
+        assertThat(first).hasSize(spec.hashCount()).containsExactly(second);
+        assertThat(Arrays.stream(first).allMatch(offset -> offset >= 0 && offset < spec.bitSize())).isTrue();
+    }
+
+    @Test
+    @DisplayName("오탐률이 0 이하이거나 1 이상이면 예외가 발생한다")
+    void of_invalidFalsePositiveRate() {
+        assertThatThrownBy(() -> BloomFilterSpec.of(1_000, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BloomFilterSpec.of(1_000, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,56 @@
+package com.devon.techblog.common.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devon.techblog.config.annotation.UnitTest;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@UnitTest
+class SearchHighlighterTest {
+
+    @Test
+    @DisplayName("검색어와 일치하는 부분을 대소문자 구분 없이 <mark>로 감싼다")
+    void highlight_wrapsMatches() {
+        assertThat(SearchHighlighter.highlight("Spring Boot와 spring", List.of("spring")))
+                .isEqualTo("<mark>Spring</mark> Boot와 <mark>spring</mark>");
+    }
+
+    @Test
+    @DisplayName("일치하지 않는 부분과 일치한 부분 모두 HTML 이스케이프된다")
+    void highlight_escapesEverySegment() {
+        assertThat(SearchHighlighter.highlight("<b>a&b</b>", List.of("a&b")))
+                .isEqualTo("&lt;b&gt;<mark>a&amp;b</mark>&lt;/b&gt;");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"amp", "lt", "gt", "quot", "39"})
+    @DisplayName("엔티티 이름과 같은 검색어가 이스케이프된 엔티티 안에 일치하지 않는다")
+    void highlight_termCollidingWithEntity_keepsMarkupValid(String term) {
+        String highlighted = SearchHighlighter.highlight("a & b < c > d \" e ' f", List.of(term));
+
+        assertThat(highlighted).doesNotContain("<mark>");
+        assertThat(highlighted).isEqualTo("a &amp; b &lt; c &gt; d &quot; e &#39; f");
+    }
+
+    @Test
+    @DisplayName("원문에 있는 엔티티 이름 문자열은 그대로 하이라이트된다")
+    void highlight_entityNameInText_isHighlighted() {
+        assertThat(SearchHighlighter.highlight("example & sample", List.of("amp")))
+                .isEqualTo("ex<mark>amp</mark>le &amp; s<mark>amp</mark>le");
+    }
+
+    @Test
+    @DisplayName("스니펫은 마크다운을 걷어내고 첫 일치 위치 주변을 잘라 하이라이트한다")
+    void snippet_cutsAroundFirstMatch() {
+        String content = "# 제목\n" + "가".repeat(100) + " **JPA** 이야기 " + "나".repeat(100);
+
+        String snippet = SearchHighlighter.snippet(content, List.of("jpa"), 40);
+
+        assertThat(snippet).startsWith("...").endsWith("...").contains("<mark>JPA</mark>");
+        assertThat(snippet).doesNotContain("**", "#");
+    }
+}
@@ -0,0 +1,72 @@
+package com.devon.techblog.common.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devon.techblog.config.annotation.UnitTest;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@UnitTest
+class TransactionCallbacksTest {
+
+    private final List<String> calls = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 afterCommit과 nowAndAfterCommit을 바로 한 번 실행하고 afterRollback은 실행하지 않는다")
+    void outsideTransaction() {
+        TransactionCallbacks.afterCommit(() -> calls.add("afterCommit"));
+        TransactionCallbacks.nowAndAfterCommit(() -> calls.add("now"));
+        TransactionCallbacks.afterRollback(() -> calls.add("rollback"));
+
+        assertThat(calls).containsExactly("afterCommit", "now");
+    }
+
+    @Test
+    @DisplayName("커밋되면 afterCommit은 커밋 후에, nowAndAfterCommit은 지금과 커밋 후에 실행한다")
+    void commit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        TransactionCallbacks.afterCommit(() -> calls.add("afterCommit"));
+        TransactionCallbacks.nowAndAfterCommit(() -> calls.add("now"));
+        TransactionCallbacks.afterRollback(() -> calls.add("rollback"));
+        assertThat(calls).containsExactly("now");
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(calls).containsExactly("now", "afterCommit", "now");
+    }
+
+    @Test
+    @DisplayName("롤백되면 afterRollback만 실행한다")
+    void rollback() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        TransactionCallbacks.afterCommit(() -> calls.add("afterCommit"));
+        TransactionCallbacks.afterRollback(() -> calls.add("rollback"));
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(calls).containsExactly("rollback");
+    }
+}
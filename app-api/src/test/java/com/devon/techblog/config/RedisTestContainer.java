@@ -0,0 +1,51 @@
+package com.devon.techblog.config;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 실제 Redis(Testcontainers) 연결 도우미
+ *
+ * SET NX의 원자성이나 Lua 스크립트처럼 FakeRedisService로는 확인할 수 없는 동작을 검증할 때 사용한다.
+ * 테스트 클래스에 @Testcontainers(disabledWithoutDocker = true)를 붙이고 @Container 필드로 container()를 둔다.
+ */
+public final class RedisTestContainer {
+
+    private static final int REDIS_PORT = 6379;
+
+    private RedisTestContainer() {
+    }
+
+    public static GenericContainer<?> container() {
+        return new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+                .withExposedPorts(REDIS_PORT);
+    }
+
+    /**
+     * 컨테이너에 연결된 RedisTemplate (운영 RedisConfig와 같은 String 직렬화)
+     */
+    public static RedisTemplate<String, String> redisTemplate(GenericContainer<?> container) {
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(container.getHost(), container.getMappedPort(REDIS_PORT)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        StringRedisTemplate template = new StringRedisTemplate(connectionFactory);
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    /**
+     * 테스트 간 격리를 위해 모든 키 삭제
+     */
+    public static void flushAll(RedisTemplate<String, String> redisTemplate) {
+        try (RedisConnection connection = redisTemplate.getRequiredConnectionFactory().getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+    }
+}
@@ -3,19 +3,24 @@ package com.devon.techblog.config;
 import com.devon.techblog.application.security.handler.LogoutHandler;
 import com.devon.techblog.application.security.resolver.CurrentUserArgumentResolver;
 import com.devon.techblog.application.security.service.LoginService;
+import com.devon.techblog.application.security.service.TokenEpochService;
 import com.devon.techblog.application.security.util.JwtTokenProvider;
+import com.devon.techblog.application.security.util.VerifiedTokenCache;
 import org.mockito.Mockito;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 
 /**
  * 테스트 환경에서만 적용되는 보안 설정
  * 실제 보안 필터나 인증 과정을 로드하지 않고도 테스트를 수행할 수 있도록,
  * 사용자 정보와 관련된 컴포넌트들을 테스트 전용으로 대체한다.
+ * 필터는 끄더라도 @PreAuthorize는 검증되도록 메서드 보안은 켜둔다.
  */
 @TestConfiguration
+@EnableMethodSecurity
 public class TestSecurityConfig {
 
     /**
@@ -57,7 +62,7 @@ public class TestSecurityConfig {
 
     /**
      * Jwt 인증 필터의 의존성을 모두 Mock으로 제공한다.
-     * -> JwtTokenProvider와 LoginService를 빈으로 등록해 실제 구현체를 로드하지 않아도 된다.
+     * -> JwtTokenProvider, VerifiedTokenCache, LoginService, TokenEpochService를 빈으로 등록해 실제 구현체를 로드하지 않아도 된다.
      */
     @Bean
     @ConditionalOnMissingBean
@@ -66,10 +71,24 @@ public class TestSecurityConfig {
         return Mockito.mock(JwtTokenProvider.class);
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    @Primary
+    public VerifiedTokenCache verifiedTokenCache() {
+        return Mockito.mock(VerifiedTokenCache.class);
+    }
+
     @Bean
     @ConditionalOnMissingBean
     @Primary
     public LoginService loginService() {
         return Mockito.mock(LoginService.class);
     }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @Primary
+    public TokenEpochService tokenEpochService() {
+        return Mockito.mock(TokenEpochService.class);
+    }
 }
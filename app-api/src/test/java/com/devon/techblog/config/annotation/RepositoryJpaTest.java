@@ -1,7 +1,12 @@
 package com.devon.techblog.config.annotation;
 
 import com.devon.techblog.config.JpaAuditingTestConfig;
+import com.devon.techblog.config.RedisMockConfig;
+import com.devon.techblog.domain.common.repository.count.CountCacheProperties;
+import com.devon.techblog.domain.common.repository.count.TotalCountResolver;
 import com.devon.techblog.domain.config.QueryDslConfig;
+import com.devon.techblog.domain.post.cache.TagDictionary;
+import com.devon.techblog.domain.post.search.PostSearchProperties;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -17,12 +22,17 @@ import org.springframework.test.context.ActiveProfiles;
  * - @DataJpaTest : JPA 관련 빈만 로드하는 슬라이스 테스트
  * - @ActiveProfiles(\"test\") : 테스트 프로필 활성화
  * - @Import(QueryDslConfig, JpaAuditingTestConfig) : QueryDSL 설정과 테스트용 JPA Auditing 설정 주입
+ * - @Import(TotalCountResolver, CountCacheProperties, RedisMockConfig) : 목록 전체 건수 계산기와 Fake Redis 주입
+ * - @Import(PostSearchProperties) : 게시글 키워드 검색 설정 주입
+ * - @Import(TagDictionary) : 태그 필터용 태그 이름 <-> ID 사전 주입
  * - @AutoConfigureTestDatabase(replace = NONE) : 실제 설정된 DB(H2, Testcontainers 등)를 그대로 사용
  */
 @Target(ElementType.TYPE)
 @Retention(RetentionPolicy.RUNTIME)
 @ActiveProfiles("test")
-@Import({QueryDslConfig.class, JpaAuditingTestConfig.class})
+@Import({QueryDslConfig.class, JpaAuditingTestConfig.class,
+        TotalCountResolver.class, CountCacheProperties.class, RedisMockConfig.class,
+        PostSearchProperties.class, TagDictionary.class})
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @DataJpaTest
 @Tag("repository")
@@ -0,0 +1,117 @@
+package com.devon.techblog.domain.common.repository.count;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.devon.techblog.config.annotation.UnitTest;
+import com.devon.techblog.fake.FakeRedisService;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@UnitTest
+class TotalCountResolverTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private FakeRedisService redisService;
+    private TotalCountResolver resolver;
+    private final AtomicInteger countQueries = new AtomicInteger();
+
+    private final List<String> fullPage = List.of("a", "b");
+
+    @BeforeEach
+    void setUp() {
+        redisService = new FakeRedisService();
+        resolver = new TotalCountResolver(redisService, jdbcTemplate, new CountCacheProperties());
+    }
+
+    private CountQuery query(long total) {
+        return CountQuery.estimable("post:all", "post", () -> {
+            countQueries.incrementAndGet();
+            return total;
+        });
+    }
+
+    @Test
+    @DisplayName("content만으로 전체 건수를 알 수 있으면 COUNT를 실행하지 않는다")
+    void page_skipsCountWhenTotalImplied() {
+        CountedPage<String> page = resolver.page(List.of("a"), PageRequest.of(0, 2), CountMode.EXACT, query(100));
+
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(page.isTotalExact()).isTrue();
+        assertThat(countQueries).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("CACHED 모드는 첫 조회 결과를 캐시하고 이후에는 COUNT 없이 캐시 값을 사용한다")
+    void page_cachedModeReusesCachedTotal() {
+        CountedPage<String> first = resolver.page(fullPage, PageRequest.of(0, 2), CountMode.CACHED, query(10));
+        CountedPage<String> second = resolver.page(fullPage, PageRequest.of(1, 2), CountMode.CACHED, query(10));
+
+        assertThat(first.getTotalElements()).isEqualTo(10);
+        assertThat(first.isTotalExact()).isTrue();
+        assertThat(second.getTotalElements()).isEqualTo(10);
+        assertThat(second.isTotalExact()).isFalse();
+        assertThat(countQueries).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("증감분은 캐시된 건수에만 반영된다")
+    void applyDelta_updatesOnlyExistingCache() {
+        resolver.applyDelta("post:all", 1);
+        assertThat(redisService.find("count:post:all")).isEmpty();
+
+        resolver.page(fullPage, PageRequest.of(0, 2), CountMode.CACHED, query(10));
+        resolver.applyDelta("post:all", 1);
+
+        assertThat(redisService.find("count:post:all")).contains("11");
+    }
+
+    @Test
+    @DisplayName("ESTIMATED 모드는 테이블 통계 추정치를 사용한다")
+    void page_estimatedModeUsesTableStatistics() {
+        given(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq("post"))).willReturn(1_000_000L);
+
+        CountedPage<String> page = resolver.page(fullPage, PageRequest.of(0, 2), CountMode.ESTIMATED, query(10));
+
+        assertThat(page.getTotalElements()).isEqualTo(1_000_000L);
+        assertThat(page.isTotalExact()).isFalse();
+        assertThat(countQueries).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("추정치가 현재 페이지까지 확인된 건수보다 작으면 확인된 건수를 사용한다")
+    void page_estimatedModeNeverBelowSeenRows() {
+        given(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq("post"))).willReturn(3L);
+
+        CountedPage<String> page = resolver.page(fullPage, PageRequest.of(4, 2), CountMode.ESTIMATED, query(10));
+
+        assertThat(page.getTotalElements()).isEqualTo(10L);
+        assertThat(page.isTotalExact()).isFalse();
+    }
+
+    @Test
+    @DisplayName("추정 대상 테이블이 없으면 ESTIMATED 모드는 CACHED로 대체된다")
+    void page_estimatedModeFallsBackToCached() {
+        CountQuery filtered = CountQuery.of("post:tag", () -> {
+            countQueries.incrementAndGet();
+            return 7L;
+        });
+
+        CountedPage<String> page = resolver.page(fullPage, PageRequest.of(0, 2), CountMode.ESTIMATED, filtered);
+
+        assertThat(page.getTotalElements()).isEqualTo(7);
+        assertThat(redisService.find("count:post:tag")).contains("7");
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
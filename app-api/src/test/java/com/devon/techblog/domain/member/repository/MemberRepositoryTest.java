@@ -5,6 +5,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.devon.techblog.application.member.dto.SocialLinks;
 import com.devon.techblog.config.annotation.RepositoryJpaTest;
 import com.devon.techblog.domain.member.MemberFixture;
+import com.devon.techblog.domain.member.dto.MemberAuthSnapshot;
+import com.devon.techblog.domain.member.entity.MemberRole;
 import com.devon.techblog.domain.member.entity.Member;
 import com.devon.techblog.domain.member.entity.MemberStatus;
 import jakarta.transaction.Transactional;
@@ -61,6 +63,23 @@ class MemberRepositoryTest {
                 .containsExactly(inactive.getEmail());
     }
 
+    @Test
+    @DisplayName("인증 정보는 ID·이메일로 필요한 컬럼만 조회한다")
+    void findAuthSnapshot() {
+        Member member = MemberFixture.create("auth@test.com", "password", "auth");
+        member.deactivate();
+        memberRepository.save(member);
+
+        MemberAuthSnapshot byId = memberRepository.findAuthSnapshotById(member.getId()).orElseThrow();
+        MemberAuthSnapshot byEmail = memberRepository.findAuthSnapshotByEmail("auth@test.com").orElseThrow();
+
+        assertThat(byId).isEqualTo(new MemberAuthSnapshot(
+                member.getId(), member.getPassword(), MemberRole.USER, MemberStatus.INACTIVE));
+        assertThat(byEmail).isEqualTo(byId);
+        assertThat(byId.isActive()).isFalse();
+        assertThat(memberRepository.findAuthSnapshotByEmail("unknown@test.com")).isEmpty();
+    }
+
     @Test
     @DisplayName("새 필드들이 정상적으로 저장되고 조회된다")
     void saveAndFindWithNewFields() {
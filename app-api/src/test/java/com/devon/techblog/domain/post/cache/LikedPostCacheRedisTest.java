@@ -0,0 +1,68 @@
+package com.devon.techblog.domain.post.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.devon.techblog.config.RedisTestContainer;
+import com.devon.techblog.domain.post.repository.PostLikeRepository;
+import com.devon.techblog.infra.redis.adapter.RedisServiceImpl;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 좋아요 캐시 적재 Lua 스크립트 테스트 (Redis 7, Docker 필요 - 없으면 건너뜀)
+ */
+@Tag("integration")
+@Testcontainers(disabledWithoutDocker = true)
+class LikedPostCacheRedisTest {
+
+    @Container
+    static GenericContainer<?> redis = RedisTestContainer.container();
+
+    private RedisTemplate<String, String> redisTemplate;
+    private PostLikeRepository postLikeRepository;
+    private LikedPostCache likedPostCache;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = RedisTestContainer.redisTemplate(redis);
+        RedisTestContainer.flushAll(redisTemplate);
+        postLikeRepository = mock(PostLikeRepository.class);
+        likedPostCache = new LikedPostCache(new RedisServiceImpl(redisTemplate), postLikeRepository,
+                new LikedPostCacheProperties());
+    }
+
+    @Test
+    @DisplayName("버전이 그대로면 SET을 센티넬과 함께 TTL을 붙여 적재한다")
+    void load_publishesSetWithTtl() {
+        given(postLikeRepository.findPostIdsByMemberId(1L)).willReturn(List.of(10L));
+
+        assertThat(likedPostCache.isLiked(1L, 10L)).isTrue();
+
+        assertThat(redisTemplate.opsForSet().members("post-like:member:1")).containsExactlyInAnyOrder("loaded", "10");
+        assertThat(redisTemplate.getExpire("post-like:member:1")).isPositive();
+    }
+
+    @Test
+    @DisplayName("적재 중 좋아요로 버전이 바뀌면 SET을 만들지 않는다")
+    void load_versionChanged_skipsPublish() {
+        given(postLikeRepository.findPostIdsByMemberId(1L)).willAnswer(invocation -> {
+            likedPostCache.onLiked(1L, 20L);
+            return List.of(10L);
+        });
+
+        likedPostCache.isLiked(1L, 10L);
+
+        assertThat(redisTemplate.hasKey("post-like:member:1")).isFalse();
+        assertThat(redisTemplate.opsForValue().get("post-like:version:1")).isEqualTo("1");
+        assertThat(redisTemplate.getExpire("post-like:version:1")).isPositive();
+    }
+}
@@ -0,0 +1,102 @@
+package com.devon.techblog.domain.post.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.devon.techblog.config.annotation.UnitTest;
+import com.devon.techblog.domain.post.repository.PostLikeRepository;
+import com.devon.techblog.fake.FakeRedisService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+@UnitTest
+class LikedPostCacheTest {
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    private FakeRedisService redisService;
+    private LikedPostCache likedPostCache;
+
+    @BeforeEach
+    void setUp() {
+        redisService = new FakeRedisService();
+        likedPostCache = new LikedPostCache(redisService, postLikeRepository, new LikedPostCacheProperties());
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때만 DB에서 적재하고 이후에는 캐시로 응답한다")
+    void likedAmong_loadsOnceFromDatabase() {
+        given(postLikeRepository.findPostIdsByMemberId(1L)).willReturn(List.of(10L, 30L));
+
+        assertThat(likedPostCache.likedAmong(1L, List.of(10L, 20L, 30L))).containsExactlyInAnyOrder(10L, 30L);
+        assertThat(likedPostCache.likedAmong(1L, List.of(20L, 30L))).containsExactly(30L);
+
+        verify(postLikeRepository, times(1)).findPostIdsByMemberId(1L);
+    }
+
+    @Test
+    @DisplayName("좋아요한 게시글이 없는 회원도 적재 상태가 캐시된다")
+    void likedAmong_memberWithoutLikes_isCached() {
+        given(postLikeRepository.findPostIdsByMemberId(1L)).willReturn(List.of());
+
+        assertThat(likedPostCache.isLiked(1L, 10L)).isFalse();
+        assertThat(likedPostCache.isLiked(1L, 10L)).isFalse();
+
+        verify(postLikeRepository, times(1)).findPostIdsByMemberId(1L);
+    }
+
+    @Test
+    @DisplayName("좋아요와 취소가 캐시에 반영된다")
+    void onLikedAndOnUnliked_updateCache() {
+        given(postLikeRepository.findPostIdsByMemberId(1L)).willReturn(List.of());
+        likedPostCache.isLiked(1L, 10L);
+
+        likedPostCache.onLiked(1L, 10L);
+        assertThat(likedPostCache.isLiked(1L, 10L)).isTrue();
+
+        likedPostCache.onUnliked(1L, 10L);
+        assertThat(likedPostCache.isLiked(1L, 10L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("적재 전의 좋아요는 키를 만들지 않고, 다음 조회 때 DB에서 전체를 적재한다")
+    void onLiked_beforeLoad_stillLoadsFromDatabase() {
+        given(postLikeRepository.findPostIdsByMemberId(1L)).willReturn(List.of(10L, 20L));
+
+        likedPostCache.onLiked(1L, 20L);
+        assertThat(redisService.exists("post-like:member:1")).isFalse();
+
+        assertThat(likedPostCache.likedAmong(1L, List.of(10L, 20L))).containsExactlyInAnyOrder(10L, 20L);
+        verify(postLikeRepository).findPostIdsByMemberId(anyLong());
+    }
+
+    @Test
+    @DisplayName("DB를 읽은 뒤 적재하기 전에 반영된 좋아요는 옛 스냅샷에 묻히지 않는다")
+    void likeDuringLoad_isNotLost() {
+        given(postLikeRepository.findPostIdsByMemberId(1L))
+                .willAnswer(invocation -> {
+                    likedPostCache.onLiked(1L, 20L);
+                    return List.of(10L);
+                })
+                .willReturn(List.of(10L, 20L));
+
+        assertThat(likedPostCache.likedAmong(1L, List.of(10L, 20L))).containsExactly(10L);
+        assertThat(redisService.exists("post-like:member:1")).isFalse();
+
+        assertThat(likedPostCache.isLiked(1L, 20L)).isTrue();
+        verify(postLikeRepository, times(2)).findPostIdsByMemberId(1L);
+    }
+
+    @Test
+    @DisplayName("비회원은 캐시와 DB를 조회하지 않는다")
+    void likedAmong_anonymous_returnsEmpty() {
+        assertThat(likedPostCache.likedAmong(null, List.of(10L))).isEmpty();
+    }
+}
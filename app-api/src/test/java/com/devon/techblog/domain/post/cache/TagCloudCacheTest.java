@@ -0,0 +1,87 @@
+package com.devon.techblog.domain.post.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.devon.techblog.config.annotation.UnitTest;
+import com.devon.techblog.domain.post.dto.TagUsage;
+import com.devon.techblog.domain.post.repository.TagRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+@UnitTest
+class TagCloudCacheTest {
+
+    @Mock
+    private TagRepository tagRepository;
+
+    private TagCloudCacheProperties properties;
+    private TagCloudCache tagCloudCache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TagCloudCacheProperties();
+        properties.setSize(3);
+        tagCloudCache = new TagCloudCache(tagRepository, properties);
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때만 DB에서 상위 태그를 읽고 이후에는 스냅샷으로 응답한다")
+    void top_loadsSnapshotOnce() {
+        given(tagRepository.findTopByUsageCount(3)).willReturn(List.of(
+                new TagUsage(1L, "java", 5L),
+                new TagUsage(2L, "spring", 3L),
+                new TagUsage(3L, "jpa", 1L)));
+
+        assertThat(tagCloudCache.top(2)).extracting(TagUsage::name).containsExactly("java", "spring");
+        assertThat(tagCloudCache.top(3)).extracting(TagUsage::name).containsExactly("java", "spring", "jpa");
+
+        verify(tagRepository, times(1)).findTopByUsageCount(3);
+    }
+
+    @Test
+    @DisplayName("캐시 크기보다 많이 요청하면 DB에서 조회한다")
+    void top_largerThanSize_readsDatabase() {
+        given(tagRepository.findTopByUsageCount(5)).willReturn(List.of(new TagUsage(1L, "java", 5L)));
+
+        assertThat(tagCloudCache.top(5)).hasSize(1);
+
+        verify(tagRepository, times(1)).findTopByUsageCount(5);
+        verify(tagRepository, times(0)).findTopByUsageCount(3);
+    }
+
+    @Test
+    @DisplayName("사용 횟수 증감이 스냅샷 순위에 반영된다")
+    void applyDelta_reordersSnapshot() {
+        given(tagRepository.findTopByUsageCount(3)).willReturn(List.of(
+                new TagUsage(1L, "java", 2L),
+                new TagUsage(2L, "spring", 2L),
+                new TagUsage(3L, "jpa", 1L)));
+        tagCloudCache.refresh();
+
+        tagCloudCache.applyDelta(List.of(3L), 2);
+        tagCloudCache.applyDelta(List.of(1L, 99L), -1);
+
+        assertThat(tagCloudCache.top(3))
+                .containsExactly(
+                        new TagUsage(3L, "jpa", 3L),
+                        new TagUsage(2L, "spring", 2L),
+                        new TagUsage(1L, "java", 1L));
+    }
+
+    @Test
+    @DisplayName("사용 횟수는 0 아래로 내려가지 않는다")
+    void applyDelta_doesNotGoBelowZero() {
+        given(tagRepository.findTopByUsageCount(3)).willReturn(List.of(new TagUsage(1L, "java", 0L)));
+        tagCloudCache.refresh();
+
+        tagCloudCache.applyDelta(List.of(1L), -1);
+
+        assertThat(tagCloudCache.top(1)).containsExactly(new TagUsage(1L, "java", 0L));
+    }
+}
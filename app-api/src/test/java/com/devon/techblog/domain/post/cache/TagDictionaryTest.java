@@ -0,0 +1,81 @@
+package com.devon.techblog.domain.post.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.devon.techblog.config.annotation.UnitTest;
+import com.devon.techblog.domain.post.TagFixture;
+import com.devon.techblog.domain.post.entity.Tag;
+import com.devon.techblog.domain.post.repository.TagRepository;
+import com.devon.techblog.fake.FakeRedisService;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+@UnitTest
+class TagDictionaryTest {
+
+    @Mock
+    private TagRepository tagRepository;
+
+    private TagDictionary tagDictionary;
+
+    @BeforeEach
+    void setUp() {
+        tagDictionary = new TagDictionary(tagRepository, new FakeRedisService());
+    }
+
+    @Test
+    @DisplayName("기동 시 적재한 태그는 DB 조회 없이 이름과 ID를 서로 찾는다")
+    void warmUp_resolvesWithoutDatabase() {
+        given(tagRepository.findAll()).willReturn(List.of(
+                TagFixture.createWitId(1L, "java"),
+                TagFixture.createWitId(2L, "spring")));
+        tagDictionary.warmUp();
+
+        assertThat(tagDictionary.resolve(List.of("java", "spring"))).isEqualTo(Map.of("java", 1L, "spring", 2L));
+        assertThat(tagDictionary.namesOf(List.of(2L))).isEqualTo(Map.of(2L, "spring"));
+
+        verify(tagRepository, never()).findByNameIn(anyList());
+        verify(tagRepository, never()).findAllById(anyList());
+    }
+
+    @Test
+    @DisplayName("사전에 없는 이름만 DB에서 찾아 채우고, 존재하지 않는 이름은 결과에서 빠진다")
+    void resolve_loadsMissingNamesOnce() {
+        Tag java = TagFixture.createWitId(1L, "java");
+        given(tagRepository.findByNameIn(anyList())).willReturn(List.of(java));
+
+        assertThat(tagDictionary.resolve(List.of("java", "unknown"))).isEqualTo(Map.of("java", 1L));
+        assertThat(tagDictionary.resolve(List.of("java"))).isEqualTo(Map.of("java", 1L));
+
+        verify(tagRepository, times(1)).findByNameIn(anyList());
+    }
+
+    @Test
+    @DisplayName("새로 만든 태그를 등록하면 바로 찾는다")
+    void register_makesTagResolvable() {
+        tagDictionary.register(List.of(TagFixture.createWitId(3L, "jpa")));
+
+        assertThat(tagDictionary.resolve(List.of("jpa"))).isEqualTo(Map.of("jpa", 3L));
+        verify(tagRepository, never()).findByNameIn(anyList());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 태그 생성 메시지를 사전에 반영하고, 잘못된 메시지는 무시한다")
+    void onCreatedMessage_registersTag() {
+        tagDictionary.onMessage("7|spring boot");
+        tagDictionary.onMessage("not-a-message");
+        tagDictionary.onMessage("x|kotlin");
+
+        assertThat(tagDictionary.resolve(List.of("spring boot"))).isEqualTo(Map.of("spring boot", 7L));
+        assertThat(tagDictionary.namesOf(List.of(7L))).isEqualTo(Map.of(7L, "spring boot"));
+    }
+}
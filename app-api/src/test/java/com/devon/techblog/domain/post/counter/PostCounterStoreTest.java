@@ -0,0 +1,112 @@
+package com.devon.techblog.domain.post.counter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.intThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.devon.techblog.config.annotation.UnitTest;
+import com.devon.techblog.domain.post.entity.PostCounterType;
+import com.devon.techblog.domain.post.repository.PostCounterShardRepository;
+import com.devon.techblog.domain.post.repository.PostRepository;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+@UnitTest
+class PostCounterStoreTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostCounterShardRepository shardRepository;
+
+    private PostCounterProperties properties;
+    private PostCounterStore postCounterStore;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PostCounterProperties();
+        properties.setSlots(4);
+        postCounterStore = new PostCounterStore(postRepository, shardRepository, properties);
+    }
+
+    private void useSharded() {
+        properties.getStorage().put(PostCounterType.COMMENT, CounterStorage.SHARDED);
+    }
+
+    @Test
+    @DisplayName("COLUMN 방식은 post 컬럼을 직접 증감하고 조회 값을 그대로 사용한다")
+    void columnStorage_updatesColumn() {
+        postCounterStore.increment(PostCounterType.COMMENT, 1L);
+        postCounterStore.decrement(PostCounterType.COMMENT, 1L);
+
+        verify(postRepository).incrementCommentCount(1L);
+        verify(postRepository).decrementCommentCount(1L);
+        assertThat(postCounterStore.resolve(PostCounterType.COMMENT, 1L, 3L)).isEqualTo(3L);
+        verifyNoInteractions(shardRepository);
+    }
+
+    @Test
+    @DisplayName("SHARDED 방식은 슬롯 범위 안의 임의 슬롯에 증감분을 쌓는다")
+    void shardedStorage_addsToRandomSlot() {
+        useSharded();
+
+        postCounterStore.increment(PostCounterType.COMMENT, 1L);
+        postCounterStore.decrement(PostCounterType.COMMENT, 1L);
+
+        verify(shardRepository).add(eq(PostCounterType.COMMENT), eq(1L), intThat(slot -> slot >= 0 && slot < 4), eq(1L));
+        verify(shardRepository).add(eq(PostCounterType.COMMENT), eq(1L), anyInt(), eq(-1L));
+        verify(postRepository, never()).incrementCommentCount(anyLong());
+    }
+
+    @Test
+    @DisplayName("SHARDED 방식은 컬럼 값에 슬롯 합계를 더하고, 합계는 캐시된다")
+    void shardedStorage_resolvesColumnPlusCachedSum() {
+        useSharded();
+        given(shardRepository.sumByPostIds(eq(PostCounterType.COMMENT), anyCollection()))
+                .willReturn(Map.of(1L, 2L, 2L, -5L));
+
+        Map<Long, Long> first = postCounterStore.resolveAll(PostCounterType.COMMENT, Map.of(1L, 3L, 2L, 1L));
+        Map<Long, Long> second = postCounterStore.resolveAll(PostCounterType.COMMENT, Map.of(1L, 3L, 2L, 1L));
+
+        assertThat(first).containsEntry(1L, 5L).containsEntry(2L, 0L);
+        assertThat(second).isEqualTo(first);
+        verify(shardRepository, times(1)).sumByPostIds(eq(PostCounterType.COMMENT), anyCollection());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 증감은 바로 슬롯 합계 캐시를 비운다")
+    void shardedStorage_incrementInvalidatesCache() {
+        useSharded();
+        given(shardRepository.sumByPostIds(eq(PostCounterType.COMMENT), anyCollection()))
+                .willReturn(Map.of(1L, 2L), Map.of(1L, 3L));
+
+        assertThat(postCounterStore.resolve(PostCounterType.COMMENT, 1L, 0L)).isEqualTo(2L);
+        postCounterStore.increment(PostCounterType.COMMENT, 1L);
+
+        assertThat(postCounterStore.resolve(PostCounterType.COMMENT, 1L, 0L)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("접기는 더 이상 대상이 없을 때까지 게시글 ID 순으로 반복한다")
+    void fold_iteratesUntilEmpty() {
+        properties.setFoldBatchSize(2);
+        given(shardRepository.fold(PostCounterType.COMMENT, 0L, 2)).willReturn(List.of(1L, 5L));
+        given(shardRepository.fold(PostCounterType.COMMENT, 5L, 2)).willReturn(List.of(9L));
+        given(shardRepository.fold(PostCounterType.COMMENT, 9L, 2)).willReturn(List.of());
+
+        assertThat(postCounterStore.fold(PostCounterType.COMMENT)).isEqualTo(3L);
+    }
+}
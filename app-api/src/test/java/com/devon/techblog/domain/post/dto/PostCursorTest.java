@@ -0,0 +1,59 @@
+package com.devon.techblog.domain.post.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.devon.techblog.common.exception.BusinessException;
+import com.devon.techblog.common.exception.code.PostErrorCode;
+import com.devon.techblog.config.annotation.UnitTest;
+import com.devon.techblog.domain.post.PostQueryDtoFixture;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class PostCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 위치를 가리킨다")
+    void encodeAndDecode_roundTrip() {
+        PostCursor cursor = PostCursor.first("createdAt", false).next(PostQueryDtoFixture.create());
+
+        PostCursor decoded = PostCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.lastId()).isEqualTo(PostQueryDtoFixture.DEFAULT_POST_ID);
+    }
+
+    @Test
+    @DisplayName("값에 구분자가 포함되어도 커서가 유지된다")
+    void encodeAndDecode_valueWithDelimiter() {
+        PostCursor cursor = new PostCursor("title", true, "a|b|c", 7L);
+
+        assertThat(PostCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 정렬 키는 기본 정렬(createdAt 내림차순)로 대체된다")
+    void first_unknownSortField_fallsBackToDefault() {
+        PostCursor cursor = PostCursor.first("content", true);
+
+        assertThat(cursor.sortField()).isEqualTo(PostCursor.DEFAULT_SORT_FIELD);
+        assertThat(cursor.ascending()).isFalse();
+        assertThat(cursor.isFirst()).isTrue();
+    }
+
+    @Test
+    @DisplayName("변조된 커서는 INVALID_CURSOR 예외가 발생한다")
+    void decode_tampered_throwsException() {
+        String tampered = Base64.getUrlEncoder().encodeToString(
+                "createdAt|desc|1|not-a-date".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> PostCursor.decode(tampered))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(PostErrorCode.INVALID_CURSOR.getMessage());
+        assertThatThrownBy(() -> PostCursor.decode("%%%"))
+                .isInstanceOf(BusinessException.class);
+    }
+}
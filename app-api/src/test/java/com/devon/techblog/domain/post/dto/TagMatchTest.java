@@ -0,0 +1,31 @@
+package com.devon.techblog.domain.post.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.devon.techblog.common.exception.BusinessException;
+import com.devon.techblog.common.exception.code.PostErrorCode;
+import com.devon.techblog.config.annotation.UnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class TagMatchTest {
+
+    @Test
+    @DisplayName("any / all 은 대소문자와 공백에 관계없이 변환되고, 값이 없으면 ANY")
+    void from_knownValues() {
+        assertThat(TagMatch.from(" All ")).isEqualTo(TagMatch.ALL);
+        assertThat(TagMatch.from("any")).isEqualTo(TagMatch.ANY);
+        assertThat(TagMatch.from(null)).isEqualTo(TagMatch.ANY);
+        assertThat(TagMatch.from(" ")).isEqualTo(TagMatch.ANY);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 값은 INVALID_TAG_MATCH 예외가 발생한다")
+    void from_unknownValue_throwsException() {
+        assertThatThrownBy(() -> TagMatch.from("alll"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(PostErrorCode.INVALID_TAG_MATCH.getMessage());
+    }
+}
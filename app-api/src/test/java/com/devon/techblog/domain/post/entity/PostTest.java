@@ -195,6 +195,24 @@ class PostTest {
         assertThat(post.getSeries()).isNull();
     }
 
+    @Test
+    @DisplayName("시리즈에 편입하면 순서가 함께 지정되고, 제거하면 순서도 지워진다")
+    void moveToSeries_setsOrder() {
+        Member member = Member.create("user@test.com", "password123", "tester");
+        Post post = Post.create(member, "제목", "내용");
+        Series series = Series.create(member, "시리즈명", "설명");
+
+        post.moveToSeries(series, 3);
+        assertThat(post.getSeries()).isEqualTo(series);
+        assertThat(post.getSeriesOrder()).isEqualTo(3);
+
+        post.removeSeries();
+        assertThat(post.getSeriesOrder()).isNull();
+
+        assertThatThrownBy(() -> post.moveToSeries(series, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     @DisplayName("공개 범위를 변경할 수 있다")
     void updateVisibility_changesVisibility() {
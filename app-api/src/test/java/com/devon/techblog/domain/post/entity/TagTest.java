@@ -58,4 +58,10 @@ class TagTest {
 
         assertThat(tag.getName()).hasSize(50);
     }
+
+    @Test
+    @DisplayName("태그명 정규화는 기본 로케일과 관계없이 같은 결과를 낸다")
+    void normalizeName_isLocaleIndependent() {
+        assertThat(Tag.normalizeName("  TITLE ")).isEqualTo("title");
+    }
 }
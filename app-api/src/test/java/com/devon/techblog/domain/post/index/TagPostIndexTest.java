@@ -0,0 +1,225 @@
+package com.devon.techblog.domain.post.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+
+import com.devon.techblog.common.exception.BusinessException;
+import com.devon.techblog.common.exception.code.PostErrorCode;
+import com.devon.techblog.config.annotation.UnitTest;
+import com.devon.techblog.domain.post.cache.TagDictionary;
+import com.devon.techblog.domain.post.dto.PostTagIndexEntry;
+import com.devon.techblog.domain.post.dto.TagMatch;
+import com.devon.techblog.domain.post.repository.PostTagRepository;
+import com.devon.techblog.domain.post.repository.TagRepository;
+import com.devon.techblog.fake.FakeRedisService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+@UnitTest
+class TagPostIndexTest {
+
+    private static final Instant BASE = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Map<String, Long> TAG_IDS = Map.of("java", 1L, "spring", 2L);
+
+    /**
+     * java: 1, 2, 3 / spring: 2, 3, 4 (게시글 ID가 클수록 최신)
+     */
+    private static final List<PostTagIndexEntry> SAMPLE_ROWS = List.of(
+            entry(1L, 1L), entry(2L, 1L), entry(2L, 2L),
+            entry(3L, 1L), entry(3L, 2L), entry(4L, 2L));
+
+    @Mock
+    private TagDictionary tagDictionary;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private PostTagRepository postTagRepository;
+
+    private FakeRedisService redisService;
+    private TagPostIndexProperties properties;
+    private TagPostIndex tagPostIndex;
+
+    @BeforeEach
+    void setUp() {
+        redisService = new FakeRedisService();
+        properties = new TagPostIndexProperties();
+        properties.setRebuildBatchSize(2);
+        tagPostIndex = new TagPostIndex(redisService, tagDictionary, tagRepository, postTagRepository, properties);
+
+        lenient().when(tagDictionary.resolve(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> names = invocation.getArgument(0);
+            return names.stream()
+                    .filter(TAG_IDS::containsKey)
+                    .collect(Collectors.toMap(Function.identity(), TAG_IDS::get));
+        });
+    }
+
+    private void rebuildWithSampleData() {
+        stubSampleData(() -> { });
+
+        assertThat(tagPostIndex.rebuild()).isEqualTo(SAMPLE_ROWS.size());
+    }
+
+    /**
+     * @param beforeFirstBatch 첫 배치를 읽을 때 실행할 동작 (재구성 도중의 갱신 재현)
+     */
+    private void stubSampleData(Runnable beforeFirstBatch) {
+        given(tagRepository.findAllIds()).willReturn(List.of(1L, 2L));
+        given(postTagRepository.findIndexEntriesAfter(anyLong(), anyLong(), anyInt())).willAnswer(invocation -> {
+            long postId = invocation.getArgument(0);
+            long tagId = invocation.getArgument(1);
+            int limit = invocation.getArgument(2);
+            if (postId == 0L) {
+                beforeFirstBatch.run();
+            }
+            return SAMPLE_ROWS.stream()
+                    .filter(row -> row.postId() > postId || (row.postId() == postId && row.tagId() > tagId))
+                    .limit(limit)
+                    .toList();
+        });
+    }
+
+    private static PostTagIndexEntry entry(Long postId, Long tagId) {
+        return new PostTagIndexEntry(postId, tagId, BASE.plusSeconds(postId));
+    }
+
+    private Page<Long> find(List<String> tags, TagMatch tagMatch, int page, int size) {
+        return tagPostIndex.findPostIds(tags, tagMatch, PageRequest.of(page, size)).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("재구성 전에는 색인을 사용하지 않는다")
+    void findPostIds_beforeRebuild_returnsEmpty() {
+        assertThat(tagPostIndex.findPostIds(List.of("java"), TagMatch.ANY, PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재구성 후 태그별 게시글을 최신순으로 페이징한다")
+    void findPostIds_singleTag_pagesByRecency() {
+        rebuildWithSampleData();
+
+        Page<Long> first = find(List.of("java"), TagMatch.ANY, 0, 2);
+        Page<Long> second = find(List.of("java"), TagMatch.ANY, 1, 2);
+
+        assertThat(first.getContent()).containsExactly(3L, 2L);
+        assertThat(second.getContent()).containsExactly(1L);
+        assertThat(first.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("ANY는 합집합, ALL은 교집합을 최신순으로 반환한다")
+    void findPostIds_multipleTags_combinesSets() {
+        rebuildWithSampleData();
+
+        Page<Long> any = find(List.of("java", "spring"), TagMatch.ANY, 0, 10);
+        Page<Long> all = find(List.of("java", "spring"), TagMatch.ALL, 0, 10);
+
+        assertThat(any.getContent()).containsExactly(4L, 3L, 2L, 1L);
+        assertThat(all.getContent()).containsExactly(3L, 2L);
+        assertThat(all.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("ALL 조건에 존재하지 않는 태그가 있으면 빈 페이지를 반환한다")
+    void findPostIds_allWithUnknownTag_returnsEmptyPage() {
+        rebuildWithSampleData();
+
+        Page<Long> page = find(List.of("java", "unknown"), TagMatch.ALL, 0, 10);
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isZero();
+    }
+
+    @Test
+    @DisplayName("최신순이 아닌 정렬은 색인을 사용하지 않는다")
+    void findPostIds_otherSort_returnsEmpty() {
+        rebuildWithSampleData();
+
+        Optional<Page<Long>> result = tagPostIndex.findPostIds(
+                List.of("java"), TagMatch.ANY, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "likeCount")));
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("게시글 추가·제거가 색인에 반영된다")
+    void indexAndUnindex_updateIndex() {
+        rebuildWithSampleData();
+
+        tagPostIndex.index(5L, BASE.plusSeconds(5), List.of(1L));
+        tagPostIndex.unindex(3L, List.of(1L, 2L));
+
+        assertThat(find(List.of("java"), TagMatch.ANY, 0, 10).getContent()).containsExactly(5L, 2L, 1L);
+        assertThat(find(List.of("spring"), TagMatch.ANY, 0, 10).getContent()).containsExactly(4L, 2L);
+    }
+
+    @Test
+    @DisplayName("재구성은 기존 색인을 지우고 DB 기준으로 다시 적재한다")
+    void rebuild_replacesStaleEntries() {
+        redisService.addToSortedSet("tag-index:tag:1", Map.of("99", 1.0));
+
+        rebuildWithSampleData();
+
+        assertThat(find(List.of("java"), TagMatch.ANY, 0, 10).getContent()).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("재구성 중 삭제된 게시글은 뒤 배치에서 읽혀도 색인과 건수에 남지 않는다")
+    void rebuild_keepsRemovalMadeDuringRebuild() {
+        stubSampleData(() -> tagPostIndex.unindex(3L, List.of(1L, 2L)));
+        given(postTagRepository.findIndexEntriesByPostIds(anyCollection())).willReturn(List.of());
+
+        tagPostIndex.rebuild();
+
+        Page<Long> java = find(List.of("java"), TagMatch.ANY, 0, 10);
+        assertThat(java.getContent()).containsExactly(2L, 1L);
+        assertThat(java.getTotalElements()).isEqualTo(2);
+        assertThat(find(List.of("spring"), TagMatch.ANY, 0, 10).getContent()).containsExactly(4L, 2L);
+    }
+
+    @Test
+    @DisplayName("재구성 중에도 기존 색인으로 조회하고, 락을 잃으면 교체하지 않고 중단한다")
+    void rebuild_whenLockLost_keepsExistingIndex() {
+        rebuildWithSampleData();
+        stubSampleData(() -> {
+            assertThat(find(List.of("java"), TagMatch.ANY, 0, 10).getContent()).containsExactly(3L, 2L, 1L);
+            redisService.save("tag-index:rebuild-lock", "other-node", Duration.ofMinutes(1));
+        });
+
+        assertThatThrownBy(() -> tagPostIndex.rebuild())
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(PostErrorCode.TAG_INDEX_REBUILD_IN_PROGRESS.getMessage());
+        assertThat(find(List.of("java"), TagMatch.ANY, 0, 10).getContent()).containsExactly(3L, 2L, 1L);
+        assertThat(redisService.find("tag-index:rebuild-lock")).contains("other-node");
+    }
+
+    @Test
+    @DisplayName("재구성이 진행 중이면 예외가 발생한다")
+    void rebuild_whileInProgress_throwsException() {
+        redisService.setIfAbsent("tag-index:rebuild-lock", "other-node", Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> tagPostIndex.rebuild())
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(PostErrorCode.TAG_INDEX_REBUILD_IN_PROGRESS.getMessage());
+    }
+}
@@ -0,0 +1,126 @@
+package com.devon.techblog.domain.post.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devon.techblog.config.annotation.UnitTest;
+import com.devon.techblog.fake.FakeRedisService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+@UnitTest
+class TrendingPostIndexTest {
+
+    /** 주기(7일) 시작 시각 */
+    private static final Instant GENERATION_START = Instant.ofEpochMilli(Duration.ofDays(7).toMillis() * 2_900);
+    private static final Pageable TRENDING = PageRequest.of(0, 10, Sort.by(TrendingPostIndex.SORT_PROPERTY));
+
+    private FakeRedisService redisService;
+    private TrendingPostIndexProperties properties;
+    private TrendingPostIndex trendingPostIndex;
+
+    @BeforeEach
+    void setUp() {
+        redisService = new FakeRedisService();
+        properties = new TrendingPostIndexProperties();
+        trendingPostIndex = new TrendingPostIndex(redisService, properties);
+    }
+
+    private Page<Long> find(Pageable pageable, Instant now) {
+        return trendingPostIndex.findPostIds(pageable, now).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("가중치가 큰 반응을 받은 게시글이 먼저 온다")
+    void findPostIds_ordersByWeightedScore() {
+        Instant now = GENERATION_START.plus(Duration.ofHours(1));
+        trendingPostIndex.increment(TrendingSignal.VIEW, Map.of(1L, 3L), now);
+        trendingPostIndex.increment(TrendingSignal.LIKE, Map.of(2L, 1L), now);
+        trendingPostIndex.increment(TrendingSignal.COMMENT, Map.of(3L, 1L), now);
+
+        Page<Long> page = find(TRENDING, now);
+
+        assertThat(page.getContent()).containsExactly(3L, 2L, 1L);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("반감기가 지난 반응은 절반만 기여한다")
+    void findPostIds_decaysOlderSignals() {
+        Instant earlier = GENERATION_START.plus(Duration.ofHours(1));
+        Instant later = earlier.plus(Duration.ofHours(48));
+        trendingPostIndex.increment(TrendingSignal.LIKE, Map.of(1L, 3L), earlier);
+        trendingPostIndex.increment(TrendingSignal.LIKE, Map.of(2L, 1L), later);
+
+        // 1번: 3 * 1/4 = 0.75 (두 반감기 경과) < 2번: 1
+        assertThat(find(TRENDING, later).getContent()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("주기가 바뀌면 이전 주기 점수를 감쇠시켜 새 주기에 합친다")
+    void findPostIds_rollsOverPreviousGeneration() {
+        trendingPostIndex.increment(TrendingSignal.LIKE, Map.of(1L, 1L),
+                GENERATION_START.plus(Duration.ofDays(6)));
+
+        Instant nextGeneration = GENERATION_START.plus(Duration.ofDays(7)).plus(Duration.ofHours(1));
+        trendingPostIndex.increment(TrendingSignal.VIEW, Map.of(2L, 1L), nextGeneration);
+
+        // 1번: 좋아요 5, 25시간 경과 -> 약 2.4 / 2번: 조회 1
+        assertThat(find(TRENDING, nextGeneration).getContent()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("주기 전환 시 상위 maxSize개만 남긴다")
+    void rollover_trimsToMaxSize() {
+        properties.setMaxSize(2L);
+        trendingPostIndex.increment(TrendingSignal.VIEW, Map.of(1L, 1L, 2L, 2L, 3L, 3L), GENERATION_START);
+
+        Page<Long> page = find(TRENDING, GENERATION_START.plus(Duration.ofDays(7)));
+
+        assertThat(page.getContent()).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("취소된 반응만큼 점수가 줄어든다")
+    void retract_subtractsScore() {
+        trendingPostIndex.increment(TrendingSignal.LIKE, Map.of(1L, 2L, 2L, 1L), GENERATION_START);
+        trendingPostIndex.increment(TrendingSignal.LIKE, Map.of(1L, -2L), GENERATION_START);
+
+        assertThat(find(TRENDING, GENERATION_START).getContent()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("오래된 반응을 취소해도 점수는 0 아래로 내려가지 않고, 순위에 없던 게시글은 새로 생기지 않는다")
+    void retract_clampsAtZero() {
+        trendingPostIndex.increment(TrendingSignal.LIKE, Map.of(1L, 1L), GENERATION_START);
+        trendingPostIndex.increment(TrendingSignal.VIEW, Map.of(2L, 1L), GENERATION_START);
+
+        Instant later = GENERATION_START.plus(Duration.ofDays(4));
+        trendingPostIndex.increment(TrendingSignal.LIKE, Map.of(1L, -1L, 3L, -1L), later);
+
+        Page<Long> page = find(TRENDING, later);
+        assertThat(page.getContent()).containsExactly(2L, 1L);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("인기순이 아니거나 점수가 없으면 DB로 대체한다")
+    void findPostIds_notTrendingOrEmpty_returnsEmpty() {
+        Optional<Page<Long>> empty = trendingPostIndex.findPostIds(TRENDING, GENERATION_START);
+
+        trendingPostIndex.increment(TrendingSignal.VIEW, Map.of(1L, 1L), GENERATION_START);
+        Optional<Page<Long>> recency = trendingPostIndex.findPostIds(
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")), GENERATION_START);
+
+        assertThat(empty).isEmpty();
+        assertThat(recency).isEmpty();
+    }
+}
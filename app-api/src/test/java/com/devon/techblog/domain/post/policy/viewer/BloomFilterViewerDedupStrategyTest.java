@@ -0,0 +1,54 @@
+package com.devon.techblog.domain.post.policy.viewer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devon.techblog.config.annotation.UnitTest;
+import com.devon.techblog.fake.FakeRedisService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class BloomFilterViewerDedupStrategyTest {
+
+    private static final int EXPECTED_VIEWERS = 1_000;
+
+    private BloomFilterViewerDedupStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        ViewerDedupProperties properties = new ViewerDedupProperties();
+        properties.getBloom().setExpectedViewers(EXPECTED_VIEWERS);
+        properties.getBloom().setFalsePositiveRate(0.01);
+        strategy = new BloomFilterViewerDedupStrategy(new FakeRedisService(), properties);
+    }
+
+    @Test
+    @DisplayName("윈도우 안에서 같은 조회자는 처음 한 번만 집계된다")
+    void markIfFirst_sameViewer_countsOnce() {
+        assertThat(strategy.markIfFirst(1L, "member:1")).isTrue();
+        assertThat(strategy.markIfFirst(1L, "member:1")).isFalse();
+        assertThat(strategy.markIfFirst(1L, "member:1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("비트맵은 게시글마다 따로 관리된다")
+    void markIfFirst_otherPost_countsAgain() {
+        strategy.markIfFirst(1L, "member:1");
+
+        assertThat(strategy.markIfFirst(2L, "member:1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("예상 조회자 수까지는 서로 다른 조회자가 대부분 새 조회자로 집계된다 (오탐률 이내)")
+    void markIfFirst_distinctViewers_withinFalsePositiveRate() {
+        int counted = 0;
+        for (int i = 0; i < EXPECTED_VIEWERS; i++) {
+            if (strategy.markIfFirst(1L, "member:" + i)) {
+                counted++;
+            }
+        }
+
+        assertThat(counted).isGreaterThanOrEqualTo((int) (EXPECTED_VIEWERS * 0.97));
+    }
+}
@@ -0,0 +1,85 @@
+package com.devon.techblog.domain.post.policy.viewer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devon.techblog.application.post.dto.ViewContext;
+import com.devon.techblog.config.RedisTestContainer;
+import com.devon.techblog.domain.post.policy.ViewCountPolicy;
+import com.devon.techblog.infra.redis.adapter.RedisServiceImpl;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 조회자 중복 판단 동시성 테스트 (Redis 7, Docker 필요 - 없으면 건너뜀)
+ *
+ * 같은 조회자의 동시 요청이 실제 Redis의 SET NX EX 한 번으로 정확히 한 번만 집계되는지 확인한다.
+ */
+@Tag("integration")
+@Testcontainers(disabledWithoutDocker = true)
+class ExactKeyViewerDedupStrategyRedisTest {
+
+    @Container
+    static GenericContainer<?> redis = RedisTestContainer.container();
+
+    private ViewCountPolicy viewCountPolicy;
+
+    @BeforeEach
+    void setUp() {
+        RedisTemplate<String, String> redisTemplate = RedisTestContainer.redisTemplate(redis);
+        RedisTestContainer.flushAll(redisTemplate);
+        viewCountPolicy = new ViewCountPolicy(
+                new ExactKeyViewerDedupStrategy(new RedisServiceImpl(redisTemplate), new ViewerDedupProperties()));
+    }
+
+    @Test
+    @DisplayName("같은 조회자의 동시 요청은 정확히 한 번만 집계된다")
+    void shouldCount_underConcurrentRequests_countsOncePerViewer() throws Exception {
+        int threads = 32;
+        int requestsPerViewer = 50;
+        List<ViewContext> viewers = List.of(
+                ViewContext.builder().memberId(1L).build(),
+                ViewContext.builder().memberId(2L).build(),
+                ViewContext.builder().ipAddress("10.0.0.1").userAgent("agent").build()
+        );
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (ViewContext viewer : viewers) {
+                for (int i = 0; i < requestsPerViewer; i++) {
+                    Callable<Boolean> request = () -> {
+                        start.await();
+                        return viewCountPolicy.shouldCount(303L, viewer);
+                    };
+                    results.add(executor.submit(request));
+                }
+            }
+            start.countDown();
+
+            int counted = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    counted++;
+                }
+            }
+
+            assertThat(counted).isEqualTo(viewers.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.devon.techblog.domain.post.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devon.techblog.config.annotation.RepositoryJpaTest;
+import com.devon.techblog.domain.comment.entity.Comment;
+import com.devon.techblog.domain.comment.repository.CommentRepository;
+import com.devon.techblog.domain.member.MemberFixture;
+import com.devon.techblog.domain.member.entity.Member;
+import com.devon.techblog.domain.member.repository.MemberRepository;
+import com.devon.techblog.domain.post.CommentFixture;
+import com.devon.techblog.domain.post.PostFixture;
+import com.devon.techblog.domain.post.TagFixture;
+import com.devon.techblog.domain.post.dto.CounterDrift;
+import com.devon.techblog.domain.post.entity.Post;
+import com.devon.techblog.domain.post.entity.PostLike;
+import com.devon.techblog.domain.post.entity.PostTag;
+import com.devon.techblog.domain.post.entity.Tag;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RepositoryJpaTest
+@Transactional
+@Import(CounterReconciliationRepository.class)
+class CounterReconciliationRepositoryTest {
+
+    @Autowired
+    private CounterReconciliationRepository counterReconciliationRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private PostTagRepository postTagRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Post first;
+    private Post second;
+    private Tag tag;
+
+    /**
+     * first: 좋아요 1, 댓글 2(1개 삭제), 태그 1 / second: 아무것도 없음
+     * 저장된 카운터는 모두 0으로 둔다.
+     */
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(MemberFixture.create());
+        first = postRepository.save(PostFixture.create(member));
+        second = postRepository.save(PostFixture.create(member));
+        tag = tagRepository.save(TagFixture.create());
+
+        postLikeRepository.save(PostLike.create(first, member));
+        commentRepository.save(CommentFixture.create(member, first));
+        Comment deleted = CommentFixture.create(member, first);
+        deleted.delete();
+        commentRepository.save(deleted);
+        postTagRepository.save(PostTag.create(first, tag));
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("저장된 값과 원본에서 다시 센 값을 PK 순서로 조회한다")
+    void findCounters_returnsStoredAndActual() {
+        List<CounterDrift> likes = counterReconciliationRepository.findCounters(
+                DenormalizedCounter.POST_LIKE_COUNT, 0L, 10);
+        List<CounterDrift> comments = counterReconciliationRepository.findCounters(
+                DenormalizedCounter.POST_COMMENT_COUNT, 0L, 10);
+        List<CounterDrift> usages = counterReconciliationRepository.findCounters(
+                DenormalizedCounter.TAG_USAGE_COUNT, 0L, 10);
+
+        assertThat(likes).containsExactly(
+                new CounterDrift(first.getId(), 0L, 1L), new CounterDrift(second.getId(), 0L, 0L));
+        assertThat(comments).containsExactly(
+                new CounterDrift(first.getId(), 0L, 1L), new CounterDrift(second.getId(), 0L, 0L));
+        assertThat(usages).containsExactly(new CounterDrift(tag.getId(), 0L, 1L));
+    }
+
+    @Test
+    @DisplayName("키셋 조회는 afterId 다음 행부터 limit 건을 반환한다")
+    void findCounters_keysetPaging() {
+        List<CounterDrift> page = counterReconciliationRepository.findCounters(
+                DenormalizedCounter.POST_LIKE_COUNT, first.getId(), 10);
+
+        assertThat(page).extracting(CounterDrift::id).containsExactly(second.getId());
+        assertThat(counterReconciliationRepository.findMaxId(DenormalizedCounter.POST_LIKE_COUNT))
+                .isEqualTo(second.getId());
+    }
+
+    @Test
+    @DisplayName("조회 이후 값이 바뀐 행은 보정하지 않는다")
+    void fix_skipsRowsChangedSinceRead() {
+        List<CounterDrift> drifts = List.of(
+                new CounterDrift(first.getId(), 0L, 1L),
+                new CounterDrift(second.getId(), 0L, 3L));
+        jdbcTemplate.update("UPDATE post SET like_count = 5 WHERE id = ?", second.getId());
+
+        int fixed = counterReconciliationRepository.fix(DenormalizedCounter.POST_LIKE_COUNT, drifts, 500);
+
+        assertThat(fixed).isEqualTo(1);
+        assertThat(likeCount(first)).isEqualTo(1L);
+        assertThat(likeCount(second)).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("샤딩 카운터의 슬롯 합계를 저장된 값에 포함하고, 차이만 기준 컬럼에 더해 보정한다")
+    void fix_commentCountWithShards_adjustsColumnByDifference() {
+        jdbcTemplate.update("INSERT INTO post_counter_shard (post_id, counter_type, slot, amount) VALUES (?, 'COMMENT', 0, 3)",
+                first.getId());
+
+        List<CounterDrift> drifts = counterReconciliationRepository.findCounters(
+                DenormalizedCounter.POST_COMMENT_COUNT, 0L, 1);
+        int fixed = counterReconciliationRepository.fix(DenormalizedCounter.POST_COMMENT_COUNT, drifts, 500);
+
+        assertThat(drifts).containsExactly(new CounterDrift(first.getId(), 3L, 1L));
+        assertThat(fixed).isEqualTo(1);
+        assertThat(counterReconciliationRepository.findCounters(DenormalizedCounter.POST_COMMENT_COUNT, 0L, 1))
+                .containsExactly(new CounterDrift(first.getId(), 1L, 1L));
+    }
+
+    private long likeCount(Post post) {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM post WHERE id = ?", Long.class, post.getId());
+    }
+}
@@ -0,0 +1,93 @@
+package com.devon.techblog.domain.post.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devon.techblog.config.annotation.RepositoryJpaTest;
+import com.devon.techblog.domain.member.MemberFixture;
+import com.devon.techblog.domain.member.entity.Member;
+import com.devon.techblog.domain.member.repository.MemberRepository;
+import com.devon.techblog.domain.post.PostFixture;
+import com.devon.techblog.domain.post.entity.Post;
+import com.devon.techblog.domain.post.entity.PostCounterType;
+import jakarta.transaction.Transactional;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RepositoryJpaTest
+@Transactional
+@Import(PostCounterShardRepository.class)
+class PostCounterShardRepositoryTest {
+
+    @Autowired
+    private PostCounterShardRepository postCounterShardRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Post first;
+    private Post second;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(MemberFixture.create());
+        first = postRepository.save(PostFixture.create(member));
+        second = postRepository.save(PostFixture.create(member));
+        postRepository.flush();
+    }
+
+    @Test
+    @DisplayName("같은 슬롯의 증감은 한 행에 누적되고 게시글별로 합산된다")
+    void add_accumulatesPerSlot() {
+        postCounterShardRepository.add(PostCounterType.COMMENT, first.getId(), 0, 1);
+        postCounterShardRepository.add(PostCounterType.COMMENT, first.getId(), 0, 1);
+        postCounterShardRepository.add(PostCounterType.COMMENT, first.getId(), 3, 1);
+        postCounterShardRepository.add(PostCounterType.COMMENT, first.getId(), 3, -1);
+
+        Map<Long, Long> sums = postCounterShardRepository.sumByPostIds(
+                PostCounterType.COMMENT, List.of(first.getId(), second.getId()));
+
+        assertThat(sums).containsEntry(first.getId(), 2L).containsEntry(second.getId(), 0L);
+        assertThat(shardRows(first)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("접기는 슬롯 합계를 기준 컬럼에 더하고 슬롯을 지운다")
+    void fold_addsSumToColumnAndDeletesShards() {
+        jdbcTemplate.update("UPDATE post SET comment_count = 5 WHERE id = ?", first.getId());
+        postCounterShardRepository.add(PostCounterType.COMMENT, first.getId(), 0, 2);
+        postCounterShardRepository.add(PostCounterType.COMMENT, first.getId(), 1, -1);
+        postCounterShardRepository.add(PostCounterType.COMMENT, second.getId(), 2, 3);
+
+        List<Long> firstChunk = postCounterShardRepository.fold(PostCounterType.COMMENT, 0L, 1);
+        List<Long> secondChunk = postCounterShardRepository.fold(PostCounterType.COMMENT, firstChunk.getLast(), 1);
+        List<Long> done = postCounterShardRepository.fold(PostCounterType.COMMENT, secondChunk.getLast(), 1);
+
+        assertThat(firstChunk).containsExactly(first.getId());
+        assertThat(secondChunk).containsExactly(second.getId());
+        assertThat(done).isEmpty();
+        assertThat(commentCount(first)).isEqualTo(6L);
+        assertThat(commentCount(second)).isEqualTo(3L);
+        assertThat(shardRows(first) + shardRows(second)).isZero();
+    }
+
+    private long commentCount(Post post) {
+        return jdbcTemplate.queryForObject("SELECT comment_count FROM post WHERE id = ?", Long.class, post.getId());
+    }
+
+    private int shardRows(Post post) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM post_counter_shard WHERE post_id = ?", Integer.class, post.getId());
+    }
+}
@@ -0,0 +1,106 @@
+package com.devon.techblog.domain.post.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.devon.techblog.config.annotation.RepositoryJpaTest;
+import com.devon.techblog.domain.member.MemberFixture;
+import com.devon.techblog.domain.member.entity.Member;
+import com.devon.techblog.domain.member.repository.MemberRepository;
+import com.devon.techblog.domain.post.PostFixture;
+import com.devon.techblog.domain.post.dto.PostLikeChange;
+import com.devon.techblog.domain.post.entity.Post;
+import com.devon.techblog.domain.post.entity.PostLike;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RepositoryJpaTest
+@Transactional
+@Import(PostLikeBatchRepository.class)
+class PostLikeBatchRepositoryTest {
+
+    @Autowired
+    private PostLikeBatchRepository postLikeBatchRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Member author;
+    private Member liker;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        author = memberRepository.save(MemberFixture.create());
+        liker = memberRepository.save(MemberFixture.create("liker@test.com", "password123", "liker"));
+        post = postRepository.save(PostFixture.create(author));
+
+        postLikeRepository.save(PostLike.create(post, author));
+        postRepository.incrementLikeCount(post.getId());
+        entityManager.flush();
+    }
+
+    private long likeCount() {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM post WHERE id = ?", Long.class, post.getId());
+    }
+
+    @Test
+    @DisplayName("DB 상태와 달라지는 변경분만 반영하고 그만큼 like_count를 조정한다")
+    void applyChanges_appliesOnlyEffectiveChanges() {
+        List<PostLikeChange> changes = List.of(
+                new PostLikeChange(post.getId(), liker.getId(), true),
+                new PostLikeChange(post.getId(), author.getId(), true));
+
+        Map<Long, Long> deltas = postLikeBatchRepository.applyChanges(changes, 500);
+
+        assertThat(deltas).containsExactly(Map.entry(post.getId(), 1L));
+        assertThat(likeCount()).isEqualTo(2L);
+        assertThat(postLikeRepository.findMemberIdsByPostId(post.getId()))
+                .containsExactlyInAnyOrder(author.getId(), liker.getId());
+    }
+
+    @Test
+    @DisplayName("같은 변경분을 다시 반영해도 like_count가 중복 집계되지 않는다")
+    void applyChanges_replay_isIdempotent() {
+        List<PostLikeChange> changes = List.of(
+                new PostLikeChange(post.getId(), liker.getId(), true),
+                new PostLikeChange(post.getId(), author.getId(), false));
+
+        postLikeBatchRepository.applyChanges(changes, 1);
+        Map<Long, Long> replayed = postLikeBatchRepository.applyChanges(changes, 1);
+
+        assertThat(replayed).isEmpty();
+        assertThat(likeCount()).isEqualTo(1L);
+        assertThat(postLikeRepository.findMemberIdsByPostId(post.getId())).containsExactly(liker.getId());
+    }
+
+    @Test
+    @DisplayName("없는 회원의 좋아요는 무시되지 않고 DataIntegrityViolationException으로 드러난다")
+    void applyChanges_unknownMember_throws() {
+        List<PostLikeChange> changes = List.of(new PostLikeChange(post.getId(), Long.MAX_VALUE, true));
+
+        assertThatThrownBy(() -> postLikeBatchRepository.applyChanges(changes, 500))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
@@ -3,18 +3,37 @@ package com.devon.techblog.domain.post.repository;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.devon.techblog.config.annotation.RepositoryJpaTest;
+import com.devon.techblog.domain.common.repository.count.CountMode;
 import com.devon.techblog.domain.member.MemberFixture;
 import com.devon.techblog.domain.member.entity.Member;
 import com.devon.techblog.domain.member.repository.MemberRepository;
 import com.devon.techblog.domain.post.PostFixture;
+import com.devon.techblog.domain.post.dto.PostCursor;
+import com.devon.techblog.domain.post.dto.PostSearchCondition;
+import com.devon.techblog.domain.post.dto.PostSearchHit;
+import com.devon.techblog.domain.post.dto.PostSummaryQueryDto;
+import com.devon.techblog.domain.post.dto.SeriesPostEntry;
+import com.devon.techblog.domain.post.dto.TagMatch;
 import com.devon.techblog.domain.post.entity.Post;
+import com.devon.techblog.domain.post.entity.PostTag;
 import com.devon.techblog.domain.post.entity.Series;
+import com.devon.techblog.domain.post.entity.Tag;
+import com.devon.techblog.domain.post.index.TrendingPostIndex;
+import com.devon.techblog.domain.post.search.PostSearchMode;
+import com.devon.techblog.domain.post.search.PostSearchProperties;
 import jakarta.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 @RepositoryJpaTest
 @Transactional
@@ -29,6 +48,15 @@ class PostRepositoryTest {
     @Autowired
     private SeriesRepository seriesRepository;
 
+    @Autowired
+    private PostSearchProperties postSearchProperties;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private PostTagRepository postTagRepository;
+
     private Member member;
 
     @BeforeEach
@@ -38,7 +66,9 @@ class PostRepositoryTest {
 
     @AfterEach
     void tearDown() {
+        postTagRepository.deleteAll();
         postRepository.deleteAll();
+        tagRepository.deleteAll();
         seriesRepository.deleteAll();
         memberRepository.deleteAll();
     }
@@ -119,20 +149,6 @@ class PostRepositoryTest {
         assertThat(found.getLikeCount()).isEqualTo(0L);
     }
 
-    @Test
-    @DisplayName("조회수를 증가시킬 수 있다")
-    void incrementViewCount() {
-        Post post = postRepository.save(PostFixture.create(member));
-        Long postId = post.getId();
-
-        int updated = postRepository.incrementViewCount(postId);
-        postRepository.flush();
-
-        assertThat(updated).isEqualTo(1);
-        Post found = postRepository.findById(postId).orElseThrow();
-        assertThat(found.getViewsCount()).isEqualTo(1L);
-    }
-
     @Test
     @DisplayName("댓글 수를 증가시킬 수 있다")
     void incrementCommentCount() {
@@ -231,6 +247,43 @@ class PostRepositoryTest {
         assertThat(found.getSeries()).isNull();
     }
 
+    @Test
+    @DisplayName("시리즈 목차는 삭제되지 않은 게시글을 시리즈 내 순서대로 반환한다")
+    void findSeriesPosts_orderedBySeriesOrder() {
+        Series series = seriesRepository.save(Series.create(member, "시리즈명", "설명"));
+        Post third = PostFixture.create(member, "3편", "내용");
+        third.moveToSeries(series, 3);
+        Post first = PostFixture.create(member, "1편", "내용");
+        first.moveToSeries(series, 1);
+        Post deleted = PostFixture.create(member, "삭제된 편", "내용");
+        deleted.moveToSeries(series, 2);
+        deleted.delete();
+        postRepository.saveAll(List.of(third, first, deleted));
+        postRepository.save(PostFixture.create(member));
+
+        List<SeriesPostEntry> entries = postRepository.findSeriesPosts(series.getId());
+
+        assertThat(entries).containsExactly(
+                new SeriesPostEntry(first.getId(), "1편"),
+                new SeriesPostEntry(third.getId(), "3편"));
+    }
+
+    @Test
+    @DisplayName("시리즈 내 마지막 순서는 삭제된 게시글까지 포함하고, 게시글이 없으면 0이다")
+    void findMaxSeriesOrder() {
+        Series series = seriesRepository.save(Series.create(member, "시리즈명", "설명"));
+        assertThat(postRepository.findMaxSeriesOrder(series.getId())).isZero();
+
+        Post first = PostFixture.create(member);
+        first.moveToSeries(series, 1);
+        Post deleted = PostFixture.create(member);
+        deleted.moveToSeries(series, 2);
+        deleted.delete();
+        postRepository.saveAll(List.of(first, deleted));
+
+        assertThat(postRepository.findMaxSeriesOrder(series.getId())).isEqualTo(2);
+    }
+
     @Test
     @DisplayName("기본값으로 생성된 필드들이 정상적으로 저장된다")
     void saveWithDefaultValues() {
@@ -264,4 +317,143 @@ class PostRepositoryTest {
         assertThat(reloaded.getSummary()).isEqualTo("새 요약");
         assertThat(reloaded.getIsDraft()).isFalse();
     }
+
+    @Test
+    @DisplayName("커서로 이어서 조회하면 누락이나 중복 없이 끝까지 조회된다")
+    void scrollPosts_byId() {
+        List<Long> ids = savePosts(5);
+
+        Slice<PostSummaryQueryDto> first = postRepository.scrollPosts(
+                PostSearchCondition.empty(), PostCursor.first("id", false), 2);
+        PostCursor cursor = PostCursor.first("id", false).next(first.getContent().getLast());
+        Slice<PostSummaryQueryDto> second = postRepository.scrollPosts(PostSearchCondition.empty(), cursor, 2);
+        cursor = cursor.next(second.getContent().getLast());
+        Slice<PostSummaryQueryDto> last = postRepository.scrollPosts(PostSearchCondition.empty(), cursor, 2);
+
+        assertThat(first.getContent()).extracting(PostSummaryQueryDto::postId).containsExactly(ids.get(4), ids.get(3));
+        assertThat(second.getContent()).extracting(PostSummaryQueryDto::postId).containsExactly(ids.get(2), ids.get(1));
+        assertThat(last.getContent()).extracting(PostSummaryQueryDto::postId).containsExactly(ids.get(0));
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("정렬 키 값이 같은 게시글은 id 순으로 이어서 조회된다")
+    void scrollPosts_byLikeCount_breaksTiesById() {
+        List<Long> ids = savePosts(5);
+        postRepository.incrementLikeCount(ids.get(1));
+        postRepository.incrementLikeCount(ids.get(3));
+
+        PostCursor cursor = new PostCursor("likeCount", false, null, null);
+        List<Long> scrolled = new ArrayList<>();
+        Slice<PostSummaryQueryDto> slice;
+        do {
+            slice = postRepository.scrollPosts(PostSearchCondition.empty(), cursor, 2);
+            slice.getContent().forEach(dto -> scrolled.add(dto.postId()));
+            if (slice.hasContent()) {
+                cursor = cursor.next(slice.getContent().getLast());
+            }
+        } while (slice.hasNext());
+
+        assertThat(scrolled).containsExactly(ids.get(3), ids.get(1), ids.get(4), ids.get(2), ids.get(0));
+    }
+
+    @Test
+    @DisplayName("키워드 검색은 제목이나 본문에 키워드가 포함된 게시글을 본문과 함께 최신순으로 조회한다")
+    void searchByKeyword_like() {
+        // H2에는 FULLTEXT가 없어 LIKE 모드로 검증
+        postSearchProperties.setMode(PostSearchMode.LIKE);
+        Post inTitle = postRepository.save(PostFixture.create(member, "Spring 트랜잭션", "내용"));
+        Post inContent = postRepository.save(PostFixture.create(member, "제목", "spring 프록시 정리"));
+        postRepository.save(PostFixture.create(member, "JPA", "영속성 컨텍스트"));
+        Post deleted = postRepository.save(PostFixture.create(member, "Spring 삭제됨", "내용"));
+        deleted.delete();
+        postRepository.flush();
+
+        Page<PostSearchHit> page = postRepository.searchByKeyword(
+                PostSearchCondition.forKeyword("spring"), PageRequest.of(0, 10), CountMode.EXACT);
+
+        assertThat(page.getContent())
+                .extracting(hit -> hit.summary().postId())
+                .containsExactly(inContent.getId(), inTitle.getId());
+        assertThat(page.getContent().getFirst().content()).isEqualTo("spring 프록시 정리");
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("태그 필터 ANY는 태그 중 하나라도, ALL은 모든 태그가 달린 게시글만 조회한다")
+    void searchPosts_byTags_anyAndAll() {
+        // 태그 ID 캐시는 컨텍스트 간에 공유되므로 테스트마다 새 태그 이름을 사용한다
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Tag java = tagRepository.save(Tag.create("java-" + suffix));
+        Tag spring = tagRepository.save(Tag.create("spring-" + suffix));
+        Post both = savePostWithTags(java, spring);
+        Post javaOnly = savePostWithTags(java);
+        savePostWithTags();
+        postRepository.flush();
+
+        List<String> tags = List.of("Java-" + suffix, "spring-" + suffix);
+        Page<PostSummaryQueryDto> any = postRepository.searchPosts(
+                PostSearchCondition.forTags(tags, TagMatch.ANY), PageRequest.of(0, 10), CountMode.EXACT);
+        Page<PostSummaryQueryDto> all = postRepository.searchPosts(
+                PostSearchCondition.forTags(tags, TagMatch.ALL), PageRequest.of(0, 10), CountMode.EXACT);
+
+        assertThat(any.getContent()).extracting(PostSummaryQueryDto::postId)
+                .containsExactlyInAnyOrder(both.getId(), javaOnly.getId());
+        assertThat(all.getContent()).extracting(PostSummaryQueryDto::postId)
+                .containsExactly(both.getId());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 태그가 포함되면 ALL은 결과가 없고 ANY는 존재하는 태그로만 조회한다")
+    void searchPosts_byTags_unknownTag() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Tag java = tagRepository.save(Tag.create("java-" + suffix));
+        Post post = savePostWithTags(java);
+        postRepository.flush();
+
+        List<String> tags = List.of("java-" + suffix, "unknown-" + suffix);
+        Page<PostSummaryQueryDto> any = postRepository.searchPosts(
+                PostSearchCondition.forTags(tags, TagMatch.ANY), PageRequest.of(0, 10), CountMode.EXACT);
+        Page<PostSummaryQueryDto> all = postRepository.searchPosts(
+                PostSearchCondition.forTags(tags, TagMatch.ALL), PageRequest.of(0, 10), CountMode.EXACT);
+
+        assertThat(any.getContent()).extracting(PostSummaryQueryDto::postId).containsExactly(post.getId());
+        assertThat(all.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("태그 필터와 인기순(sort=trending)을 함께 쓰면 DB에서는 좋아요순으로 조회한다")
+    void searchPosts_byTags_trendingOrdersByLikeCount() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Tag java = tagRepository.save(Tag.create("java-" + suffix));
+        Post older = savePostWithTags(java);
+        Post newer = savePostWithTags(java);
+        postRepository.incrementLikeCount(older.getId());
+        postRepository.flush();
+
+        Page<PostSummaryQueryDto> page = postRepository.searchPosts(
+                PostSearchCondition.forTags(List.of("java-" + suffix), TagMatch.ANY),
+                PageRequest.of(0, 10, Sort.by(TrendingPostIndex.SORT_PROPERTY)), CountMode.EXACT);
+
+        assertThat(page.getContent()).extracting(PostSummaryQueryDto::postId)
+                .containsExactly(older.getId(), newer.getId());
+    }
+
+    private Post savePostWithTags(Tag... tags) {
+        Post post = postRepository.save(PostFixture.create(member));
+        for (Tag tag : tags) {
+            postTagRepository.save(PostTag.create(post, tag));
+        }
+        return post;
+    }
+
+    private List<Long> savePosts(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(postRepository.save(PostFixture.create(member)).getId());
+        }
+        postRepository.flush();
+        return ids;
+    }
 }
@@ -0,0 +1,117 @@
+package com.devon.techblog.domain.post.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devon.techblog.config.annotation.RepositoryJpaTest;
+import com.devon.techblog.domain.member.MemberFixture;
+import com.devon.techblog.domain.member.entity.Member;
+import com.devon.techblog.domain.member.repository.MemberRepository;
+import com.devon.techblog.domain.post.PostFixture;
+import com.devon.techblog.domain.post.TagFixture;
+import com.devon.techblog.domain.post.entity.Post;
+import com.devon.techblog.domain.post.entity.Tag;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RepositoryJpaTest
+@Import(PostTagBatchRepository.class)
+class PostTagBatchRepositoryTest {
+
+    @Autowired
+    private PostTagBatchRepository postTagBatchRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Post post;
+    private Tag java;
+    private Tag spring;
+    private Tag jpa;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(MemberFixture.create());
+        post = postRepository.save(PostFixture.create(member));
+        java = tagRepository.save(TagFixture.create("java"));
+        spring = tagRepository.save(TagFixture.create("spring"));
+        jpa = tagRepository.save(TagFixture.create("jpa"));
+        entityManager.flush();
+    }
+
+    private List<Long> tagIds() {
+        return jdbcTemplate.queryForList(
+                "SELECT tag_id FROM post_tag WHERE post_id = ? ORDER BY tag_id", Long.class, post.getId());
+    }
+
+    @Test
+    @DisplayName("여러 태그를 한 문장으로 게시글에 연결한다")
+    void insertAll_insertsAllRows() {
+        int inserted = postTagBatchRepository.insertAll(post.getId(), List.of(spring.getId(), java.getId()));
+
+        assertThat(inserted).isEqualTo(2);
+        assertThat(tagIds()).containsExactly(java.getId(), spring.getId());
+    }
+
+    @Test
+    @DisplayName("지정한 태그만 게시글에서 해제한다")
+    void deleteAll_deletesOnlyGivenTags() {
+        postTagBatchRepository.insertAll(post.getId(), List.of(java.getId(), spring.getId(), jpa.getId()));
+
+        int deleted = postTagBatchRepository.deleteAll(post.getId(), List.of(java.getId(), jpa.getId()));
+
+        assertThat(deleted).isEqualTo(2);
+        assertThat(tagIds()).containsExactly(spring.getId());
+    }
+
+    @Test
+    @DisplayName("빈 목록이면 아무 문장도 실행하지 않는다")
+    void emptyTagIds_noop() {
+        assertThat(postTagBatchRepository.insertAll(post.getId(), List.of())).isZero();
+        assertThat(postTagBatchRepository.deleteAll(post.getId(), List.of())).isZero();
+        assertThat(tagIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일괄 쓰기 후 reload하면 영속 상태 게시글의 태그 컬렉션이 DB와 같아지고 flush해도 다시 쓰지 않는다")
+    void reload_managedPost_refreshesPostTags() {
+        postTagBatchRepository.insertAll(post.getId(), List.of(java.getId(), spring.getId()));
+        postTagBatchRepository.reload(post);
+        assertThat(post.getTagNames()).containsExactlyInAnyOrder("java", "spring");
+
+        postTagBatchRepository.deleteAll(post.getId(), List.of(java.getId()));
+        postTagBatchRepository.reload(post);
+        entityManager.flush();
+
+        assertThat(post.getTagNames()).containsExactly("spring");
+        assertThat(tagIds()).containsExactly(spring.getId());
+    }
+
+    @Test
+    @DisplayName("준영속 게시글은 새로 읽은 연결로 태그 컬렉션을 바꾼다")
+    void reload_detachedPost_replacesPostTags() {
+        postTagBatchRepository.insertAll(post.getId(), List.of(jpa.getId()));
+        entityManager.clear();
+
+        postTagBatchRepository.reload(post);
+
+        assertThat(post.getTagNames()).containsExactly("jpa");
+    }
+}
@@ -0,0 +1,145 @@
+package com.devon.techblog.domain.post.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devon.techblog.config.annotation.RepositoryJpaTest;
+import com.devon.techblog.domain.common.repository.count.CountMode;
+import com.devon.techblog.domain.post.dto.PostSearchCondition;
+import com.devon.techblog.domain.post.dto.TagMatch;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.MountableFile;
+
+/**
+ * 태그 필터 실행 계획 회귀 테스트 (MySQL 8, Docker 필요 - 없으면 건너뜀)
+ *
+ * 실제 스키마(infra/db/schema.sql)에 데이터를 적재한 뒤 태그 필터 조회를 실행하고,
+ * performance_schema에 기록된 SQL(바인딩 값 포함)을 그대로 EXPLAIN 해
+ * post_tag 접근이 PK 또는 idx_post_tag_tag_id만 읽는(Using index) 계획인지 확인한다.
+ */
+@RepositoryJpaTest
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.hbm2ddl.auto=none"
+})
+class PostTagFilterPlanTest {
+
+    private static final int POST_COUNT = 3_000;
+    private static final int TAG_COUNT = 20;
+    private static final int TAGS_PER_POST = 3;
+    private static final Pattern POST_TAG_ALIAS = Pattern.compile("post_tag (\\w+)");
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("mydb")
+            .withUsername("root")
+            .withPassword("test")
+            .withCopyFileToContainer(
+                    MountableFile.forHostPath(Path.of("..", "infra", "db", "schema.sql").toAbsolutePath()),
+                    "/docker-entrypoint-initdb.d/schema.sql")
+            .withCommand("--performance-schema-max-sql-text-length=8192");
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Integer posts = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post", Integer.class);
+        if (posts != null && posts > 0) {
+            return;
+        }
+
+        jdbcTemplate.update("""
+                INSERT INTO member (email, password, nickname, status, role)
+                VALUES ('plan@example.com', 'password', 'plan', 'ACTIVE', 'USER')
+                """);
+        Long memberId = jdbcTemplate.queryForObject("SELECT id FROM member", Long.class);
+
+        List<Object[]> tagRows = new ArrayList<>();
+        for (int i = 1; i <= TAG_COUNT; i++) {
+            tagRows.add(new Object[]{"tag" + i});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tag (name, usage_count, created_at, updated_at) VALUES (?, 0, NOW(6), NOW(6))", tagRows);
+
+        List<Object[]> postRows = new ArrayList<>();
+        for (int i = 1; i <= POST_COUNT; i++) {
+            postRows.add(new Object[]{memberId, "title" + i});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO post (member_id, title, content, views_count, like_count, comment_count,
+                                  is_deleted, is_draft, comments_allowed, created_at, updated_at)
+                VALUES (?, ?, 'content', 0, 0, 0, 0, 0, 1, NOW(6), NOW(6))
+                """, postRows);
+
+        jdbcTemplate.update("""
+                INSERT INTO post_tag (post_id, tag_id)
+                SELECT p.id, t.id FROM post p JOIN tag t
+                  ON MOD(p.id + t.id, %d) < %d
+                """.formatted(TAG_COUNT, TAGS_PER_POST));
+        jdbcTemplate.execute("ANALYZE TABLE post, tag, post_tag");
+    }
+
+    @ParameterizedTest
+    @EnumSource(TagMatch.class)
+    @DisplayName("태그 필터는 tag 테이블을 조인하지 않고 post_tag 인덱스만 읽는다")
+    void tagFilter_readsPostTagIndexOnly(TagMatch tagMatch) {
+        jdbcTemplate.execute("TRUNCATE TABLE performance_schema.events_statements_history");
+
+        postRepository.searchPosts(
+                PostSearchCondition.forTags(List.of("tag1", "tag2"), tagMatch), PageRequest.of(0, 20), CountMode.EXACT);
+
+        List<String> statements = jdbcTemplate.queryForList("""
+                SELECT SQL_TEXT FROM performance_schema.events_statements_history
+                WHERE SQL_TEXT LIKE 'select%post_tag%' AND SQL_TEXT NOT LIKE '%performance_schema%'
+                """, String.class);
+        assertThat(statements).as("목록 조회와 COUNT 조회").hasSize(2);
+
+        for (String sql : statements) {
+            assertThat(sql).doesNotContain("join tag ").doesNotContain("from tag ");
+
+            String alias = postTagAlias(sql);
+            List<Map<String, Object>> postTagAccess = jdbcTemplate.queryForList("EXPLAIN " + sql).stream()
+                    .filter(row -> alias.equals(row.get("table")))
+                    .toList();
+
+            assertThat(postTagAccess).as("post_tag 접근 계획: %s", sql).isNotEmpty().allSatisfy(row -> {
+                assertThat(row.get("type")).isNotEqualTo("ALL");
+                assertThat(row.get("key")).isIn("PRIMARY", "idx_post_tag_tag_id");
+                assertThat((String) row.get("Extra")).contains("Using index");
+            });
+        }
+    }
+
+    private String postTagAlias(String sql) {
+        Matcher matcher = POST_TAG_ALIAS.matcher(sql);
+        assertThat(matcher.find()).as("post_tag 별칭: %s", sql).isTrue();
+        return matcher.group(1);
+    }
+}
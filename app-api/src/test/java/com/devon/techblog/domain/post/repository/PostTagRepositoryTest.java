@@ -1,12 +1,14 @@
 package com.devon.techblog.domain.post.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import com.devon.techblog.config.annotation.RepositoryJpaTest;
 import com.devon.techblog.domain.member.MemberFixture;
 import com.devon.techblog.domain.member.entity.Member;
 import com.devon.techblog.domain.member.repository.MemberRepository;
 import com.devon.techblog.domain.post.PostFixture;
+import com.devon.techblog.domain.post.dto.PostTagIndexEntry;
 import com.devon.techblog.domain.post.entity.Post;
 import com.devon.techblog.domain.post.entity.PostTag;
 import com.devon.techblog.domain.post.entity.Tag;
@@ -91,6 +93,41 @@ class PostTagRepositoryTest {
         assertThat(postTags).isEmpty();
     }
 
+    @Test
+    @DisplayName("역색인 재구성용 조회는 (postId, tagId) 이후의 삭제되지 않은 게시글 태그를 PK 순서로 반환한다")
+    void findIndexEntriesAfter() {
+        Post deletedPost = postRepository.save(PostFixture.create(post.getMember()));
+        postTagRepository.save(PostTag.create(post, tag1));
+        postTagRepository.save(PostTag.create(post, tag2));
+        postTagRepository.save(PostTag.create(deletedPost, tag1));
+        deletedPost.delete();
+        postRepository.saveAndFlush(deletedPost);
+
+        List<PostTagIndexEntry> first = postTagRepository.findIndexEntriesAfter(0L, 0L, 10);
+        List<PostTagIndexEntry> next = postTagRepository.findIndexEntriesAfter(post.getId(), tag1.getId(), 10);
+
+        assertThat(first).extracting(PostTagIndexEntry::postId, PostTagIndexEntry::tagId)
+                .containsExactly(tuple(post.getId(), tag1.getId()), tuple(post.getId(), tag2.getId()));
+        assertThat(first).allSatisfy(entry -> assertThat(entry.createdAt()).isNotNull());
+        assertThat(next).extracting(PostTagIndexEntry::tagId).containsExactly(tag2.getId());
+    }
+
+    @Test
+    @DisplayName("게시글 ID로 현재 색인 항목을 조회하면 삭제된 게시글은 빠진다")
+    void findIndexEntriesByPostIds() {
+        Post deletedPost = postRepository.save(PostFixture.create(post.getMember()));
+        postTagRepository.save(PostTag.create(post, tag1));
+        postTagRepository.save(PostTag.create(deletedPost, tag2));
+        deletedPost.delete();
+        postRepository.saveAndFlush(deletedPost);
+
+        List<PostTagIndexEntry> entries = postTagRepository.findIndexEntriesByPostIds(
+                List.of(post.getId(), deletedPost.getId()));
+
+        assertThat(entries).extracting(PostTagIndexEntry::postId, PostTagIndexEntry::tagId)
+                .containsExactly(tuple(post.getId(), tag1.getId()));
+    }
+
     @Test
     //@Disabled("H2에서는 복합키 + CASCADE가 동작하지 않는다. - 테스트 불가")
     @DisplayName("Post 삭제 시 PostTag도 함께 삭제된다 (cascade + orphanRemoval)")
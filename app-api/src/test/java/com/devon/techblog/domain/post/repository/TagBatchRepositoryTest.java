@@ -0,0 +1,91 @@
+package com.devon.techblog.domain.post.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devon.techblog.config.annotation.RepositoryJpaTest;
+import com.devon.techblog.domain.post.TagFixture;
+import com.devon.techblog.domain.post.entity.Tag;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@RepositoryJpaTest
+@Import(TagBatchRepository.class)
+class TagBatchRepositoryTest {
+
+    @Autowired
+    private TagBatchRepository tagBatchRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("없는 태그를 한 번에 생성하고 ID와 함께 반환한다")
+    void upsertAll_createsMissingTags() {
+        List<Tag> tags = tagBatchRepository.upsertAll(List.of("spring", "java", "jpa"));
+
+        assertThat(tags).extracting(Tag::getName).containsExactlyInAnyOrder("spring", "java", "jpa");
+        assertThat(tags).allSatisfy(tag -> {
+            assertThat(tag.getId()).isNotNull();
+            assertThat(tag.getUsageCount()).isZero();
+        });
+        assertThat(tagRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("이미 있는 태그는 새로 만들지 않고 기존 행을 반환한다")
+    void upsertAll_keepsExistingTags() {
+        Tag existing = tagRepository.save(TagFixture.create("java"));
+        jdbcTemplate.update("UPDATE tag SET usage_count = 1 WHERE id = ?", existing.getId());
+        entityManager.clear();
+
+        List<Tag> tags = tagBatchRepository.upsertAll(List.of("java", "spring"));
+
+        assertThat(tags).hasSize(2);
+        assertThat(tags).filteredOn(tag -> tag.getName().equals("java"))
+                .singleElement()
+                .satisfies(tag -> {
+                    assertThat(tag.getId()).isEqualTo(existing.getId());
+                    assertThat(tag.getUsageCount()).isEqualTo(1L);
+                });
+        assertThat(tagRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 이름이 여러 번 들어와도 한 번만 생성한다")
+    void upsertAll_ignoresDuplicateNames() {
+        List<Tag> tags = tagBatchRepository.upsertAll(List.of("java", "java"));
+
+        assertThat(tags).extracting(Tag::getName).containsExactly("java");
+        assertThat(tagRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("호출한 트랜잭션이 롤백되면 만든 태그도 남지 않는다")
+    void upsertAll_rolledBackWithCaller() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            tagBatchRepository.upsertAll(List.of("java"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(tagRepository.count()).isZero();
+    }
+}
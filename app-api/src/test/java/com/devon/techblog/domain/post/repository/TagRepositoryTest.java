@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.devon.techblog.config.annotation.RepositoryJpaTest;
 import com.devon.techblog.domain.post.TagFixture;
+import com.devon.techblog.domain.post.dto.TagUsage;
 import com.devon.techblog.domain.post.entity.Tag;
 import java.util.List;
 import java.util.Optional;
@@ -124,12 +125,12 @@ class TagRepositoryTest {
         tagRepository.incrementUsageCount(tag3.getId());
         tagRepository.flush();
 
-        List<Tag> topTags = tagRepository.findTopByUsageCount(2);
+        List<TagUsage> topTags = tagRepository.findTopByUsageCount(2);
 
         assertThat(topTags).hasSize(2);
-        assertThat(topTags.get(0).getName()).isEqualTo("spring");
-        assertThat(topTags.get(0).getUsageCount()).isEqualTo(3L);
-        assertThat(topTags.get(1).getName()).isEqualTo("java");
-        assertThat(topTags.get(1).getUsageCount()).isEqualTo(2L);
+        assertThat(topTags.get(0).name()).isEqualTo("spring");
+        assertThat(topTags.get(0).usageCount()).isEqualTo(3L);
+        assertThat(topTags.get(1).name()).isEqualTo("java");
+        assertThat(topTags.get(1).usageCount()).isEqualTo(2L);
     }
 }
@@ -0,0 +1,51 @@
+package com.devon.techblog.domain.post.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devon.techblog.config.annotation.UnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class FullTextQueryTest {
+
+    @Test
+    @DisplayName("모든 단어를 포함하는 BOOLEAN MODE 구문 검색으로 변환한다")
+    void toBooleanModeQuery_requiresAllTerms() {
+        FullTextQuery query = FullTextQuery.parse("  스프링   JPA ", 5);
+
+        assertThat(query.terms()).containsExactly("스프링", "jpa");
+        assertThat(query.toBooleanModeQuery()).isEqualTo("+\"스프링\" +\"jpa\"");
+    }
+
+    @Test
+    @DisplayName("사용자가 입력한 BOOLEAN MODE 연산자는 제거된다")
+    void parse_stripsOperators() {
+        FullTextQuery query = FullTextQuery.parse("-spring +\"boot\" (jpa*) ~@3", 5);
+
+        assertThat(query.terms()).containsExactly("spring", "boot", "jpa", "3");
+    }
+
+    @Test
+    @DisplayName("ngram 토큰보다 짧은 단어는 접두어 검색으로 바꾼다")
+    void toBooleanModeQuery_prefixSearchForShortTerm() {
+        FullTextQuery query = FullTextQuery.parse("락 경합", 5);
+
+        assertThat(query.toBooleanModeQuery()).isEqualTo("+락* +\"경합\"");
+    }
+
+    @Test
+    @DisplayName("중복 단어는 한 번만 사용하고 최대 단어 수를 넘는 단어는 버린다")
+    void parse_limitsTerms() {
+        FullTextQuery query = FullTextQuery.parse("a b a c d", 3);
+
+        assertThat(query.terms()).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    @DisplayName("연산자만 입력하면 빈 질의가 된다")
+    void parse_operatorsOnly_isEmpty() {
+        assertThat(FullTextQuery.parse("+-*\"", 5).isEmpty()).isTrue();
+        assertThat(FullTextQuery.parse(null, 5).isEmpty()).isTrue();
+    }
+}
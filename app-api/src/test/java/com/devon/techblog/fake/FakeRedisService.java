@@ -3,13 +3,26 @@ package com.devon.techblog.fake;
 import com.devon.techblog.infra.redis.adapter.RedisService;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 public class FakeRedisService implements RedisService {
 
     private final Map<String, String> store = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> sets = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Double>> sortedSets = new ConcurrentHashMap<>();
+    private final Map<String, BitSet> bitmaps = new ConcurrentHashMap<>();
     private final Map<String, Instant> expiry = new ConcurrentHashMap<>();
 
     @Override
@@ -33,12 +46,308 @@ public class FakeRedisService implements RedisService {
         return Optional.ofNullable(store.get(key));
     }
 
+    @Override
+    public synchronized boolean setIfAbsent(String key, String value, Duration ttl) {
+        if (find(key).isPresent()) {
+            return false;
+        }
+        save(key, value, ttl);
+        return true;
+    }
+
     @Override
     public void delete(String key) {
         store.remove(key);
+        sets.remove(key);
+        sortedSets.remove(key);
+        bitmaps.remove(key);
         expiry.remove(key);
     }
 
+    @Override
+    public synchronized boolean deleteIfEquals(String key, String expectedValue) {
+        if (!expectedValue.equals(find(key).orElse(null))) {
+            return false;
+        }
+        delete(key);
+        return true;
+    }
+
+    @Override
+    public void deleteAll(Collection<String> keys) {
+        keys.forEach(this::delete);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        evictIfExpired(key);
+        return store.containsKey(key) || sets.containsKey(key) || sortedSets.containsKey(key)
+                || bitmaps.containsKey(key);
+    }
+
+    @Override
+    public List<String> scanKeys(String pattern) {
+        Pattern regex = Pattern.compile(Arrays.stream(pattern.split("\\*", -1))
+                .map(Pattern::quote)
+                .collect(Collectors.joining(".*")));
+
+        Set<String> keys = new HashSet<>();
+        keys.addAll(store.keySet());
+        keys.addAll(sets.keySet());
+        keys.addAll(sortedSets.keySet());
+        keys.addAll(bitmaps.keySet());
+        return keys.stream()
+                .filter(this::exists)
+                .filter(key -> regex.matcher(key).matches())
+                .toList();
+    }
+
+    @Override
+    public synchronized Optional<Long> incrementIfPresent(String key, long delta) {
+        Optional<String> current = find(key);
+        if (current.isEmpty()) {
+            return Optional.empty();
+        }
+        long updated = Long.parseLong(current.get()) + delta;
+        store.put(key, String.valueOf(updated));
+        return Optional.of(updated);
+    }
+
+    @Override
+    public synchronized void rename(String sourceKey, String destKey) {
+        if (!exists(sourceKey)) {
+            throw new IllegalStateException("ERR no such key");
+        }
+        delete(destKey);
+        move(store, sourceKey, destKey);
+        move(sets, sourceKey, destKey);
+        move(sortedSets, sourceKey, destKey);
+        move(bitmaps, sourceKey, destKey);
+        move(expiry, sourceKey, destKey);
+    }
+
+    @Override
+    public synchronized long incrementWithTtl(String key, Duration ttl) {
+        long updated = find(key).map(Long::parseLong).orElse(0L) + 1;
+        save(key, String.valueOf(updated), ttl);
+        return updated;
+    }
+
+    @Override
+    public void expire(String key, Duration ttl) {
+        if (store.containsKey(key) || sets.containsKey(key) || sortedSets.containsKey(key)
+                || bitmaps.containsKey(key)) {
+            expiry.put(key, Instant.now().plus(ttl));
+        }
+    }
+
+    @Override
+    public synchronized boolean expireIfEquals(String key, String expectedValue, Duration ttl) {
+        if (!expectedValue.equals(find(key).orElse(null))) {
+            return false;
+        }
+        expire(key, ttl);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean setBits(String key, long[] offsets, Duration ttl) {
+        evictIfExpired(key);
+        BitSet bitmap = bitmaps.computeIfAbsent(key, k -> new BitSet());
+        boolean changed = false;
+        for (long offset : offsets) {
+            int index = Math.toIntExact(offset);
+            if (!bitmap.get(index)) {
+                bitmap.set(index);
+                changed = true;
+            }
+        }
+        if (changed) {
+            expiry.put(key, Instant.now().plus(ttl));
+        }
+        return changed;
+    }
+
+    @Override
+    public void addToSet(String key, Collection<String> members) {
+        evictIfExpired(key);
+        sets.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).addAll(members);
+    }
+
+    @Override
+    public synchronized boolean addToSetIfMember(String key, String requiredMember, Collection<String> members) {
+        evictIfExpired(key);
+        Set<String> set = sets.get(key);
+        if (set == null || !set.contains(requiredMember)) {
+            return false;
+        }
+        set.addAll(members);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean replaceSetIfEquals(String key, Collection<String> members, Duration ttl,
+                                                   String guardKey, String expectedGuard) {
+        if (!expectedGuard.equals(find(guardKey).orElse(""))) {
+            return false;
+        }
+        delete(key);
+        addToSet(key, members);
+        expire(key, ttl);
+        return true;
+    }
+
+    @Override
+    public void removeFromSet(String key, Collection<String> members) {
+        evictIfExpired(key);
+        sets.computeIfPresent(key, (k, set) -> {
+            set.removeAll(members);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    @Override
+    public Set<String> findSetMembers(String key) {
+        evictIfExpired(key);
+        return Set.copyOf(sets.getOrDefault(key, Set.of()));
+    }
+
+    @Override
+    public List<Boolean> isSetMembers(String key, List<String> members) {
+        evictIfExpired(key);
+        Set<String> set = sets.getOrDefault(key, Set.of());
+        return members.stream().map(set::contains).toList();
+    }
+
+    @Override
+    public void addToSortedSet(String key, Map<String, Double> scoredMembers) {
+        evictIfExpired(key);
+        sortedSets.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).putAll(scoredMembers);
+    }
+
+    @Override
+    public void removeFromSortedSet(String key, Collection<String> members) {
+        evictIfExpired(key);
+        sortedSets.computeIfPresent(key, (k, zset) -> {
+            members.forEach(zset::remove);
+            return zset.isEmpty() ? null : zset;
+        });
+    }
+
+    @Override
+    public List<String> reverseRangeOfSortedSet(String key, long start, long end) {
+        evictIfExpired(key);
+        List<String> ordered = sortedSets.getOrDefault(key, Map.of()).entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue()
+                        .thenComparing(Map.Entry.comparingByKey())
+                        .reversed())
+                .map(Map.Entry::getKey)
+                .toList();
+
+        int from = (int) Math.min(start, ordered.size());
+        int to = (int) Math.min(end + 1, ordered.size());
+        return from < to ? new ArrayList<>(ordered.subList(from, to)) : List.of();
+    }
+
+    @Override
+    public long sizeOfSortedSet(String key) {
+        evictIfExpired(key);
+        return sortedSets.getOrDefault(key, Map.of()).size();
+    }
+
+    @Override
+    public void incrementScoresInSortedSet(String key, Map<String, Double> deltas) {
+        evictIfExpired(key);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Map<String, Double> zset = sortedSets.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+        deltas.forEach((member, delta) -> zset.merge(member, delta, Double::sum));
+    }
+
+    @Override
+    public void decrementScoresInSortedSet(String key, Map<String, Double> deltas) {
+        evictIfExpired(key);
+        Map<String, Double> zset = sortedSets.get(key);
+        if (zset == null) {
+            return;
+        }
+        deltas.forEach((member, delta) -> zset.computeIfPresent(member, (m, score) -> Math.max(0, score - delta)));
+    }
+
+    @Override
+    public void addScaledSortedSet(String destKey, String sourceKey, double weight) {
+        evictIfExpired(destKey);
+        evictIfExpired(sourceKey);
+        Map<String, Double> merged = new HashMap<>(sortedSets.getOrDefault(destKey, Map.of()));
+        sortedSets.getOrDefault(sourceKey, Map.of())
+                .forEach((member, score) -> merged.merge(member, score * weight, Double::sum));
+        storeSortedSet(destKey, merged);
+    }
+
+    @Override
+    public void trimSortedSet(String key, long maxSize) {
+        evictIfExpired(key);
+        List<String> ordered = reverseRangeOfSortedSet(key, 0, Long.MAX_VALUE - 1);
+        if (ordered.size() > maxSize) {
+            removeFromSortedSet(key, ordered.subList((int) maxSize, ordered.size()));
+        }
+    }
+
+    @Override
+    public void unionSortedSets(String destKey, Collection<String> keys) {
+        Map<String, Double> union = new HashMap<>();
+        keys.forEach(key -> {
+            evictIfExpired(key);
+            sortedSets.getOrDefault(key, Map.of()).forEach((member, score) -> union.merge(member, score, Math::max));
+        });
+        storeSortedSet(destKey, union);
+    }
+
+    @Override
+    public void intersectSortedSets(String destKey, Collection<String> keys) {
+        List<Map<String, Double>> sources = new ArrayList<>();
+        keys.forEach(key -> {
+            evictIfExpired(key);
+            sources.add(sortedSets.getOrDefault(key, Map.of()));
+        });
+
+        Map<String, Double> intersection = new HashMap<>(sources.getFirst());
+        for (Map<String, Double> zset : sources.subList(1, sources.size())) {
+            intersection.keySet().retainAll(zset.keySet());
+            zset.forEach((member, score) -> intersection.computeIfPresent(member, (m, current) -> Math.max(current, score)));
+        }
+        storeSortedSet(destKey, intersection);
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+        // 테스트 환경에는 구독 노드가 없으므로 발행 메시지는 버린다
+    }
+
+    /**
+     * Redis처럼 결과가 비어 있으면 destKey를 만들지 않고 기존 값만 지운다.
+     */
+    private void storeSortedSet(String key, Map<String, Double> members) {
+        delete(key);
+        if (!members.isEmpty()) {
+            sortedSets.put(key, new ConcurrentHashMap<>(members));
+        }
+    }
+
+    private static <V> void move(Map<String, V> map, String sourceKey, String destKey) {
+        V value = map.remove(sourceKey);
+        if (value != null) {
+            map.put(destKey, value);
+        }
+    }
+
+    private void evictIfExpired(String key) {
+        if (isExpired(key)) {
+            delete(key);
+        }
+    }
+
     private boolean isExpired(String key) {
         Instant exp = expiry.get(key);
         return exp != null && Instant.now().isAfter(exp);
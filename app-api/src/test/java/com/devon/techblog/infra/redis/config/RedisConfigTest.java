@@ -0,0 +1,53 @@
+package com.devon.techblog.infra.redis.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+import com.devon.techblog.config.annotation.UnitTest;
+import com.devon.techblog.infra.redis.adapter.RedisMessageHandler;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@UnitTest
+class RedisConfigTest {
+
+    @Mock
+    private RedisMessageListenerContainer container;
+
+    @Test
+    @DisplayName("RedisMessageHandler마다 자기 채널을 구독하고 메시지 본문을 문자열로 넘긴다")
+    void subscribe_registersHandlerPerChannel() {
+        List<String> received = new ArrayList<>();
+        RedisMessageHandler handler = new RedisMessageHandler() {
+            @Override
+            public String channel() {
+                return "test:channel";
+            }
+
+            @Override
+            public void onMessage(String message) {
+                received.add(message);
+            }
+        };
+
+        RedisConfig.subscribe(container, Stream.of(handler));
+
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(container).addMessageListener(listener.capture(), eq(new ChannelTopic("test:channel")));
+
+        listener.getValue().onMessage(new DefaultMessage(
+                "test:channel".getBytes(StandardCharsets.UTF_8), "태그|1".getBytes(StandardCharsets.UTF_8)), null);
+        assertThat(received).containsExactly("태그|1");
+    }
+}
@@ -20,16 +20,28 @@ public final class PostRequestFixture {
         return new PostCreateRequest(title, content, imageUrl, null, null, null, null, null, null, null);
     }
 
+    public static PostCreateRequest createRequestWithSeries(Long seriesId) {
+        return new PostCreateRequest(PostFixture.DEFAULT_TITLE, PostFixture.DEFAULT_CONTENT, null, null, null, null, seriesId, null, null, null);
+    }
+
     public static PostUpdateRequest updateRequest() {
-        return new PostUpdateRequest(PostFixture.UPDATED_TITLE, PostFixture.UPDATED_CONTENT, null, null, null, null, null, null, null);
+        return new PostUpdateRequest(PostFixture.UPDATED_TITLE, PostFixture.UPDATED_CONTENT, null, null, null, null, null, null, null, null);
     }
 
     public static PostUpdateRequest updateRequest(String title, String content) {
-        return new PostUpdateRequest(title, content, null, null, null, null, null, null, null);
+        return new PostUpdateRequest(title, content, null, null, null, null, null, null, null, null);
     }
 
     public static PostUpdateRequest updateRequest(String title, String content, String imageUrl) {
-        return new PostUpdateRequest(title, content, imageUrl, null, null, null, null, null, null);
+        return new PostUpdateRequest(title, content, imageUrl, null, null, null, null, null, null, null);
+    }
+
+    public static PostUpdateRequest updateRequestWithSeries(Long seriesId) {
+        return new PostUpdateRequest(null, null, null, null, null, null, seriesId, null, null, null);
+    }
+
+    public static PostUpdateRequest updateRequestRemovingSeries() {
+        return new PostUpdateRequest(null, null, null, null, null, null, null, true, null, null);
     }
 
     public static PostCreateRequest createRequestWithoutTitle() {
@@ -45,6 +57,6 @@ public final class PostRequestFixture {
     }
 
     public static PostUpdateRequest updateRequestWithInvalidThumbnail(String invalidUrl) {
-        return new PostUpdateRequest(PostFixture.UPDATED_TITLE, PostFixture.UPDATED_CONTENT, null, invalidUrl, null, null, null, null, null);
+        return new PostUpdateRequest(PostFixture.UPDATED_TITLE, PostFixture.UPDATED_CONTENT, null, invalidUrl, null, null, null, null, null, null);
     }
 }
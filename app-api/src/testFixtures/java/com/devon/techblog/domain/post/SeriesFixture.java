@@ -0,0 +1,23 @@
+package com.devon.techblog.domain.post;
+
+import com.devon.techblog.domain.member.entity.Member;
+import com.devon.techblog.domain.post.entity.Series;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public final class SeriesFixture {
+
+    public static final String DEFAULT_NAME = "시리즈명";
+    public static final String DEFAULT_DESCRIPTION = "시리즈 설명";
+
+    private SeriesFixture() {}
+
+    public static Series create(Member member) {
+        return Series.create(member, DEFAULT_NAME, DEFAULT_DESCRIPTION);
+    }
+
+    public static Series createWithId(Long id, Member member) {
+        Series series = create(member);
+        ReflectionTestUtils.setField(series, "id", id);
+        return series;
+    }
+}
@@ -0,0 +1,43 @@
+-- post.series_order / idx_post_series_order 마이그레이션
+--
+-- schema.sql의 series_order 컬럼과 idx_post_series_order 인덱스가 추가되기 전에 만든 DB에 한 번 실행한다.
+-- 그 전에 시리즈에 편입된 게시글은 series_order가 NULL이라 목차 맨 앞에 정렬되고, 새로 편입한 게시글은 1번부터 붙어
+-- 순서가 섞인다. 순서가 없는 게시글이 있는 시리즈만 골라 순서 없는 글(작성 순) 다음 기존 순서로 1부터 다시 매긴다.
+-- 여러 번 실행해도 결과가 같다. 실행 후 series:toc:* 캐시 키를 지우거나 TTL이 지나기를 기다린다.
+USE `mydb`;
+
+-- 컬럼: ddl-auto로 이미 추가된 DB에서는 건너뛴다
+SET @ddl = IF(
+    EXISTS (SELECT 1 FROM information_schema.COLUMNS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'post' AND COLUMN_NAME = 'series_order'),
+    'DO 0',
+    'ALTER TABLE `post` ADD COLUMN `series_order` INT AFTER `series_id`');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 인덱스: 시리즈 목차 범위 스캔 (fk_post_series 인덱스 겸용)
+SET @ddl = IF(
+    EXISTS (SELECT 1 FROM information_schema.STATISTICS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'post' AND INDEX_NAME = 'idx_post_series_order'),
+    'DO 0',
+    'ALTER TABLE `post` ADD KEY `idx_post_series_order` (`series_id`, `is_deleted`, `series_order`)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 순서 백필: 삭제된 게시글도 포함해 번호를 매겨, 삭제 후 다시 편입된 게시글과 순서가 겹치지 않게 한다
+UPDATE `post` p
+JOIN (
+    SELECT `id`,
+           ROW_NUMBER() OVER (
+               PARTITION BY `series_id`
+               ORDER BY `series_order` IS NOT NULL, `series_order`, `created_at`, `id`) AS `new_order`
+    FROM `post`
+    WHERE `series_id` IN (
+        SELECT `series_id` FROM (
+            SELECT DISTINCT `series_id` FROM `post`
+            WHERE `series_id` IS NOT NULL AND `series_order` IS NULL) AS `legacy`)
+) AS `renumbered` ON renumbered.`id` = p.`id`
+SET p.`series_order` = renumbered.`new_order`
+WHERE NOT (p.`series_order` <=> renumbered.`new_order`);
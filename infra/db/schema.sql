@@ -53,6 +53,7 @@ CREATE TABLE IF NOT EXISTS `post` (
     `is_deleted`       TINYINT(1)   NOT NULL,
     `summary`          VARCHAR(500),
     `series_id`        BIGINT,
+    `series_order`     INT,
     `visibility`       VARCHAR(20),
     `is_draft`         TINYINT(1)   NOT NULL,
     `comments_allowed` TINYINT(1)   NOT NULL,
@@ -62,7 +63,16 @@ CREATE TABLE IF NOT EXISTS `post` (
     `updated_at`       DATETIME(6)  NOT NULL,
     PRIMARY KEY (`id`),
     KEY `idx_post_member_id` (`member_id`),
-    KEY `idx_post_series_id` (`series_id`),
+    -- 시리즈 목차: 시리즈 안의 삭제되지 않은 게시글을 순서대로 범위 스캔 (fk_post_series 인덱스 겸용)
+    -- series_order 추가 전에 만든 DB는 migration_series_order.sql로 컬럼·인덱스를 추가하고 순서를 채운다
+    KEY `idx_post_series_order` (`series_id`, `is_deleted`, `series_order`),
+    -- 키셋 페이지네이션: (is_deleted, 정렬 키, id) 순으로 커서 위치부터 바로 범위 스캔
+    KEY `idx_post_deleted_created_at` (`is_deleted`, `created_at`, `id`),
+    KEY `idx_post_deleted_views_count` (`is_deleted`, `views_count`, `id`),
+    KEY `idx_post_deleted_like_count` (`is_deleted`, `like_count`, `id`),
+    KEY `idx_post_deleted_title` (`is_deleted`, `title`, `id`),
+    -- 키워드 검색: 한국어는 공백 단위 형태소 분리가 어려워 ngram(기본 2-gram) 파서로 색인
+    FULLTEXT KEY `ft_post_title_content` (`title`, `content`) WITH PARSER ngram,
     CONSTRAINT `fk_post_member`
       FOREIGN KEY (`member_id`) REFERENCES `member` (`id`)
       ON DELETE RESTRICT ON UPDATE CASCADE,
@@ -79,7 +89,8 @@ CREATE TABLE IF NOT EXISTS `tag` (
     `created_at`  DATETIME(6)  NOT NULL,
     `updated_at`  DATETIME(6)  NOT NULL,
     PRIMARY KEY (`id`),
-    UNIQUE KEY `uk_tag_name` (`name`)
+    UNIQUE KEY `uk_tag_name` (`name`),
+    KEY `idx_tag_usage_count` (`usage_count` DESC, `id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- COMMENT
@@ -131,6 +142,18 @@ CREATE TABLE IF NOT EXISTS `post_like` (
       ON DELETE CASCADE ON UPDATE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- POST_COUNTER_SHARD (샤딩 카운터 - post 카운터 컬럼에 더할 증감분을 슬롯별로 나눠 저장)
+CREATE TABLE IF NOT EXISTS `post_counter_shard` (
+    `post_id`      BIGINT      NOT NULL,
+    `counter_type` VARCHAR(20) NOT NULL,
+    `slot`         INT         NOT NULL,
+    `amount`       BIGINT      NOT NULL,
+    PRIMARY KEY (`post_id`, `counter_type`, `slot`),
+    CONSTRAINT `fk_post_counter_shard_post`
+      FOREIGN KEY (`post_id`) REFERENCES `post` (`id`)
+      ON DELETE CASCADE ON UPDATE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 -- FILE
 CREATE TABLE IF NOT EXISTS `file` (
     `id`            BIGINT       NOT NULL AUTO_INCREMENT,